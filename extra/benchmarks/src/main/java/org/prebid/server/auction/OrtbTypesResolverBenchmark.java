@@ -0,0 +1,60 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.Fixtures;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OrtbTypesResolver#normalizeBidRequest}. Resolver modifies the tree in place, so each invocation
+ * works on a copy; {@link #copyOnly()} shows the copying cost to subtract.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrtbTypesResolverBenchmark {
+
+    private static final JacksonMapper MAPPER = Fixtures.MAPPER;
+
+    @Param({"generic", "pubmatic", "rubicon"})
+    public String fixture;
+
+    private JsonNode bidRequestNode;
+    private OrtbTypesResolver ortbTypesResolver;
+
+    @Setup
+    public void setUp() throws IOException {
+        bidRequestNode = MAPPER.mapper().readTree(Fixtures.auctionRequest(fixture));
+        ortbTypesResolver = new OrtbTypesResolver(0, MAPPER, new JsonMerger(MAPPER));
+    }
+
+    @Benchmark
+    public JsonNode normalizeBidRequest() {
+        final JsonNode copy = bidRequestNode.deepCopy();
+        ortbTypesResolver.normalizeBidRequest(copy, new ArrayList<>(), null);
+        return copy;
+    }
+
+    @Benchmark
+    public JsonNode copyOnly() {
+        return bidRequestNode.deepCopy();
+    }
+}
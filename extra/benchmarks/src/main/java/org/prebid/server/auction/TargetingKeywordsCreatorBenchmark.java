@@ -0,0 +1,71 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures targeting keywords creation for a single bid, which is done for every bid of the auction response.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TargetingKeywordsCreatorBenchmark {
+
+    private TargetingKeywordsCreator targetingKeywordsCreator;
+    private Bid bid;
+
+    @Setup
+    public void setUp() {
+        targetingKeywordsCreator = TargetingKeywordsCreator.create(
+                ExtPriceGranularity.of(2, List.of(
+                        ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.05)),
+                        ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.5)))),
+                true,
+                true,
+                false,
+                true,
+                false,
+                0,
+                "prebid-cache.example.com",
+                "/cache",
+                null);
+
+        bid = Bid.builder()
+                .id("bidId")
+                .impid("impId")
+                .price(BigDecimal.valueOf(3.87))
+                .dealid("dealId")
+                .w(300)
+                .h(250)
+                .build();
+    }
+
+    @Benchmark
+    public Map<String, String> makeForWinningBid() {
+        return targetingKeywordsCreator.makeFor(bid, "generic", true, "cacheId", "banner", "vastCacheId", null);
+    }
+
+    @Benchmark
+    public Map<String, String> makeForNonWinningBid() {
+        return targetingKeywordsCreator.makeFor(bid, "generic", false, "cacheId", "banner", "vastCacheId", null);
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.auction.requestfactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.OrtbTypesResolver;
+import org.prebid.server.benchmark.Fixtures;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures incoming auction request parsing the same way {@link AuctionRequestFactory} does it: body is read into
+ * a tree, normalized by {@link OrtbTypesResolver} and bound to {@link BidRequest}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuctionRequestParsingBenchmark {
+
+    private static final JacksonMapper MAPPER = Fixtures.MAPPER;
+
+    @Param({"generic", "pubmatic", "rubicon"})
+    public String fixture;
+
+    private String body;
+    private OrtbTypesResolver ortbTypesResolver;
+
+    @Setup
+    public void setUp() {
+        body = Fixtures.auctionRequest(fixture);
+        ortbTypesResolver = new OrtbTypesResolver(0, MAPPER, new JsonMerger(MAPPER));
+    }
+
+    @Benchmark
+    public BidRequest parseAndNormalize() throws IOException {
+        final JsonNode bidRequestNode = MAPPER.mapper().readTree(body);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, new ArrayList<>(), null);
+        return MAPPER.mapper().treeToValue(bidRequestNode, BidRequest.class);
+    }
+
+    /**
+     * Lower bound: binds body to {@link BidRequest} directly, without intermediate tree and normalization.
+     */
+    @Benchmark
+    public BidRequest bindOnly() {
+        return MAPPER.decodeValue(body, BidRequest.class);
+    }
+}
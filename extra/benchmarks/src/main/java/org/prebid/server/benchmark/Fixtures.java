@@ -0,0 +1,79 @@
+package org.prebid.server.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Gives access to recorded OpenRTB fixtures shared with PBS-Core tests, so benchmarks run fully offline.
+ */
+public final class Fixtures {
+
+    public static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    private static final String OPENRTB2_PATH = "org/prebid/server/it/openrtb2/";
+
+    private Fixtures() {
+    }
+
+    public static String readResource(String path) {
+        try (InputStream inputStream = Fixtures.class.getClassLoader().getResourceAsStream(path)) {
+            return new String(
+                    Objects.requireNonNull(inputStream, "Fixture not found: " + path).readAllBytes(),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads incoming auction request recorded for the given bidder integration test,
+     * e.g. {@code openrtb2/openx/test-auction-openx-request.json}.
+     */
+    public static String auctionRequest(String bidder) {
+        return readResource(OPENRTB2_PATH + "%1$s/test-auction-%1$s-request.json".formatted(bidder));
+    }
+
+    /**
+     * Reads response recorded for the given bidder integration test,
+     * e.g. {@code openrtb2/openx/test-openx-bid-response.json}.
+     */
+    public static String bidderResponse(String bidder) {
+        return readResource(OPENRTB2_PATH + "%1$s/test-%1$s-bid-response.json".formatted(bidder));
+    }
+
+    /**
+     * Returns auction request of the given bidder shaped as the bidder adapter receives it:
+     * bidder params are moved from {@code imp.ext.<bidder>} to {@code imp.ext.bidder}.
+     */
+    public static BidRequest bidderRequest(String bidder) {
+        final BidRequest bidRequest = MAPPER.decodeValue(auctionRequest(bidder), BidRequest.class);
+        return bidRequest.toBuilder()
+                .imp(bidRequest.getImp().stream()
+                        .map(imp -> toBidderImp(imp, bidder))
+                        .toList())
+                .build();
+    }
+
+    private static Imp toBidderImp(Imp imp, String bidder) {
+        final ObjectNode ext = imp.getExt();
+        final JsonNode bidderParams = ext != null ? ext.get(bidder) : null;
+        if (bidderParams == null) {
+            return imp;
+        }
+
+        final ObjectNode bidderExt = ext.deepCopy();
+        bidderExt.remove(bidder);
+        bidderExt.set("bidder", bidderParams);
+        return imp.toBuilder().ext(bidderExt).build();
+    }
+}
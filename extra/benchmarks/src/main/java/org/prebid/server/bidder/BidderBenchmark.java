@@ -0,0 +1,90 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.Fixtures;
+import org.prebid.server.bidder.ix.IxBidder;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.CompositeBidderResponse;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.bidder.model.Result;
+import org.prebid.server.bidder.openx.OpenxBidder;
+import org.prebid.server.bidder.pubmatic.PubmaticBidder;
+import org.prebid.server.json.JacksonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures representative adapters: outgoing request creation ({@link Bidder#makeHttpRequests}) and bidder
+ * response processing ({@link Bidder#makeBidderResponse}) for recorded integration test fixtures.
+ * <p>
+ * Response is passed as received from the network ({@link HttpResponse#ofBuffer}), so adapters reading
+ * {@link HttpResponse#getBody()} pay for String decoding as they do in production.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidderBenchmark {
+
+    private static final JacksonMapper MAPPER = Fixtures.MAPPER;
+    private static final String ENDPOINT = "http://localhost:8090/bidder-endpoint";
+
+    @Param({"generic", "openx", "pubmatic", "ix"})
+    public String bidderName;
+
+    private Bidder<Object> bidder;
+    private BidRequest bidRequest;
+    private HttpRequest<Object> httpRequest;
+    private byte[] responseBody;
+
+    @Setup
+    public void setUp() {
+        bidder = createBidder(bidderName);
+        bidRequest = Fixtures.bidderRequest(bidderName);
+        httpRequest = bidder.makeHttpRequests(bidRequest).getValue().get(0);
+        responseBody = Fixtures.bidderResponse(bidderName).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Bidder<Object> createBidder(String bidderName) {
+        final Bidder<?> bidder = switch (bidderName) {
+            case "generic" -> new GenericBidder(ENDPOINT, MAPPER);
+            case "openx" -> new OpenxBidder(ENDPOINT, MAPPER);
+            case "pubmatic" -> new PubmaticBidder(ENDPOINT, MAPPER);
+            case "ix" -> new IxBidder(ENDPOINT, MAPPER);
+            default -> throw new IllegalArgumentException("Unknown bidder: " + bidderName);
+        };
+        return (Bidder<Object>) bidder;
+    }
+
+    @Benchmark
+    public Result<List<HttpRequest<Object>>> makeHttpRequests() {
+        return bidder.makeHttpRequests(bidRequest);
+    }
+
+    @Benchmark
+    public CompositeBidderResponse makeBidderResponse() {
+        final HttpResponse httpResponse = HttpResponse.ofBuffer(
+                HttpResponseStatus.OK.code(), null, Buffer.buffer(responseBody));
+
+        return bidder.makeBidderResponse(BidderCall.succeededHttp(httpRequest, httpResponse, null), bidRequest);
+    }
+}
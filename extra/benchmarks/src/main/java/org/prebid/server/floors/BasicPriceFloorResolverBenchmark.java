@@ -0,0 +1,119 @@
+package org.prebid.server.floors;
+
+import com.codahale.metrics.MetricRegistry;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.Fixtures;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.floors.model.PriceFloorData;
+import org.prebid.server.floors.model.PriceFloorField;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorResult;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.floors.model.PriceFloorSchema;
+import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BasicPriceFloorResolver#resolve} against synthetic floors data of different size.
+ * <p>
+ * Schema is {@code domain|mediaType|size|deviceType}, rules are generated for {@code ruleCount} domains.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BasicPriceFloorResolverBenchmark {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (iPhone; CPU iPhone OS 16_0 like Mac OS X) Mobile/15E148";
+
+    @Param({"10", "1000", "20000"})
+    public int ruleCount;
+
+    private BasicPriceFloorResolver priceFloorResolver;
+    private PriceFloorRules floorRules;
+    private BidRequest exactMatchRequest;
+    private BidRequest wildcardMatchRequest;
+    private Imp imp;
+
+    @Setup
+    public void setUp() {
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+
+        priceFloorResolver = new BasicPriceFloorResolver(
+                new CurrencyConversionService(null),
+                new CountryCodeMapper(Fixtures.readResource("country-codes.csv")),
+                metrics,
+                Fixtures.MAPPER);
+
+        final PriceFloorModelGroup.PriceFloorModelGroupBuilder modelGroup = PriceFloorModelGroup.builder()
+                .currency("USD")
+                .schema(PriceFloorSchema.of("|", List.of(
+                        PriceFloorField.domain,
+                        PriceFloorField.mediaType,
+                        PriceFloorField.size,
+                        PriceFloorField.deviceType)));
+        for (int i = 0; i < ruleCount; i++) {
+            modelGroup.value("domain%d.com|banner|300x250|phone".formatted(i), BigDecimal.valueOf(i % 100, 2));
+            modelGroup.value("domain%d.com|video|*|*".formatted(i), BigDecimal.ONE);
+        }
+        modelGroup.value("*|banner|*|*", BigDecimal.TEN);
+
+        floorRules = PriceFloorRules.builder()
+                .data(PriceFloorData.builder().modelGroups(List.of(modelGroup.build())).build())
+                .build();
+
+        exactMatchRequest = request("domain%d.com".formatted(ruleCount / 2));
+        wildcardMatchRequest = request("unknown.com");
+        imp = Imp.builder()
+                .id("impId")
+                .banner(Banner.builder().w(300).h(250).build())
+                .build();
+    }
+
+    private static BidRequest request(String domain) {
+        return BidRequest.builder()
+                .site(Site.builder().domain(domain).build())
+                .device(Device.builder().ua(USER_AGENT).build())
+                .build();
+    }
+
+    @Benchmark
+    public PriceFloorResult resolveExactMatch() {
+        return priceFloorResolver.resolve(exactMatchRequest, floorRules, imp, null, null, new ArrayList<>());
+    }
+
+    @Benchmark
+    public PriceFloorResult resolveWildcardMatch() {
+        return priceFloorResolver.resolve(wildcardMatchRequest, floorRules, imp, null, null, new ArrayList<>());
+    }
+}
@@ -0,0 +1,87 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.Fixtures;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures bidder fan-out serialization of one auction: the same request is encoded once per bidder the way
+ * adapters do it with {@link JacksonMapper#encodeToBytes}, with and without {@link EncodedSubtreeCache}.
+ * <p>
+ * With {@code shared} subtrees per-bidder requests share site, device, user, regs and source instances, as the ones
+ * prepared by {@code ExchangeService} when no privacy enforcement or bidder-specific FPD applies. With
+ * {@code per-bidder-user-device} each bidder gets its own user and device, as after setting the bidder's buyeruid and
+ * masking the device, which shows the cost of subtrees never reused.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidderRequestEncodingBenchmark {
+
+    private static final JacksonMapper MAPPER = Fixtures.MAPPER;
+
+    @Param({"10", "30"})
+    public int bidders;
+
+    @Param({"shared", "per-bidder-user-device"})
+    public String subtrees;
+
+    private List<BidRequest> bidderRequests;
+
+    @Setup
+    public void setUp() {
+        final BidRequest bidRequest = Fixtures.bidderRequest("rubicon");
+        bidderRequests = IntStream.range(0, bidders)
+                .mapToObj(i -> bidderRequest(bidRequest, i))
+                .toList();
+    }
+
+    private BidRequest bidderRequest(BidRequest bidRequest, int bidderIndex) {
+        final BidRequest.BidRequestBuilder bidderRequestBuilder = bidRequest.toBuilder().id("bidder-" + bidderIndex);
+        if (subtrees.equals("shared")) {
+            return bidderRequestBuilder.build();
+        }
+
+        final User user = bidRequest.getUser();
+        final Device device = bidRequest.getDevice();
+        return bidderRequestBuilder
+                .user((user != null ? user.toBuilder() : User.builder()).buyeruid("buyer-" + bidderIndex).build())
+                .device((device != null ? device.toBuilder() : Device.builder()).ifa("ifa-" + bidderIndex).build())
+                .build();
+    }
+
+    @Benchmark
+    public void encodeIndependently(Blackhole blackhole) {
+        for (BidRequest bidderRequest : bidderRequests) {
+            blackhole.consume(MAPPER.encodeToBytes(bidderRequest));
+        }
+    }
+
+    @Benchmark
+    public void encodeWithSharedSubtrees(Blackhole blackhole) {
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+        for (BidRequest bidderRequest : bidderRequests) {
+            blackhole.consume(encodedSubtreeCache.scoped(() -> MAPPER.encodeToBytes(bidderRequest)));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.settings.model.Account;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures metrics updates made for a single auction with the given number of bidders.
+ * <p>
+ * {@link #registryLookup} makes about the same number of updates looking metrics up in {@link MetricRegistry}
+ * by prepared name on every update, as it was done before metrics were cached by {@link UpdatableMetrics},
+ * and serves as baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    // counters, timers and histograms updated per bidder by auction
+    private static final int COUNTERS_PER_BIDDER = 8;
+    private static final int TIMERS_PER_BIDDER = 2;
+    private static final int HISTOGRAMS_PER_BIDDER = 2;
+
+    @Param({"5", "20"})
+    public int bidderCount;
+
+    private Metrics metrics;
+    private MetricRegistry metricRegistry;
+    private Account account;
+    private String[] bidders;
+    private String[] counterNames;
+    private String[] timerNames;
+    private String[] histogramNames;
+
+    @Setup
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+        metrics = new Metrics(
+                metricRegistry,
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.detailed, Collections.emptyList(), Collections.emptyList()));
+
+        account = Account.empty("accountId");
+        bidders = IntStream.range(0, bidderCount).mapToObj(i -> "bidder" + i).toArray(String[]::new);
+        counterNames = metricNames("counter", COUNTERS_PER_BIDDER);
+        timerNames = metricNames("timer", TIMERS_PER_BIDDER);
+        histogramNames = metricNames("histogram", HISTOGRAMS_PER_BIDDER);
+
+        // register all metrics, so only updates are measured
+        auction();
+        registryLookup();
+    }
+
+    @Benchmark
+    public Metrics auction() {
+        metrics.updateRequestTypeMetric(MetricName.openrtb2web, MetricName.ok);
+        metrics.updateAccountRequestMetrics(account, MetricName.openrtb2web);
+        metrics.updateAppAndNoCookieAndImpsRequestedMetrics(false, true, 1);
+
+        for (String bidder : bidders) {
+            metrics.updateAdapterRequestTypeAndNoCookieMetrics(bidder, MetricName.openrtb2web, false);
+            metrics.updateAdapterResponseTime(bidder, account, 100);
+            metrics.updateAdapterRequestGotbidsMetrics(bidder, account);
+            metrics.updateAdapterBidMetrics(bidder, account, 1000L, false, "banner");
+        }
+
+        metrics.updateRequestTimeMetric(MetricName.request_time, 200L);
+        return metrics;
+    }
+
+    @Benchmark
+    public MetricRegistry registryLookup() {
+        for (String name : counterNames) {
+            metricRegistry.counter(name).inc();
+        }
+        for (String name : timerNames) {
+            metricRegistry.timer(name).update(100L, TimeUnit.MILLISECONDS);
+        }
+        for (String name : histogramNames) {
+            metricRegistry.histogram(name).update(1000L);
+        }
+        return metricRegistry;
+    }
+
+    private String[] metricNames(String metricType, int countPerBidder) {
+        return IntStream.range(0, bidderCount * countPerBidder)
+                .mapToObj(i -> "adapter.%s.%s%d".formatted(bidders[i / countPerBidder], metricType, i))
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,88 @@
+package org.prebid.server.protobuf;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.Fixtures;
+import org.prebid.server.json.JacksonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON and protobuf wire formats on the same bidder request fixtures: encoding of outgoing bidder request
+ * and decoding of incoming auction request (protobuf one is transcoded to JSON before parsing, as the auction
+ * endpoint does). Sizes of both encodings are reported as {@code bytes} secondary result of encoding benchmarks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProtobufOpenRtbCodecBenchmark {
+
+    private static final JacksonMapper MAPPER = Fixtures.MAPPER;
+
+    @Param({"generic", "pubmatic", "rubicon"})
+    public String bidder;
+
+    private ProtobufOpenRtbCodec codec;
+
+    private BidRequest bidRequest;
+    private Buffer jsonBody;
+    private Buffer protobufBody;
+
+    @Setup
+    public void setUp() {
+        codec = new ProtobufOpenRtbCodec(MAPPER);
+
+        bidRequest = Fixtures.bidderRequest(bidder);
+        jsonBody = Buffer.buffer(MAPPER.encodeToBytes(bidRequest));
+        protobufBody = Buffer.buffer(codec.encodeBidRequest(bidRequest));
+    }
+
+    @Benchmark
+    public byte[] encodeJson(EncodedSize encodedSize) {
+        final byte[] encoded = MAPPER.encodeToBytes(bidRequest);
+        encodedSize.bytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf(EncodedSize encodedSize) {
+        final byte[] encoded = codec.encodeBidRequest(bidRequest);
+        encodedSize.bytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public BidRequest decodeJson() {
+        return MAPPER.decodeValue(jsonBody, BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest decodeProtobuf() {
+        return MAPPER.decodeValue(codec.decodeBidRequestToJson(protobufBody), BidRequest.class);
+    }
+
+    /**
+     * Size of the last encoded bid request, it is the same for all invocations of the benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long bytes;
+    }
+}
@@ -0,0 +1,108 @@
+package org.prebid.server.validation;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.Fixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bidder params validation of a multi-imp request, as {@link RequestValidator} does it,
+ * with and without validation results cache.
+ * <p>
+ * Params of each invocation are copies of recorded ones, so cached results are looked up by structure
+ * as it happens for params of the stored imps parsed for every request. Copying cost is the same for both cases.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidderParamValidatorBenchmark {
+
+    private static final List<String> BIDDERS = List.of("rubicon", "pubmatic", "openx", "ix");
+
+    @Param({"1", "10"})
+    public int impCount;
+
+    private BidderParamValidator validator;
+    private BidderParamValidator cachingValidator;
+    private List<String> bidders;
+    private List<JsonNode> params;
+
+    @Setup
+    public void setUp() {
+        final BidderCatalog bidderCatalog = new BidderCatalog(Collections.emptyList()) {
+
+            @Override
+            public Set<String> names() {
+                return Set.copyOf(BIDDERS);
+            }
+
+            @Override
+            public BidderInfo bidderInfoByName(String name) {
+                return BidderInfo.create(true, null, false, null, null, null, null, null, null, 0, false, false,
+                        null, null);
+            }
+        };
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+
+        validator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", Fixtures.MAPPER);
+        cachingValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10_000, 3600, metrics, Fixtures.MAPPER);
+
+        bidders = new ArrayList<>();
+        params = new ArrayList<>();
+        for (int i = 0; i < impCount; i++) {
+            for (String bidder : BIDDERS) {
+                final Imp imp = Fixtures.bidderRequest(bidder).getImp().get(0);
+                bidders.add(bidder);
+                params.add(imp.getExt().get("bidder"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        validateAll(validator, blackhole);
+    }
+
+    @Benchmark
+    public void validateCached(Blackhole blackhole) {
+        validateAll(cachingValidator, blackhole);
+    }
+
+    private void validateAll(BidderParamValidator bidderParamValidator, Blackhole blackhole) {
+        for (int i = 0; i < params.size(); i++) {
+            blackhole.consume(bidderParamValidator.validate(bidders.get(i), params.get(i).deepCopy()));
+        }
+    }
+}
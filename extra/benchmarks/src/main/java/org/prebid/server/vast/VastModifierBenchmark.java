@@ -0,0 +1,110 @@
+package org.prebid.server.vast;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.Fixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.events.EventsContext;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures impression tracker insertion into VAST XML of a video bid and of a cached video bid
+ * for documents from a single ad up to a large CTV pod.
+ * <p>
+ * Documents are built of IAB Tech Lab style InLine and Wrapper ad samples alternately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VastModifierBenchmark {
+
+    private static final String BIDDER = "bidder";
+    private static final String ACCOUNT_ID = "accountId";
+
+    @Param({"1", "10", "100"})
+    public int adCount;
+
+    private VastModifier vastModifier;
+    private EventsContext eventsContext;
+    private String vastXml;
+    private PutObject putObject;
+
+    @Setup
+    public void setUp() {
+        final BidderCatalog bidderCatalog = new BidderCatalog(Collections.emptyList()) {
+
+            @Override
+            public boolean isModifyingVastXmlAllowed(String name) {
+                return true;
+            }
+        };
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+
+        vastModifier = new VastModifier(bidderCatalog, new EventsService("http://localhost:8080"), metrics);
+        eventsContext = EventsContext.builder()
+                .enabledForAccount(true)
+                .auctionId("auctionId")
+                .auctionTimestamp(1000L)
+                .integration("integration")
+                .build();
+
+        final String inLineAd = Fixtures.readResource("vast/inline-ad.xml");
+        final String wrapperAd = Fixtures.readResource("vast/wrapper-ad.xml");
+        final StringBuilder vastXmlBuilder = new StringBuilder("<VAST version=\"4.0\">");
+        for (int i = 0; i < adCount; i++) {
+            vastXmlBuilder.append(i % 2 == 0 ? inLineAd : wrapperAd);
+        }
+        vastXml = vastXmlBuilder.append("</VAST>").toString();
+
+        putObject = PutObject.builder()
+                .type("xml")
+                .aid("auctionId")
+                .bidid("bidId")
+                .bidder(BIDDER)
+                .timestamp(1000L)
+                .value(new TextNode(vastXml))
+                .build();
+    }
+
+    @Benchmark
+    public String createBidVastXml() {
+        final List<String> debugWarnings = new ArrayList<>();
+        return vastModifier.createBidVastXml(
+                BIDDER, vastXml, null, "bidId", ACCOUNT_ID, eventsContext, debugWarnings, null);
+    }
+
+    @Benchmark
+    public JsonNode modifyVastXml() {
+        return vastModifier.modifyVastXml(true, Set.of(BIDDER), putObject, ACCOUNT_ID, "integration");
+    }
+}
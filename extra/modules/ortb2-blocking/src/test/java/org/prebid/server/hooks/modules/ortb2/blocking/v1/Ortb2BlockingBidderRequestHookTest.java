@@ -257,6 +257,7 @@ public class Ortb2BlockingBidderRequestHookTest {
                 0,
                 false,
                 false,
+                null,
                 null);
     }
 
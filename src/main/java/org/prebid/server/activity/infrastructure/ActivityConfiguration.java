@@ -1,27 +1,81 @@
 package org.prebid.server.activity.infrastructure;
 
+import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.payload.ActivityCallPayload;
 import org.prebid.server.activity.infrastructure.rule.Rule;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ActivityConfiguration {
 
+    // component names come from requests (e.g. bidder aliases), so decisions table must be bounded
+    private static final int MAX_DECISIONS_PER_COMPONENT_TYPE = 1000;
+
     private final boolean allowByDefault;
     private final List<Rule> rules;
 
+    /**
+     * Decisions made for component type and name, filled in lazily. Present only if all rules match
+     * by component, so checking of the same component doesn't require scanning rules again.
+     */
+    private final Map<ComponentType, Map<String, ActivityCallResult>> decisions;
+
     private ActivityConfiguration(boolean allowByDefault, List<Rule> rules) {
         this.allowByDefault = allowByDefault;
         this.rules = Objects.requireNonNull(rules);
+        this.decisions = !rules.isEmpty() && rules.stream().allMatch(Rule::matchesByComponentOnly)
+                ? createDecisions()
+                : null;
     }
 
     public static ActivityConfiguration of(boolean allowByDefault, List<Rule> rules) {
         return new ActivityConfiguration(allowByDefault, rules);
     }
 
+    private static Map<ComponentType, Map<String, ActivityCallResult>> createDecisions() {
+        final Map<ComponentType, Map<String, ActivityCallResult>> decisions = new EnumMap<>(ComponentType.class);
+        for (ComponentType componentType : ComponentType.values()) {
+            decisions.put(componentType, new ConcurrentHashMap<>());
+        }
+
+        return decisions;
+    }
+
     public ActivityCallResult isAllowed(ActivityCallPayload activityCallPayload) {
+        final Map<String, ActivityCallResult> componentDecisions = componentDecisions(activityCallPayload);
+        if (componentDecisions == null) {
+            return evaluate(activityCallPayload);
+        }
+
+        final String componentName = activityCallPayload.componentName();
+        final ActivityCallResult decision = componentDecisions.get(componentName);
+        if (decision != null) {
+            return decision;
+        }
+
+        final ActivityCallResult result = evaluate(activityCallPayload);
+        if (componentDecisions.size() < MAX_DECISIONS_PER_COMPONENT_TYPE) {
+            componentDecisions.put(componentName, result);
+        }
+
+        return result;
+    }
+
+    private Map<String, ActivityCallResult> componentDecisions(ActivityCallPayload activityCallPayload) {
+        if (decisions == null || activityCallPayload == null || activityCallPayload.componentName() == null) {
+            return null;
+        }
+
+        final ComponentType componentType = activityCallPayload.componentType();
+        return componentType != null ? decisions.get(componentType) : null;
+    }
+
+    private ActivityCallResult evaluate(ActivityCallPayload activityCallPayload) {
         int processedRulesCount = 0;
         Rule matchedRule = null;
 
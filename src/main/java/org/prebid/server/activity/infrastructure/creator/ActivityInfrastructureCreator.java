@@ -1,5 +1,8 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityConfiguration;
@@ -19,18 +22,30 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+/**
+ * Creates {@link ActivityInfrastructure} for requests.
+ * <p>
+ * Activities configurations compiled from account settings are immutable and shared between requests of accounts
+ * with the same activities settings. They depend on GPP only by section IDs, which are part of the cache key.
+ * Cache is disabled if its size is not positive.
+ */
 public class ActivityInfrastructureCreator {
 
     private final ActivityRuleFactory activityRuleFactory;
     private final Metrics metrics;
+    private final Cache<CompiledActivitiesKey, Map<Activity, ActivityConfiguration>> compiledActivities;
 
-    public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory, Metrics metrics) {
+    public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory, int cacheSize, Metrics metrics) {
         this.activityRuleFactory = Objects.requireNonNull(activityRuleFactory);
         this.metrics = Objects.requireNonNull(metrics);
+        this.compiledActivities = cacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheSize).build()
+                : null;
     }
 
     public ActivityInfrastructure create(Account account, GppContext gppContext, TraceLevel traceLevel) {
@@ -48,6 +63,22 @@ public class ActivityInfrastructureCreator {
                         .map(AccountPrivacyConfig::getActivities)
                         .orElse(Collections.emptyMap());
 
+        if (compiledActivities == null) {
+            return compile(activitiesConfiguration, gppContext);
+        }
+
+        final CompiledActivitiesKey key = CompiledActivitiesKey.of(activitiesConfiguration, sectionIds(gppContext));
+        return compiledActivities.get(key, ignored -> compile(activitiesConfiguration, gppContext));
+    }
+
+    private static Set<Integer> sectionIds(GppContext gppContext) {
+        final GppContext.Scope scope = gppContext != null ? gppContext.scope() : null;
+        return scope != null ? scope.getSectionsIds() : null;
+    }
+
+    private Map<Activity, ActivityConfiguration> compile(
+            Map<Activity, AccountActivityConfiguration> activitiesConfiguration, GppContext gppContext) {
+
         return Arrays.stream(Activity.values())
                 .collect(Collectors.toMap(
                         UnaryOperator.identity(),
@@ -77,4 +108,12 @@ public class ActivityInfrastructureCreator {
     private static Supplier<Map<Activity, ActivityConfiguration>> enumMapFactory() {
         return () -> new EnumMap<>(Activity.class);
     }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledActivitiesKey {
+
+        Map<Activity, AccountActivityConfiguration> activitiesConfiguration;
+
+        Set<Integer> sectionIds;
+    }
 }
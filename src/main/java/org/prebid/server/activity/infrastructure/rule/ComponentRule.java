@@ -30,4 +30,9 @@ public final class ComponentRule implements Rule {
     public boolean allowed() {
         return allowed;
     }
+
+    @Override
+    public boolean matchesByComponentOnly() {
+        return true;
+    }
 }
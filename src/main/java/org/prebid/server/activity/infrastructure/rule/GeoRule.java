@@ -67,6 +67,11 @@ public final class GeoRule implements Rule {
         return allowed;
     }
 
+    @Override
+    public boolean matchesByComponentOnly() {
+        return geoCodes == null && gpc == null;
+    }
+
     @Value(staticConstructor = "of")
     public static class GeoCode {
 
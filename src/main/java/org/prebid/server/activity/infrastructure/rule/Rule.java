@@ -7,4 +7,12 @@ public interface Rule {
     boolean matches(ActivityCallPayload activityCallPayload);
 
     boolean allowed();
+
+    /**
+     * Tells if rule matching depends only on component type and name of the payload,
+     * so its decisions can be reused for any payload of the same component.
+     */
+    default boolean matchesByComponentOnly() {
+        return false;
+    }
 }
@@ -0,0 +1,227 @@
+package org.prebid.server.analytics.pipeline;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.analytics.pipeline.model.OverflowPolicy;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Buffers serialized analytics events and sends them in gzipped batches of new line delimited events.
+ * <p>
+ * Events are expected to be serialized by the caller at the moment they happen, so the buffer holds compact
+ * bytes only and not the objects events were made from, which may be still in use and changed by the caller.
+ * Excess events are dropped in accordance with {@link OverflowPolicy}. Compression happens on the worker pool
+ * when buffer reaches the batch size or {@link #flush()} is called, batches are sent on the event loop.
+ */
+public class AnalyticsPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsPipeline.class);
+
+    private static final int NEW_LINE = '\n';
+
+    private final String name;
+    private final int batchMaxCount;
+    private final long batchMaxBytes;
+    private final OverflowPolicy overflowPolicy;
+    private final double samplingRate;
+    private final Consumer<byte[]> sender;
+    private final WorkerExecutor workerExecutor;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final BlockingQueue<byte[]> events;
+    private final int samplingThreshold;
+    private final AtomicBoolean flushInProgress;
+    private final AtomicBoolean flushRequested;
+
+    public AnalyticsPipeline(String name,
+                             int capacity,
+                             int batchMaxCount,
+                             long batchMaxBytes,
+                             OverflowPolicy overflowPolicy,
+                             double samplingRate,
+                             Consumer<byte[]> sender,
+                             WorkerExecutor workerExecutor,
+                             Metrics metrics,
+                             Clock clock) {
+
+        if (capacity < 1 || batchMaxCount < 1 || batchMaxBytes < 1) {
+            throw new IllegalArgumentException("Analytics pipeline capacity and batch limits must be positive");
+        }
+
+        this.name = Objects.requireNonNull(name);
+        this.batchMaxCount = batchMaxCount;
+        this.batchMaxBytes = batchMaxBytes;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.samplingRate = samplingRate;
+        this.sender = Objects.requireNonNull(sender);
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        events = new ArrayBlockingQueue<>(capacity);
+        samplingThreshold = capacity / 2;
+        flushInProgress = new AtomicBoolean();
+        flushRequested = new AtomicBoolean();
+
+        metrics.createAnalyticsPipelineQueueGauge(name, events::size);
+    }
+
+    /**
+     * Adds event to the buffer and starts flushing it if batch is complete.
+     * <p>
+     * Returns false if event was dropped.
+     */
+    public boolean offer(byte[] event) {
+        final boolean accepted = switch (overflowPolicy) {
+            case DROP_NEWEST -> events.offer(event);
+            case DROP_OLDEST -> offerDroppingOldest(event);
+            case SAMPLE -> offerSampling(event);
+        };
+
+        if (!accepted) {
+            metrics.updateAnalyticsPipelineDroppedMetric(name);
+        }
+
+        if (events.size() >= batchMaxCount) {
+            flush();
+        }
+
+        return accepted;
+    }
+
+    private boolean offerDroppingOldest(byte[] event) {
+        while (!events.offer(event)) {
+            if (events.poll() != null) {
+                metrics.updateAnalyticsPipelineDroppedMetric(name);
+            }
+        }
+        return true;
+    }
+
+    private boolean offerSampling(byte[] event) {
+        final boolean sampled = events.size() < samplingThreshold
+                || ThreadLocalRandom.current().nextDouble() < samplingRate;
+        return sampled && events.offer(event);
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    /**
+     * Sends all buffered events.
+     * <p>
+     * If flushing is already in progress, it will be repeated after the current one is done.
+     */
+    public void flush() {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        if (!flushInProgress.compareAndSet(false, true)) {
+            flushRequested.set(true);
+            return;
+        }
+
+        final long startTime = clock.millis();
+        workerExecutor.executeBlocking(this::drainToBatches, false, result -> handleBatches(result, startTime));
+    }
+
+    private void drainToBatches(Promise<List<byte[]>> promise) {
+        final List<byte[]> batches = new ArrayList<>();
+        final ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer();
+
+        GZIPOutputStream gzip = null;
+        try {
+            int batchCount = 0;
+            long batchBytes = 0;
+
+            // events added during flushing are left for the next one, so it does not last indefinitely
+            int remaining = events.size();
+            byte[] event;
+            while (remaining-- > 0 && (event = events.poll()) != null) {
+                if (gzip == null) {
+                    gzip = new GZIPOutputStream(new ByteBufOutputStream(buffer));
+                } else {
+                    gzip.write(NEW_LINE);
+                }
+                gzip.write(event);
+                batchCount++;
+                batchBytes += event.length;
+
+                if (batchCount >= batchMaxCount || batchBytes >= batchMaxBytes) {
+                    batches.add(complete(gzip, buffer));
+                    gzip = null;
+                    batchCount = 0;
+                    batchBytes = 0;
+                }
+            }
+
+            if (gzip != null) {
+                batches.add(complete(gzip, buffer));
+                gzip = null;
+            }
+
+            promise.complete(batches);
+        } catch (IOException e) {
+            promise.fail(new PreBidException("Failed to compress analytics events: " + e.getMessage()));
+        } finally {
+            closeQuietly(gzip);
+            buffer.release();
+        }
+    }
+
+    private static byte[] complete(GZIPOutputStream gzip, ByteBuf buffer) throws IOException {
+        // closing releases deflater native memory, underlying buffer is not affected
+        gzip.close();
+        final byte[] batch = ByteBufUtil.getBytes(buffer);
+        buffer.clear();
+        return batch;
+    }
+
+    private static void closeQuietly(GZIPOutputStream gzip) {
+        if (gzip != null) {
+            try {
+                gzip.close();
+            } catch (IOException e) {
+                // nothing to do, batch is failed anyway
+            }
+        }
+    }
+
+    private void handleBatches(AsyncResult<List<byte[]>> result, long startTime) {
+        metrics.updateAnalyticsPipelineFlushTimeMetric(name, clock.millis() - startTime);
+        flushInProgress.set(false);
+
+        if (result.succeeded()) {
+            result.result().forEach(sender);
+        } else {
+            logger.error("Failed to flush analytics events of pipeline {0}", result.cause(), name);
+        }
+
+        if (flushRequested.getAndSet(false) || events.size() >= batchMaxCount) {
+            flush();
+        }
+    }
+}
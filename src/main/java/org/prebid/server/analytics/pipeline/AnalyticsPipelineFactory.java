@@ -0,0 +1,56 @@
+package org.prebid.server.analytics.pipeline;
+
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.analytics.pipeline.model.OverflowPolicy;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Creates {@link AnalyticsPipeline}s of analytics reporters sharing the same buffer settings and worker pool.
+ */
+public class AnalyticsPipelineFactory {
+
+    private final int bufferCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final double samplingRate;
+    private final WorkerExecutor workerExecutor;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    public AnalyticsPipelineFactory(int bufferCapacity,
+                                    OverflowPolicy overflowPolicy,
+                                    double samplingRate,
+                                    WorkerExecutor workerExecutor,
+                                    Metrics metrics,
+                                    Clock clock) {
+
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.samplingRate = samplingRate;
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Creates pipeline sending batches of at most given number of events and given uncompressed size in bytes.
+     * <p>
+     * Name is used in pipeline metrics, so it should be unique, e.g. reporter name and event type.
+     */
+    public AnalyticsPipeline create(String name, int batchMaxCount, long batchMaxBytes, Consumer<byte[]> sender) {
+        return new AnalyticsPipeline(
+                name,
+                bufferCapacity,
+                batchMaxCount,
+                batchMaxBytes,
+                overflowPolicy,
+                samplingRate,
+                sender,
+                workerExecutor,
+                metrics,
+                clock);
+    }
+}
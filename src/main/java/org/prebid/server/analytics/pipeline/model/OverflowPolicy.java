@@ -0,0 +1,23 @@
+package org.prebid.server.analytics.pipeline.model;
+
+/**
+ * Defines which events are dropped by {@link org.prebid.server.analytics.pipeline.AnalyticsPipeline}
+ * when its buffer cannot keep up with incoming events.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Incoming events are dropped while buffer is full.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The oldest buffered events are dropped to make room for incoming ones.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Incoming events are sampled once buffer is half full and dropped while it is full.
+     */
+    SAMPLE
+}
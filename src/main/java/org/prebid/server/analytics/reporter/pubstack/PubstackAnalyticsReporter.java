@@ -14,6 +14,7 @@ import org.prebid.server.analytics.model.CookieSyncEvent;
 import org.prebid.server.analytics.model.NotificationEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
 import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.analytics.pipeline.AnalyticsPipelineFactory;
 import org.prebid.server.analytics.reporter.pubstack.model.EventType;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackConfig;
@@ -36,6 +37,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
 
     private static final Logger logger = LoggerFactory.getLogger(PubstackAnalyticsReporter.class);
 
+    private static final String NAME = "pubstack";
     private static final String EVENT_REPORT_ENDPOINT_PATH = "/intake";
     private static final String CONFIG_URL_SUFFIX = "/bootstrap?scopeId=";
 
@@ -51,6 +53,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
     public PubstackAnalyticsReporter(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                      HttpClient httpClient,
                                      JacksonMapper jacksonMapper,
+                                     AnalyticsPipelineFactory analyticsPipelineFactory,
                                      Vertx vertx) {
 
         this.configurationRefreshDelay =
@@ -60,7 +63,8 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.vertx = Objects.requireNonNull(vertx);
 
-        this.eventHandlers = createEventHandlers(pubstackAnalyticsProperties, httpClient, jacksonMapper, vertx);
+        this.eventHandlers = createEventHandlers(
+                pubstackAnalyticsProperties, httpClient, jacksonMapper, analyticsPipelineFactory, vertx);
         this.pubstackConfig = PubstackConfig.of(pubstackAnalyticsProperties.getScopeId(),
                 pubstackAnalyticsProperties.getEndpoint(), Collections.emptyMap());
     }
@@ -69,6 +73,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
             PubstackAnalyticsProperties pubstackAnalyticsProperties,
             HttpClient httpClient,
             JacksonMapper jacksonMapper,
+            AnalyticsPipelineFactory analyticsPipelineFactory,
             Vertx vertx) {
 
         return Arrays.stream(EventType.values())
@@ -77,8 +82,10 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
                                 pubstackAnalyticsProperties,
                                 false,
                                 buildEventEndpointUrl(pubstackAnalyticsProperties.getEndpoint(), eventType),
+                                NAME + "." + eventType.name(),
                                 jacksonMapper,
                                 httpClient,
+                                analyticsPipelineFactory,
                                 vertx)));
     }
 
@@ -120,7 +127,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
 
     @Override
     public String name() {
-        return "pubstack";
+        return NAME;
     }
 
     @Override
@@ -9,71 +9,65 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.analytics.pipeline.AnalyticsPipeline;
+import org.prebid.server.analytics.pipeline.AnalyticsPipelineFactory;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
-import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Predicate;
-import java.util.zip.GZIPOutputStream;
 
+/**
+ * Reports events of one type to Pubstack.
+ * <p>
+ * Events are serialized on handling and then buffered and compressed by {@link AnalyticsPipeline}.
+ */
 public class PubstackEventHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PubstackEventHandler.class);
     private static final String SCOPE_FIELD_NAME = "scope";
     private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
     private static final String GZIP = "gzip";
-    private static final String NEW_LINE = "\n";
 
     private volatile boolean enabled;
     private volatile String endpoint;
     private volatile String scopeId;
-    private final long maxByteSize;
-    private final long maxEventCount;
     private final long reportTtlMillis;
     private final long timeoutMs;
     private final Vertx vertx;
     private final JacksonMapper jacksonMapper;
     private final HttpClient httpClient;
 
-    private final ReentrantLock lockOnSend;
-    private final AtomicReference<Queue<String>> events;
+    private final AnalyticsPipeline pipeline;
     private final MultiMap headers;
-    private final AtomicLong byteSize;
     private volatile long reportTimerId;
 
     public PubstackEventHandler(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                 boolean enabled,
                                 String endpoint,
+                                String pipelineName,
                                 JacksonMapper jacksonMapper,
                                 HttpClient httpClient,
+                                AnalyticsPipelineFactory analyticsPipelineFactory,
                                 Vertx vertx) {
         this.enabled = enabled;
         this.endpoint = HttpUtil.validateUrl(endpoint);
         this.scopeId = pubstackAnalyticsProperties.getScopeId();
-        this.maxByteSize = pubstackAnalyticsProperties.getSizeBytes();
-        this.maxEventCount = pubstackAnalyticsProperties.getCount();
         this.reportTtlMillis = pubstackAnalyticsProperties.getReportTtlMs();
         this.timeoutMs = pubstackAnalyticsProperties.getTimeoutMs();
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.httpClient = Objects.requireNonNull(httpClient);
         this.vertx = Objects.requireNonNull(vertx);
 
-        this.lockOnSend = new ReentrantLock();
-        this.events = new AtomicReference<>(new ConcurrentLinkedQueue<>());
+        this.pipeline = Objects.requireNonNull(analyticsPipelineFactory.create(
+                pipelineName,
+                pubstackAnalyticsProperties.getCount(),
+                pubstackAnalyticsProperties.getSizeBytes(),
+                this::sendEvents));
         this.headers = makeHeaders();
-        this.byteSize = new AtomicLong();
         if (enabled) {
             this.reportTimerId = setReportTtlTimer();
         }
@@ -81,15 +75,17 @@ public class PubstackEventHandler {
 
     public <T> void handle(T event) {
         if (enabled) {
-            buffer(event);
-            reportEventsOnCondition(byteSize -> byteSize.get() > maxByteSize, byteSize);
-            reportEventsOnCondition(eventsReference -> eventsReference.get().size() > maxEventCount, events);
+            final byte[] serializedEvent = toJsonBytes(event);
+            if (serializedEvent != null) {
+                pipeline.offer(serializedEvent);
+            }
         }
     }
 
     public void reportEvents() {
-        if (enabled) {
-            reportEventsOnCondition(events -> events.get().size() > 0, events);
+        if (enabled && pipeline.size() > 0) {
+            pipeline.flush();
+            resetReportTimer();
         }
     }
 
@@ -100,67 +96,41 @@ public class PubstackEventHandler {
         this.scopeId = scopeId;
     }
 
-    private <T> void buffer(T event) {
-        final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
-        eventNode.put(SCOPE_FIELD_NAME, scopeId);
-        final String jsonEvent = jacksonMapper.encodeToString(eventNode);
-        events.get().add(jsonEvent);
-        byteSize.getAndAdd(jsonEvent.getBytes().length);
-    }
-
-    private <T> boolean reportEventsOnCondition(Predicate<T> conditionToSend, T conditionValue) {
-        boolean requestWasSent = false;
-        if (conditionToSend.test(conditionValue)) {
-            lockOnSend.lock();
-            try {
-                if (conditionToSend.test(conditionValue)) {
-                    requestWasSent = true;
-                    sendEvents(events);
-                }
-            } catch (Exception exception) {
-                logger.error("[pubstack] Failed to send analytics report to endpoint {0} with a reason {1}",
-                        endpoint, exception.getMessage());
-            } finally {
-                lockOnSend.unlock();
-            }
+    private <T> byte[] toJsonBytes(T event) {
+        try {
+            final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
+            eventNode.put(SCOPE_FIELD_NAME, scopeId);
+            return jacksonMapper.encodeToBytes(eventNode);
+        } catch (IllegalArgumentException | EncodeException e) {
+            logger.warn("[pubstack] Failed to serialize event: {0}", e.getMessage());
+            return null;
         }
-        return requestWasSent;
     }
 
-    private void sendEvents(AtomicReference<Queue<String>> events) {
-        final String url = HttpUtil.validateUrl(endpoint);
-        final Queue<String> copyToSend = events.getAndSet(new ConcurrentLinkedQueue<>());
+    private void sendEvents(byte[] gzippedEvents) {
+        final String url;
+        try {
+            url = HttpUtil.validateUrl(endpoint);
+        } catch (IllegalArgumentException e) {
+            logger.error("[pubstack] Failed to send analytics report to endpoint {0} with a reason {1}",
+                    endpoint, e.getMessage());
+            return;
+        }
 
-        resetReportEventsConditions();
+        // batch may be flushed by the pipeline itself when it's full, so next report is postponed as after any other
+        if (enabled) {
+            resetReportTimer();
+        }
 
-        httpClient.request(HttpMethod.POST, url, headers, toGzippedBytes(copyToSend), timeoutMs)
+        httpClient.request(HttpMethod.POST, url, headers, gzippedEvents, timeoutMs)
                 .onComplete(this::handleReportResponse);
     }
 
-    private void resetReportEventsConditions() {
-        byteSize.set(0);
+    private void resetReportTimer() {
         vertx.cancelTimer(reportTimerId);
         reportTimerId = setReportTtlTimer();
     }
 
-    private static byte[] toGzippedBytes(Queue<String> events) {
-        return gzip(String.join(NEW_LINE, events));
-    }
-
-    private static byte[] gzip(String value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("[pubstack] failed to compress, skip the events : " + e.getMessage());
-        }
-    }
-
     private void handleReportResponse(AsyncResult<HttpClientResponse> result) {
         if (result.failed()) {
             logger.error("[pubstack] Failed to send events to endpoint {0} with a reason: {1}",
@@ -179,10 +149,8 @@ public class PubstackEventHandler {
     }
 
     private void sendOnTimer() {
-        final boolean requestWasSent = reportEventsOnCondition(events -> events.get().size() > 0, events);
-        if (!requestWasSent) {
-            setReportTtlTimer();
-        }
+        pipeline.flush();
+        reportTimerId = setReportTtlTimer();
     }
 
     private void updateTimerOnEnabling(boolean enabled) {
@@ -36,6 +36,8 @@ import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
@@ -46,6 +48,7 @@ import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.auction.versionconverter.OrtbVersionConversionCache;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.HttpBidderRequester;
@@ -78,6 +81,7 @@ import org.prebid.server.hooks.v1.analytics.Result;
 import org.prebid.server.hooks.v1.analytics.Tags;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
+import org.prebid.server.json.EncodedSubtreeCache;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -116,6 +120,7 @@ import org.prebid.server.proto.openrtb.ext.response.ExtModulesTraceGroup;
 import org.prebid.server.proto.openrtb.ext.response.ExtModulesTraceInvocationResult;
 import org.prebid.server.proto.openrtb.ext.response.ExtModulesTraceStage;
 import org.prebid.server.proto.openrtb.ext.response.ExtModulesTraceStageOutcome;
+import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.LineItemUtil;
 import org.prebid.server.util.ObjectUtil;
@@ -132,11 +137,13 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -163,6 +170,7 @@ public class ExchangeService {
 
     private final double logSamplingRate;
     private final int timeoutAdjustmentFactor;
+    private final boolean debugTimingsEnabled;
     private final BidderCatalog bidderCatalog;
     private final StoredResponseProcessor storedResponseProcessor;
     private final DealsService dealsService;
@@ -193,6 +201,7 @@ public class ExchangeService {
 
     public ExchangeService(double logSamplingRate,
                            int timeoutAdjustmentFactor,
+                           boolean debugTimingsEnabled,
                            BidderCatalog bidderCatalog,
                            StoredResponseProcessor storedResponseProcessor,
                            DealsService dealsService,
@@ -226,6 +235,7 @@ public class ExchangeService {
         }
         this.logSamplingRate = logSamplingRate;
         this.timeoutAdjustmentFactor = timeoutAdjustmentFactor;
+        this.debugTimingsEnabled = debugTimingsEnabled;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.storedResponseProcessor = Objects.requireNonNull(storedResponseProcessor);
         this.dealsService = dealsService;
@@ -262,8 +272,11 @@ public class ExchangeService {
     public Future<AuctionContext> holdAuction(AuctionContext context) {
         return processAuctionRequest(context)
                 .compose(this::invokeResponseHooks)
+                .map(auctionContext -> completeStage(auctionContext, AuctionStage.auction_response, auctionContext))
                 .map(this::enrichWithHooksDebugInfo)
-                .map(this::updateHooksMetrics);
+                .map(this::updateHooksMetrics)
+                .map(this::enrichWithStageTimingsDebugInfo)
+                .map(this::updateStageMetrics);
     }
 
     private Future<AuctionContext> processAuctionRequest(AuctionContext context) {
@@ -290,10 +303,14 @@ public class ExchangeService {
         final BidderAliases aliases = aliases(bidRequest);
         final BidRequestCacheInfo cacheInfo = bidRequestCacheInfo(bidRequest);
         final Map<String, MultiBidConfig> bidderToMultiBid = bidderToMultiBids(bidRequest, debugWarnings);
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+        final OrtbVersionConversionCache conversionCache = new OrtbVersionConversionCache();
         receivedContext.getBidRejectionTrackers().putAll(makeBidRejectionTrackers(bidRequest, aliases));
 
         return storedResponseProcessor.getStoredResponseResult(bidRequest.getImp(), timeout)
                 .map(storedResponseResult -> populateStoredResponse(storedResponseResult, storedAuctionResponses))
+                .map(storedResponseResult -> completeStage(
+                        receivedContext, AuctionStage.stored_responses, storedResponseResult))
                 .compose(storedResponseResult -> extractAuctionParticipations(
                         receivedContext, storedResponseResult, aliases, bidderToMultiBid))
 
@@ -302,6 +319,7 @@ public class ExchangeService {
                 .map(auctionParticipations -> fillContext(receivedContext, auctionParticipations))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
+                .map(context -> completeStage(context, AuctionStage.bidder_requests, context))
 
                 .compose(context -> CompositeFuture.join(
                                 context.getAuctionParticipations().stream()
@@ -309,30 +327,44 @@ public class ExchangeService {
                                                 context,
                                                 auctionParticipation.getBidderRequest(),
                                                 timeout,
-                                                aliases)
+                                                aliases,
+                                                encodedSubtreeCache,
+                                                conversionCache)
                                                 .map(auctionParticipation::with))
                                         .collect(Collectors.toCollection(ArrayList::new)))
                         // send all the requests to the bidders and gathers results
                         .map(CompositeFuture::<AuctionParticipation>list)
+                        .map(auctionParticipations -> completeStage(
+                                context, AuctionStage.bidders, auctionParticipations))
                         .map(storedResponseProcessor::updateStoredBidResponse)
                         .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
                                 auctionParticipations, storedAuctionResponses, bidRequest.getImp()))
                         .map(auctionParticipations -> dropZeroNonDealBids(auctionParticipations, debugWarnings))
                         .map(auctionParticipations -> validateAndAdjustBids(auctionParticipations, context, aliases))
                         .map(auctionParticipations -> updateResponsesMetrics(auctionParticipations, account, aliases))
+                        .map(auctionParticipations -> completeStage(
+                                context, AuctionStage.bids_processing, auctionParticipations))
                         .map(context::with))
 
                 // produce response from bidder results
                 .compose(context -> bidResponseCreator.create(context, cacheInfo, bidderToMultiBid)
+                        .map(bidResponse -> completeStage(context, AuctionStage.response_creation, bidResponse))
                         .map(bidResponse -> publishAuctionEvent(bidResponse, context))
                         .map(bidResponse -> criteriaLogManager.traceResponse(logger, bidResponse,
                                 context.getBidRequest(), context.getDebugContext().isDebugEnabled()))
                         .compose(bidResponse -> bidResponsePostProcessor.postProcess(
                                 context.getHttpRequest(), uidsCookie, bidRequest, bidResponse, account))
+                        .map(bidResponse -> completeStage(
+                                context, AuctionStage.response_post_processing, bidResponse))
 
                         .map(context::with));
     }
 
+    private static <T> T completeStage(AuctionContext context, AuctionStage stage, T result) {
+        context.completeStage(stage);
+        return result;
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
         final Map<String, String> aliases = prebid != null ? prebid.getAliases() : null;
@@ -1254,7 +1286,9 @@ public class ExchangeService {
     private Future<BidderResponse> processAndRequestBids(AuctionContext auctionContext,
                                                          BidderRequest bidderRequest,
                                                          Timeout timeout,
-                                                         BidderAliases aliases) {
+                                                         BidderAliases aliases,
+                                                         EncodedSubtreeCache encodedSubtreeCache,
+                                                         OrtbVersionConversionCache conversionCache) {
 
         final String bidderName = bidderRequest.getBidder();
         final MediaTypeProcessingResult mediaTypeProcessingResult = mediaTypeProcessor.process(
@@ -1276,7 +1310,7 @@ public class ExchangeService {
         return Future.succeededFuture(mediaTypeProcessingResult.getBidRequest())
                 .map(bidderRequest::with)
                 .compose(modifiedBidderRequest -> invokeHooksAndRequestBids(
-                        auctionContext, modifiedBidderRequest, timeout, aliases))
+                        auctionContext, modifiedBidderRequest, timeout, aliases, encodedSubtreeCache, conversionCache))
                 .map(bidderResponse -> bidderResponse.with(
                         addWarnings(bidderResponse.getSeatBid(), mediaTypeProcessingErrors)));
     }
@@ -1292,11 +1326,19 @@ public class ExchangeService {
     private Future<BidderResponse> invokeHooksAndRequestBids(AuctionContext auctionContext,
                                                              BidderRequest bidderRequest,
                                                              Timeout timeout,
-                                                             BidderAliases aliases) {
+                                                             BidderAliases aliases,
+                                                             EncodedSubtreeCache encodedSubtreeCache,
+                                                             OrtbVersionConversionCache conversionCache) {
 
         return hookStageExecutor.executeBidderRequestStage(bidderRequest, auctionContext)
                 .compose(stageResult -> requestBidsOrRejectBidder(
-                        stageResult, bidderRequest, auctionContext, timeout, aliases))
+                        stageResult,
+                        bidderRequest,
+                        auctionContext,
+                        timeout,
+                        aliases,
+                        encodedSubtreeCache,
+                        conversionCache))
 
                 .compose(bidderResponse -> hookStageExecutor.executeRawBidderResponseStage(
                                 bidderResponse, auctionContext)
@@ -1308,7 +1350,9 @@ public class ExchangeService {
             BidderRequest bidderRequest,
             AuctionContext auctionContext,
             Timeout timeout,
-            BidderAliases aliases) {
+            BidderAliases aliases,
+            EncodedSubtreeCache encodedSubtreeCache,
+            OrtbVersionConversionCache conversionCache) {
 
         httpInteractionLogger.maybeLogBidderRequest(auctionContext, bidderRequest);
         if (hookStageResult.isShouldReject()) {
@@ -1322,17 +1366,24 @@ public class ExchangeService {
         final BidderRequest enrichedBidderRequest = bidderRequest.toBuilder()
                 .bidRequest(hookStageResult.getPayload().bidRequest())
                 .build();
-        return requestBids(enrichedBidderRequest, auctionContext, timeout, aliases);
+        return requestBids(
+                enrichedBidderRequest, auctionContext, timeout, aliases, encodedSubtreeCache, conversionCache);
     }
 
     /**
      * Passes the request to a corresponding bidder and wraps response in {@link BidderResponse} which also holds
      * recorded response time.
+     * <p>
+     * Bidder request is converted with {@link OrtbVersionConversionCache} and encoded within
+     * {@link EncodedSubtreeCache} scope, so request subtrees shared between bidders are converted to the bidder
+     * supported OpenRTB version once per auction and version, and serialized once per auction.
      */
     private Future<BidderResponse> requestBids(BidderRequest bidderRequest,
                                                AuctionContext auctionContext,
                                                Timeout timeout,
-                                               BidderAliases aliases) {
+                                               BidderAliases aliases,
+                                               EncodedSubtreeCache encodedSubtreeCache,
+                                               OrtbVersionConversionCache conversionCache) {
 
         final CaseInsensitiveMultiMap requestHeaders = auctionContext.getHttpRequest().getHeaders();
 
@@ -1346,20 +1397,31 @@ public class ExchangeService {
 
         return Future.succeededFuture(bidderRequest.getBidRequest())
                 .map(bidRequest -> adjustTmax(bidRequest, auctionStartTime, bidderRequestStartTime))
-                .map(bidRequest -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
-                        bidRequest, bidderRequest.getOrtbVersion()))
+                .map(bidRequest -> convertToBidderSupportedVersion(bidRequest, bidderRequest, conversionCache))
                 .map(bidderRequest::with)
-                .compose(convertedBidderRequest -> httpBidderRequester.requestBids(
+                .compose(convertedBidderRequest -> encodedSubtreeCache.scoped(() -> httpBidderRequester.requestBids(
                         bidder,
                         convertedBidderRequest,
                         bidRejectionTracker,
                         adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
                         requestHeaders,
                         aliases,
-                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
+                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName))))
                 .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
     }
 
+    private BidRequest convertToBidderSupportedVersion(BidRequest bidRequest,
+                                                       BidderRequest bidderRequest,
+                                                       OrtbVersionConversionCache conversionCache) {
+
+        final long startNanos = System.nanoTime();
+        final BidRequest convertedBidRequest = ortbVersionConversionManager.convertFromAuctionSupportedVersion(
+                bidRequest, bidderRequest.getOrtbVersion(), conversionCache);
+        metrics.updateAdapterOrtbConversionTime(bidderRequest.getBidder(), System.nanoTime() - startNanos);
+
+        return convertedBidRequest;
+    }
+
     private BidRequest adjustTmax(BidRequest bidRequest, long startTime, long currentTime) {
         final long tmax = timeoutResolver.limitToMax(bidRequest.getTmax());
         final long adjustedTmax = timeoutResolver.adjustForBidder(
@@ -1931,6 +1993,57 @@ public class ExchangeService {
         return context;
     }
 
+    private AuctionContext enrichWithStageTimingsDebugInfo(AuctionContext context) {
+        final AuctionStageTimings stageTimings = context.getStageTimings();
+        if (stageTimings == null || !debugTimingsEnabled || !context.getDebugContext().isDebugEnabled()) {
+            return context;
+        }
+
+        final Map<String, Long> timings = new LinkedHashMap<>();
+        stageTimings.getStageToNanos()
+                .forEach((stage, nanos) -> timings.put(stage.name(), TimeUnit.NANOSECONDS.toMicros(nanos)));
+
+        final BidResponse bidResponse = context.getBidResponse();
+        final Optional<ExtBidResponse> ext = Optional.ofNullable(bidResponse.getExt());
+        final ExtResponseDebug updatedExtDebug = ext.map(ExtBidResponse::getDebug)
+                .map(extDebug -> ExtResponseDebug.of(
+                        extDebug.getHttpcalls(),
+                        extDebug.getResolvedrequest(),
+                        extDebug.getPgmetrics(),
+                        extDebug.getTrace(),
+                        timings))
+                .orElse(ExtResponseDebug.of(null, null, null, null, timings));
+
+        final ExtBidResponse updatedExt = ext
+                .map(ExtBidResponse::toBuilder)
+                .orElse(ExtBidResponse.builder())
+                .debug(updatedExtDebug)
+                .build();
+
+        final BidResponse updatedBidResponse = bidResponse.toBuilder().ext(updatedExt).build();
+        return context.with(updatedBidResponse);
+    }
+
+    private AuctionContext updateStageMetrics(AuctionContext context) {
+        final AuctionStageTimings stageTimings = context.getStageTimings();
+        if (stageTimings == null) {
+            return context;
+        }
+
+        final MetricName requestTypeMetric = context.getRequestTypeMetric();
+        final Account account = context.getAccount();
+
+        stageTimings.getStageToNanos().forEach((stage, nanos) -> {
+            metrics.updateAuctionStageTimeMetric(requestTypeMetric, stage, nanos);
+            // account might be null if request is rejected by the entrypoint hook
+            if (account != null) {
+                metrics.updateAccountAuctionStageTimeMetric(account, stage, nanos);
+            }
+        });
+
+        return context;
+    }
+
     private void updateHooksStageMetrics(Account account, Stage stage, List<StageExecutionOutcome> stageOutcomes) {
         stageOutcomes.stream()
                 .flatMap(stageOutcome -> stageOutcome.getGroups().stream())
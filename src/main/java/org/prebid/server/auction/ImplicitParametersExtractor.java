@@ -1,8 +1,11 @@
 package org.prebid.server.auction;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.util.HttpUtil;
@@ -11,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -19,9 +23,20 @@ import java.util.function.Function;
 public class ImplicitParametersExtractor {
 
     private final PublicSuffixList psl;
+    private final Metrics metrics;
 
-    public ImplicitParametersExtractor(PublicSuffixList psl) {
+    /**
+     * Registrable domains by host, empty if it couldn't be derived. Traffic comes from a limited set of hosts,
+     * so resolving them over the public suffix list for every request is a waste.
+     */
+    private final Cache<String, Optional<String>> hostToDomain;
+
+    public ImplicitParametersExtractor(PublicSuffixList psl, int domainCacheSize, Metrics metrics) {
         this.psl = Objects.requireNonNull(psl);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.hostToDomain = domainCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(domainCacheSize).build()
+                : null;
     }
 
     /**
@@ -48,7 +63,7 @@ public class ImplicitParametersExtractor {
             throw new PreBidException("Host is not defined or can not be derived from request");
         }
 
-        final String domain = psl.getRegistrableDomain(host);
+        final String domain = registrableDomain(host);
 
         if (domain == null) {
             // null means effective top level domain plus one couldn't be derived
@@ -58,6 +73,22 @@ public class ImplicitParametersExtractor {
         return domain;
     }
 
+    private String registrableDomain(String host) {
+        if (hostToDomain == null) {
+            return psl.getRegistrableDomain(host);
+        }
+
+        final Optional<String> cachedDomain = hostToDomain.getIfPresent(host);
+        metrics.updatePslCacheMetric(cachedDomain != null);
+        if (cachedDomain != null) {
+            return cachedDomain.orElse(null);
+        }
+
+        final String domain = psl.getRegistrableDomain(host);
+        hostToDomain.put(host, Optional.ofNullable(domain));
+        return domain;
+    }
+
     /**
      * Determines IP-Address candidates by checking http headers and remote host address.
      */
@@ -89,8 +89,20 @@ public class OrtbTypesResolver {
      * Mutates both parameters, {@param fpdContainerNode} and {@param warnings}.
      */
     public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
+        normalizeBidRequest(bidRequest, getOriginalRowContainerNode(bidRequest), warnings, referer);
+    }
+
+    /**
+     * Resolves fields types inconsistency the same way as {@link #normalizeBidRequest(JsonNode, List, String)},
+     * but takes json the {@param bidRequest} was parsed from, so it is not serialized again only to be logged
+     * along with warnings.
+     */
+    public void normalizeBidRequest(JsonNode bidRequest,
+                                    String rowOriginBidRequest,
+                                    List<String> warnings,
+                                    String referer) {
+
         final List<String> resolverWarnings = new ArrayList<>();
-        final String rowOriginBidRequest = getOriginalRowContainerNode(bidRequest);
         normalizeRequestFpdFields(bidRequest, resolverWarnings);
         final JsonNode bidderConfigs = bidRequest.path("ext").path("prebid").path("bidderconfig");
         if (!bidderConfigs.isMissingNode() && bidderConfigs.isArray()) {
@@ -17,6 +17,7 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtImp;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -108,8 +109,13 @@ public class StoredRequestProcessor {
                 applicationSettings.getStoredData(accountId, requestIds, impIds, timeout(bidRequest))
                         .onSuccess(storedDataResult -> updateStoredResultMetrics(storedDataResult, requestIds, impIds));
 
+        final MetricName requestType = bidRequest.getApp() != null ? MetricName.openrtb2app : MetricName.openrtb2web;
         return storedRequestsToBidRequest(
-                storedDataFuture, bidRequest, bidRequestToStoredRequestId.get(bidRequest), impToStoredRequestId)
+                storedDataFuture,
+                bidRequest,
+                bidRequestToStoredRequestId.get(bidRequest),
+                impToStoredRequestId,
+                requestType)
                 .map(this::generateBidRequestIdForApp)
                 .map(resolvedRequest -> AuctionStoredResult.of(true, resolvedRequest));
     }
@@ -126,7 +132,8 @@ public class StoredRequestProcessor {
                 .onSuccess(storedDataResult -> updateStoredResultMetrics(
                         storedDataResult, Collections.singleton(ampRequestId), Collections.emptySet()));
 
-        return storedRequestsToBidRequest(ampStoredDataFuture, bidRequest, ampRequestId, Collections.emptyMap())
+        return storedRequestsToBidRequest(
+                ampStoredDataFuture, bidRequest, ampRequestId, Collections.emptyMap(), MetricName.amp)
                 .map(this::generateBidRequestId);
     }
 
@@ -235,14 +242,15 @@ public class StoredRequestProcessor {
     private Future<BidRequest> storedRequestsToBidRequest(Future<StoredDataResult> storedDataFuture,
                                                           BidRequest bidRequest,
                                                           String storedBidRequestId,
-                                                          Map<Imp, String> impsToStoredRequestId) {
+                                                          Map<Imp, String> impsToStoredRequestId,
+                                                          MetricName requestType) {
 
         return storedDataFuture
                 .compose(result -> !result.getErrors().isEmpty()
                         ? Future.failedFuture(new InvalidStoredRequestException(result.getErrors()))
                         : Future.succeededFuture(result))
                 .map(result -> mergeBidRequestAndImps(
-                        bidRequest, storedBidRequestId, impsToStoredRequestId, result));
+                        bidRequest, storedBidRequestId, impsToStoredRequestId, result, requestType));
     }
 
     /**
@@ -253,13 +261,20 @@ public class StoredRequestProcessor {
     private BidRequest mergeBidRequestAndImps(BidRequest bidRequest,
                                               String storedRequestId,
                                               Map<Imp, String> impToStoredId,
-                                              StoredDataResult storedDataResult) {
+                                              StoredDataResult storedDataResult,
+                                              MetricName requestType) {
+
+        final long startTime = System.nanoTime();
 
         final BidRequest mergedWithStoredRequest = mergeBidRequest(bidRequest, storedRequestId, storedDataResult);
 
         final BidRequest mergedWithDefaultRequest = mergeDefaultRequest(mergedWithStoredRequest);
 
-        return mergeImps(mergedWithDefaultRequest, impToStoredId, storedDataResult);
+        final BidRequest result = mergeImps(mergedWithDefaultRequest, impToStoredId, storedDataResult);
+
+        metrics.updateStoredRequestMergeTime(requestType, System.nanoTime() - startTime);
+
+        return result;
     }
 
     private BidRequest mergeDefaultRequest(BidRequest bidRequest) {
@@ -3,6 +3,8 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
@@ -49,6 +51,7 @@ public class StoredResponseProcessor {
     private static final String PREBID_EXT = "prebid";
     private static final String DEFAULT_BID_CURRENCY = "USD";
     private static final String PBS_IMPID_MACRO = "##PBSIMPID##";
+    private static final int PARSED_SEAT_BIDS_CACHE_SIZE = 10_000;
 
     private static final TypeReference<List<SeatBid>> SEATBID_LIST_TYPE =
             new TypeReference<>() {
@@ -57,11 +60,22 @@ public class StoredResponseProcessor {
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
 
+    /**
+     * Validated seatbids of stored auction response by its json. Keys are compared by identity and weakly referenced,
+     * so stored response served from settings cache is parsed once and released together with cached json.
+     * Seatbids are templates shared between requests and must not be modified.
+     */
+    private final Cache<String, List<SeatBid>> parsedSeatBids;
+
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
                                    JacksonMapper mapper) {
 
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.mapper = Objects.requireNonNull(mapper);
+        this.parsedSeatBids = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(PARSED_SEAT_BIDS_CACHE_SIZE)
+                .build();
     }
 
     Future<StoredResponseResult> getStoredResponseResult(List<Imp> imps, Timeout timeout) {
@@ -230,8 +244,7 @@ public class StoredResponseProcessor {
                         "Failed to fetch stored auction response for impId = %s and storedAuctionResponse id = %s."
                                 .formatted(impId, id));
             }
-            final List<SeatBid> seatBids = parseSeatBid(id, rowSeatBid);
-            validateStoredSeatBid(seatBids);
+            final List<SeatBid> seatBids = parsedSeatBids.get(rowSeatBid, json -> parseAndValidateSeatBid(id, json));
             resolvedSeatBids.addAll(seatBids.stream()
                     .map(seatBid -> updateSeatBidBids(seatBid, impId))
                     .toList());
@@ -239,6 +252,14 @@ public class StoredResponseProcessor {
         return mergeSameBidderSeatBid(resolvedSeatBids);
     }
 
+    private List<SeatBid> parseAndValidateSeatBid(String id, String rowSeatBid) {
+        final List<SeatBid> seatBids = parseSeatBid(id, rowSeatBid);
+        validateStoredSeatBid(seatBids);
+        return seatBids.stream()
+                .map(seatBid -> seatBid.toBuilder().bid(List.copyOf(seatBid.getBid())).build())
+                .toList();
+    }
+
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
         try {
             return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
@@ -248,15 +269,26 @@ public class StoredResponseProcessor {
     }
 
     private SeatBid updateSeatBidBids(SeatBid seatBid, String impId) {
-        return seatBid.toBuilder().bid(updateBidsWithImpId(seatBid.getBid(), impId)).build();
+        final ObjectNode ext = seatBid.getExt();
+        return seatBid.toBuilder()
+                .bid(updateBidsWithImpId(seatBid.getBid(), impId))
+                .ext(ext != null ? ext.deepCopy() : null)
+                .build();
     }
 
     private List<Bid> updateBidsWithImpId(List<Bid> bids, String impId) {
         return bids.stream().map(bid -> updateBidWithImpId(bid, impId)).toList();
     }
 
+    /**
+     * Makes bid of the request from the shared template, so its mutable ext is copied as well as seatbid's one.
+     */
     private static Bid updateBidWithImpId(Bid bid, String impId) {
-        return bid.toBuilder().impid(impId).build();
+        final ObjectNode ext = bid.getExt();
+        return bid.toBuilder()
+                .impid(impId)
+                .ext(ext != null ? ext.deepCopy() : null)
+                .build();
     }
 
     private void validateStoredSeatBid(List<SeatBid> seatBids) {
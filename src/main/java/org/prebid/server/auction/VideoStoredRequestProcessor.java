@@ -29,6 +29,7 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.ExtIncludeBrandCategory;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
@@ -146,6 +147,8 @@ public class VideoStoredRequestProcessor {
                                                                 BidRequestVideo videoRequest,
                                                                 String storedBidRequestId) {
 
+        final long startTime = System.nanoTime();
+
         final BidRequestVideo mergedStoredRequest = mergeBidRequest(videoRequest, storedBidRequestId, storedResult);
         validator.validateStoredBidRequest(mergedStoredRequest, enforceStoredRequest, blacklistedAccounts);
 
@@ -156,6 +159,8 @@ public class VideoStoredRequestProcessor {
 
         final BidRequest bidRequest = mergeWithDefaultBidRequest(mergedStoredRequest, impsToPodErrors.getData());
 
+        metrics.updateStoredRequestMergeTime(MetricName.video, System.nanoTime() - startTime);
+
         return WithPodErrors.of(bidRequest, impsToPodErrors.getPodErrors());
     }
 
@@ -80,6 +80,9 @@ public class AuctionContext {
 
     CachedDebugLog cachedDebugLog;
 
+    @JsonIgnore
+    AuctionStageTimings stageTimings;
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
@@ -132,4 +135,15 @@ public class AuctionContext {
                 .requestRejected(true)
                 .build();
     }
+
+    /**
+     * Attributes time passed since the previous stage to the given {@link AuctionStage}, see
+     * {@link AuctionStageTimings#complete(AuctionStage)}.
+     */
+    public AuctionContext completeStage(AuctionStage stage) {
+        if (stageTimings != null) {
+            stageTimings.complete(stage);
+        }
+        return this;
+    }
 }
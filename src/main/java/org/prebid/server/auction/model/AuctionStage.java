@@ -0,0 +1,35 @@
+package org.prebid.server.auction.model;
+
+import org.prebid.server.metric.MetricName;
+
+/**
+ * Describes stages of auction request processing measured by {@link AuctionStageTimings}.
+ */
+public enum AuctionStage {
+
+    entrypoint(MetricName.stage_entrypoint),
+    account(MetricName.stage_account),
+    raw_auction_request(MetricName.stage_raw_auction_request),
+    stored_requests(MetricName.stage_stored_requests),
+    privacy(MetricName.stage_privacy),
+    processed_auction_request(MetricName.stage_processed_auction_request),
+    user_details(MetricName.stage_user_details),
+    price_floors(MetricName.stage_price_floors),
+    stored_responses(MetricName.stage_stored_responses),
+    bidder_requests(MetricName.stage_bidder_requests),
+    bidders(MetricName.stage_bidders),
+    bids_processing(MetricName.stage_bids_processing),
+    response_creation(MetricName.stage_response_creation),
+    response_post_processing(MetricName.stage_response_post_processing),
+    auction_response(MetricName.stage_auction_response);
+
+    private final MetricName metricName;
+
+    AuctionStage(MetricName metricName) {
+        this.metricName = metricName;
+    }
+
+    public MetricName metricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,52 @@
+package org.prebid.server.auction.model;
+
+import lombok.EqualsAndHashCode;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Accumulates time spent by a single auction request in each {@link AuctionStage}.
+ * <p>
+ * Stage time is measured from completion of the previous stage, so waiting for asynchronous results is attributed
+ * to the stage waiting for them. Not thread-safe, expected to be used on the request's event loop thread only.
+ */
+@EqualsAndHashCode
+public class AuctionStageTimings {
+
+    @EqualsAndHashCode.Exclude
+    private final Clock clock;
+
+    private final Map<AuctionStage, Long> stageToNanos;
+
+    @EqualsAndHashCode.Exclude
+    private Instant lastCompletion;
+
+    private AuctionStageTimings(Clock clock) {
+        this.clock = clock;
+        stageToNanos = new EnumMap<>(AuctionStage.class);
+        lastCompletion = clock.instant();
+    }
+
+    public static AuctionStageTimings create(Clock clock) {
+        return new AuctionStageTimings(Objects.requireNonNull(clock));
+    }
+
+    /**
+     * Attributes time passed since the previous stage completion (or creation) to the given stage.
+     */
+    public void complete(AuctionStage stage) {
+        final Instant completion = clock.instant();
+        stageToNanos.merge(stage, Duration.between(lastCompletion, completion).toNanos(), Long::sum);
+        lastCompletion = completion;
+    }
+
+    public Map<AuctionStage, Long> getStageToNanos() {
+        return Collections.unmodifiableMap(stageToNanos);
+    }
+}
@@ -25,6 +25,7 @@ import org.prebid.server.auction.PriceGranularity;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AmpGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.ConsentType;
 import org.prebid.server.auction.privacycontextfactory.AmpPrivacyContextFactory;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -137,9 +138,11 @@ public class AmpRequestFactory {
 
                         .map(bidRequest -> ortb2RequestFactory.enrichAuctionContext(
                                 initialAuctionContext, httpRequest, bidRequest, startTime)))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.entrypoint))
 
                 .compose(auctionContext -> ortb2RequestFactory.fetchAccount(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.account))
 
                 .map(auctionContext -> auctionContext.with(debugResolver.debugContextFrom(auctionContext)))
 
@@ -151,21 +154,26 @@ public class AmpRequestFactory {
 
                 .compose(auctionContext -> updateBidRequest(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.stored_requests))
 
                 .compose(auctionContext -> ampPrivacyContextFactory.contextFrom(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.privacy))
 
                 .map(auctionContext -> auctionContext.with(
                         ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)))
 
                 .compose(auctionContext -> ortb2RequestFactory.executeProcessedAuctionRequestHooks(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.processed_auction_request))
 
                 .compose(ortb2RequestFactory::populateUserAdditionalInfo)
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.user_details))
 
                 .map(ortb2RequestFactory::enrichWithPriceFloors)
 
                 .map(auctionContext -> ortb2RequestFactory.updateTimeout(auctionContext, startTime))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.price_floors))
 
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
     }
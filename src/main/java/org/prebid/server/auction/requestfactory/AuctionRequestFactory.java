@@ -5,7 +5,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Regs;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.ImplicitParametersExtractor;
 import org.prebid.server.auction.InterstitialProcessor;
@@ -14,15 +16,19 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.AuctionStoredResult;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
+import org.prebid.server.protobuf.ProtobufOpenRtbCodec;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.util.HttpUtil;
 
 import java.io.IOException;
 import java.util.List;
@@ -44,6 +50,7 @@ public class AuctionRequestFactory {
     private final InterstitialProcessor interstitialProcessor;
     private final PrivacyEnforcementService privacyEnforcementService;
     private final DebugResolver debugResolver;
+    private final ProtobufOpenRtbCodec protobufCodec;
     private final JacksonMapper mapper;
     private final OrtbTypesResolver ortbTypesResolver;
 
@@ -60,6 +67,7 @@ public class AuctionRequestFactory {
                                  OrtbTypesResolver ortbTypesResolver,
                                  PrivacyEnforcementService privacyEnforcementService,
                                  DebugResolver debugResolver,
+                                 ProtobufOpenRtbCodec protobufCodec,
                                  JacksonMapper mapper) {
 
         this.maxRequestSize = maxRequestSize;
@@ -73,6 +81,7 @@ public class AuctionRequestFactory {
         this.ortbTypesResolver = Objects.requireNonNull(ortbTypesResolver);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
         this.debugResolver = Objects.requireNonNull(debugResolver);
+        this.protobufCodec = Objects.requireNonNull(protobufCodec);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -96,9 +105,11 @@ public class AuctionRequestFactory {
                         .map(bidRequest -> ortb2RequestFactory
                                 .enrichAuctionContext(initialAuctionContext, httpRequest, bidRequest, startTime)
                                 .with(requestTypeMetric(bidRequest))))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.entrypoint))
 
                 .compose(auctionContext -> ortb2RequestFactory.fetchAccount(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.account))
 
                 .map(auctionContext -> auctionContext.with(debugResolver.debugContextFrom(auctionContext)))
 
@@ -110,30 +121,39 @@ public class AuctionRequestFactory {
 
                 .compose(auctionContext -> ortb2RequestFactory.executeRawAuctionRequestHooks(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.raw_auction_request))
 
                 .compose(auctionContext -> updateAndValidateBidRequest(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.stored_requests))
 
                 .compose(auctionContext -> privacyEnforcementService.contextFromBidRequest(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.privacy))
 
                 .map(auctionContext -> auctionContext.with(
                         ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)))
 
                 .compose(auctionContext -> ortb2RequestFactory.executeProcessedAuctionRequestHooks(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.processed_auction_request))
 
                 .compose(ortb2RequestFactory::populateUserAdditionalInfo)
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.user_details))
 
                 .map(ortb2RequestFactory::enrichWithPriceFloors)
 
                 .map(auctionContext -> ortb2RequestFactory.updateTimeout(auctionContext, startTime))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.price_floors))
 
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
     }
 
+    /**
+     * Checks size of the body in bytes before decoding it, so oversized requests are rejected without being decoded.
+     */
     private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.getBodyAsString();
+        final Buffer body = routingContext.getBody();
         if (body == null) {
             throw new InvalidRequestException("Incoming request has no body");
         }
@@ -142,7 +162,16 @@ public class AuctionRequestFactory {
             throw new InvalidRequestException("Request size exceeded max size of %d bytes.".formatted(maxRequestSize));
         }
 
-        return body;
+        final String contentType = routingContext.request().headers().get(HttpUtil.CONTENT_TYPE_HEADER);
+        if (StringUtils.startsWithIgnoreCase(contentType, HttpUtil.APPLICATION_PROTOBUF)) {
+            try {
+                return protobufCodec.decodeBidRequestToJson(body);
+            } catch (DecodeException e) {
+                throw new InvalidRequestException(e.getMessage());
+            }
+        }
+
+        return body.toString();
     }
 
     private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
@@ -150,7 +179,7 @@ public class AuctionRequestFactory {
             final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
 
             final String referer = paramsExtractor.refererFrom(httpRequest);
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+            ortbTypesResolver.normalizeBidRequest(bidRequestNode, httpRequest.getBody(), errors, referer);
 
             return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode))
                     .map(bidRequest -> fillWithValuesFromHttpRequest(bidRequest, httpRequest));
@@ -20,6 +20,7 @@ import org.prebid.server.auction.IpAddressHelper;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.cookie.UidsCookieService;
@@ -142,6 +143,7 @@ public class Ortb2RequestFactory {
                 .txnLog(TxnLog.create())
                 .debugHttpCalls(new HashMap<>())
                 .bidRejectionTrackers(new HashMap<>())
+                .stageTimings(AuctionStageTimings.create(clock))
                 .build();
     }
 
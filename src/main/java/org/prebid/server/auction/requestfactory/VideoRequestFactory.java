@@ -10,6 +10,7 @@ import com.iab.openrtb.request.video.Pod;
 import com.iab.openrtb.request.video.PodError;
 import com.iab.openrtb.request.video.Podconfig;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -19,6 +20,7 @@ import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.VideoStoredRequestProcessor;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.WithPodErrors;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -114,9 +116,11 @@ public class VideoRequestFactory {
 
                                 .map(bidRequestWithErrors -> ortb2RequestFactory.enrichAuctionContext(
                                         initialAuctionContext, httpRequest, bidRequestWithErrors.getData(), startTime)))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.entrypoint))
 
                 .compose(auctionContext -> ortb2RequestFactory.fetchAccountWithoutStoredRequestLookup(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.account))
 
                 .map(auctionContext -> auctionContext.with(debugResolver.debugContextFrom(auctionContext)))
 
@@ -125,18 +129,22 @@ public class VideoRequestFactory {
 
                 .compose(auctionContext -> privacyEnforcementService.contextFromBidRequest(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.privacy))
 
                 .map(auctionContext -> auctionContext.with(
                         ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)))
 
                 .compose(auctionContext -> ortb2RequestFactory.executeProcessedAuctionRequestHooks(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.processed_auction_request))
 
                 .compose(ortb2RequestFactory::populateUserAdditionalInfo)
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.user_details))
 
                 .map(ortb2RequestFactory::enrichWithPriceFloors)
 
                 .map(auctionContext -> ortb2RequestFactory.updateTimeout(auctionContext, startTime))
+                .map(auctionContext -> auctionContext.completeStage(AuctionStage.price_floors))
 
                 .recover(ortb2RequestFactory::restoreResultFromRejection)
 
@@ -145,8 +153,11 @@ public class VideoRequestFactory {
                 .map(auctionContext -> WithPodErrors.of(auctionContext, podErrors));
     }
 
+    /**
+     * Checks size of the body in bytes before decoding it, so oversized requests are rejected without being decoded.
+     */
     private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.getBodyAsString();
+        final Buffer body = routingContext.getBody();
         if (body == null) {
             throw new InvalidRequestException("Incoming request has no body");
         }
@@ -155,7 +166,7 @@ public class VideoRequestFactory {
             throw new InvalidRequestException("Request size exceeded max size of %d bytes.".formatted(maxRequestSize));
         }
 
-        return body;
+        return body.toString();
     }
 
     private Future<WithPodErrors<BidRequest>> createBidRequest(HttpRequestContext httpRequest) {
@@ -26,4 +26,17 @@ public class BidRequestOrtbVersionConversionManager {
                 .getConverter(AUCTION_VERSION, ortbVersion)
                 .convert(bidRequest);
     }
+
+    /**
+     * Converts bidder request of an auction, reusing conversion results of request subtrees shared with
+     * other bidder requests of the same auction converted to the same version.
+     */
+    public BidRequest convertFromAuctionSupportedVersion(BidRequest bidRequest,
+                                                         OrtbVersion ortbVersion,
+                                                         OrtbVersionConversionCache conversionCache) {
+
+        return ortbVersionConverterFactory
+                .getConverter(AUCTION_VERSION, ortbVersion)
+                .convert(bidRequest, conversionCache);
+    }
 }
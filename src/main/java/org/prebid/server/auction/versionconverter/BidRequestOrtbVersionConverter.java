@@ -8,9 +8,31 @@ public interface BidRequestOrtbVersionConverter {
 
     BidRequest convert(BidRequest bidRequest);
 
+    /**
+     * Converts the request reusing conversion results of subtrees already converted within the same auction.
+     * Converters not able to benefit from it just ignore the cache.
+     */
+    default BidRequest convert(BidRequest bidRequest, OrtbVersionConversionCache conversionCache) {
+        return convert(bidRequest);
+    }
+
     default BidRequestOrtbVersionConverter andThen(BidRequestOrtbVersionConverter after) {
         Objects.requireNonNull(after);
-        return bidRequest -> after.convert(this.convert(bidRequest));
+        final BidRequestOrtbVersionConverter before = this;
+
+        return new BidRequestOrtbVersionConverter() {
+
+            @Override
+            public BidRequest convert(BidRequest bidRequest) {
+                return after.convert(before.convert(bidRequest));
+            }
+
+            // only the first conversion of the chain gets subtrees shared between bidder requests of the auction
+            @Override
+            public BidRequest convert(BidRequest bidRequest, OrtbVersionConversionCache conversionCache) {
+                return after.convert(before.convert(bidRequest, conversionCache));
+            }
+        };
     }
 
     static BidRequestOrtbVersionConverter identity() {
@@ -0,0 +1,48 @@
+package org.prebid.server.auction.versionconverter;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds results of OpenRTB version conversion of request subtrees shared between bidder requests of one auction.
+ * <p>
+ * Subtrees are keyed by object identity: bidder requests produced from the same auction reuse untouched objects,
+ * while any per-bidder modification creates a new object which is converted separately. Therefore, the cache must
+ * never outlive the auction it was created for. Results are kept per target OpenRTB version, so bidders expecting
+ * different versions may share the cache.
+ */
+public class OrtbVersionConversionCache {
+
+    private static final Object UNCHANGED = new Object();
+
+    private final Map<OrtbVersion, Map<Object, Object>> versionToConverted;
+
+    public OrtbVersionConversionCache() {
+        versionToConverted = new EnumMap<>(OrtbVersion.class);
+        for (OrtbVersion version : OrtbVersion.values()) {
+            // bidder requests of one auction may be converted on different threads (e.g. after asynchronous hooks)
+            versionToConverted.put(version, Collections.synchronizedMap(new IdentityHashMap<>()));
+        }
+    }
+
+    /**
+     * Returns result of the given conversion to the target version applied to the subtree, computing it only once
+     * per subtree instance and target version. Conversion is expected to return null if the subtree doesn't need
+     * to be modified, which is cached as well.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(OrtbVersion targetVersion, T subtree, UnaryOperator<T> conversion) {
+        if (subtree == null) {
+            return conversion.apply(null);
+        }
+
+        final Object result = versionToConverted.get(targetVersion).computeIfAbsent(subtree, key -> {
+            final T convertedSubtree = conversion.apply(subtree);
+            return convertedSubtree != null ? convertedSubtree : UNCHANGED;
+        });
+        return result != UNCHANGED ? (T) result : null;
+    }
+}
@@ -20,6 +20,8 @@ import com.iab.openrtb.request.Video;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverter;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.auction.versionconverter.OrtbVersionConversionCache;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
@@ -29,6 +31,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 
 public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConverter {
@@ -47,26 +50,35 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
 
     @Override
     public BidRequest convert(BidRequest bidRequest) {
+        return convert(bidRequest, null);
+    }
+
+    /**
+     * Converts the request, memoizing conversion of subtrees usually shared between bidder requests of one auction:
+     * site, app, device, user, source, regs and imp's video and audio.
+     */
+    @Override
+    public BidRequest convert(BidRequest bidRequest, OrtbVersionConversionCache conversionCache) {
         final List<Imp> imps = bidRequest.getImp();
-        final List<Imp> modifiedImps = modifyImps(imps);
+        final List<Imp> modifiedImps = modifyImps(imps, conversionCache);
 
         final Site site = bidRequest.getSite();
-        final Site modifiedSite = modifySite(site);
+        final Site modifiedSite = memoized(site, BidRequestOrtb26To25Converter::modifySite, conversionCache);
 
         final App app = bidRequest.getApp();
-        final App modifiedApp = modifyApp(app);
+        final App modifiedApp = memoized(app, BidRequestOrtb26To25Converter::modifyApp, conversionCache);
 
         final Device device = bidRequest.getDevice();
-        final Device modifiedDevice = modifyDevice(device);
+        final Device modifiedDevice = memoized(device, BidRequestOrtb26To25Converter::modifyDevice, conversionCache);
 
         final User user = bidRequest.getUser();
-        final User modifiedUser = modifyUser(user);
+        final User modifiedUser = memoized(user, BidRequestOrtb26To25Converter::modifyUser, conversionCache);
 
         final Source source = bidRequest.getSource();
-        final Source modifiedSource = modifySource(source);
+        final Source modifiedSource = memoized(source, BidRequestOrtb26To25Converter::modifySource, conversionCache);
 
         final Regs regs = bidRequest.getRegs();
-        final Regs modifiedRegs = modifyRegs(regs);
+        final Regs modifiedRegs = memoized(regs, BidRequestOrtb26To25Converter::modifyRegs, conversionCache);
 
         return ObjectUtils.anyNotNull(
                 modifiedImps,
@@ -94,9 +106,15 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
                 : bidRequest;
     }
 
-    private List<Imp> modifyImps(List<Imp> imps) {
+    private static <T> T memoized(T subtree, UnaryOperator<T> modifier, OrtbVersionConversionCache conversionCache) {
+        return conversionCache != null
+                ? conversionCache.computeIfAbsent(OrtbVersion.ORTB_2_5, subtree, modifier)
+                : modifier.apply(subtree);
+    }
+
+    private List<Imp> modifyImps(List<Imp> imps, OrtbVersionConversionCache conversionCache) {
         final List<Imp> modifiedImps = imps.stream()
-                .map(this::modifyImp)
+                .map(imp -> modifyImp(imp, conversionCache))
                 .toList();
 
         if (modifiedImps.stream().allMatch(Objects::isNull)) {
@@ -108,12 +126,12 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
                 .toList();
     }
 
-    private Imp modifyImp(Imp imp) {
+    private Imp modifyImp(Imp imp, OrtbVersionConversionCache conversionCache) {
         final Video video = imp.getVideo();
-        final Video modifiedVideo = modifyVideo(video);
+        final Video modifiedVideo = memoized(video, BidRequestOrtb26To25Converter::modifyVideo, conversionCache);
 
         final Audio audio = imp.getAudio();
-        final Audio modifiedAudio = modifyAudio(audio);
+        final Audio modifiedAudio = memoized(audio, BidRequestOrtb26To25Converter::modifyAudio, conversionCache);
 
         final ObjectNode impExt = imp.getExt();
         final ObjectNode modifiedImpExt = modifyImpExt(impExt, imp.getRwdd());
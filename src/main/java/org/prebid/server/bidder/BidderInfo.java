@@ -5,6 +5,7 @@ import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.EndpointFormat;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 
 import java.util.List;
@@ -36,6 +37,8 @@ public class BidderInfo {
 
     CompressionType compressionType;
 
+    EndpointFormat endpointFormat;
+
     public static BidderInfo create(boolean enabled,
                                     OrtbVersion ortbVersion,
                                     boolean debugAllowed,
@@ -48,7 +51,8 @@ public class BidderInfo {
                                     int vendorId,
                                     boolean ccpaEnforced,
                                     boolean modifyingVastXmlAllowed,
-                                    CompressionType compressionType) {
+                                    CompressionType compressionType,
+                                    EndpointFormat endpointFormat) {
 
         return of(
                 enabled,
@@ -62,7 +66,8 @@ public class BidderInfo {
                 new GdprInfo(vendorId),
                 ccpaEnforced,
                 modifyingVastXmlAllowed,
-                compressionType);
+                compressionType,
+                endpointFormat);
     }
 
     private static PlatformInfo platformInfo(List<MediaType> mediaTypes) {
@@ -13,6 +13,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidChannel;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.EndpointFormat;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.version.PrebidVersionProvider;
 
@@ -49,6 +50,7 @@ public class HttpBidderRequestEnricher {
         addOriginalRequestHeaders(bidderRequestHeadersCopy, originalRequestHeaders);
         addXPrebidHeader(bidderRequestHeadersCopy, bidRequest);
         addContentEncodingHeader(bidderRequestHeadersCopy, resolveCompressionType(bidderName, aliases));
+        addProtobufHeaders(bidderRequestHeadersCopy, resolveEndpointFormat(bidderName, aliases));
 
         return bidderRequestHeadersCopy;
     }
@@ -113,4 +115,21 @@ public class HttpBidderRequestEnricher {
                 .map(BidderInfo::getCompressionType)
                 .orElse(CompressionType.NONE);
     }
+
+    /**
+     * Marks request to be sent and response to be expected in protobuf format,
+     * {@link HttpBidderRequester} encodes request body accordingly.
+     */
+    private static void addProtobufHeaders(MultiMap bidderHeaders, EndpointFormat endpointFormat) {
+        if (endpointFormat == EndpointFormat.PROTOBUF) {
+            bidderHeaders.set(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF)
+                    .set(HttpUtil.ACCEPT_HEADER, HttpUtil.APPLICATION_PROTOBUF);
+        }
+    }
+
+    private EndpointFormat resolveEndpointFormat(String bidderName, BidderAliases aliases) {
+        return Optional.ofNullable(bidderCatalog.bidderInfoByName(aliases.resolveBidder(bidderName)))
+                .map(BidderInfo::getEndpointFormat)
+                .orElse(EndpointFormat.JSON);
+    }
 }
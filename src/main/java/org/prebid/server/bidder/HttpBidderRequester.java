@@ -7,6 +7,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
@@ -31,6 +32,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.protobuf.ProtobufOpenRtbCodec;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
@@ -67,18 +69,21 @@ public class HttpBidderRequester {
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
+    private final ProtobufOpenRtbCodec protobufCodec;
     private final JacksonMapper mapper;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
+                               ProtobufOpenRtbCodec protobufCodec,
                                JacksonMapper mapper) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
+        this.protobufCodec = Objects.requireNonNull(protobufCodec);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -204,7 +209,12 @@ public class HttpBidderRequester {
 
     private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
         final MultiMap requestHeaders = httpRequest.getHeaders();
-        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
+        final byte[] preparedBody;
+        try {
+            preparedBody = compressIfRequired(encodeIfRequired(httpRequest), requestHeaders);
+        } catch (PreBidException e) {
+            return Future.failedFuture(e);
+        }
 
         return httpClient.request(
                 httpRequest.getMethod(),
@@ -214,6 +224,25 @@ public class HttpBidderRequester {
                 remainingTimeout);
     }
 
+    /**
+     * Encodes {@link BidRequest} payload in protobuf format if the bidder expects it instead of JSON body.
+     */
+    private <T> byte[] encodeIfRequired(HttpRequest<T> httpRequest) {
+        if (!isProtobuf(httpRequest.getHeaders())) {
+            return httpRequest.getBody();
+        }
+
+        if (!(httpRequest.getPayload() instanceof BidRequest bidRequest)) {
+            throw new PreBidException("Only OpenRTB bid request can be sent in protobuf format");
+        }
+        return protobufCodec.encodeBidRequest(bidRequest);
+    }
+
+    private static boolean isProtobuf(MultiMap headers) {
+        final String contentType = headers != null ? headers.get(HttpUtil.CONTENT_TYPE_HEADER) : null;
+        return StringUtils.startsWithIgnoreCase(contentType, HttpUtil.APPLICATION_PROTOBUF);
+    }
+
     private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
         final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
         return Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
@@ -257,14 +286,35 @@ public class HttpBidderRequester {
      * Produces {@link Future} with {@link BidderCall} containing request, response and possible error description
      * (if status code indicates an error).
      */
-    private static <T> Future<BidderCall<T>> processResponse(HttpClientResponse response,
-                                                             HttpRequest<T> httpRequest) {
-
+    private <T> Future<BidderCall<T>> processResponse(HttpClientResponse response, HttpRequest<T> httpRequest) {
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        final HttpResponse httpResponse =
+                HttpResponse.ofBuffer(statusCode, response.getHeaders(), decodeIfRequired(response));
         return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
+    /**
+     * Transcodes protobuf bid response to JSON, so bidders process it the same way as JSON responses.
+     * <p>
+     * Empty protobuf body is left as is, such response is treated as no bids.
+     */
+    private Buffer decodeIfRequired(HttpClientResponse response) {
+        final Buffer body = response.getBodyBuffer();
+        return response.getStatusCode() == HttpResponseStatus.OK.code()
+                && isProtobuf(response.getHeaders())
+                && !isEmpty(body)
+                ? mapper.encodeToBuffer(protobufCodec.decodeBidResponse(body))
+                : body;
+    }
+
+    private static boolean isEmptyProtobufResponse(HttpResponse response) {
+        return isProtobuf(response.getHeaders()) && isEmpty(response.getBodyBuffer());
+    }
+
+    private static boolean isEmpty(Buffer buffer) {
+        return buffer == null || buffer.length() == 0;
+    }
+
     /**
      * Returns {@link BidderError} if HTTP status code is not successful, or null otherwise.
      */
@@ -299,13 +349,17 @@ public class HttpBidderRequester {
             return null;
         }
 
-        final int statusCode = httpCall.getResponse().getStatusCode();
+        final HttpResponse response = httpCall.getResponse();
+        final int statusCode = response.getStatusCode();
         if (statusCode == HttpResponseStatus.NO_CONTENT.code()) {
             return CompositeBidderResponse.empty();
         }
         if (statusCode != HttpResponseStatus.OK.code()) {
             return null;
         }
+        if (isEmptyProtobufResponse(response)) {
+            return CompositeBidderResponse.empty();
+        }
 
         return bidder.makeBidderResponse(toHttpCallWithSafeResponseBody(httpCall), bidRequest);
     }
@@ -1,19 +1,71 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Body is kept as received from the network ({@link Buffer}) when possible, so bidders can decode it directly
+ * from bytes with {@link #getBodyBuffer()}. {@link #getBody()} materializes {@link String} lazily for the rest.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
 public class HttpResponse {
 
-    int statusCode;
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private final int statusCode;
 
-    MultiMap headers;
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private final MultiMap headers;
 
-    String body;
+    private final Buffer bodyBuffer;
+
+    private String body;
+
+    private HttpResponse(int statusCode, MultiMap headers, String body, Buffer bodyBuffer) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.bodyBuffer = bodyBuffer;
+    }
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, body, null);
+    }
+
+    public static HttpResponse ofBuffer(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        return new HttpResponse(statusCode, headers, null, bodyBuffer);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
+
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    public String getBody() {
+        // racy single-check idiom: String is immutable, so the worst case is decoding the body twice
+        String result = body;
+        if (result == null && bodyBuffer != null) {
+            result = bodyBuffer.toString();
+            body = result;
+        }
+        return result;
+    }
+
+    public Buffer getBodyBuffer() {
+        if (bodyBuffer != null) {
+            return bodyBuffer;
+        }
+        return body != null ? Buffer.buffer(body) : null;
+    }
 }
@@ -0,0 +1,373 @@
+package org.prebid.server.cookie;
+
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Encodes {@link Uids} to the compact binary form of 'uids' cookie value and decodes it back.
+ * <p>
+ * Layout of version 1:
+ * <pre>
+ * version (1 byte) | family codes version (2 bytes) | flags (1 byte) | uids count (varint) | uid entries
+ * </pre>
+ * where each uid entry is
+ * <pre>
+ * family code (varint) | [family name length (varint) | family name] | uid length (varint) | uid | expires (varint)
+ * </pre>
+ * Family codes come from the explicit dictionary (see 'uids-family-codes.csv'), each row of which holds the version
+ * of dictionary the family was added in and the family name. Code of the family is the number of its row, so
+ * the dictionary is append-only: rows must never be removed or reordered, and new families are added to the end
+ * with the version greater than any existing one. Encoded value holds the lowest dictionary version covering all
+ * codes used in it, so it can be decoded by hosts with older dictionary as long as it doesn't use codes added
+ * later. Values of unknown dictionary version are rejected rather than decoded partially.
+ * <p>
+ * Code 0 means the family name follows literally, it is used for families missing in the dictionary. Expires is
+ * the number of minutes passed since {@link #EXPIRES_EPOCH} plus one, 0 means there is no expiration date.
+ * <p>
+ * Each entry is encoded independently of others, so the size of the encoded value can be recalculated
+ * without encoding it again when uids are removed, see {@link #removedUidLength(String, UidWithExpiry, int)}.
+ */
+public class CompactUidsCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int OPTOUT_PRESENT_FLAG = 1;
+    private static final int OPTOUT_VALUE_FLAG = 1 << 1;
+
+    private static final int LITERAL_FAMILY_CODE = 0;
+    private static final int MAX_FAMILY_CODES_VERSION = 0xFFFF; // fits two bytes
+
+    private static final long EXPIRES_EPOCH = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+
+    private final List<FamilyCode> familyCodes;
+    private final Map<String, FamilyCode> familyToCode;
+
+    // number of family codes known in each dictionary version
+    private final int[] versionToCodesCount;
+
+    public CompactUidsCodec(String familyCodesCsv) {
+        familyCodes = parseFamilyCodes(Objects.requireNonNull(familyCodesCsv));
+        familyToCode = familyCodes.stream()
+                .collect(Collectors.toMap(FamilyCode::getFamily, Function.identity()));
+
+        final int latestVersion = latestVersion(familyCodes);
+        versionToCodesCount = new int[latestVersion + 1];
+        familyCodes.forEach(familyCode -> versionToCodesCount[familyCode.getVersion()] = familyCode.getCode());
+        for (int version = 1; version <= latestVersion; version++) {
+            versionToCodesCount[version] = Math.max(versionToCodesCount[version], versionToCodesCount[version - 1]);
+        }
+    }
+
+    private static List<FamilyCode> parseFamilyCodes(String familyCodesCsv) {
+        final List<FamilyCode> familyCodes = new ArrayList<>();
+        final Set<String> families = new HashSet<>();
+
+        for (String row : familyCodesCsv.split("\n")) {
+            if (StringUtils.isBlank(row)) {
+                continue;
+            }
+
+            final String[] tokens = row.split(",");
+            if (tokens.length != 2 || StringUtils.isBlank(tokens[1])) {
+                throw new IllegalArgumentException("Malformed uids family codes row: " + row);
+            }
+
+            final int version = Integer.parseInt(tokens[0].strip());
+            if (version < latestVersion(familyCodes) || version > MAX_FAMILY_CODES_VERSION) {
+                throw new IllegalArgumentException(
+                        "Uids family codes must be appended in order of dictionary versions: " + row);
+            }
+
+            final String family = tokens[1].strip();
+            if (!families.add(family)) {
+                throw new IllegalArgumentException("Duplicated family in uids family codes: " + family);
+            }
+
+            familyCodes.add(FamilyCode.of(familyCodes.size() + 1, family, version));
+        }
+
+        return familyCodes;
+    }
+
+    private static int latestVersion(List<FamilyCode> familyCodes) {
+        return familyCodes.isEmpty() ? 1 : familyCodes.get(familyCodes.size() - 1).getVersion();
+    }
+
+    /**
+     * Returns true if given value was produced by this codec.
+     */
+    public static boolean isCompact(byte[] value) {
+        return value.length > 0 && value[0] == VERSION;
+    }
+
+    public byte[] encode(Uids uids) {
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(64 * (uidsMap.size() + 1));
+
+        final int familyCodesVersion = uidsMap.keySet().stream()
+                .map(familyToCode::get)
+                .filter(Objects::nonNull)
+                .mapToInt(FamilyCode::getVersion)
+                .max()
+                .orElse(0);
+
+        output.write(VERSION);
+        output.write(familyCodesVersion >>> 8);
+        output.write(familyCodesVersion & 0xFF);
+        output.write(flags(uids.getOptout()));
+        writeVarint(output, uidsMap.size());
+        uidsMap.forEach((family, uid) -> writeUid(output, family, uid));
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes all uids of the given value.
+     */
+    public Uids decode(byte[] value) {
+        final Reader reader = new Reader(value);
+        final int flags = reader.readHeader();
+        final int count = reader.readVarint();
+
+        final Map<String, UidWithExpiry> uids = new HashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            final String family = reader.readFamily();
+            uids.put(family, new UidWithExpiry(reader.readString(), reader.readExpires()));
+        }
+
+        return Uids.builder()
+                .uidsLegacy(Collections.emptyMap())
+                .uids(uids)
+                .optout(optout(flags))
+                .build();
+    }
+
+    /**
+     * Decodes uid of the given family only, skipping entries of other families without materializing them.
+     * <p>
+     * Family may be written either by code or literally (by host which dictionary doesn't have it yet), both are
+     * matched.
+     */
+    public UidWithExpiry decodeUid(byte[] value, String family) {
+        final Reader reader = new Reader(value);
+        reader.readHeader();
+        final int count = reader.readVarint();
+
+        final byte[] familyBytes = family.getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < count; i++) {
+            final int code = reader.readVarint();
+            final boolean matches = code == LITERAL_FAMILY_CODE
+                    ? reader.skipBytesMatching(familyBytes)
+                    : family.equals(reader.familyOf(code));
+
+            if (matches) {
+                return new UidWithExpiry(reader.readString(), reader.readExpires());
+            }
+            reader.skipBytes();
+            reader.readLong();
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the number of bytes the encoded value shrinks by when the given uid is removed from it.
+     */
+    public int removedUidLength(String family, UidWithExpiry uid, int uidsCount) {
+        return uidLength(family, uid) + varintLength(uidsCount) - varintLength(uidsCount - 1);
+    }
+
+    private int uidLength(String family, UidWithExpiry uid) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writeUid(output, family, uid);
+        return output.size();
+    }
+
+    private void writeUid(ByteArrayOutputStream output, String family, UidWithExpiry uid) {
+        final FamilyCode familyCode = familyToCode.get(family);
+        if (familyCode != null) {
+            writeVarint(output, familyCode.getCode());
+        } else {
+            writeVarint(output, LITERAL_FAMILY_CODE);
+            writeString(output, family);
+        }
+
+        writeString(output, StringUtils.defaultString(uid.getUid()));
+        writeVarint(output, expires(uid.getExpires()));
+    }
+
+    private static int flags(Boolean optout) {
+        if (optout == null) {
+            return 0;
+        }
+        return optout ? OPTOUT_PRESENT_FLAG | OPTOUT_VALUE_FLAG : OPTOUT_PRESENT_FLAG;
+    }
+
+    private static Boolean optout(int flags) {
+        return (flags & OPTOUT_PRESENT_FLAG) != 0 ? (flags & OPTOUT_VALUE_FLAG) != 0 : null;
+    }
+
+    private static long expires(ZonedDateTime expires) {
+        if (expires == null) {
+            return 0;
+        }
+
+        // rounded down, so expired uid could not become live after decoding
+        final long minutes = Math.floorDiv(expires.toEpochSecond() - EXPIRES_EPOCH, 60);
+        return Math.max(minutes, 0) + 1;
+    }
+
+    private static void writeString(ByteArrayOutputStream output, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream output, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.write((int) remaining);
+    }
+
+    private static int varintLength(long value) {
+        int length = 1;
+        long remaining = value >>> 7;
+        while (remaining != 0) {
+            length++;
+            remaining >>>= 7;
+        }
+        return length;
+    }
+
+    private class Reader {
+
+        private final byte[] value;
+        private int position;
+        private int codesCount;
+
+        Reader(byte[] value) {
+            this.value = value;
+        }
+
+        int readHeader() {
+            if (!isCompact(value)) {
+                throw new IllegalArgumentException("Unsupported uids cookie version");
+            }
+            position = 1;
+
+            final int familyCodesVersion = readByte() << 8 | readByte();
+            if (familyCodesVersion >= versionToCodesCount.length) {
+                throw new IllegalArgumentException("Unsupported uids cookie family codes version");
+            }
+            codesCount = versionToCodesCount[familyCodesVersion];
+
+            return readByte();
+        }
+
+        String readFamily() {
+            final int code = readVarint();
+            return code == LITERAL_FAMILY_CODE ? readString() : familyOf(code);
+        }
+
+        String familyOf(int code) {
+            if (code > codesCount) {
+                throw new IllegalArgumentException("Malformed uids cookie value");
+            }
+            return familyCodes.get(code - 1).getFamily();
+        }
+
+        String readString() {
+            final int length = readLength();
+            final String result = new String(value, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return result;
+        }
+
+        ZonedDateTime readExpires() {
+            final long expires = readLong();
+            if (expires == 0) {
+                return null;
+            }
+            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(EXPIRES_EPOCH + (expires - 1) * 60), ZoneOffset.UTC);
+        }
+
+        void skipBytes() {
+            position += readLength();
+        }
+
+        boolean skipBytesMatching(byte[] expected) {
+            final int length = readLength();
+            final int start = position;
+            position += length;
+            return expected != null && Arrays.equals(value, start, start + length, expected, 0, expected.length);
+        }
+
+        int readVarint() {
+            final long result = readLong();
+            if (result > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Malformed uids cookie value");
+            }
+            return (int) result;
+        }
+
+        private int readLength() {
+            final int length = readVarint();
+            if (length > value.length - position) {
+                throw new IllegalArgumentException("Malformed uids cookie value");
+            }
+            return length;
+        }
+
+        long readLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int current = readByte();
+                result |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed uids cookie value");
+        }
+
+        private int readByte() {
+            if (position >= value.length) {
+                throw new IllegalArgumentException("Malformed uids cookie value");
+            }
+            return value[position++] & 0xFF;
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class FamilyCode {
+
+        int code;
+
+        String family;
+
+        int version;
+    }
+}
@@ -17,6 +17,7 @@ import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.util.HttpUtil;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Base64;
 import java.util.Collections;
@@ -46,6 +47,8 @@ public class UidsCookieService {
     private final int maxCookieSizeBytes;
 
     private final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider;
+    private final CompactUidsCodec compactUidsCodec;
+    private final boolean compactFormatEnabled;
     private final Metrics metrics;
     private final JacksonMapper mapper;
 
@@ -60,6 +63,37 @@ public class UidsCookieService {
                              Metrics metrics,
                              JacksonMapper mapper) {
 
+        this(optOutCookieName,
+                optOutCookieValue,
+                hostCookieFamily,
+                hostCookieName,
+                hostCookieDomain,
+                ttlDays,
+                maxCookieSizeBytes,
+                prioritizedCoopSyncProvider,
+                null,
+                false,
+                metrics,
+                mapper);
+    }
+
+    /**
+     * Creates service which reads 'uids' cookie values written in compact format by {@link CompactUidsCodec}
+     * along with JSON ones and writes them in compact format if 'compactFormatEnabled' is set.
+     */
+    public UidsCookieService(String optOutCookieName,
+                             String optOutCookieValue,
+                             String hostCookieFamily,
+                             String hostCookieName,
+                             String hostCookieDomain,
+                             int ttlDays,
+                             int maxCookieSizeBytes,
+                             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
+                             CompactUidsCodec compactUidsCodec,
+                             boolean compactFormatEnabled,
+                             Metrics metrics,
+                             JacksonMapper mapper) {
+
         if (maxCookieSizeBytes != 0 && maxCookieSizeBytes < MIN_COOKIE_SIZE_BYTES) {
             throw new IllegalArgumentException(
                     "Configured cookie size is less than allowed minimum size of " + MIN_COOKIE_SIZE_BYTES);
@@ -73,6 +107,8 @@ public class UidsCookieService {
         this.ttlSeconds = Duration.ofDays(ttlDays).getSeconds();
         this.maxCookieSizeBytes = maxCookieSizeBytes;
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
+        this.compactUidsCodec = compactFormatEnabled ? Objects.requireNonNull(compactUidsCodec) : compactUidsCodec;
+        this.compactFormatEnabled = compactFormatEnabled;
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
     }
@@ -128,10 +164,13 @@ public class UidsCookieService {
      * Parses cookies {@link Map} and composes {@link Uids} model.
      */
     public Uids parseUids(Map<String, String> cookies) {
-        if (cookies.containsKey(COOKIE_NAME)) {
-            final String cookieValue = cookies.get(COOKIE_NAME);
+        final String cookieValue = cookies.get(COOKIE_NAME);
+        if (cookieValue != null) {
             try {
-                return mapper.decodeValue(Buffer.buffer(Base64.getUrlDecoder().decode(cookieValue)), Uids.class);
+                final byte[] value = Base64.getUrlDecoder().decode(cookieValue);
+                return isCompactValue(value)
+                        ? compactUidsCodec.decode(value)
+                        : mapper.decodeValue(Buffer.buffer(value), Uids.class);
             } catch (IllegalArgumentException | DecodeException e) {
                 logger.debug("Could not decode or parse {0} cookie value {1}", e, COOKIE_NAME, cookieValue);
             }
@@ -140,20 +179,75 @@ public class UidsCookieService {
     }
 
     /**
-     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
+     * Parses uid of the given family only from cookies {@link Map}.
+     * <p>
+     * Compact 'uids' cookie value is not decoded entirely for this.
+     */
+    private UidWithExpiry parseUid(Map<String, String> cookies, String familyName) {
+        final String cookieValue = cookies.get(COOKIE_NAME);
+        if (cookieValue == null) {
+            return null;
+        }
+
+        try {
+            final byte[] value = Base64.getUrlDecoder().decode(cookieValue);
+            if (isCompactValue(value)) {
+                return compactUidsCodec.decodeUid(value, familyName);
+            }
+
+            final Uids uids = mapper.decodeValue(Buffer.buffer(value), Uids.class);
+            final Map<String, UidWithExpiry> uidsMap = uids != null ? uids.getUids() : null;
+            return uidsMap != null ? uidsMap.get(familyName) : null;
+        } catch (IllegalArgumentException | DecodeException e) {
+            logger.debug("Could not decode or parse {0} cookie value {1}", e, COOKIE_NAME, cookieValue);
+            return null;
+        }
+    }
+
+    private boolean isCompactValue(byte[] value) {
+        return compactUidsCodec != null && CompactUidsCodec.isCompact(value);
+    }
+
+    /**
+     * Creates a {@link Cookie} with 'uids' as a name and encoded string representing supplied {@link UidsCookie}
      * as a value.
      */
     public Cookie toCookie(UidsCookie uidsCookie) {
-        return makeCookie(uidsCookie);
+        return makeCookie(encodeValue(uidsCookie.getCookieUids()));
+    }
+
+    private byte[] toPayload(Uids uids) {
+        return compactFormatEnabled
+                ? compactUidsCodec.encode(uids)
+                : mapper.encodeToString(uids).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String encodeValue(Uids uids) {
+        final byte[] payload = toPayload(uids);
+        return compactFormatEnabled
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(payload)
+                : Base64.getUrlEncoder().encodeToString(payload);
     }
 
-    private int cookieBytesLength(UidsCookie uidsCookie) {
-        return makeCookie(uidsCookie).encode().getBytes().length;
+    /**
+     * Returns the length of 'uids' cookie without value.
+     */
+    private int emptyCookieBytesLength() {
+        return makeCookie(StringUtils.EMPTY).encode().getBytes().length;
+    }
+
+    /**
+     * Returns the length of base64 encoded 'uids' cookie value of the given payload length.
+     */
+    private int valueBytesLength(int payloadLength) {
+        return compactFormatEnabled
+                ? (payloadLength * 4 + 2) / 3
+                : (payloadLength + 2) / 3 * 4;
     }
 
-    private Cookie makeCookie(UidsCookie uidsCookie) {
+    private Cookie makeCookie(String value) {
         return Cookie
-                .cookie(COOKIE_NAME, Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes()))
+                .cookie(COOKIE_NAME, value)
                 .setPath("/")
                 .setSameSite(CookieSameSite.NONE)
                 .setSecure(true)
@@ -271,24 +365,54 @@ public class UidsCookieService {
     }
 
     private boolean cookieExceededMaxLength(UidsCookie uidsCookie) {
-        return maxCookieSizeBytes > 0 && cookieBytesLength(uidsCookie) > maxCookieSizeBytes;
+        return maxCookieSizeBytes > 0
+                && emptyCookieBytesLength() + valueBytesLength(toPayload(uidsCookie.getCookieUids()).length)
+                > maxCookieSizeBytes;
     }
 
+    /**
+     * Removes uids by ascending priority until cookie fits the limit.
+     * <p>
+     * Cookie value is encoded once, then its length is decreased by the length of each removed uid,
+     * so trimming takes linear time in the number of uids.
+     */
     private UidsCookie trimToLimit(UidsCookie uidsCookie) {
-        if (!cookieExceededMaxLength(uidsCookie)) {
+        if (maxCookieSizeBytes <= 0) {
+            return uidsCookie;
+        }
+
+        final Uids uids = uidsCookie.getCookieUids();
+        final int maxValueLength = maxCookieSizeBytes - emptyCookieBytesLength();
+        int payloadLength = toPayload(uids).length;
+        if (valueBytesLength(payloadLength) <= maxValueLength) {
             return uidsCookie;
         }
 
-        UidsCookie trimmedUids = uidsCookie;
+        final Map<String, UidWithExpiry> trimmedUids = new HashMap<>(uids.getUids());
         final Iterator<String> familyToRemoveIterator = cookieFamilyNamesByAscendingPriority(uidsCookie);
 
-        while (familyToRemoveIterator.hasNext() && cookieExceededMaxLength(trimmedUids)) {
+        while (familyToRemoveIterator.hasNext() && valueBytesLength(payloadLength) > maxValueLength) {
             final String familyToRemove = familyToRemoveIterator.next();
             metrics.updateUserSyncSizedOutMetric(familyToRemove);
-            trimmedUids = trimmedUids.deleteUid(familyToRemove);
+            payloadLength -= removedUidLength(familyToRemove, trimmedUids.get(familyToRemove), trimmedUids.size());
+            trimmedUids.remove(familyToRemove);
+        }
+
+        return new UidsCookie(uids.toBuilder().uids(trimmedUids).build(), mapper);
+    }
+
+    /**
+     * Returns the number of bytes the cookie payload shrinks by when the given uid is removed from it.
+     */
+    private int removedUidLength(String familyName, UidWithExpiry uid, int uidsCount) {
+        if (compactFormatEnabled) {
+            return compactUidsCodec.removedUidLength(familyName, uid, uidsCount);
         }
 
-        return trimmedUids;
+        // {"family":{...}} without braces, plus the comma separating it from other uids
+        final int uidLength = mapper.encodeToString(Collections.singletonMap(familyName, uid))
+                .getBytes(StandardCharsets.UTF_8).length - 2;
+        return uidsCount > 1 ? uidLength + 1 : uidLength;
     }
 
     private Iterator<String> cookieFamilyNamesByAscendingPriority(UidsCookie uidsCookie) {
@@ -325,9 +449,7 @@ public class UidsCookieService {
             return null;
         }
 
-        final boolean inSync = Optional.ofNullable(parseUids(cookies))
-                .map(Uids::getUids)
-                .map(uids -> uids.get(cookieFamilyName))
+        final boolean inSync = Optional.ofNullable(parseUid(cookies, cookieFamilyName))
                 .map(UidWithExpiry::getUid)
                 .filter(uid -> StringUtils.equals(hostCookieUid, uid))
                 .isPresent();
@@ -5,9 +5,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -25,8 +23,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -46,6 +42,7 @@ public class CurrencyConversionService implements Initializable {
     private final JacksonMapper mapper;
 
     private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private CurrencyRatesMatrix externalRatesMatrix;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -114,6 +111,7 @@ public class CurrencyConversionService implements Initializable {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
             externalCurrencyRates = receivedCurrencyRates;
+            externalRatesMatrix = CurrencyRatesMatrix.of(receivedCurrencyRates);
             lastUpdated = now();
         }
 
@@ -128,6 +126,7 @@ public class CurrencyConversionService implements Initializable {
 
         if (externalRatesAreStale()) {
             externalCurrencyRates = null;
+            externalRatesMatrix = null;
         }
 
         return null;
@@ -193,28 +192,43 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
+        final BigDecimal conversionRate = conversionRate(
+                requestCurrencyRates, effectiveFromCurrency, effectiveToCurrency, usepbsrates);
 
+        return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Returns conversion rate from request or external currency rates according to priority.
+     */
+    private BigDecimal conversionRate(Map<String, Map<String, BigDecimal>> requestCurrencyRates,
+                                      String fromCurrency,
+                                      String toCurrency,
+                                      Boolean usepbsrates) {
+
+        final BigDecimal conversionRate;
         if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
+            final BigDecimal requestRate = CurrencyRatesMatrix.conversionRate(
+                    requestCurrencyRates, fromCurrency, toCurrency);
+            conversionRate = requestRate != null ? requestRate : externalConversionRate(fromCurrency, toCurrency);
         } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
+            final BigDecimal externalRate = externalConversionRate(fromCurrency, toCurrency);
+            conversionRate = externalRate != null
+                    ? externalRate
+                    : CurrencyRatesMatrix.conversionRate(requestCurrencyRates, fromCurrency, toCurrency);
         }
 
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
-                secondPriorityRates,
-                effectiveFromCurrency,
-                effectiveToCurrency);
-
         if (conversionRate == null) {
             throw new PreBidException("Unable to convert from currency %s to desired ad server currency %s"
-                    .formatted(effectiveFromCurrency, effectiveToCurrency));
+                    .formatted(fromCurrency, toCurrency));
         }
 
-        return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
+        return conversionRate;
+    }
+
+    private BigDecimal externalConversionRate(String fromCurrency, String toCurrency) {
+        final CurrencyRatesMatrix ratesMatrix = externalRatesMatrix;
+        return ratesMatrix != null ? ratesMatrix.getRate(fromCurrency, toCurrency) : null;
     }
 
     private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
@@ -234,91 +248,6 @@ public class CurrencyConversionService implements Initializable {
         return currency != null ? currency.getUsepbsrates() : null;
     }
 
-    /**
-     * Returns conversion rate from the given currency rates according to priority.
-     */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
-                                                          String fromCurrency,
-                                                          String toCurrency) {
-
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, fromCurrency, toCurrency),
-                getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
-    }
-
-    /**
-     * Looking for rates for a currency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                String fromCurrency,
-                                                String toCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
-
-        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
-        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        return findIntermediateConversionRate(directCurrencyRates, reverseCurrencyRates);
-    }
-
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
-                                                        String currency) {
-        final BigDecimal reverseConversionRate = currencyRates != null
-                ? currencyRates.get(currency)
-                : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate, reverseConversionRate.precision(),
-                RoundingMode.HALF_EVEN)
-                : null;
-    }
-
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
-                                                             Map<String, BigDecimal> reverseCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
-            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.get(0);
-                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
-                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
-                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
-                        // chose largest precision among intermediate rates
-                        reverseCurrencyRateIntermediate.compareTo(directCurrencyRateIntermediate) > 0
-                                ? reverseCurrencyRateIntermediate.precision()
-                                : directCurrencyRateIntermediate.precision(),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
-    }
-
     private boolean isRatesStale() {
         if (lastUpdated == null) {
             return false;
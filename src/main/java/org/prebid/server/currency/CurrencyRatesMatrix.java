@@ -0,0 +1,130 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversion rates between all pairs of currencies known from the given rates.
+ * <p>
+ * Straight, reverse and intermediate rates are resolved once on creation, so getting a rate takes just two
+ * currency index lookups.
+ */
+public class CurrencyRatesMatrix {
+
+    private static final CurrencyRatesMatrix EMPTY = new CurrencyRatesMatrix(Map.of(), new BigDecimal[0][0]);
+
+    private final Map<String, Integer> currencyIndexes;
+    private final BigDecimal[][] rates;
+
+    private CurrencyRatesMatrix(Map<String, Integer> currencyIndexes, BigDecimal[][] rates) {
+        this.currencyIndexes = currencyIndexes;
+        this.rates = rates;
+    }
+
+    public static CurrencyRatesMatrix of(Map<String, Map<String, BigDecimal>> currencyRates) {
+        if (MapUtils.isEmpty(currencyRates)) {
+            return EMPTY;
+        }
+
+        final Map<String, Integer> currencyIndexes = new HashMap<>();
+        currencyRates.forEach((fromCurrency, toCurrencyRates) -> {
+            currencyIndexes.putIfAbsent(fromCurrency, currencyIndexes.size());
+            MapUtils.emptyIfNull(toCurrencyRates).keySet()
+                    .forEach(toCurrency -> currencyIndexes.putIfAbsent(toCurrency, currencyIndexes.size()));
+        });
+
+        final int size = currencyIndexes.size();
+        final BigDecimal[][] rates = new BigDecimal[size][size];
+        currencyIndexes.forEach((fromCurrency, fromIndex) -> currencyIndexes.forEach((toCurrency, toIndex) ->
+                rates[fromIndex][toIndex] = conversionRate(currencyRates, fromCurrency, toCurrency)));
+
+        return new CurrencyRatesMatrix(currencyIndexes, rates);
+    }
+
+    /**
+     * Returns conversion rate for a currency pair or null if it cannot be resolved.
+     */
+    public BigDecimal getRate(String fromCurrency, String toCurrency) {
+        final Integer fromIndex = currencyIndexes.get(fromCurrency);
+        final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+        return toIndex != null ? rates[fromIndex][toIndex] : null;
+    }
+
+    /**
+     * Looking for rates for a currency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     */
+    static BigDecimal conversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                     String fromCurrency,
+                                     String toCurrency) {
+        if (MapUtils.isEmpty(currencyConversionRates)) {
+            return null;
+        }
+
+        BigDecimal conversionRate;
+        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
+
+        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
+        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        return findIntermediateConversionRate(directCurrencyRates, reverseCurrencyRates);
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
+                                                        String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate, reverseConversionRate.precision(),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                // pick any found shared currency
+                final String sharedCurrency = sharedCurrencies.get(0);
+                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                        // chose largest precision among intermediate rates
+                        reverseCurrencyRateIntermediate.compareTo(directCurrencyRateIntermediate) > 0
+                                ? reverseCurrencyRateIntermediate.precision()
+                                : directCurrencyRateIntermediate.precision(),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+        return conversionRate;
+    }
+}
@@ -13,11 +13,13 @@ import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.deals.events.ApplicationEventService;
 import org.prebid.server.deals.lineitem.DeliveryPlan;
 import org.prebid.server.deals.lineitem.LineItem;
+import org.prebid.server.deals.lineitem.LineItemIndex;
 import org.prebid.server.deals.model.MatchLineItemsResult;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.DeliverySchedule;
 import org.prebid.server.deals.proto.LineItemMetaData;
 import org.prebid.server.deals.proto.Price;
+import org.prebid.server.deals.targeting.RequestContext;
 import org.prebid.server.deals.targeting.TargetingDefinition;
 import org.prebid.server.exception.TargetingSyntaxException;
 import org.prebid.server.log.CriteriaLogManager;
@@ -71,6 +73,7 @@ public class LineItemService {
 
     protected final Map<String, LineItem> idToLineItems;
     protected volatile boolean isPlannerResponsive;
+    private volatile LineItemIndex lineItemIndex;
 
     public LineItemService(int maxDealsPerBidder,
                            TargetingService targetingService,
@@ -89,6 +92,7 @@ public class LineItemService {
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
 
         idToLineItems = new ConcurrentHashMap<>();
+        lineItemIndex = LineItemIndex.empty();
     }
 
     /**
@@ -110,8 +114,7 @@ public class LineItemService {
      */
     public boolean accountHasDeals(String account, ZonedDateTime now) {
         return StringUtils.isNotEmpty(account)
-                && idToLineItems.values().stream().anyMatch(lineItem -> Objects.equals(lineItem.getAccountId(), account)
-                && lineItem.isActive(now));
+                && lineItemIndex.lineItems(account).stream().anyMatch(lineItem -> lineItem.isActive(now));
     }
 
     /**
@@ -139,10 +142,14 @@ public class LineItemService {
                                                          AuctionContext auctionContext,
                                                          ZonedDateTime now) {
 
-        final List<LineItem> matchedLineItems =
-                getPreMatchedLineItems(auctionContext.getAccount().getId(), bidder, aliases).stream()
-                        .filter(lineItem -> isTargetingMatched(lineItem, bidRequest, imp, auctionContext))
-                        .toList();
+        final List<LineItem> preMatchedLineItems = getPreMatchedLineItems(auctionContext, imp, bidder, aliases);
+        final RequestContext requestContext = !preMatchedLineItems.isEmpty()
+                ? targetingService.createRequestContext(bidRequest, imp, auctionContext)
+                : null;
+
+        final List<LineItem> matchedLineItems = preMatchedLineItems.stream()
+                .filter(lineItem -> isTargetingMatched(lineItem, requestContext, imp, auctionContext))
+                .toList();
 
         return MatchLineItemsResult.of(
                 postProcessMatchedLineItems(matchedLineItems, bidRequest, imp, auctionContext, now));
@@ -170,20 +177,34 @@ public class LineItemService {
 
             removeInactiveLineItems(planResponse, now);
             lineItemsMetaData.forEach(lineItemMetaData -> updateLineItem(lineItemMetaData, now));
+            rebuildLineItemIndex();
         }
     }
 
     public void invalidateLineItemsByIds(List<String> lineItemIds) {
         idToLineItems.entrySet().removeIf(stringLineItemEntry -> lineItemIds.contains(stringLineItemEntry.getKey()));
+        rebuildLineItemIndex();
         logger.info("Line Items with ids {0} were removed", String.join(", ", lineItemIds));
     }
 
     public void invalidateLineItems() {
         final String lineItemsToRemove = String.join(", ", idToLineItems.keySet());
         idToLineItems.clear();
+        rebuildLineItemIndex();
         logger.info("Line Items with ids {0} were removed", lineItemsToRemove);
     }
 
+    /**
+     * Replaces {@link LineItemIndex} used for matching with the one built from current line items.
+     * <p>
+     * Index is published before the line items update or invalidation returns, so auctions started after it never
+     * match removed line items or miss added ones. Auctions in progress keep using the previous index. Rebuilds are
+     * serialized to make sure the latest published index reflects the latest changes.
+     */
+    protected synchronized void rebuildLineItemIndex() {
+        lineItemIndex = LineItemIndex.of(idToLineItems.values());
+    }
+
     private boolean isExpired(ZonedDateTime now, ZonedDateTime endTime) {
         return now.isAfter(endTime);
     }
@@ -267,16 +288,23 @@ public class LineItemService {
         return Price.of(updatedCpm, adServerCurrency);
     }
 
-    private List<LineItem> getPreMatchedLineItems(String accountId, String bidder, BidderAliases aliases) {
+    /**
+     * Returns account {@link LineItem}s of the given bidder which targeting could match {@link Imp}.
+     * <p>
+     * With deep debug enabled all of them are returned to trace targeting of each line item.
+     */
+    private List<LineItem> getPreMatchedLineItems(AuctionContext auctionContext,
+                                                  Imp imp,
+                                                  String bidder,
+                                                  BidderAliases aliases) {
+
+        final String accountId = auctionContext.getAccount().getId();
         if (StringUtils.isBlank(accountId)) {
             return Collections.emptyList();
         }
 
-        final List<LineItem> accountsLineItems = idToLineItems.values().stream()
-                .filter(lineItem -> lineItem.getAccountId().equals(accountId))
-                .toList();
-
-        if (accountsLineItems.isEmpty()) {
+        final LineItemIndex index = lineItemIndex;
+        if (!index.hasAccount(accountId)) {
             criteriaLogManager.log(
                     logger,
                     accountId,
@@ -285,9 +313,9 @@ public class LineItemService {
             return Collections.emptyList();
         }
 
-        return accountsLineItems.stream()
-                .filter(lineItem -> aliases.isSame(bidder, lineItem.getSource()))
-                .toList();
+        return auctionContext.getDeepDebugLog().isDeepDebugEnabled()
+                ? index.lineItems(accountId, source -> aliases.isSame(bidder, source))
+                : index.candidates(accountId, source -> aliases.isSame(bidder, source), imp);
     }
 
     /**
@@ -296,7 +324,7 @@ public class LineItemService {
      * Updates deep debug log with matching information.
      */
     private boolean isTargetingMatched(LineItem lineItem,
-                                       BidRequest bidRequest,
+                                       RequestContext requestContext,
                                        Imp imp,
                                        AuctionContext auctionContext) {
 
@@ -315,8 +343,7 @@ public class LineItemService {
             return false;
         }
 
-        final boolean matched = targetingService.matchesTargeting(
-                bidRequest, imp, lineItem.getTargetingDefinition(), auctionContext);
+        final boolean matched = targetingService.matchesTargeting(requestContext, targetingDefinition);
 
         final String debugMessage = matched
                 ? "Line Item %s targeting matched imp with id %s".formatted(lineItemId, imp.getId())
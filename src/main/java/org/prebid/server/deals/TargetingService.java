@@ -69,7 +69,24 @@ public class TargetingService {
                                     TargetingDefinition targetingDefinition,
                                     AuctionContext auctionContext) {
 
-        final RequestContext requestContext = new RequestContext(bidRequest, imp, auctionContext.getTxnLog(), mapper);
+        return matchesTargeting(createRequestContext(bidRequest, imp, auctionContext), targetingDefinition);
+    }
+
+    /**
+     * Creates {@link RequestContext} for the particular Imp object of the OpenRTB2 request.
+     * <p>
+     * Context memoizes looked up request values, so it should be reused to evaluate
+     * all Line Item targeting definitions against the same Imp.
+     */
+    public RequestContext createRequestContext(BidRequest bidRequest, Imp imp, AuctionContext auctionContext) {
+        return new RequestContext(bidRequest, imp, auctionContext.getTxnLog(), mapper);
+    }
+
+    /**
+     * Evaluates Line Item targeting definition against the given {@link RequestContext}
+     * and returns whether it is matched or not.
+     */
+    public boolean matchesTargeting(RequestContext requestContext, TargetingDefinition targetingDefinition) {
         return targetingDefinition.getRootExpression().matches(requestContext);
     }
 
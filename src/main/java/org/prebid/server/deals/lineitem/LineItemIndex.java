@@ -0,0 +1,238 @@
+package org.prebid.server.deals.lineitem;
+
+import com.iab.openrtb.request.Imp;
+import org.prebid.server.deals.targeting.RequestContext;
+import org.prebid.server.deals.targeting.TargetingDefinition;
+import org.prebid.server.deals.targeting.interpret.And;
+import org.prebid.server.deals.targeting.interpret.Expression;
+import org.prebid.server.deals.targeting.interpret.IntersectsSizes;
+import org.prebid.server.deals.targeting.interpret.IntersectsStrings;
+import org.prebid.server.deals.targeting.model.Size;
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable snapshot of {@link LineItem}s grouped by account and source.
+ * <p>
+ * Within each group top-level media type and size targeting of line items is inverted into sets of line items
+ * by targeted value, so candidates for the {@link Imp} are found by set operations instead of evaluating
+ * targeting of every line item. Candidates still have to be matched by their whole targeting definition.
+ */
+public class LineItemIndex {
+
+    private static final LineItemIndex EMPTY = new LineItemIndex(Collections.emptyMap());
+
+    private final Map<String, Map<String, Group>> accountToSourceToGroup;
+
+    private LineItemIndex(Map<String, Map<String, Group>> accountToSourceToGroup) {
+        this.accountToSourceToGroup = accountToSourceToGroup;
+    }
+
+    public static LineItemIndex empty() {
+        return EMPTY;
+    }
+
+    public static LineItemIndex of(Collection<LineItem> lineItems) {
+        final Map<String, Map<String, List<LineItem>>> accountToSourceToLineItems = new HashMap<>();
+        for (LineItem lineItem : lineItems) {
+            final String accountId = lineItem.getAccountId();
+            if (accountId == null) {
+                continue;
+            }
+
+            // line items without source can't be matched to any bidder, but still count as deals of the account,
+            // so they are kept under the null key
+            accountToSourceToLineItems.computeIfAbsent(accountId, key -> new HashMap<>())
+                    .computeIfAbsent(lineItem.getSource(), key -> new ArrayList<>())
+                    .add(lineItem);
+        }
+
+        final Map<String, Map<String, Group>> accountToSourceToGroup = new HashMap<>();
+        accountToSourceToLineItems.forEach((accountId, sourceToLineItems) -> {
+            final Map<String, Group> sourceToGroup = new HashMap<>();
+            sourceToLineItems.forEach((source, sourceLineItems) ->
+                    sourceToGroup.put(source, Group.of(sourceLineItems)));
+            accountToSourceToGroup.put(accountId, sourceToGroup);
+        });
+
+        return new LineItemIndex(accountToSourceToGroup);
+    }
+
+    /**
+     * Returns true when there is at least one {@link LineItem} of the given account.
+     */
+    public boolean hasAccount(String accountId) {
+        return accountToSourceToGroup.containsKey(accountId);
+    }
+
+    /**
+     * Returns all {@link LineItem}s of the given account, including the ones without source.
+     */
+    public List<LineItem> lineItems(String accountId) {
+        final Map<String, Group> sourceToGroup = accountId != null ? accountToSourceToGroup.get(accountId) : null;
+        if (sourceToGroup == null) {
+            return Collections.emptyList();
+        }
+
+        final List<LineItem> result = new ArrayList<>();
+        for (Group group : sourceToGroup.values()) {
+            result.addAll(group.lineItems());
+        }
+        return result;
+    }
+
+    /**
+     * Returns all {@link LineItem}s of the given account which source is accepted by the given matcher.
+     * Line items without source are never returned.
+     */
+    public List<LineItem> lineItems(String accountId, Predicate<String> sourceMatcher) {
+        return collect(accountId, sourceMatcher, Group::lineItems);
+    }
+
+    /**
+     * Returns {@link LineItem}s of the given account which source is accepted by the given matcher
+     * and which top-level media type and size targeting doesn't contradict the given {@link Imp}.
+     */
+    public List<LineItem> candidates(String accountId, Predicate<String> sourceMatcher, Imp imp) {
+        final List<String> mediaTypes = RequestContext.mediaTypes(imp);
+        final List<Size> sizes = RequestContext.sizes(imp);
+
+        return collect(accountId, sourceMatcher, group -> group.candidates(mediaTypes, sizes));
+    }
+
+    private List<LineItem> collect(String accountId,
+                                   Predicate<String> sourceMatcher,
+                                   Function<Group, List<LineItem>> groupLineItems) {
+
+        final Map<String, Group> sourceToGroup = accountId != null ? accountToSourceToGroup.get(accountId) : null;
+        if (sourceToGroup == null) {
+            return Collections.emptyList();
+        }
+
+        final List<LineItem> result = new ArrayList<>();
+        for (Map.Entry<String, Group> entry : sourceToGroup.entrySet()) {
+            final String source = entry.getKey();
+            if (source != null && sourceMatcher.test(source)) {
+                result.addAll(groupLineItems.apply(entry.getValue()));
+            }
+        }
+        return result;
+    }
+
+    private static class Group {
+
+        private final List<LineItem> lineItems;
+
+        private final Inverted<String> mediaTypes;
+
+        private final Inverted<Size> sizes;
+
+        private Group(List<LineItem> lineItems, Inverted<String> mediaTypes, Inverted<Size> sizes) {
+            this.lineItems = Collections.unmodifiableList(lineItems);
+            this.mediaTypes = mediaTypes;
+            this.sizes = sizes;
+        }
+
+        private static Group of(List<LineItem> lineItems) {
+            final Inverted<String> mediaTypes = new Inverted<>();
+            final Inverted<Size> sizes = new Inverted<>();
+
+            for (int i = 0; i < lineItems.size(); i++) {
+                final List<Expression> expressions = topLevelExpressions(lineItems.get(i));
+                mediaTypes.add(i, targetedMediaTypes(expressions));
+                sizes.add(i, targetedSizes(expressions));
+            }
+
+            return new Group(lineItems, mediaTypes, sizes);
+        }
+
+        private List<LineItem> lineItems() {
+            return lineItems;
+        }
+
+        private List<LineItem> candidates(List<String> impMediaTypes, List<Size> impSizes) {
+            final BitSet candidates = mediaTypes.matching(impMediaTypes);
+            candidates.and(sizes.matching(impSizes));
+
+            final List<LineItem> result = new ArrayList<>(candidates.cardinality());
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                result.add(lineItems.get(i));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Positions of line items by targeted value, plus positions of line items not restricted by such targeting.
+     */
+    private static class Inverted<T> {
+
+        private final BitSet unrestricted = new BitSet();
+
+        private final Map<T, BitSet> valueToPositions = new HashMap<>();
+
+        private void add(int position, List<T> targetedValues) {
+            if (targetedValues == null) {
+                unrestricted.set(position);
+                return;
+            }
+
+            for (T value : targetedValues) {
+                valueToPositions.computeIfAbsent(value, key -> new BitSet()).set(position);
+            }
+        }
+
+        private BitSet matching(List<T> actualValues) {
+            final BitSet result = (BitSet) unrestricted.clone();
+            for (T value : actualValues) {
+                final BitSet positions = valueToPositions.get(value);
+                if (positions != null) {
+                    result.or(positions);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns expressions that all must match for the line item targeting to match.
+     */
+    private static List<Expression> topLevelExpressions(LineItem lineItem) {
+        final TargetingDefinition targetingDefinition = lineItem.getTargetingDefinition();
+        final Expression rootExpression = targetingDefinition != null ? targetingDefinition.getRootExpression() : null;
+
+        if (rootExpression instanceof And and) {
+            return and.expressions();
+        }
+        return rootExpression != null ? Collections.singletonList(rootExpression) : Collections.emptyList();
+    }
+
+    private static List<String> targetedMediaTypes(List<Expression> expressions) {
+        for (Expression expression : expressions) {
+            if (expression instanceof IntersectsStrings intersects
+                    && intersects.category().type() == TargetingCategory.Type.mediaType) {
+                return intersects.values();
+            }
+        }
+        return null;
+    }
+
+    private static List<Size> targetedSizes(List<Expression> expressions) {
+        for (Expression expression : expressions) {
+            if (expression instanceof IntersectsSizes intersects
+                    && intersects.category().type() == TargetingCategory.Type.size) {
+                return intersects.values();
+            }
+        }
+        return null;
+    }
+}
@@ -41,10 +41,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -66,6 +68,19 @@ public class RequestContext {
     private final AttributeReader<Site> siteReader;
     private final AttributeReader<App> appReader;
 
+    private final Map<TargetingCategory, LookupResult<String>> stringLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<Integer>> integerLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<String>>> stringsLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<Integer>>> integersLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<Size>>> sizesLookups = new HashMap<>();
+    private final Map<TargetingCategory, GeoLocation> geoLocationLookups = new HashMap<>();
+
+    /**
+     * Creates context to match targeting against the given {@link Imp}.
+     * <p>
+     * Values looked up by targeting category are memoized, so the same context is supposed to be used
+     * for matching all line items against the imp. Context is not thread-safe.
+     */
     public RequestContext(BidRequest bidRequest,
                           Imp imp,
                           TxnLog txnLog,
@@ -95,6 +110,10 @@ public class RequestContext {
     }
 
     public LookupResult<String> lookupString(TargetingCategory category) {
+        return memoized(stringLookups, category, this::resolveString);
+    }
+
+    private LookupResult<String> resolveString(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
 
@@ -125,6 +144,10 @@ public class RequestContext {
     }
 
     public LookupResult<Integer> lookupInteger(TargetingCategory category) {
+        return memoized(integerLookups, category, this::resolveInteger);
+    }
+
+    private LookupResult<Integer> resolveInteger(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
 
@@ -148,12 +171,16 @@ public class RequestContext {
     }
 
     public LookupResult<List<String>> lookupStrings(TargetingCategory category) {
+        return memoized(stringsLookups, category, this::resolveStrings);
+    }
+
+    private LookupResult<List<String>> resolveStrings(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
         final User user = bidRequest.getUser();
 
         return switch (type) {
-            case mediaType -> lookupResult(getMediaTypes());
+            case mediaType -> lookupResult(mediaTypes(imp));
             case bidderParam -> lookupResult(
                     impReader.readFromExt(imp, EXT_BIDDER + path, RequestContext::nodeToListOfStrings));
             case userSegment -> lookupResult(getSegments(category));
@@ -166,6 +193,10 @@ public class RequestContext {
     }
 
     public LookupResult<List<Integer>> lookupIntegers(TargetingCategory category) {
+        return memoized(integersLookups, category, this::resolveIntegers);
+    }
+
+    private LookupResult<List<Integer>> resolveIntegers(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
         final User user = bidRequest.getUser();
@@ -182,16 +213,44 @@ public class RequestContext {
     }
 
     public LookupResult<List<Size>> lookupSizes(TargetingCategory category) {
+        return memoized(sizesLookups, category, this::resolveSizes);
+    }
+
+    private LookupResult<List<Size>> resolveSizes(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         if (type != TargetingCategory.Type.size) {
             throw new TargetingSyntaxException("Unexpected category for fetching sizes for: " + type);
         }
 
-        final List<Size> sizes = ListUtils.union(sizesFromBanner(imp), sizesFromVideo(imp));
+        final List<Size> sizes = sizes(imp);
 
         return !sizes.isEmpty() ? LookupResult.ofValue(sizes) : LookupResult.empty();
     }
 
+    /**
+     * Returns sizes of {@link Imp} as they are seen by size targeting.
+     */
+    public static List<Size> sizes(Imp imp) {
+        return ListUtils.union(sizesFromBanner(imp), sizesFromVideo(imp));
+    }
+
+    /**
+     * Returns media types of {@link Imp} as they are seen by media type targeting.
+     */
+    public static List<String> mediaTypes(Imp imp) {
+        final List<String> mediaTypes = new ArrayList<>();
+        if (imp.getBanner() != null) {
+            mediaTypes.add("banner");
+        }
+        if (imp.getVideo() != null) {
+            mediaTypes.add("video");
+        }
+        if (imp.getXNative() != null) {
+            mediaTypes.add("native");
+        }
+        return mediaTypes;
+    }
+
     private static List<Size> sizesFromBanner(Imp imp) {
         final List<Format> formats = getIfNotNull(imp.getBanner(), Banner::getFormat);
         return ListUtils.emptyIfNull(formats).stream()
@@ -210,6 +269,10 @@ public class RequestContext {
     }
 
     public GeoLocation lookupGeoLocation(TargetingCategory category) {
+        return memoized(geoLocationLookups, category, this::resolveGeoLocation);
+    }
+
+    private GeoLocation resolveGeoLocation(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         if (type != TargetingCategory.Type.location) {
             throw new TargetingSyntaxException("Unexpected category for fetching geo location for: " + type);
@@ -226,6 +289,19 @@ public class RequestContext {
         return txnLog;
     }
 
+    private static <T> T memoized(Map<TargetingCategory, T> lookups,
+                                  TargetingCategory category,
+                                  Function<TargetingCategory, T> resolver) {
+
+        if (lookups.containsKey(category)) {
+            return lookups.get(category);
+        }
+
+        final T value = resolver.apply(category);
+        lookups.put(category, value);
+        return value;
+    }
+
     @SafeVarargs
     private static <T> LookupResult<T> lookupResult(T... candidates) {
         return LookupResult.of(listOfNonNulls(candidates));
@@ -242,20 +318,6 @@ public class RequestContext {
         return source != null ? getter.apply(source) : null;
     }
 
-    private List<String> getMediaTypes() {
-        final List<String> mediaTypes = new ArrayList<>();
-        if (imp.getBanner() != null) {
-            mediaTypes.add("banner");
-        }
-        if (imp.getVideo() != null) {
-            mediaTypes.add("video");
-        }
-        if (imp.getXNative() != null) {
-            mediaTypes.add("native");
-        }
-        return mediaTypes;
-    }
-
     private <T> LookupResult<T> getSiteFirstPartyData(String path, Function<JsonNode, T> valueExtractor) {
         return lookupResult(
                 impReader.readFromExt(imp, EXT_CONTEXT_DATA + path, valueExtractor),
@@ -320,12 +382,14 @@ public class RequestContext {
     private static class AttributeReader<T> {
 
         private static final Set<Class<?>> SUPPORTED_PROPERTY_TYPES = Set.of(String.class, Integer.class, int.class);
+        private static final Map<Class<?>, Map<String, PropertyDescriptor>> BEAN_PROPERTIES =
+                new ConcurrentHashMap<>();
 
         private final Map<String, PropertyDescriptor> properties;
         private final Function<T, JsonNode> extPathExtractor;
 
         private AttributeReader(Class<T> type, Function<T, JsonNode> extPathExtractor) {
-            this.properties = supportedBeanProperties(type);
+            this.properties = BEAN_PROPERTIES.computeIfAbsent(type, AttributeReader::supportedBeanProperties);
             this.extPathExtractor = extPathExtractor;
         }
 
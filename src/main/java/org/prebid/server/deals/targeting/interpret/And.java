@@ -11,17 +11,25 @@ public class And implements NonTerminalExpression {
 
     private final List<Expression> expressions;
 
+    @EqualsAndHashCode.Exclude
+    private final List<Expression> evaluationOrder;
+
     public And(List<Expression> expressions) {
         this.expressions = Collections.unmodifiableList(expressions);
+        this.evaluationOrder = EvaluationOrder.of(expressions);
     }
 
     @Override
     public boolean matches(RequestContext context) {
-        for (final Expression expression : expressions) {
+        for (final Expression expression : evaluationOrder) {
             if (!expression.matches(context)) {
                 return false;
             }
         }
         return true;
     }
+
+    public List<Expression> expressions() {
+        return expressions;
+    }
 }
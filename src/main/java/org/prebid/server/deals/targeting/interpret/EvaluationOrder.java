@@ -0,0 +1,93 @@
+package org.prebid.server.deals.targeting.interpret;
+
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Defines order of evaluating operands of boolean operators: the cheaper operand is, the earlier it is evaluated.
+ * <p>
+ * Operands of unknown cost or with side effects, like {@link DomainMetricAwareExpression}, keep their positions
+ * and other operands are reordered only between them. This way each of such operands is evaluated
+ * exactly for the same requests as in the original order.
+ */
+final class EvaluationOrder {
+
+    private static final int UNKNOWN_COST = -1;
+
+    private EvaluationOrder() {
+    }
+
+    static List<Expression> of(List<Expression> expressions) {
+        final List<Expression> result = new ArrayList<>(expressions.size());
+        final List<Operand> reorderable = new ArrayList<>();
+
+        for (Expression expression : expressions) {
+            final int cost = cost(expression);
+            if (cost == UNKNOWN_COST) {
+                addSortedByCost(reorderable, result);
+                result.add(expression);
+            } else {
+                reorderable.add(new Operand(expression, cost));
+            }
+        }
+        addSortedByCost(reorderable, result);
+
+        return Collections.unmodifiableList(result);
+    }
+
+    private static void addSortedByCost(List<Operand> operands, List<Expression> result) {
+        // sort is stable, so operands of equal cost keep their original order
+        operands.sort(Comparator.comparingInt(Operand::cost));
+        operands.forEach(operand -> result.add(operand.expression()));
+        operands.clear();
+    }
+
+    private static int cost(Expression expression) {
+        if (expression instanceof TerminalExpression terminalExpression) {
+            return cost(terminalExpression.category());
+        } else if (expression instanceof And and) {
+            return cost(and.expressions());
+        } else if (expression instanceof Or or) {
+            return cost(or.expressions());
+        } else if (expression instanceof Not not) {
+            return cost(not.expression());
+        }
+
+        return UNKNOWN_COST;
+    }
+
+    private static int cost(List<Expression> expressions) {
+        int totalCost = 0;
+        for (Expression expression : expressions) {
+            final int cost = cost(expression);
+            if (cost == UNKNOWN_COST) {
+                return UNKNOWN_COST;
+            }
+            totalCost += cost;
+        }
+        return totalCost;
+    }
+
+    /**
+     * Approximates cost of looking up and matching value of the category.
+     */
+    private static int cost(TargetingCategory category) {
+        if (category == null) {
+            return UNKNOWN_COST;
+        }
+
+        return switch (category.type()) {
+            case size, mediaType, pagePosition -> 1;
+            case domain, publisherDomain, referrer, appBundle, dow, hour -> 2;
+            case adslot, deviceGeoExt, deviceExt, bidderParam, userSegment, userFirstPartyData, siteFirstPartyData -> 4;
+            case location -> 8;
+        };
+    }
+
+    private record Operand(Expression expression, int cost) {
+    }
+}
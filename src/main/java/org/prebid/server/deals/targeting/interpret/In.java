@@ -6,8 +6,10 @@ import org.prebid.server.deals.targeting.model.LookupResult;
 import org.prebid.server.deals.targeting.syntax.TargetingCategory;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @EqualsAndHashCode
 public abstract class In<T> implements TerminalExpression {
@@ -16,15 +18,24 @@ public abstract class In<T> implements TerminalExpression {
 
     protected List<T> values;
 
+    @EqualsAndHashCode.Exclude
+    private final Set<T> valuesSet;
+
     public In(TargetingCategory category, List<T> values) {
         this.category = Objects.requireNonNull(category);
         this.values = Collections.unmodifiableList(values);
+        this.valuesSet = new HashSet<>(values);
     }
 
     @Override
     public boolean matches(RequestContext context) {
-        return lookupActualValue(context).anyMatch(values::contains);
+        return lookupActualValue(context).anyMatch(valuesSet::contains);
     }
 
     protected abstract LookupResult<T> lookupActualValue(RequestContext context);
+
+    @Override
+    public TargetingCategory category() {
+        return category;
+    }
 }
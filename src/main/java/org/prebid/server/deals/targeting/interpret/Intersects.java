@@ -6,8 +6,10 @@ import org.prebid.server.deals.targeting.model.LookupResult;
 import org.prebid.server.deals.targeting.syntax.TargetingCategory;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @EqualsAndHashCode
 public abstract class Intersects<T> implements TerminalExpression {
@@ -16,16 +18,29 @@ public abstract class Intersects<T> implements TerminalExpression {
 
     protected List<T> values;
 
+    @EqualsAndHashCode.Exclude
+    private final Set<T> valuesSet;
+
     public Intersects(TargetingCategory category, List<T> values) {
         this.category = Objects.requireNonNull(category);
         this.values = Collections.unmodifiableList(values);
+        this.valuesSet = new HashSet<>(values);
     }
 
     @Override
     public boolean matches(RequestContext context) {
         return lookupActualValues(context)
-                .anyMatch(actualValues -> !Collections.disjoint(values, actualValues));
+                .anyMatch(actualValues -> !Collections.disjoint(valuesSet, actualValues));
     }
 
     protected abstract LookupResult<List<T>> lookupActualValues(RequestContext context);
+
+    @Override
+    public TargetingCategory category() {
+        return category;
+    }
+
+    public List<T> values() {
+        return values;
+    }
 }
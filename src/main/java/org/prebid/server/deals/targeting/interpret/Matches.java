@@ -41,4 +41,9 @@ public class Matches implements TerminalExpression {
             return String::equals;
         }
     }
+
+    @Override
+    public TargetingCategory category() {
+        return category;
+    }
 }
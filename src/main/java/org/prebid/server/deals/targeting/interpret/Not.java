@@ -18,4 +18,8 @@ public class Not implements NonTerminalExpression {
     public boolean matches(RequestContext context) {
         return !expression.matches(context);
     }
+
+    public Expression expression() {
+        return expression;
+    }
 }
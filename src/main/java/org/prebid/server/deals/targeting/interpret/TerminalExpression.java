@@ -1,4 +1,8 @@
 package org.prebid.server.deals.targeting.interpret;
 
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
+
 public interface TerminalExpression extends Expression {
+
+    TargetingCategory category();
 }
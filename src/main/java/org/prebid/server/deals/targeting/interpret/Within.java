@@ -46,4 +46,9 @@ public class Within implements TerminalExpression {
 
         return EARTH_RADIUS_MI * c;
     }
+
+    @Override
+    public TargetingCategory category() {
+        return category;
+    }
 }
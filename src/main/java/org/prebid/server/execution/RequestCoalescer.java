@@ -0,0 +1,101 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shares single pending call between concurrent callers asking for the same key.
+ * <p>
+ * The first caller starts the call, callers coming while it is in progress get the same result on their own
+ * Vert.x context. Key is released as soon as the call is completed, so the next caller starts a new call.
+ */
+public class RequestCoalescer<K, T> {
+
+    private final Runnable coalescedListener;
+
+    private final Map<K, Future<T>> inProgress = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(Runnable coalescedListener) {
+        this.coalescedListener = Objects.requireNonNull(coalescedListener);
+    }
+
+    /**
+     * Returns result of the call in progress for the given key or starts a new one.
+     */
+    public Future<T> execute(K key, Supplier<Future<T>> call) {
+        final Promise<T> promise = Promise.promise();
+        final Future<T> pending = inProgress.putIfAbsent(key, promise.future());
+        if (pending != null) {
+            coalescedListener.run();
+            return onCallerContext(pending);
+        }
+
+        start(Set.of(key), promise, call);
+        return promise.future();
+    }
+
+    /**
+     * Returns results by each of the given keys: either of the call in progress for this key or of the single
+     * new call started for all keys without calls in progress. The new call is given the keys it is responsible for.
+     */
+    public Map<K, Future<T>> executeAll(Set<K> keys, Function<Set<K>, Future<T>> call) {
+        final Promise<T> promise = Promise.promise();
+        final Map<K, Future<T>> keyToResult = new HashMap<>();
+        final Set<K> keysToCall = new HashSet<>();
+        final Map<Future<T>, Future<T>> pendingToCallerResult = new IdentityHashMap<>();
+
+        for (K key : keys) {
+            final Future<T> pending = inProgress.putIfAbsent(key, promise.future());
+            if (pending != null) {
+                coalescedListener.run();
+                keyToResult.put(key, pendingToCallerResult.computeIfAbsent(pending, RequestCoalescer::onCallerContext));
+            } else {
+                keysToCall.add(key);
+                keyToResult.put(key, promise.future());
+            }
+        }
+
+        if (!keysToCall.isEmpty()) {
+            start(keysToCall, promise, () -> call.apply(keysToCall));
+        }
+
+        return keyToResult;
+    }
+
+    private void start(Set<K> keys, Promise<T> promise, Supplier<Future<T>> call) {
+        Future<T> result;
+        try {
+            result = call.get();
+        } catch (Exception e) {
+            result = Future.failedFuture(e);
+        }
+
+        result.onComplete(asyncResult -> {
+            keys.forEach(key -> inProgress.remove(key, promise.future()));
+            promise.handle(asyncResult);
+        });
+    }
+
+    private static <T> Future<T> onCallerContext(Future<T> future) {
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            return future;
+        }
+
+        final Promise<T> promise = Promise.promise();
+        future.onComplete(result -> context.runOnContext(ignored -> promise.handle(result)));
+        return promise.future();
+    }
+}
@@ -17,13 +17,11 @@ import com.iab.openrtb.request.Video;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.math3.util.CombinatoricsUtils;
 import org.prebid.server.bidder.model.Price;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.exception.PreBidException;
@@ -33,6 +31,7 @@ import org.prebid.server.floors.model.PriceFloorField;
 import org.prebid.server.floors.model.PriceFloorModelGroup;
 import org.prebid.server.floors.model.PriceFloorResult;
 import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.floors.model.PriceFloorRulesIndex;
 import org.prebid.server.floors.model.PriceFloorSchema;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.json.JacksonMapper;
@@ -50,22 +49,12 @@ import org.prebid.server.util.ObjectUtil;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.regex.Pattern;
 
 public class BasicPriceFloorResolver implements PriceFloorResolver {
 
@@ -73,16 +62,16 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
     private static final String DEFAULT_RULES_CURRENCY = "USD";
-    private static final String SCHEMA_DEFAULT_DELIMITER = "|";
     private static final String WILDCARD_CATCH_ALL = "*";
     private static final String VIDEO_ALIAS = "video-instream";
     private static final JsonPointer PB_ADSLOT_POINTER = JsonPointer.valueOf("/data/pbadslot");
     private static final JsonPointer ADSLOT_POINTER = JsonPointer.valueOf("/data/adserver/adslot");
     private static final JsonPointer ADSERVER_NAME_POINTER = JsonPointer.valueOf("/data/adserver/name");
 
-    private static final Set<String> PHONE_PATTERNS = Set.of("Phone", "iPhone", "Android.*Mobile", "Mobile.*Android");
-    private static final Set<String> TABLET_PATTERNS = Set.of("tablet", "iPad", "Windows NT.*touch",
-            "touch.*Windows NT", "Android");
+    private static final List<Pattern> PHONE_PATTERNS = compilePatterns(
+            "Phone", "iPhone", "Android.*Mobile", "Mobile.*Android");
+    private static final List<Pattern> TABLET_PATTERNS = compilePatterns(
+            "tablet", "iPad", "Windows NT.*touch", "touch.*Windows NT", "Android");
     private static final String GPID_PATH = "/gpid";
     private static final String PBADSLOT_PATH = "/data/pbadslot";
     private static final String STORED_REQUEST_ID_PATH = "/prebid/storedrequest/id";
@@ -130,13 +119,11 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final String delimiter = ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER);
         final List<List<String>> desiredRuleKey = createRuleKey(schema, bidRequest, imp, mediaType, format);
 
-        final Map<String, BigDecimal> rules = keysToLowerCase(modelGroup.getValues());
-
-        final String rule = findRule(rules, delimiter, desiredRuleKey);
-        final BigDecimal floorForRule = rule != null ? rules.get(rule) : null;
+        final PriceFloorRulesIndex.Rule foundRule = modelGroup.getRulesIndex().find(desiredRuleKey);
+        final String rule = ObjectUtil.getIfNotNull(foundRule, PriceFloorRulesIndex.Rule::getKey);
+        final BigDecimal floorForRule = ObjectUtil.getIfNotNull(foundRule, PriceFloorRulesIndex.Rule::getFloor);
 
         final BigDecimal floor = floorForRule != null ? floorForRule : modelGroup.getDefaultFloor();
         final String modelGroupCurrency = modelGroup.getCurrency();
@@ -435,14 +422,14 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return Collections.singletonList(WILDCARD_CATCH_ALL);
         }
 
-        for (String pattern : PHONE_PATTERNS) {
-            if (userAgent.matches(pattern)) {
+        for (Pattern pattern : PHONE_PATTERNS) {
+            if (pattern.matcher(userAgent).matches()) {
                 return Collections.singletonList(DeviceType.phone.name());
             }
         }
 
-        for (String pattern : TABLET_PATTERNS) {
-            if (userAgent.matches(pattern)) {
+        for (Pattern pattern : TABLET_PATTERNS) {
+            if (pattern.matcher(userAgent).matches()) {
                 return Collections.singletonList(DeviceType.tablet.name());
             }
         }
@@ -450,6 +437,10 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return Collections.singletonList(DeviceType.desktop.name());
     }
 
+    private static List<Pattern> compilePatterns(String... regexes) {
+        return Arrays.stream(regexes).map(Pattern::compile).toList();
+    }
+
     private static List<String> prepareFieldValues(List<String> fieldValues) {
         final List<String> preparedFieldValues = CollectionUtils.emptyIfNull(fieldValues).stream()
                 .filter(StringUtils::isNotEmpty)
@@ -463,19 +454,6 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return preparedFieldValues;
     }
 
-    private static String findRule(Map<String, BigDecimal> rules, String delimiter, List<List<String>> desiredRuleKey) {
-        return RuleKeyCandidateIterator.from(desiredRuleKey, delimiter).asStream()
-                .filter(rules::containsKey)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
-    }
-
-    private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
-        return map.entrySet().stream()
-                .collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(), Map.Entry::getValue));
-    }
-
     private static String getDataCurrency(PriceFloorRules rules) {
         final PriceFloorData data = ObjectUtil.getIfNotNull(rules, PriceFloorRules::getData);
 
@@ -585,141 +563,4 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
 
         return roundPrice(ObjectUtils.defaultIfNull(floor, floorMin));
     }
-
-    private static class RuleKeyCandidateIterator implements Iterator<String> {
-
-        private final List<List<String>> desiredRuleKey;
-        private final String delimiter;
-
-        private int wildcardNum;
-        private Iterator<String> currentIterator = null;
-        private final List<Integer> implicitWildcardIndexes;
-
-        private RuleKeyCandidateIterator(List<List<String>> desiredRuleKey, String delimiter) {
-            this.desiredRuleKey = desiredRuleKey;
-            this.delimiter = delimiter;
-
-            implicitWildcardIndexes = findImplicitWildcards(desiredRuleKey);
-            wildcardNum = implicitWildcardIndexes.size();
-        }
-
-        public static RuleKeyCandidateIterator from(List<List<String>> desiredRuleKey, String delimiter) {
-            return new RuleKeyCandidateIterator(desiredRuleKey, delimiter);
-        }
-
-        @Override
-        public boolean hasNext() {
-            return wildcardNum <= desiredRuleKey.size();
-        }
-
-        @Override
-        public String next() {
-            if (currentIterator == null && wildcardNum <= desiredRuleKey.size()) {
-                currentIterator = createIterator(wildcardNum, desiredRuleKey, delimiter);
-            }
-
-            if (currentIterator != null) {
-                final String candidate = currentIterator.next();
-
-                if (!currentIterator.hasNext()) {
-                    currentIterator = null;
-                    wildcardNum++;
-                }
-
-                return candidate;
-            }
-
-            throw new NoSuchElementException();
-        }
-
-        public Stream<String> asStream() {
-            return asStream(this);
-        }
-
-        private static <T> Stream<T> asStream(Iterator<T> iterator) {
-            return StreamSupport.stream(
-                    Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
-        }
-
-        private static List<Integer> findImplicitWildcards(List<List<String>> desiredRuleKey) {
-            return IntStream.range(0, desiredRuleKey.size())
-                    .filter(i -> desiredRuleKey.get(i).get(0).equals(WILDCARD_CATCH_ALL))
-                    .boxed()
-                    .toList();
-        }
-
-        private Iterator<String> createIterator(int wildcardNum, List<List<String>> desiredRuleKey, String delimiter) {
-            final int ruleSegmentsNum = desiredRuleKey.size();
-
-            return asStream(CombinatoricsUtils.combinationsIterator(ruleSegmentsNum, wildcardNum))
-                    .map(combination -> IntStream.of(combination).boxed().toList())
-                    .filter(combination -> combination.containsAll(implicitWildcardIndexes))
-                    .sorted(Comparator.comparingInt(combination -> calculateWeight(combination, ruleSegmentsNum)))
-                    .flatMap(combination -> combinationToCandidate(combination, desiredRuleKey, delimiter).stream())
-                    .iterator();
-        }
-
-        private static Integer calculateWeight(List<Integer> combination, int ruleSegmentsNum) {
-            return combination.stream()
-                    .mapToInt(i -> 1 << (ruleSegmentsNum - i))
-                    .sum();
-        }
-
-        private static Set<String> combinationToCandidate(List<Integer> combination,
-                                                          List<List<String>> desiredRuleKey,
-                                                          String delimiter) {
-
-            int biggestRuleKeySize = desiredRuleKey.stream().mapToInt(List::size)
-                    .boxed()
-                    .max(Integer::compare)
-                    .orElse(0);
-
-            final List<List<String>> candidates = IntStream.range(0, desiredRuleKey.size())
-                    .boxed()
-                    .map(position -> candidatesForPosition(position, desiredRuleKey, biggestRuleKeySize))
-                    .flatMap(Collection::stream)
-                    .toList();
-
-            for (final int positionToReplace : combination) {
-                candidates.forEach(candidate -> candidate.set(positionToReplace, WILDCARD_CATCH_ALL));
-            }
-
-            return candidates.stream()
-                    .map(candidate -> String.join(delimiter, candidate))
-                    .collect(Collectors.toSet());
-        }
-
-        private static List<List<String>> candidatesForPosition(int multPosition,
-                                                                List<List<String>> desiredRuleKey,
-                                                                int biggestRuleKeySize) {
-            return desiredRuleKey.get(multPosition).stream()
-                    .flatMap(ruleKey -> IntStream.range(0, biggestRuleKeySize)
-                            .mapToObj(i -> candidateForPosition(desiredRuleKey, ruleKey, multPosition, i)))
-                    .toList();
-        }
-
-        private static List<String> candidateForPosition(List<List<String>> desiredRuleKey,
-                                                         String currentRuleKey,
-                                                         int currentPosition,
-                                                         int position) {
-
-            return IntStream.range(0, desiredRuleKey.size())
-                    .mapToObj(index -> {
-                        if (index == currentPosition) {
-                            return currentRuleKey;
-                        } else {
-                            return getLastOrNext(desiredRuleKey.get(index), position);
-                        }
-                    })
-                    .collect(Collectors.toCollection(ArrayList::new));
-        }
-
-        private static String getLastOrNext(List<String> ruleKeys, int index) {
-            if (ruleKeys.size() <= index) {
-                return ruleKeys.get(ruleKeys.size() - 1);
-            }
-
-            return IterableUtils.get(ruleKeys, index);
-        }
-    }
 }
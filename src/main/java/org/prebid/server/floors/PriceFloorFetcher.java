@@ -9,6 +9,7 @@ import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import lombok.Value;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -18,6 +19,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.floors.model.PriceFloorData;
 import org.prebid.server.floors.model.PriceFloorDebugProperties;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
 import org.prebid.server.floors.proto.FetchResult;
 import org.prebid.server.floors.proto.FetchStatus;
 import org.prebid.server.json.DecodeException;
@@ -177,6 +179,7 @@ public class PriceFloorFetcher {
 
         final PriceFloorData priceFloorData = parsePriceFloorData(body, accountId);
         PriceFloorRulesValidator.validateRulesData(priceFloorData, resolveMaxRules(fetchConfig.getMaxRules()));
+        compileRules(priceFloorData);
 
         return ResponseCacheInfo.of(priceFloorData,
                 FetchStatus.success,
@@ -194,6 +197,15 @@ public class PriceFloorFetcher {
         return priceFloorData;
     }
 
+    /**
+     * Compiles rules of fetched data once, so that requests don't pay for it.
+     */
+    private static void compileRules(PriceFloorData priceFloorData) {
+        CollectionUtils.emptyIfNull(priceFloorData.getModelGroups()).stream()
+                .filter(Objects::nonNull)
+                .forEach(PriceFloorModelGroup::getRulesIndex);
+    }
+
     private static int resolveMaxRules(Long accountMaxRules) {
         return accountMaxRules != null && !accountMaxRules.equals(0L)
                 ? Math.toIntExact(accountMaxRules)
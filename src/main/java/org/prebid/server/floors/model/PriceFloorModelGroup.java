@@ -1,8 +1,12 @@
 package org.prebid.server.floors.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Singular;
+import lombok.ToString;
 import lombok.Value;
 
 import java.math.BigDecimal;
@@ -30,4 +34,14 @@ public class PriceFloorModelGroup {
 
     @JsonProperty("default")
     BigDecimal defaultFloor;
+
+    /**
+     * Rules compiled on first access and kept as long as the model group itself,
+     * e.g. for fetched floors - until the next fetch.
+     */
+    @JsonIgnore
+    @Getter(lazy = true)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final PriceFloorRulesIndex rulesIndex = PriceFloorRulesIndex.of(schema, values);
 }
@@ -0,0 +1,164 @@
+package org.prebid.server.floors.model;
+
+import lombok.Value;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable index of {@link PriceFloorModelGroup} rules, compiled once per model group.
+ * <p>
+ * Rules are kept in a trie by lower-cased schema field values, so checking a rule key candidate costs at most one
+ * hash lookup per schema field and doesn't build any strings. Order in which fields are replaced by the catch-all
+ * wildcard is precomputed per schema size: fewer wildcards first, then wildcards at the latest schema positions.
+ */
+public class PriceFloorRulesIndex {
+
+    public static final String WILDCARD_CATCH_ALL = "*";
+    private static final String SCHEMA_DEFAULT_DELIMITER = "|";
+
+    private static final Map<Integer, int[]> WILDCARD_MASKS_BY_FIELDS_COUNT = new ConcurrentHashMap<>();
+
+    private final int fieldsCount;
+    private final int[] wildcardMasks;
+    private final Node root;
+
+    private PriceFloorRulesIndex(int fieldsCount, Node root) {
+        this.fieldsCount = fieldsCount;
+        this.wildcardMasks = WILDCARD_MASKS_BY_FIELDS_COUNT.computeIfAbsent(
+                fieldsCount, PriceFloorRulesIndex::createWildcardMasks);
+        this.root = root;
+    }
+
+    public static PriceFloorRulesIndex of(PriceFloorSchema schema, Map<String, BigDecimal> rules) {
+        final List<PriceFloorField> fields = schema != null ? schema.getFields() : null;
+        if (CollectionUtils.isEmpty(fields) || MapUtils.isEmpty(rules)) {
+            return new PriceFloorRulesIndex(0, new Node());
+        }
+
+        final int fieldsCount = fields.size();
+        final String delimiter = ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER);
+
+        final Node root = new Node();
+        for (Map.Entry<String, BigDecimal> entry : rules.entrySet()) {
+            final String key = entry.getKey().toLowerCase();
+            final String[] keyFieldValues = StringUtils.splitByWholeSeparatorPreserveAllTokens(key, delimiter);
+
+            // such rule can not be matched by any candidate
+            if (keyFieldValues.length != fieldsCount) {
+                continue;
+            }
+
+            Node node = root;
+            for (String keyFieldValue : keyFieldValues) {
+                node = node.children.computeIfAbsent(keyFieldValue, ignored -> new Node());
+            }
+            node.rule = Rule.of(key, entry.getValue());
+        }
+
+        return new PriceFloorRulesIndex(fieldsCount, root);
+    }
+
+    /**
+     * Finds the most specific rule for the given values of schema fields.
+     * <p>
+     * Each element of {@code fieldValues} holds non-empty lower-cased values of corresponding schema field,
+     * or single {@link #WILDCARD_CATCH_ALL} if value is unknown.
+     */
+    public Rule find(List<List<String>> fieldValues) {
+        if (fieldValues.size() != fieldsCount || fieldsCount == 0) {
+            return null;
+        }
+
+        final int implicitWildcardsMask = implicitWildcardsMask(fieldValues);
+        for (int wildcardsMask : wildcardMasks) {
+            if ((wildcardsMask & implicitWildcardsMask) != implicitWildcardsMask) {
+                continue;
+            }
+
+            final Rule rule = find(root, 0, wildcardsMask, fieldValues);
+            if (rule != null) {
+                return rule;
+            }
+        }
+
+        return null;
+    }
+
+    private static int implicitWildcardsMask(List<List<String>> fieldValues) {
+        int mask = 0;
+        for (int i = 0; i < fieldValues.size(); i++) {
+            if (WILDCARD_CATCH_ALL.equals(fieldValues.get(i).get(0))) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private Rule find(Node node, int position, int wildcardsMask, List<List<String>> fieldValues) {
+        if (position == fieldsCount) {
+            return node.rule;
+        }
+
+        if ((wildcardsMask & (1 << position)) != 0) {
+            final Node child = node.children.get(WILDCARD_CATCH_ALL);
+            return child != null ? find(child, position + 1, wildcardsMask, fieldValues) : null;
+        }
+
+        for (String fieldValue : fieldValues.get(position)) {
+            final Node child = node.children.get(fieldValue);
+            final Rule rule = child != null ? find(child, position + 1, wildcardsMask, fieldValues) : null;
+            if (rule != null) {
+                return rule;
+            }
+        }
+
+        return null;
+    }
+
+    private static int[] createWildcardMasks(int fieldsCount) {
+        return IntStream.range(0, 1 << fieldsCount)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(Integer::bitCount)
+                        .thenComparingInt(mask -> wildcardsWeight(mask, fieldsCount)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Wildcard at earlier schema position weighs more than all wildcards at later positions together.
+     */
+    private static int wildcardsWeight(int wildcardsMask, int fieldsCount) {
+        int weight = 0;
+        for (int i = 0; i < fieldsCount; i++) {
+            if ((wildcardsMask & (1 << i)) != 0) {
+                weight += 1 << (fieldsCount - i);
+            }
+        }
+        return weight;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private Rule rule;
+    }
+
+    @Value(staticConstructor = "of")
+    public static class Rule {
+
+        String key;
+
+        BigDecimal floor;
+    }
+}
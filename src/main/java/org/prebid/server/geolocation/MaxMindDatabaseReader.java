@@ -0,0 +1,29 @@
+package org.prebid.server.geolocation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.maxmind.db.Reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+
+/**
+ * Reads raw records of MaxMind database file mapped into memory.
+ * <p>
+ * Database content stays off-heap, so it is not copied on reloads of the file.
+ */
+public class MaxMindDatabaseReader {
+
+    private final Reader reader;
+
+    public MaxMindDatabaseReader(File databaseFile) throws IOException {
+        reader = new Reader(databaseFile, Reader.FileMode.MEMORY_MAPPED);
+    }
+
+    /**
+     * Returns record of the network given address belongs to or null if address is not in the database.
+     */
+    public JsonNode get(InetAddress address) throws IOException {
+        return reader.get(address);
+    }
+}
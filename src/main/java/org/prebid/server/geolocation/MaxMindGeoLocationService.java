@@ -1,40 +1,60 @@
 package org.prebid.server.geolocation;
 
-import com.maxmind.db.Reader;
-import com.maxmind.geoip2.DatabaseReader;
-import com.maxmind.geoip2.exception.GeoIp2Exception;
-import com.maxmind.geoip2.model.CityResponse;
-import com.maxmind.geoip2.record.City;
-import com.maxmind.geoip2.record.Continent;
-import com.maxmind.geoip2.record.Country;
-import com.maxmind.geoip2.record.Location;
-import com.maxmind.geoip2.record.Subdivision;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.RemoteFileProcessor;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.InetAddress;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * Database file is extracted next to the downloaded archive and memory-mapped. Lookup results are cached
+ * per /24 IPv4 and /48 IPv6 network together with the reader they were looked up by, so results of the replaced
+ * database are never served after reload, even if put into the cache by lookups still running during it.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, RemoteFileProcessor {
 
     private static final String VENDOR = "maxmind";
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
+    private static final String TMP_FILE_SUFFIX = ".tmp";
 
-    private DatabaseReader databaseReader;
+    private static final int IPV4_PREFIX_BYTES = 3;
+    private static final int IPV6_PREFIX_BYTES = 6;
+
+    private static final String CITY_NAME_LOCALE = "en";
+
+    private final Metrics metrics;
+    private final Cache<Long, CachedGeoInfo> lookupCache;
+
+    private volatile MaxMindDatabaseReader databaseReader;
+
+    public MaxMindGeoLocationService(int cacheSize, Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+
+        lookupCache = cacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheSize).build()
+                : null;
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,7 +73,11 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            databaseReader = new MaxMindDatabaseReader(extractDatabaseFile(tarInput, dataFilePath).toFile());
+            if (lookupCache != null) {
+                // entries of the previous reader are not served anyway, they are just released
+                lookupCache.invalidateAll();
+            }
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,62 +85,93 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         }
     }
 
+    /**
+     * Extracts database file through the temporary one, so file mapped by the current reader is never overwritten:
+     * it remains valid until unmapped, even after being replaced.
+     */
+    private static Path extractDatabaseFile(TarArchiveInputStream tarInput, String dataFilePath) throws IOException {
+        final Path databaseFile = Paths.get(dataFilePath).toAbsolutePath().resolveSibling(DATABASE_FILE_NAME);
+        final Path tmpFile = databaseFile.resolveSibling(DATABASE_FILE_NAME + TMP_FILE_SUFFIX);
+
+        Files.copy(tarInput, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+        return Files.move(tmpFile, databaseFile, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final MaxMindDatabaseReader reader = databaseReader;
+        if (reader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
+        final long startTime = System.nanoTime();
         try {
             final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
-            final Location location = cityResponse != null ? cityResponse.getLocation() : null;
-
-            return Future.succeededFuture(GeoInfo.builder()
-                    .vendor(VENDOR)
-                    .continent(resolveContinent(cityResponse))
-                    .country(resolveCountry(cityResponse))
-                    .region(resolveRegion(cityResponse))
-                    // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
-                    .city(resolveCity(cityResponse))
-                    .lat(resolveLatitude(location))
-                    .lon(resolveLongitude(location))
-                    .build());
-        } catch (IOException | GeoIp2Exception e) {
+            return Future.succeededFuture(lookupCache != null
+                    ? lookupCached(reader, inetAddress)
+                    : lookup(reader, inetAddress));
+        } catch (IOException | PreBidException e) {
             return Future.failedFuture(e);
+        } finally {
+            metrics.updateGeoLocationRequestTime(System.nanoTime() - startTime);
         }
     }
 
-    private static String resolveContinent(CityResponse cityResponse) {
-        final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
-        final String code = continent != null ? continent.getCode() : null;
-        return StringUtils.lowerCase(code);
-    }
+    private GeoInfo lookupCached(MaxMindDatabaseReader reader, InetAddress inetAddress) throws IOException {
+        final long prefix = networkPrefix(inetAddress);
+
+        final CachedGeoInfo cachedGeoInfo = lookupCache.getIfPresent(prefix);
+        final boolean isCacheHit = cachedGeoInfo != null && cachedGeoInfo.reader() == reader;
+        metrics.updateGeoLocationCacheMetric(isCacheHit);
+        if (isCacheHit) {
+            return cachedGeoInfo.geoInfo();
+        }
 
-    private static String resolveCountry(CityResponse cityResponse) {
-        final Country country = cityResponse != null ? cityResponse.getCountry() : null;
-        final String isoCode = country != null ? country.getIsoCode() : null;
-        return StringUtils.lowerCase(isoCode);
+        final GeoInfo geoInfo = lookup(reader, inetAddress);
+        lookupCache.put(prefix, new CachedGeoInfo(reader, geoInfo));
+        return geoInfo;
     }
 
-    private static String resolveRegion(CityResponse cityResponse) {
-        final List<Subdivision> subdivisions = cityResponse != null ? cityResponse.getSubdivisions() : null;
-        final Subdivision firstSubdivision = CollectionUtils.isEmpty(subdivisions) ? null : subdivisions.get(0);
-        return firstSubdivision != null ? firstSubdivision.getIsoCode() : null;
+    /**
+     * Packs the network prefix of address together with address length, so IPv4 and IPv6 prefixes never clash.
+     */
+    private static long networkPrefix(InetAddress inetAddress) {
+        final byte[] address = inetAddress.getAddress();
+        final int prefixBytes = address.length == 4 ? IPV4_PREFIX_BYTES : IPV6_PREFIX_BYTES;
+
+        long prefix = address.length;
+        for (int i = 0; i < prefixBytes; i++) {
+            prefix = prefix << 8 | (address[i] & 0xFF);
+        }
+        return prefix;
     }
 
-    private static String resolveCity(CityResponse cityResponse) {
-        final City city = cityResponse != null ? cityResponse.getCity() : null;
-        return city != null ? city.getName() : null;
+    private static GeoInfo lookup(MaxMindDatabaseReader reader, InetAddress inetAddress) throws IOException {
+        final JsonNode record = reader.get(inetAddress);
+        if (record == null) {
+            throw new PreBidException("The address %s is not in the database."
+                    .formatted(inetAddress.getHostAddress()));
+        }
+
+        // only fields needed for geo info are read, without building the complete MaxMind city response
+        final JsonNode location = record.path("location");
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(StringUtils.lowerCase(record.path("continent").path("code").textValue()))
+                .country(StringUtils.lowerCase(record.path("country").path("iso_code").textValue()))
+                .region(record.path("subdivisions").path(0).path("iso_code").textValue())
+                // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
+                .city(record.path("city").path("names").path(CITY_NAME_LOCALE).textValue())
+                .lat(resolveCoordinate(location.path("latitude")))
+                .lon(resolveCoordinate(location.path("longitude")))
+                .build();
     }
 
-    private static Float resolveLatitude(Location location) {
-        final Double latitude = location != null ? location.getLatitude() : null;
-        return latitude != null ? latitude.floatValue() : null;
+    private static Float resolveCoordinate(JsonNode coordinate) {
+        return coordinate.isNumber() ? coordinate.floatValue() : null;
     }
 
-    private static Float resolveLongitude(Location location) {
-        final Double longitude = location != null ? location.getLongitude() : null;
-        return longitude != null ? longitude.floatValue() : null;
+    private record CachedGeoInfo(MaxMindDatabaseReader reader, GeoInfo geoInfo) {
     }
 }
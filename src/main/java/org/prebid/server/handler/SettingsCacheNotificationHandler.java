@@ -4,6 +4,8 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.settings.CacheNotificationListener;
@@ -57,6 +59,7 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.save(request.getRequests(), request.getImps());
+        cacheNotificationListener.saveResponses(MapUtils.emptyIfNull(request.getResponses()));
         respondWith(routingContext, HttpResponseStatus.OK);
     }
 
@@ -79,6 +82,7 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.invalidate(request.getRequests(), request.getImps());
+        cacheNotificationListener.invalidateResponses(ListUtils.emptyIfNull(request.getResponses()));
         respondWith(routingContext, HttpResponseStatus.OK);
     }
 
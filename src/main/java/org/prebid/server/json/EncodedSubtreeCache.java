@@ -0,0 +1,69 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Holds JSON representation of request subtrees (site, app, device, user, regs, source) shared between bidder
+ * requests of one auction.
+ * <p>
+ * Subtrees are keyed by object identity: bidder requests produced from the same auction reuse untouched objects,
+ * while any per-bidder modification (e.g. privacy masking of the user) creates a new object. Subtree is encoded
+ * separately only when it is met the second time, so subtrees built for a single bidder cost just one identity
+ * lookup. Shared subtrees are treated as immutable once bidder requests are built, so the cache must never outlive
+ * the auction it was created for.
+ * <p>
+ * Cache is picked up by {@link JacksonMapper} only within {@link #scoped(Supplier)} call, which is expected to wrap
+ * synchronous bidder request creation.
+ */
+public class EncodedSubtreeCache {
+
+    private static final ThreadLocal<EncodedSubtreeCache> CURRENT = new ThreadLocal<>();
+
+    private static final SerializableString NOT_ENCODED = new SerializedString("");
+
+    // bidder requests of one auction may be prepared on different threads (e.g. after asynchronous hooks)
+    private final Map<Object, SerializableString> subtrees = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public <T> T scoped(Supplier<T> action) {
+        final EncodedSubtreeCache previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static EncodedSubtreeCache current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns JSON previously encoded for the given subtree, or null if subtree was not encoded yet.
+     */
+    SerializableString get(Object subtree) {
+        final SerializableString encoded = subtrees.get(subtree);
+        return encoded != NOT_ENCODED ? encoded : null;
+    }
+
+    /**
+     * Remembers the given subtree and tells whether it was met before, i.e. is shared and worth encoding separately.
+     */
+    boolean seenBefore(Object subtree) {
+        return subtrees.putIfAbsent(subtree, NOT_ENCODED) != null;
+    }
+
+    void put(Object subtree, SerializableString encoded) {
+        subtrees.put(subtree, encoded);
+    }
+}
@@ -0,0 +1,141 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import com.iab.openrtb.request.User;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Set;
+
+/**
+ * Makes serializers of shared bid request subtrees aware of {@link EncodedSubtreeCache}: if cache is passed as
+ * serialization attribute, subtree met more than once is encoded once and then written as raw value for each next
+ * bidder request.
+ * <p>
+ * Module is registered only on the mapper {@link JacksonMapper} uses within cache scope, so serialization of these
+ * types elsewhere in the application is not affected.
+ */
+class EncodedSubtreeModule extends SimpleModule {
+
+    private static final Set<Class<?>> SHARED_SUBTREE_CLASSES =
+            Set.of(Site.class, App.class, Device.class, User.class, Regs.class, Source.class);
+
+    EncodedSubtreeModule() {
+        setSerializerModifier(new EncodedSubtreeSerializerModifier());
+    }
+
+    private static class EncodedSubtreeSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                  BeanDescription beanDesc,
+                                                  JsonSerializer<?> serializer) {
+
+            return SHARED_SUBTREE_CLASSES.contains(beanDesc.getBeanClass())
+                    ? new EncodedSubtreeSerializer(serializer)
+                    : serializer;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static class EncodedSubtreeSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        EncodedSubtreeSerializer(JsonSerializer<?> delegate) {
+            this.delegate = (JsonSerializer<Object>) delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            final Object cache = provider.getAttribute(EncodedSubtreeCache.class);
+            final ObjectCodec codec = generator.getCodec();
+            if (!(cache instanceof EncodedSubtreeCache encodedSubtreeCache) || codec == null) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            final SerializableString cached = encodedSubtreeCache.get(value);
+            if (cached != null) {
+                generator.writeRawValue(cached);
+                return;
+            }
+
+            if (!encodedSubtreeCache.seenBefore(value)) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            final SerializableString encoded = encode(value, codec, provider);
+            encodedSubtreeCache.put(value, encoded);
+            generator.writeRawValue(encoded);
+        }
+
+        private SerializableString encode(Object value, ObjectCodec codec, SerializerProvider provider)
+                throws IOException {
+
+            final StringWriter writer = new StringWriter();
+            try (JsonGenerator subtreeGenerator = codec.getFactory().createGenerator(writer)) {
+                provider.getConfig().initialize(subtreeGenerator);
+                delegate.serialize(value, subtreeGenerator, provider);
+            }
+            return new SerializedString(writer.toString());
+        }
+
+        @Override
+        public void serializeWithType(Object value,
+                                      JsonGenerator generator,
+                                      SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+
+            delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            final JsonSerializer<?> contextual = delegate instanceof ContextualSerializer contextualSerializer
+                    ? contextualSerializer.createContextual(provider, property)
+                    : delegate;
+            return contextual != delegate ? new EncodedSubtreeSerializer(contextual) : this;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvableSerializer) {
+                resolvableSerializer.resolve(provider);
+            }
+        }
+    }
+}
@@ -3,21 +3,28 @@ package org.prebid.server.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 
 public class JacksonMapper {
 
     private static final String FAILED_TO_DECODE = "Failed to decode: %s";
     private final ObjectMapper mapper;
+    private final ObjectMapper subtreeCachingMapper;
 
     public JacksonMapper(ObjectMapper mapper) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.subtreeCachingMapper = mapper.copy().registerModule(new EncodedSubtreeModule());
     }
 
     public ObjectMapper mapper() {
@@ -26,7 +33,10 @@ public class JacksonMapper {
 
     public <T> String encodeToString(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsString(obj);
+            final EncodedSubtreeCache encodedSubtreeCache = EncodedSubtreeCache.current();
+            return encodedSubtreeCache != null
+                    ? writer(encodedSubtreeCache).writeValueAsString(obj)
+                    : mapper.writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
         }
@@ -34,12 +44,34 @@ public class JacksonMapper {
 
     public <T> byte[] encodeToBytes(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsBytes(obj);
+            final EncodedSubtreeCache encodedSubtreeCache = EncodedSubtreeCache.current();
+            return encodedSubtreeCache != null
+                    ? writer(encodedSubtreeCache).writeValueAsBytes(obj)
+                    : mapper.writeValueAsBytes(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as byte array: " + e.getMessage());
         }
     }
 
+    /**
+     * Encodes object straight into the {@link Buffer} with Jackson's byte generator, so no intermediate
+     * {@link String} or byte array copy of possibly large payload is created before writing it to the wire.
+     */
+    public <T> Buffer encodeToBuffer(T obj) throws EncodeException {
+        final ByteBuf byteBuf = Unpooled.buffer();
+        try (OutputStream outputStream = new ByteBufOutputStream(byteBuf)) {
+            final EncodedSubtreeCache encodedSubtreeCache = EncodedSubtreeCache.current();
+            if (encodedSubtreeCache != null) {
+                writer(encodedSubtreeCache).writeValue(outputStream, obj);
+            } else {
+                mapper.writeValue(outputStream, obj);
+            }
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode as buffer: " + e.getMessage());
+        }
+        return Buffer.buffer(byteBuf);
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
@@ -56,6 +88,14 @@ public class JacksonMapper {
         }
     }
 
+    public <T> T decodeValue(byte[] bytes, TypeReference<T> type) throws DecodeException {
+        try {
+            return mapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new DecodeException(FAILED_TO_DECODE.formatted(e.getMessage()), e);
+        }
+    }
+
     public <T> T decodeValue(String str, TypeReference<T> type) throws DecodeException {
         try {
             return mapper.readValue(str, type);
@@ -84,4 +124,8 @@ public class JacksonMapper {
         target.addProperties(mapper.convertValue(source, FlexibleExtension.PROPERTIES_TYPE_REF));
         return target;
     }
+
+    private ObjectWriter writer(EncodedSubtreeCache encodedSubtreeCache) {
+        return subtreeCachingMapper.writer().withAttribute(EncodedSubtreeCache.class, encodedSubtreeCache);
+    }
 }
@@ -2,20 +2,37 @@ package org.prebid.server.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.exception.InvalidRequestException;
 
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 
 public class JsonMerger {
 
+    private static final int PARSED_STORED_DATA_CACHE_SIZE = 10_000;
+
     private final JacksonMapper mapper;
 
+    /**
+     * Parsed stored data by its json. Keys are compared by identity and weakly referenced, so stored data served
+     * from settings cache is parsed once and released together with cached json.
+     */
+    private final Cache<String, JsonNode> parsedStoredData;
+
     public JsonMerger(JacksonMapper mapper) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.parsedStoredData = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(PARSED_STORED_DATA_CACHE_SIZE)
+                .build();
     }
 
     /**
@@ -25,26 +42,59 @@ public class JsonMerger {
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
-        final JsonNode storedRequestJsonNode;
-        try {
-            storedRequestJsonNode = mapper.mapper().readTree(storedData);
-        } catch (IOException e) {
-            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
-        }
+        final JsonNode storedRequestJsonNode = storedData != null
+                ? parsedStoredData.get(storedData, json -> parseStoredData(json, id))
+                : parseStoredData(null, id);
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
-            return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originJsonNode).apply(storedRequestJsonNode),
-                    classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(
-                    "Couldn't create merge patch from origin object node for id %s: %s".formatted(id, e.getMessage()));
+            return mapper.mapper().treeToValue(overlay(originJsonNode, storedRequestJsonNode), classToCast);
         } catch (JsonProcessingException e) {
             throw new InvalidRequestException(
                     "Can't convert merging result for id %s: %s".formatted(id, e.getMessage()));
         }
     }
 
+    private JsonNode parseStoredData(String storedData, String id) {
+        try {
+            return mapper.mapper().readTree(storedData);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+        }
+    }
+
+    /**
+     * Applies json merge patch (RFC 7386) to the target without modifying any of them.
+     * <p>
+     * Only objects on the patched paths are copied, all other nodes of the result are shared with the target
+     * and the patch. Result must not be modified, because the target may be cached.
+     */
+    private JsonNode overlay(JsonNode patch, JsonNode target) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        final ObjectNode result = mapper.mapper().createObjectNode();
+        if (target != null && target.isObject()) {
+            result.setAll((ObjectNode) target);
+        }
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String name = field.getKey();
+            final JsonNode value = field.getValue();
+
+            if (value.isNull()) {
+                result.remove(name);
+            } else {
+                result.set(name, overlay(value, result.get(name)));
+            }
+        }
+
+        return result;
+    }
+
     public <T> T merge(T originalObject, T mergingObject, Class<T> classToCast) {
         if (!ObjectUtils.allNotNull(originalObject, mergingObject)) {
             return ObjectUtils.defaultIfNull(originalObject, mergingObject);
@@ -5,6 +5,10 @@ public enum MetricName {
     // connection
     connection_accept_errors,
 
+    // event loop
+    event_loop_lag("event_loop.lag"),
+    event_loop_stalls("event_loop.stalls"),
+
     // circuit breaker
     db,
     geo,
@@ -20,12 +24,20 @@ public enum MetricName {
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_cache_hit,
+    geolocation_cache_miss,
+
+    // public suffix list
+    psl_cache_hit,
+    psl_cache_miss,
 
     // auction
     requests,
     app_requests,
     no_cookie_requests,
     request_time,
+    stored_request_merge_time,
+    ortb_conversion_time,
     prices,
     imps_requested,
     imps_banner,
@@ -36,6 +48,23 @@ public enum MetricName {
     adm_bids_received,
     nurl_bids_received,
 
+    // auction stages
+    stage_entrypoint("stage.entrypoint"),
+    stage_account("stage.account"),
+    stage_raw_auction_request("stage.raw_auction_request"),
+    stage_stored_requests("stage.stored_requests"),
+    stage_privacy("stage.privacy"),
+    stage_processed_auction_request("stage.processed_auction_request"),
+    stage_user_details("stage.user_details"),
+    stage_price_floors("stage.price_floors"),
+    stage_stored_responses("stage.stored_responses"),
+    stage_bidder_requests("stage.bidder_requests"),
+    stage_bidders("stage.bidders"),
+    stage_bids_processing("stage.bids_processing"),
+    stage_response_creation("stage.response_creation"),
+    stage_response_post_processing("stage.response_post_processing"),
+    stage_auction_response("stage.auction_response"),
+
     // request types,
     openrtb2web("openrtb2-web"),
     openrtb2app("openrtb2-app"),
@@ -88,6 +117,11 @@ public enum MetricName {
     request_blocked,
     analytics_blocked,
 
+    // analytics pipeline
+    pipeline_queued("pipeline.queued"),
+    pipeline_dropped("pipeline.dropped"),
+    pipeline_flush_time("pipeline.flush_time"),
+
     // privacy
     coppa,
     lmt,
@@ -97,11 +131,19 @@ public enum MetricName {
     in_geo("in-geo"),
     out_geo("out-geo"),
     unknown_geo("unknown-geo"),
+    consent_cache_hit("consent_cache.hit"),
+    consent_cache_miss("consent_cache.miss"),
+    permission_cache_hit("permission_cache.hit"),
+    permission_cache_miss("permission_cache.miss"),
 
     // vendor list
     missing,
     fallback,
 
+    // bidder params validation
+    bidder_params_validation_cache_hit("bidder_params_validation_cache.hit"),
+    bidder_params_validation_cache_miss("bidder_params_validation_cache.miss"),
+
     // stored data
     stored_requests_found,
     stored_requests_missing,
@@ -123,11 +165,15 @@ public enum MetricName {
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    video_stored_request("video-stored-request"),
+    stored_response("stored-response"),
     account,
+    category_config("category-config"),
     initialize,
     update,
     hit,
     miss,
+    coalesced,
 
     // hooks
     call,
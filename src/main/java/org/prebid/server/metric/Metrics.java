@@ -3,6 +3,7 @@ package org.prebid.server.metric;
 import com.codahale.metrics.MetricRegistry;
 import com.iab.openrtb.request.Imp;
 import org.prebid.server.activity.Activity;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
@@ -16,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -229,6 +231,20 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(requestType, millis);
     }
 
+    public void updateStoredRequestMergeTime(MetricName requestType, long nanos) {
+        forRequestType(requestType).updateTimer(MetricName.stored_request_merge_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateAuctionStageTimeMetric(MetricName requestType, AuctionStage stage, long nanos) {
+        forRequestType(requestType).updateTimer(stage.metricName(), nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateAccountAuctionStageTimeMetric(Account account, AuctionStage stage, long nanos) {
+        if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
+            forAccount(account.getId()).updateTimer(stage.metricName(), nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -275,6 +291,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterOrtbConversionTime(String bidder, long nanos) {
+        forAdapter(bidder).updateTimer(MetricName.ortb_conversion_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateAdapterResponseTime(String bidder, Account account, int responseTime) {
         final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
         adapterTypeMetrics.updateTimer(MetricName.request_time, responseTime);
@@ -323,6 +343,18 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void createAnalyticsPipelineQueueGauge(String pipelineName, LongSupplier queueSizeSupplier) {
+        forAnalyticReporter(pipelineName).createGauge(MetricName.pipeline_queued, queueSizeSupplier);
+    }
+
+    public void updateAnalyticsPipelineDroppedMetric(String pipelineName) {
+        forAnalyticReporter(pipelineName).incCounter(MetricName.pipeline_dropped);
+    }
+
+    public void updateAnalyticsPipelineFlushTimeMetric(String pipelineName, long millis) {
+        forAnalyticReporter(pipelineName).updateTimer(MetricName.pipeline_flush_time, millis);
+    }
+
     public void updatePriceFloorFetchMetric(MetricName result) {
         forPriceFloorFetch().incCounter(result);
     }
@@ -452,6 +484,14 @@ public class Metrics extends UpdatableMetrics {
         versionMetrics.incCounter(metricName);
     }
 
+    public void updatePrivacyTcfConsentCacheMetric(boolean hit) {
+        privacy().tcf().incCounter(hit ? MetricName.consent_cache_hit : MetricName.consent_cache_miss);
+    }
+
+    public void updatePrivacyTcfPermissionCacheMetric(boolean hit) {
+        privacy().tcf().incCounter(hit ? MetricName.permission_cache_hit : MetricName.permission_cache_miss);
+    }
+
     public void updatePrivacyTcfVendorListMissingMetric(int version) {
         updatePrivacyTcfVendorListMetric(version, MetricName.missing);
     }
@@ -477,6 +517,14 @@ public class Metrics extends UpdatableMetrics {
         incCounter(MetricName.connection_accept_errors);
     }
 
+    public void updateEventLoopLagMetric(long millis) {
+        updateTimer(MetricName.event_loop_lag, millis);
+    }
+
+    public void updateEventLoopStallMetric() {
+        incCounter(MetricName.event_loop_stalls);
+    }
+
     public void updateDatabaseQueryTimeMetric(long millis) {
         updateTimer(MetricName.db_query_time, millis);
     }
@@ -561,6 +609,18 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationRequestTime(long nanos) {
+        updateTimer(MetricName.geolocation_request_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateGeoLocationCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.geolocation_cache_hit : MetricName.geolocation_cache_miss);
+    }
+
+    public void updatePslCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.psl_cache_hit : MetricName.psl_cache_miss);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -621,6 +681,12 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateBidderParamsValidationCacheMetric(boolean hit) {
+        incCounter(hit
+                ? MetricName.bidder_params_validation_cache_hit
+                : MetricName.bidder_params_validation_cache_miss);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
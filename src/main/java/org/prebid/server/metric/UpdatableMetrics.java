@@ -1,35 +1,41 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
+    private static final int METRIC_NAMES_COUNT = MetricName.values().length;
+
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final CounterResolver counterResolver;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
-    private final Map<MetricName, String> metricNames;
+    // metric names and metrics are resolved once and kept by metric name ordinal, so updates neither build names
+    // nor look up underlying metric registry. Not synchronized arrays are intentionally used here because it's
+    // harmless in this particular case - racing threads resolve the same metric from the metric registry.
+    // Arrays of metrics are allocated on first update, as most of instances use only one kind of metrics
+    private final String[] metricNames;
+    private LongConsumer[] counters;
+    private Timer[] timers;
+    private Histogram[] histograms;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
+        metricNames = new String[METRIC_NAMES_COUNT];
 
-        incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+        counterResolver = switch (counterType) {
+            case flushingCounter -> (registry, metricName) -> registry.counter(metricName, ResettingCounter::new)::inc;
+            case counter -> (registry, metricName) -> registry.counter(metricName)::inc;
+            case meter -> (registry, metricName) -> registry.meter(metricName)::mark;
         };
     }
 
@@ -44,22 +50,65 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        LongConsumer[] counters = this.counters;
+        if (counters == null) {
+            counters = new LongConsumer[METRIC_NAMES_COUNT];
+            this.counters = counters;
+        }
+
+        final int index = metricName.ordinal();
+        LongConsumer counter = counters[index];
+        if (counter == null) {
+            counter = counterResolver.resolve(metricRegistry, name(metricName));
+            counters[index] = counter;
+        }
+        counter.accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given duration in the given unit, for durations not measurable in millis.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        Timer[] timers = this.timers;
+        if (timers == null) {
+            timers = new Timer[METRIC_NAMES_COUNT];
+            this.timers = timers;
+        }
+
+        final int index = metricName.ordinal();
+        Timer timer = timers[index];
+        if (timer == null) {
+            timer = metricRegistry.timer(name(metricName));
+            timers[index] = timer;
+        }
+        timer.update(duration, unit);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        Histogram[] histograms = this.histograms;
+        if (histograms == null) {
+            histograms = new Histogram[METRIC_NAMES_COUNT];
+            this.histograms = histograms;
+        }
+
+        final int index = metricName.ordinal();
+        Histogram histogram = histograms[index];
+        if (histogram == null) {
+            // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+            histogram = metricRegistry.histogram(name(metricName));
+            histograms[index] = histogram;
+        }
+        histogram.update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
@@ -67,11 +116,27 @@ class UpdatableMetrics {
     }
 
     void removeMetric(MetricName metricName) {
+        final int index = metricName.ordinal();
+        if (counters != null) {
+            counters[index] = null;
+        }
+        if (timers != null) {
+            timers[index] = null;
+        }
+        if (histograms != null) {
+            histograms[index] = null;
+        }
         metricRegistry.remove(name(metricName));
     }
 
     private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+        final int index = metricName.ordinal();
+        String name = metricNames[index];
+        if (name == null) {
+            name = nameCreator.apply(metricName);
+            metricNames[index] = name;
+        }
+        return name;
     }
 
     public CounterType getCounterType() {
@@ -79,7 +144,7 @@ class UpdatableMetrics {
     }
 
     @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    private interface CounterResolver {
+        LongConsumer resolve(MetricRegistry metricRegistry, String metricName);
     }
 }
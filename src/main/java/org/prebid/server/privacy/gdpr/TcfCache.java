@@ -0,0 +1,215 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iabtcf.decoder.TCString;
+import io.vertx.core.Future;
+import lombok.Value;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+import org.prebid.server.settings.model.AccountGdprConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches decoded TCF consent strings and vendor permissions calculated for them.
+ * <p>
+ * Decoding is pure, so decoded consent strings never become stale. Permissions depend on the vendor list available
+ * for the consent string, so they are dropped every time a vendor list changes. Each cache is disabled if its size
+ * is not positive.
+ */
+public class TcfCache {
+
+    private static final int TCF_V2_VERSION = 2;
+
+    private final Cache<String, DecodedConsent> consents;
+    private final Cache<PermissionKey, PrivacyEnforcementAction> permissions;
+    private final Metrics metrics;
+
+    // guards against caching permissions calculated with the vendor list that was changed in the meantime
+    private final AtomicLong vendorListGeneration = new AtomicLong();
+
+    public TcfCache(int consentCacheSize, int permissionCacheSize, Metrics metrics) {
+        this.consents = consentCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(consentCacheSize).build()
+                : null;
+        this.permissions = permissionCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(permissionCacheSize).build()
+                : null;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Decodes consent string or returns previously decoded one. Decoding failures are cached as well, so corrupted
+     * strings repeated by misconfigured CMPs are not decoded over and over again.
+     */
+    public DecodedConsent decode(String consentString) {
+        if (consents == null) {
+            return decodeConsent(consentString);
+        }
+
+        final DecodedConsent cachedConsent = consents.getIfPresent(consentString);
+        metrics.updatePrivacyTcfConsentCacheMetric(cachedConsent != null);
+        if (cachedConsent != null) {
+            return cachedConsent;
+        }
+
+        final DecodedConsent decodedConsent = decodeConsent(consentString);
+        if (isShareable(decodedConsent)) {
+            consents.put(consentString, decodedConsent);
+        }
+        return decodedConsent;
+    }
+
+    private static DecodedConsent decodeConsent(String consentString) {
+        try {
+            return DecodedConsent.of(TCString.decode(consentString), null);
+        } catch (Exception e) {
+            return DecodedConsent.of(null, e.getMessage());
+        }
+    }
+
+    /**
+     * {@link TCString} decodes its fields lazily and memoizes them in a non thread-safe manner, so it can be shared
+     * between requests only after all fields were decoded. Consent strings failing on that, as well as deprecated TCF
+     * version 1 ones, are not cached to keep their processing the same as without cache.
+     */
+    private static boolean isShareable(DecodedConsent decodedConsent) {
+        final TCString tcString = decodedConsent.getTcString();
+        if (tcString == null) {
+            return true;
+        }
+
+        try {
+            if (tcString.getVersion() != TCF_V2_VERSION) {
+                return false;
+            }
+
+            tcString.getCreated();
+            tcString.getLastUpdated();
+            tcString.getCmpId();
+            tcString.getCmpVersion();
+            tcString.getConsentScreen();
+            tcString.getConsentLanguage();
+            tcString.getVendorListVersion();
+            tcString.getTcfPolicyVersion();
+            tcString.isServiceSpecific();
+            tcString.getUseNonStandardStacks();
+            tcString.getSpecialFeatureOptIns();
+            tcString.getPurposesConsent();
+            tcString.getPurposesLITransparency();
+            tcString.getPurposeOneTreatment();
+            tcString.getPublisherCC();
+            tcString.getVendorConsent();
+            tcString.getVendorLegitimateInterest();
+            tcString.getPublisherRestrictions();
+            tcString.getDisclosedVendors();
+            tcString.getAllowedVendors();
+            tcString.getPubPurposesConsent();
+            tcString.getPubPurposesLITransparency();
+            tcString.getCustomPurposesConsent();
+            tcString.getCustomPurposesLITransparency();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns permissions of given vendors for the consent string, taking cached ones and calculating the rest
+     * with the given function.
+     * <p>
+     * Vendors are identified by vendor ID and bidder name of the given {@link VendorPermission}s, which are expected
+     * to be the same in permissions returned by the calculator.
+     */
+    public Future<Collection<VendorPermission>> permissionsFor(
+            String consentString,
+            AccountGdprConfig accountGdprConfig,
+            Collection<VendorPermission> vendors,
+            Function<Collection<VendorPermission>, Future<Collection<VendorPermission>>> permissionsCalculator) {
+
+        if (permissions == null || consentString == null) {
+            return permissionsCalculator.apply(vendors);
+        }
+
+        final long generation = vendorListGeneration.get();
+
+        final List<VendorPermission> cachedPermissions = new ArrayList<>();
+        final List<VendorPermission> missingVendors = new ArrayList<>();
+        for (VendorPermission vendor : vendors) {
+            final PrivacyEnforcementAction cachedAction = permissions.getIfPresent(
+                    permissionKey(generation, consentString, vendor, accountGdprConfig));
+            metrics.updatePrivacyTcfPermissionCacheMetric(cachedAction != null);
+
+            if (cachedAction != null) {
+                cachedPermissions.add(VendorPermission.of(
+                        vendor.getVendorId(), vendor.getBidderName(), cachedAction.toBuilder().build()));
+            } else {
+                missingVendors.add(vendor);
+            }
+        }
+
+        if (missingVendors.isEmpty()) {
+            return Future.succeededFuture(cachedPermissions);
+        }
+
+        return permissionsCalculator.apply(missingVendors).map(calculatedPermissions -> {
+            for (VendorPermission permission : calculatedPermissions) {
+                permissions.put(
+                        permissionKey(generation, consentString, permission, accountGdprConfig),
+                        permission.getPrivacyEnforcementAction().toBuilder().build());
+            }
+
+            cachedPermissions.addAll(calculatedPermissions);
+            return cachedPermissions;
+        });
+    }
+
+    private static PermissionKey permissionKey(long generation,
+                                               String consentString,
+                                               VendorPermission vendor,
+                                               AccountGdprConfig accountGdprConfig) {
+
+        return PermissionKey.of(
+                generation, consentString, vendor.getVendorId(), vendor.getBidderName(), accountGdprConfig);
+    }
+
+    /**
+     * Drops cached permissions. Should be called whenever vendor list used for some version changes.
+     */
+    public void invalidatePermissions() {
+        vendorListGeneration.incrementAndGet();
+
+        if (permissions != null) {
+            permissions.invalidateAll();
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    public static class DecodedConsent {
+
+        TCString tcString;
+
+        String error;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class PermissionKey {
+
+        long generation;
+
+        String consentString;
+
+        Integer vendorId;
+
+        String bidderName;
+
+        AccountGdprConfig accountGdprConfig;
+    }
+}
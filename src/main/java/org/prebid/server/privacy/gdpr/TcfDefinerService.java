@@ -34,7 +34,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -56,6 +55,7 @@ public class TcfDefinerService {
     private final String gdprDefaultValue;
     private final boolean consentStringMeansInScope;
     private final Tcf2Service tcf2Service;
+    private final TcfCache tcfCache;
     private final Set<String> eeaCountries;
     private final GeoLocationService geoLocationService;
     private final BidderCatalog bidderCatalog;
@@ -65,6 +65,7 @@ public class TcfDefinerService {
     public TcfDefinerService(GdprConfig gdprConfig,
                              Set<String> eeaCountries,
                              Tcf2Service tcf2Service,
+                             TcfCache tcfCache,
                              GeoLocationService geoLocationService,
                              BidderCatalog bidderCatalog,
                              IpAddressHelper ipAddressHelper,
@@ -75,6 +76,7 @@ public class TcfDefinerService {
         this.consentStringMeansInScope = gdprConfig != null
                 && BooleanUtils.isTrue(gdprConfig.getConsentStringMeansInScope());
         this.tcf2Service = Objects.requireNonNull(tcf2Service);
+        this.tcfCache = Objects.requireNonNull(tcfCache);
         this.eeaCountries = Objects.requireNonNull(eeaCountries);
         this.geoLocationService = geoLocationService;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
@@ -117,7 +119,7 @@ public class TcfDefinerService {
         return resultForInternal(
                 tcfContext,
                 country -> createAllowAllTcfResponse(vendorIds, country),
-                (tcfConsent, country) -> tcf2Service.permissionsFor(vendorIds, tcfConsent)
+                country -> permissionsForVendorIds(vendorIds, tcfContext)
                         .map(vendorPermissions -> createVendorIdTcfResponse(vendorPermissions, country)));
     }
 
@@ -128,9 +130,8 @@ public class TcfDefinerService {
         return resultForInternal(
                 tcfContext,
                 country -> createAllowAllTcfResponse(bidderNames, country),
-                (consentString, country) ->
-                        tcf2Service.permissionsFor(bidderNames, vendorIdResolver, consentString, accountGdprConfig)
-                                .map(vendorPermissions -> createBidderNameTcfResponse(vendorPermissions, country)));
+                country -> permissionsForBidderNames(bidderNames, vendorIdResolver, tcfContext, accountGdprConfig)
+                        .map(vendorPermissions -> createBidderNameTcfResponse(vendorPermissions, country)));
     }
 
     public Future<TcfResponse<String>> resultForBidderNames(
@@ -142,7 +143,7 @@ public class TcfDefinerService {
     private <T> Future<TcfResponse<T>> resultForInternal(
             TcfContext tcfContext,
             Function<String, Future<TcfResponse<T>>> allowAllTcfResponseCreator,
-            BiFunction<TCString, String, Future<TcfResponse<T>>> tcf2Strategy) {
+            Function<String, Future<TcfResponse<T>>> tcf2Strategy) {
 
         final GeoInfo geoInfo = tcfContext.getGeoInfo();
         final String country = geoInfo != null ? geoInfo.getCountry() : null;
@@ -151,7 +152,56 @@ public class TcfDefinerService {
             return allowAllTcfResponseCreator.apply(country);
         }
 
-        return tcf2Strategy.apply(tcfContext.getConsent(), country);
+        return tcf2Strategy.apply(country);
+    }
+
+    private Future<Collection<VendorPermission>> permissionsForVendorIds(Set<Integer> vendorIds,
+                                                                         TcfContext tcfContext) {
+
+        final List<VendorPermission> vendors = vendorIds.stream()
+                .filter(Objects::nonNull)
+                .map(vendorId -> VendorPermission.of(vendorId, bidderCatalog.nameByVendorId(vendorId), null))
+                .toList();
+
+        return tcfCache.permissionsFor(
+                permissionCacheKey(tcfContext),
+                null,
+                vendors,
+                missingVendors -> tcf2Service.permissionsFor(
+                        mapToSet(missingVendors, VendorPermission::getVendorId),
+                        tcfContext.getConsent()));
+    }
+
+    private Future<Collection<VendorPermission>> permissionsForBidderNames(Set<String> bidderNames,
+                                                                           VendorIdResolver vendorIdResolver,
+                                                                           TcfContext tcfContext,
+                                                                           AccountGdprConfig accountGdprConfig) {
+
+        final List<VendorPermission> vendors = bidderNames.stream()
+                .filter(Objects::nonNull)
+                .map(bidderName -> VendorPermission.of(vendorIdResolver.resolve(bidderName), bidderName, null))
+                .toList();
+
+        return tcfCache.permissionsFor(
+                permissionCacheKey(tcfContext),
+                accountGdprConfig,
+                vendors,
+                missingVendors -> tcf2Service.permissionsFor(
+                        mapToSet(missingVendors, VendorPermission::getBidderName),
+                        vendorIdResolver,
+                        tcfContext.getConsent(),
+                        accountGdprConfig));
+    }
+
+    /**
+     * Permissions are cached for valid consent strings only, since corrupted ones are not worth cache space.
+     */
+    private static String permissionCacheKey(TcfContext tcfContext) {
+        return tcfContext.isConsentValid() ? tcfContext.getConsentString() : null;
+    }
+
+    private static <T> Set<T> mapToSet(Collection<VendorPermission> vendors, Function<VendorPermission, T> mapper) {
+        return vendors.stream().map(mapper).collect(Collectors.toSet());
     }
 
     private boolean isGdprEnabled(AccountGdprConfig accountGdprConfig, MetricName requestType) {
@@ -342,13 +392,16 @@ public class TcfDefinerService {
     }
 
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo, List<String> warnings) {
-        try {
-            return TCString.decode(consentString);
-        } catch (Exception e) {
-            logWarn(consentString, e.getMessage(), requestLogInfo);
-            warnings.add("Parsing consent string:\"%s\" - failed. %s".formatted(consentString, e.getMessage()));
-            return null;
+        final TcfCache.DecodedConsent decodedConsent = tcfCache.decode(consentString);
+
+        final TCString tcString = decodedConsent.getTcString();
+        if (tcString == null) {
+            final String error = decodedConsent.getError();
+            logWarn(consentString, error, requestLogInfo);
+            warnings.add("Parsing consent string:\"%s\" - failed. %s".formatted(consentString, error));
         }
+
+        return tcString;
     }
 
     private static void logWarn(String consent, String message, RequestLogInfo requestLogInfo) {
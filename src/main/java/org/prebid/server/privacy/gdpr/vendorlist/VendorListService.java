@@ -24,10 +24,12 @@ import org.prebid.server.vertx.http.model.HttpClientResponse;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -69,6 +71,8 @@ public abstract class VendorListService<T, V> {
     private final Map<Integer, V> fallbackVendorList;
     private final Set<Integer> versionsToFallback;
 
+    private final List<Runnable> vendorListChangeListeners = new CopyOnWriteArrayList<>();
+
     public VendorListService(String cacheDir,
                              String endpointTemplate,
                              int defaultTimeoutMs,
@@ -143,6 +147,14 @@ public abstract class VendorListService<T, V> {
                 "TCF %d vendor list for version %d not fetched yet, try again later.".formatted(tcf, version));
     }
 
+    /**
+     * Registers listener to be notified whenever vendor list returned for some version changes,
+     * i.e. new vendor list was fetched or fallback vendor list started to be used in place of missing one.
+     */
+    public void addVendorListChangeListener(Runnable listener) {
+        vendorListChangeListeners.add(Objects.requireNonNull(listener));
+    }
+
     /**
      * Creates vendorList object from string content or throw {@link PreBidException}.
      */
@@ -295,6 +307,7 @@ public abstract class VendorListService<T, V> {
         logger.info("Created new TCF {0} vendor list for version {1}", tcf, version);
 
         stopUsingFallbackForVersion(version);
+        notifyVendorListChanged();
 
         return null;
     }
@@ -326,6 +339,7 @@ public abstract class VendorListService<T, V> {
         }
 
         versionsToFallback.add(version);
+        notifyVendorListChanged();
 
         vertx.setTimer(refreshMissingListPeriodMs, ignored -> fetchNewVendorListFor(version));
     }
@@ -338,6 +352,10 @@ public abstract class VendorListService<T, V> {
         versionsToFallback.remove(version);
     }
 
+    private void notifyVendorListChanged() {
+        vendorListChangeListeners.forEach(Runnable::run);
+    }
+
     @AllArgsConstructor(staticName = "of")
     @Value
     private static class VendorListResult<T> {
@@ -33,4 +33,9 @@ public class ExtResponseDebug {
      * Defines the contract for bidresponse.ext.debug.trace
      */
     ExtDebugTrace trace;
+
+    /**
+     * Defines the contract for bidresponse.ext.debug.timings: time in microseconds spent in each auction stage
+     */
+    Map<String, Long> timings;
 }
@@ -0,0 +1,272 @@
+package org.prebid.server.protobuf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Extension;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.Message;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.BidResponse;
+import com.iabtechlab.openrtb.v2.OpenRtb;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.openrtb.v2.PrebidOpenRtb;
+import org.prebid.server.proto.openrtb.ext.request.ExtApp;
+import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
+import org.prebid.server.proto.openrtb.ext.request.ExtGeo;
+import org.prebid.server.proto.openrtb.ext.request.ExtPublisher;
+import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+import org.prebid.server.proto.openrtb.ext.request.ExtSource;
+import org.prebid.server.proto.openrtb.ext.request.ExtUser;
+import org.prebid.server.proto.openrtb.ext.response.ExtBidResponse;
+import org.prebid.server.protobuf.request.JsonProtobufExtensionMapper;
+import org.prebid.server.protobuf.request.ProtobufForwardExtensionMapper;
+import org.prebid.server.protobuf.request.ProtobufRequestUtils;
+import org.prebid.server.protobuf.request.RequestExtensionMappersSpecification;
+import org.prebid.server.protobuf.response.ProtobufBackwardExtensionMapper;
+import org.prebid.server.protobuf.response.ProtobufJsonExtensionMapper;
+import org.prebid.server.protobuf.response.ProtobufResponseUtils;
+import org.prebid.server.protobuf.response.ResponseExtensionMappersSpecification;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Converts OpenRTB bid requests and responses between internal models and protobuf wire format
+ * of IAB OpenRTB 2.x schema.
+ * <p>
+ * Extensions are carried as JSON strings in extension fields defined by prebid-openrtb.proto.
+ */
+public class ProtobufOpenRtbCodec {
+
+    private static final int JSON_EXT_FIELD_NUMBER = PrebidOpenRtb.bidRequestExt.getDescriptor().getNumber();
+    private static final String NATIVE_REQUEST_FIELD = "request_native";
+
+    private final JacksonMapper mapper;
+
+    private final ExtensionRegistry extensionRegistry;
+    private final ProtobufMapper<BidRequest, OpenRtb.BidRequest> bidRequestMapper;
+    private final ProtobufMapper<OpenRtb.BidResponse, BidResponse> bidResponseMapper;
+
+    public ProtobufOpenRtbCodec(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+
+        extensionRegistry = ExtensionRegistry.newInstance();
+        PrebidOpenRtb.registerAllExtensions(extensionRegistry);
+
+        bidRequestMapper = ProtobufRequestUtils.bidRequestMapper(requestExtensionMappers());
+        bidResponseMapper = ProtobufResponseUtils.bidResponseMapper(responseExtensionMappers());
+    }
+
+    public byte[] encodeBidRequest(BidRequest bidRequest) {
+        return bidRequestMapper.map(bidRequest).toByteArray();
+    }
+
+    public BidResponse decodeBidResponse(Buffer body) throws DecodeException {
+        try {
+            return bidResponseMapper.map(
+                    OpenRtb.BidResponse.parseFrom(new ByteBufInputStream(body.getByteBuf()), extensionRegistry));
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode protobuf bid response: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes protobuf bid request into OpenRTB JSON, so it can be processed the same way as JSON requests are.
+     */
+    public String decodeBidRequestToJson(Buffer body) throws DecodeException {
+        try {
+            final OpenRtb.BidRequest bidRequest =
+                    OpenRtb.BidRequest.parseFrom(new ByteBufInputStream(body.getByteBuf()), extensionRegistry);
+            return mapper.encodeToString(toObjectNode(bidRequest));
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode protobuf bid request: " + e.getMessage(), e);
+        }
+    }
+
+    private ObjectNode toObjectNode(Message message) throws IOException {
+        final ObjectNode result = mapper.mapper().createObjectNode();
+        for (Map.Entry<Descriptors.FieldDescriptor, Object> entry : message.getAllFields().entrySet()) {
+            final Descriptors.FieldDescriptor field = entry.getKey();
+            final Object value = entry.getValue();
+
+            if (field.isExtension()) {
+                if (field.getNumber() == JSON_EXT_FIELD_NUMBER
+                        && field.getJavaType() == Descriptors.FieldDescriptor.JavaType.STRING) {
+
+                    result.set("ext", mapper.mapper().readTree((String) value));
+                }
+            } else if (NATIVE_REQUEST_FIELD.equals(field.getName())) {
+                // OpenRTB JSON carries native request as string
+                result.put("request", mapper.encodeToString(toObjectNode((Message) value)));
+            } else {
+                result.set(field.getName(), field.isRepeated()
+                        ? toArrayNode(field, (List<?>) value)
+                        : toJsonNode(field, value));
+            }
+        }
+        return result;
+    }
+
+    private ArrayNode toArrayNode(Descriptors.FieldDescriptor field, List<?> values) throws IOException {
+        final ArrayNode result = mapper.mapper().createArrayNode();
+        for (Object value : values) {
+            result.add(toJsonNode(field, value));
+        }
+        return result;
+    }
+
+    /**
+     * Maps protobuf value to JSON one. Booleans are mapped to integers, as OpenRTB JSON defines them this way.
+     */
+    private JsonNode toJsonNode(Descriptors.FieldDescriptor field, Object value) throws IOException {
+        return switch (field.getJavaType()) {
+            case MESSAGE -> toObjectNode((Message) value);
+            case BOOLEAN -> IntNode.valueOf((Boolean) value ? 1 : 0);
+            case ENUM -> IntNode.valueOf(((Descriptors.EnumValueDescriptor) value).getNumber());
+            case INT -> IntNode.valueOf((Integer) value);
+            case LONG -> LongNode.valueOf((Long) value);
+            case FLOAT -> FloatNode.valueOf((Float) value);
+            case DOUBLE -> DoubleNode.valueOf((Double) value);
+            case STRING -> TextNode.valueOf((String) value);
+            case BYTE_STRING -> BinaryNode.valueOf(((ByteString) value).toByteArray());
+        };
+    }
+
+    private RequestExtensionMappersSpecification requestExtensionMappers() {
+        return RequestExtensionMappersSpecification.builder(mapper.mapper())
+                .bidRequestExtMapper(this.<OpenRtb.BidRequest, ExtRequest>forwardMapper(PrebidOpenRtb.bidRequestExt))
+                .siteExtMapper(this.<OpenRtb.BidRequest.Site, ExtSite>forwardMapper(PrebidOpenRtb.siteExt))
+                .appExtMapper(this.<OpenRtb.BidRequest.App, ExtApp>forwardMapper(PrebidOpenRtb.appExt))
+                .deviceExtMapper(this.<OpenRtb.BidRequest.Device, ExtDevice>forwardMapper(PrebidOpenRtb.deviceExt))
+                .userExtMapper(this.<OpenRtb.BidRequest.User, ExtUser>forwardMapper(PrebidOpenRtb.userExt))
+                .sourceExtMapper(this.<OpenRtb.BidRequest.Source, ExtSource>forwardMapper(PrebidOpenRtb.sourceExt))
+                .regsExtMapper(this.<OpenRtb.BidRequest.Regs, ExtRegs>forwardMapper(PrebidOpenRtb.regsExt))
+                .publisherExtMapper(
+                        this.<OpenRtb.BidRequest.Publisher, ExtPublisher>forwardMapper(PrebidOpenRtb.publisherExt))
+                .geoExtMapper(this.<OpenRtb.BidRequest.Geo, ExtGeo>forwardMapper(PrebidOpenRtb.geoExt))
+                .impExtMapper(jsonForwardMapper(PrebidOpenRtb.impExt))
+                .metricExtMapper(jsonForwardMapper(PrebidOpenRtb.metricExt))
+                .bannerExtMapper(jsonForwardMapper(PrebidOpenRtb.bannerExt))
+                .formatExtMapper(jsonForwardMapper(PrebidOpenRtb.formatExt))
+                .videoExtMapper(jsonForwardMapper(PrebidOpenRtb.videoExt))
+                .audioExtMapper(jsonForwardMapper(PrebidOpenRtb.audioExt))
+                .nativeExtMapper(jsonForwardMapper(PrebidOpenRtb.nativeExt))
+                .nativeRequestExtMapper(jsonForwardMapper(PrebidOpenRtb.nativeRequestExt))
+                .nativeAssetExtMapper(jsonForwardMapper(PrebidOpenRtb.nativeRequestAssetExt))
+                .nativeTitleExtMapper(jsonForwardMapper(PrebidOpenRtb.nativeRequestTitleExt))
+                .nativeImageExtMapper(jsonForwardMapper(PrebidOpenRtb.nativeRequestImageExt))
+                .nativeVideoExtMapper(jsonForwardMapper(PrebidOpenRtb.videoExt))
+                .nativeDataExtMapper(jsonForwardMapper(PrebidOpenRtb.nativeRequestDataExt))
+                .nativeEventTrackerExtMapper(jsonForwardMapper(PrebidOpenRtb.nativeRequestEventTrackersExt))
+                .pmpExtMapper(jsonForwardMapper(PrebidOpenRtb.pmpExt))
+                .dealExtMapper(jsonForwardMapper(PrebidOpenRtb.dealExt))
+                .dataExtMapper(jsonForwardMapper(PrebidOpenRtb.dataExt))
+                .segmentExtMapper(jsonForwardMapper(PrebidOpenRtb.segmentExt))
+                .contentExtMapper(jsonForwardMapper(PrebidOpenRtb.contentExt))
+                .producerExtMapper(jsonForwardMapper(PrebidOpenRtb.producerExt))
+                .build();
+    }
+
+    private ResponseExtensionMappersSpecification responseExtensionMappers() {
+        return ResponseExtensionMappersSpecification.builder(mapper.mapper())
+                .bidResponseExtMapper(backwardMapper(PrebidOpenRtb.bidResponseExt, ExtBidResponse.class))
+                .seatBidExtMapper(jsonBackwardMapper(PrebidOpenRtb.seatBidExt))
+                .bidExtMapper(jsonBackwardMapper(PrebidOpenRtb.bidExt))
+                .nativeResponseExtMapper(jsonBackwardMapper(PrebidOpenRtb.nativeResponseExt))
+                .assetExtMapper(jsonBackwardMapper(PrebidOpenRtb.nativeResponseAssetExt))
+                .titleExtMapper(jsonBackwardMapper(PrebidOpenRtb.nativeResponseTitleExt))
+                .videoExtMapper(jsonBackwardMapper(PrebidOpenRtb.nativeResponseVideoExt))
+                .imageExtMapper(jsonBackwardMapper(PrebidOpenRtb.nativeResponseImageExt))
+                .dataExtMapper(jsonBackwardMapper(PrebidOpenRtb.nativeResponseDataExt))
+                .linkExtMapper(jsonBackwardMapper(PrebidOpenRtb.nativeResponseLinkExt))
+                .eventTrackerExtMapper(jsonBackwardMapper(PrebidOpenRtb.nativeResponseEventTrackerExt))
+                .build();
+    }
+
+    private <ContainingType extends Message, FromType>
+            ProtobufForwardExtensionMapper<ContainingType, FromType, String> forwardMapper(
+            Extension<ContainingType, String> extensionDescriptor) {
+
+        return new ProtobufForwardExtensionMapper<>() {
+
+            @Override
+            public String map(FromType ext) {
+                return mapper.encodeToString(ext);
+            }
+
+            @Override
+            public Extension<ContainingType, String> extensionDescriptor() {
+                return extensionDescriptor;
+            }
+        };
+    }
+
+    private <ContainingType extends Message> JsonProtobufExtensionMapper<ContainingType, String> jsonForwardMapper(
+            Extension<ContainingType, String> extensionDescriptor) {
+
+        return new JsonProtobufExtensionMapper<>() {
+
+            @Override
+            public String map(ObjectNode ext) {
+                return mapper.encodeToString(ext);
+            }
+
+            @Override
+            public Extension<ContainingType, String> extensionDescriptor() {
+                return extensionDescriptor;
+            }
+        };
+    }
+
+    private <ContainingType extends Message, ToType>
+            ProtobufBackwardExtensionMapper<ContainingType, String, ToType> backwardMapper(
+            Extension<ContainingType, String> extensionDescriptor, Class<ToType> extClass) {
+
+        return new ProtobufBackwardExtensionMapper<>() {
+
+            @Override
+            public ToType map(String ext) {
+                return StringUtils.isNotEmpty(ext) ? mapper.decodeValue(ext, extClass) : null;
+            }
+
+            @Override
+            public Extension<ContainingType, String> extensionDescriptor() {
+                return extensionDescriptor;
+            }
+        };
+    }
+
+    private <ContainingType extends Message> ProtobufJsonExtensionMapper<ContainingType, String> jsonBackwardMapper(
+            Extension<ContainingType, String> extensionDescriptor) {
+
+        return new ProtobufJsonExtensionMapper<>() {
+
+            @Override
+            public ObjectNode map(String ext) {
+                return StringUtils.isNotEmpty(ext) ? mapper.decodeValue(ext, ObjectNode.class) : null;
+            }
+
+            @Override
+            public Extension<ContainingType, String> extensionDescriptor() {
+                return extensionDescriptor;
+            }
+        };
+    }
+}
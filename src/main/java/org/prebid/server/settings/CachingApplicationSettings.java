@@ -1,31 +1,46 @@
 package org.prebid.server.settings;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.RequestCoalescer;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.helper.StoredDataFetcher;
 import org.prebid.server.settings.helper.StoredItemResolver;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredDataType;
 import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Adds caching functionality for {@link ApplicationSettings} implementation.
+ * <p>
+ * Concurrent cache misses of the same item are served by the single call to the delegate. Accounts and categories
+ * requested while being cached for the most part of ttl are refreshed in background, so hot entries don't expire.
+ * Background refreshes are not bound to the request which triggered them and run with their own timeout.
  */
 public class CachingApplicationSettings implements ApplicationSettings {
 
@@ -40,19 +55,35 @@ public class CachingApplicationSettings implements ApplicationSettings {
     private final SettingsCache cache;
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
+    private final TimeoutFactory timeoutFactory;
     private final Metrics metrics;
+    private final long refreshTimeoutMs;
+
+    private final Map<String, Boolean> freshAccounts;
+    private final Map<String, Boolean> freshCategoryConfigs;
+    private final RequestCoalescer<String, Account> accountCoalescer;
+    private final RequestCoalescer<String, Map<String, String>> categoryConfigCoalescer;
+    private final RequestCoalescer<StoredItemKey, StoredDataResult> storedDataCoalescer;
+    private final RequestCoalescer<StoredItemKey, StoredDataResult> ampStoredDataCoalescer;
+    private final RequestCoalescer<StoredItemKey, StoredDataResult> videoStoredDataCoalescer;
+    private final RequestCoalescer<String, StoredResponseDataResult> storedResponseCoalescer;
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
                                       SettingsCache ampCache,
                                       SettingsCache videoCache,
+                                      TimeoutFactory timeoutFactory,
                                       Metrics metrics,
                                       int ttl,
-                                      int size) {
+                                      int size,
+                                      long refreshTimeoutMs) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
         }
+        if (refreshTimeoutMs <= 0) {
+            throw new IllegalArgumentException("refresh timeout must be positive");
+        }
         this.delegate = Objects.requireNonNull(delegate);
         this.accountCache = SettingsCache.createCache(ttl, size);
         this.accountToErrorCache = SettingsCache.createCache(ttl, size);
@@ -61,7 +92,25 @@ public class CachingApplicationSettings implements ApplicationSettings {
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.metrics = Objects.requireNonNull(metrics);
+        this.refreshTimeoutMs = refreshTimeoutMs;
+
+        // entries are refreshed when requested during the last fifth of their ttl
+        final int refreshAfter = ttl - Math.max(ttl / 5, 1);
+        this.freshAccounts = refreshAfter > 0 ? SettingsCache.createCache(refreshAfter, size) : null;
+        this.freshCategoryConfigs = refreshAfter > 0 ? SettingsCache.createCache(refreshAfter, size) : null;
+
+        this.accountCoalescer = new RequestCoalescer<>(() -> updateCoalescedMetric(MetricName.account));
+        this.categoryConfigCoalescer =
+                new RequestCoalescer<>(() -> updateCoalescedMetric(MetricName.category_config));
+        this.storedDataCoalescer = new RequestCoalescer<>(() -> updateCoalescedMetric(MetricName.stored_request));
+        this.ampStoredDataCoalescer =
+                new RequestCoalescer<>(() -> updateCoalescedMetric(MetricName.amp_stored_request));
+        this.videoStoredDataCoalescer =
+                new RequestCoalescer<>(() -> updateCoalescedMetric(MetricName.video_stored_request));
+        this.storedResponseCoalescer =
+                new RequestCoalescer<>(() -> updateCoalescedMetric(MetricName.stored_response));
     }
 
     /**
@@ -72,10 +121,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
+                freshAccounts,
+                accountCoalescer,
                 accountId,
                 timeout,
+                this::refreshTimeout,
                 delegate::getAccountById,
-                event -> metrics.updateSettingsCacheEventMetric(MetricName.account, event));
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.account, event),
+                (key, error) -> handleRefreshFailure(MetricName.account, key, error));
     }
 
     /**
@@ -87,7 +140,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                   Set<String> impIds,
                                                   Timeout timeout) {
 
-        return getFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getFromCacheOrDelegate(
+                cache, storedDataCoalescer, accountId, requestIds, impIds, timeout, delegate::getStoredData);
     }
 
     /**
@@ -99,7 +153,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                      Set<String> impIds,
                                                      Timeout timeout) {
 
-        return getFromCacheOrDelegate(ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+        return getFromCacheOrDelegate(
+                ampCache, ampStoredDataCoalescer, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
     }
 
     @Override
@@ -108,15 +163,60 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                        Set<String> impIds,
                                                        Timeout timeout) {
 
-        return getFromCacheOrDelegate(videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+        return getFromCacheOrDelegate(
+                videoCache,
+                videoStoredDataCoalescer,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getVideoStoredData);
     }
 
     /**
-     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     * Retrieves stored responses from cache or delegates it to original fetcher.
+     * <p>
+     * Responses are not bound to account or request type, so they are kept in the cache of stored requests.
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
-        return delegate.getStoredResponses(responseIds, timeout);
+        final Map<String, String> responseCache = cache.getResponseCache();
+
+        final Map<String, String> idToStoredResponse = new HashMap<>(responseIds.size());
+        final Set<String> missedIds = new HashSet<>();
+        for (String id : responseIds) {
+            final String storedResponse = responseCache.get(id);
+            if (storedResponse != null) {
+                idToStoredResponse.put(id, storedResponse);
+            } else {
+                missedIds.add(id);
+            }
+        }
+
+        if (missedIds.isEmpty()) {
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponse, Collections.emptyList()));
+        }
+
+        final Set<String> ownIds = new HashSet<>();
+        final Map<String, Future<StoredResponseDataResult>> idToResult =
+                storedResponseCoalescer.executeAll(missedIds, ids -> {
+                    ownIds.addAll(ids);
+                    return delegate.getStoredResponses(ids, timeout).map(result -> {
+                        cache.saveResponses(result.getIdToStoredResponses());
+                        return result;
+                    });
+                });
+
+        return whenAllCompleted(idToResult).map(ignored -> {
+            final List<String> errors = mergeResults(
+                    idToResult,
+                    ownIds,
+                    (id, result) -> collect(idToStoredResponse, id, result.getIdToStoredResponses()),
+                    StoredResponseDataResult::getErrors,
+                    id -> "No stored response found for id: " + id);
+
+            return StoredResponseDataResult.of(idToStoredResponse, errors);
+        });
     }
 
     @Override
@@ -125,22 +225,41 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 ? "%s_%s".formatted(primaryAdServer, publisher)
                 : primaryAdServer;
 
-        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, compoundKey, timeout,
-                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
-                CachingApplicationSettings::noOp);
+        return getFromCacheOrDelegate(
+                categoryConfigCache,
+                adServerPublisherToErrorCache,
+                freshCategoryConfigs,
+                categoryConfigCoalescer,
+                compoundKey,
+                timeout,
+                this::refreshTimeout,
+                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeoutParam),
+                CachingApplicationSettings::noOp,
+                (key, error) -> handleRefreshFailure(MetricName.category_config, key, error));
     }
 
     private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
                                                         Map<String, String> accountToErrorCache,
+                                                        Map<String, Boolean> freshKeys,
+                                                        RequestCoalescer<String, T> coalescer,
                                                         String key,
                                                         Timeout timeout,
+                                                        Supplier<Timeout> refreshTimeoutSupplier,
                                                         BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
+                                                        Consumer<MetricName> metricUpdater,
+                                                        BiConsumer<String, Throwable> refreshFailureHandler) {
 
         final T cachedValue = cache.get(key);
         if (cachedValue != null) {
             metricUpdater.accept(MetricName.hit);
 
+            if (freshKeys != null && freshKeys.putIfAbsent(key, Boolean.TRUE) == null) {
+                // refresh ahead of expiration, caller is served by the cached value and its timeout is not inherited
+                coalescer.execute(key, () -> fetchAndCache(
+                                cache, accountToErrorCache, freshKeys, key, refreshTimeoutSupplier.get(), retriever))
+                        .onFailure(error -> refreshFailureHandler.accept(key, error));
+            }
+
             return Future.succeededFuture(cachedValue);
         }
 
@@ -151,9 +270,23 @@ public class CachingApplicationSettings implements ApplicationSettings {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
+        return coalescer.execute(key, () ->
+                fetchAndCache(cache, accountToErrorCache, freshKeys, key, timeout, retriever));
+    }
+
+    private static <T> Future<T> fetchAndCache(Map<String, T> cache,
+                                               Map<String, String> accountToErrorCache,
+                                               Map<String, Boolean> freshKeys,
+                                               String key,
+                                               Timeout timeout,
+                                               BiFunction<String, Timeout, Future<T>> retriever) {
+
         return retriever.apply(key, timeout)
                 .map(value -> {
                     cache.put(key, value);
+                    if (freshKeys != null) {
+                        freshKeys.put(key, Boolean.TRUE);
+                    }
                     return value;
                 })
                 .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
@@ -164,9 +297,13 @@ public class CachingApplicationSettings implements ApplicationSettings {
      * source, combines results and updates cache with missed stored item. In case when origin source returns failed
      * {@link Future} propagates its result to caller. In successive call return {@link Future&lt;StoredDataResult&gt;}
      * with all found stored items and error from origin source id call was made.
+     * <p>
+     * Absent ids which are already being looked up by concurrent calls are not requested from origin source again,
+     * their values are taken from the result of the call in progress.
      */
     private static Future<StoredDataResult> getFromCacheOrDelegate(
             SettingsCache cache,
+            RequestCoalescer<StoredItemKey, StoredDataResult> coalescer,
             String accountId,
             Set<String> requestIds,
             Set<String> impIds,
@@ -193,22 +330,113 @@ public class CachingApplicationSettings implements ApplicationSettings {
                     StoredDataResult.of(storedIdToRequest, storedIdToImp, Collections.emptyList()));
         }
 
-        // delegate call to original source for missed ids and update cache with it
-        return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
-            final Map<String, String> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
-            storedIdToRequest.putAll(storedIdToRequestFromDelegate);
-            for (Map.Entry<String, String> entry : storedIdToRequestFromDelegate.entrySet()) {
-                cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
+        final Set<StoredItemKey> missedKeys = new HashSet<>();
+        missedRequestIds.forEach(id ->
+                missedKeys.add(new StoredItemKey(normalizedAccountId, StoredDataType.request, id)));
+        missedImpIds.forEach(id ->
+                missedKeys.add(new StoredItemKey(normalizedAccountId, StoredDataType.imp, id)));
+
+        // delegate call to original source for missed ids not requested yet and update cache with it
+        final Set<StoredItemKey> ownKeys = new HashSet<>();
+        final Map<StoredItemKey, Future<StoredDataResult>> keyToResult = coalescer.executeAll(missedKeys, keys -> {
+            ownKeys.addAll(keys);
+            return fetchAndCache(cache, normalizedAccountId, keys, timeout, retriever);
+        });
+
+        return whenAllCompleted(keyToResult).map(ignored -> {
+            final List<String> errors = mergeResults(
+                    keyToResult,
+                    ownKeys,
+                    (key, result) -> key.type() == StoredDataType.request
+                            ? collect(storedIdToRequest, key.id(), result.getStoredIdToRequest())
+                            : collect(storedIdToImp, key.id(), result.getStoredIdToImp()),
+                    StoredDataResult::getErrors,
+                    key -> notFoundError(key.type(), key.id()));
+
+            return StoredDataResult.of(storedIdToRequest, storedIdToImp, errors);
+        });
+    }
+
+    private static Future<StoredDataResult> fetchAndCache(
+            SettingsCache cache,
+            String accountId,
+            Set<StoredItemKey> keys,
+            Timeout timeout,
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever) {
+
+        final Set<String> requestIds = new HashSet<>();
+        final Set<String> impIds = new HashSet<>();
+        for (StoredItemKey key : keys) {
+            (key.type() == StoredDataType.request ? requestIds : impIds).add(key.id());
+        }
+
+        return retriever.apply(accountId, requestIds, impIds, timeout).map(result -> {
+            for (Map.Entry<String, String> entry : result.getStoredIdToRequest().entrySet()) {
+                cache.saveRequestCache(accountId, entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, String> entry : result.getStoredIdToImp().entrySet()) {
+                cache.saveImpCache(accountId, entry.getKey(), entry.getValue());
             }
+            return result;
+        });
+    }
+
+    /**
+     * Returns {@link Future} completed when all distinct results of coalesced calls are completed.
+     */
+    private static <K, R> Future<?> whenAllCompleted(Map<K, Future<R>> keyToResult) {
+        final Set<Future<R>> results = Collections.newSetFromMap(new IdentityHashMap<>());
+        results.addAll(keyToResult.values());
 
-            final Map<String, String> storedIdToImpFromDelegate = result.getStoredIdToImp();
-            storedIdToImp.putAll(storedIdToImpFromDelegate);
-            for (Map.Entry<String, String> entry : storedIdToImpFromDelegate.entrySet()) {
-                cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
+        return CompositeFuture.all(new ArrayList<>(results));
+    }
+
+    /**
+     * Collects values of all keys from the completed results of coalesced calls and returns the errors: errors of
+     * the call made by the caller itself go first, followed by the keys not found in the calls made by others.
+     */
+    private static <K, R> List<String> mergeResults(Map<K, Future<R>> keyToResult,
+                                                    Set<K> ownKeys,
+                                                    BiPredicate<K, R> valueCollector,
+                                                    Function<R, List<String>> errorsResolver,
+                                                    Function<K, String> notFoundErrorResolver) {
+
+        final List<String> errors = new ArrayList<>();
+        R ownResult = null;
+
+        for (Map.Entry<K, Future<R>> entry : keyToResult.entrySet()) {
+            final K key = entry.getKey();
+            final R result = entry.getValue().result();
+            final boolean isOwnKey = ownKeys.contains(key);
+
+            if (!valueCollector.test(key, result) && !isOwnKey) {
+                errors.add(notFoundErrorResolver.apply(key));
             }
 
-            return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors());
-        });
+            if (ownResult == null && isOwnKey) {
+                ownResult = result;
+            }
+        }
+
+        if (ownResult != null) {
+            errors.addAll(0, errorsResolver.apply(ownResult));
+        }
+
+        return errors;
+    }
+
+    private static boolean collect(Map<String, String> target, String id, Map<String, String> source) {
+        final String value = source.get(id);
+        if (value == null) {
+            return false;
+        }
+
+        target.put(id, value);
+        return true;
+    }
+
+    private static String notFoundError(StoredDataType type, String id) {
+        return "No stored %s found for id: %s".formatted(type, id);
     }
 
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
@@ -243,14 +471,40 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     public void invalidateAccountCache(String accountId) {
         accountCache.remove(accountId);
+        if (freshAccounts != null) {
+            freshAccounts.remove(accountId);
+        }
         logger.debug("Account with id {0} was invalidated", accountId);
     }
 
     public void invalidateAllAccountCache() {
         accountCache.clear();
+        if (freshAccounts != null) {
+            freshAccounts.clear();
+        }
         logger.debug("All accounts cache were invalidated");
     }
 
+    private Timeout refreshTimeout() {
+        return timeoutFactory.create(refreshTimeoutMs);
+    }
+
+    /**
+     * Background refresh has no caller to report to: cached value is kept until it expires, failure is only logged
+     * and counted.
+     */
+    private void handleRefreshFailure(MetricName cacheType, String key, Throwable error) {
+        logger.warn("Background refresh of {0} with key {1} failed: {2}", cacheType, key, error.getMessage());
+        metrics.updateSettingsCacheRefreshErrorMetric(cacheType, MetricName.update);
+    }
+
+    private void updateCoalescedMetric(MetricName cacheType) {
+        metrics.updateSettingsCacheEventMetric(cacheType, MetricName.coalesced);
+    }
+
     private static <ANY> void noOp(ANY any) {
     }
+
+    private record StoredItemKey(String accountId, StoredDataType type, String id) {
+    }
 }
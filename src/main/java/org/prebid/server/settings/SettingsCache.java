@@ -13,12 +13,13 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Just a simple wrapper over in-memory caches for requests and imps.
+ * Just a simple wrapper over in-memory caches for requests, imps and responses.
  */
 public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final Map<String, String> responseCache;
 
     public SettingsCache(int ttl, int size) {
         if (ttl <= 0 || size <= 0) {
@@ -26,6 +27,7 @@ public class SettingsCache implements CacheNotificationListener {
         }
         requestCache = createCache(ttl, size);
         impCache = createCache(ttl, size);
+        responseCache = createCache(ttl, size);
     }
 
     static <T> Map<String, T> createCache(int ttl, int size) {
@@ -44,6 +46,10 @@ public class SettingsCache implements CacheNotificationListener {
         return impCache;
     }
 
+    Map<String, String> getResponseCache() {
+        return responseCache;
+    }
+
     void saveRequestCache(String accountId, String requestId, String requestValue) {
         saveCachedValue(requestCache, accountId, requestId, requestValue);
     }
@@ -79,4 +85,16 @@ public class SettingsCache implements CacheNotificationListener {
         requests.forEach(requestCache.keySet()::remove);
         imps.forEach(impCache.keySet()::remove);
     }
+
+    @Override
+    public void saveResponses(Map<String, String> responses) {
+        if (MapUtils.isNotEmpty(responses)) {
+            responseCache.putAll(responses);
+        }
+    }
+
+    @Override
+    public void invalidateResponses(List<String> responses) {
+        responses.forEach(responseCache.keySet()::remove);
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.settings.proto.response;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Value;
 
@@ -11,4 +12,6 @@ public class HttpRefreshResponse {
     Map<String, ObjectNode> requests;
 
     Map<String, ObjectNode> imps;
+
+    Map<String, JsonNode> responses;
 }
@@ -7,6 +7,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.collections4.MapUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
@@ -51,10 +52,16 @@ import java.util.Objects;
  *   "imps": {
  *     "imp1": { ... stored data for imp1 ... },
  *     "imp2": { ... stored data for imp2 ... },
+ *   },
+ *   "responses": {
+ *     "response1": [ ... stored auction response seatbids ... ],
+ *     "response2": { ... stored bid response ... },
  *   }
  * }
  * </pre>
  * <p>
+ * The "responses" part is optional.
+ * <p>
  * To signal deletions, the endpoint may return { "deleted": true }
  * in place of the Stored Data if the "last-modified" param existed.
  */
@@ -108,8 +115,13 @@ public class HttpPeriodicRefreshService implements Initializable {
     private Void save(HttpRefreshResponse refreshResponse) {
         final Map<String, String> requests = parseStoredData(refreshResponse.getRequests(), StoredDataType.request);
         final Map<String, String> imps = parseStoredData(refreshResponse.getImps(), StoredDataType.imp);
+        final Map<String, String> responses = parseStoredData(
+                MapUtils.emptyIfNull(refreshResponse.getResponses()), StoredDataType.seatbid);
 
         cacheNotificationListener.save(requests, imps);
+        if (!responses.isEmpty()) {
+            cacheNotificationListener.saveResponses(responses);
+        }
 
         return null;
     }
@@ -144,11 +156,11 @@ public class HttpPeriodicRefreshService implements Initializable {
         return refreshResponse;
     }
 
-    private Map<String, String> parseStoredData(Map<String, ObjectNode> refreshResponse,
+    private Map<String, String> parseStoredData(Map<String, ? extends JsonNode> refreshResponse,
                                                 StoredDataType type) {
         final Map<String, String> result = new HashMap<>();
 
-        for (Map.Entry<String, ObjectNode> entry : refreshResponse.entrySet()) {
+        for (Map.Entry<String, ? extends JsonNode> entry : refreshResponse.entrySet()) {
             final String id = entry.getKey();
 
             final String jsonAsString;
@@ -181,23 +193,29 @@ public class HttpPeriodicRefreshService implements Initializable {
     private HttpRefreshResponse invalidate(HttpRefreshResponse refreshResponse) {
         final List<String> invalidatedRequests = getInvalidatedKeys(refreshResponse.getRequests());
         final List<String> invalidatedImps = getInvalidatedKeys(refreshResponse.getImps());
+        final Map<String, JsonNode> responses = MapUtils.emptyIfNull(refreshResponse.getResponses());
+        final List<String> invalidatedResponses = getInvalidatedKeys(responses);
 
         if (!invalidatedRequests.isEmpty() || !invalidatedImps.isEmpty()) {
             cacheNotificationListener.invalidate(invalidatedRequests, invalidatedImps);
         }
+        if (!invalidatedResponses.isEmpty()) {
+            cacheNotificationListener.invalidateResponses(invalidatedResponses);
+        }
 
         final Map<String, ObjectNode> requestsToSave = removeFromMap(refreshResponse.getRequests(),
                 invalidatedRequests);
         final Map<String, ObjectNode> impsToSave = removeFromMap(refreshResponse.getImps(), invalidatedImps);
+        final Map<String, JsonNode> responsesToSave = removeFromMap(responses, invalidatedResponses);
 
-        return HttpRefreshResponse.of(requestsToSave, impsToSave);
+        return HttpRefreshResponse.of(requestsToSave, impsToSave, responsesToSave);
     }
 
-    private static List<String> getInvalidatedKeys(Map<String, ObjectNode> changes) {
+    private static List<String> getInvalidatedKeys(Map<String, ? extends JsonNode> changes) {
         final List<String> result = new ArrayList<>();
 
-        for (Map.Entry<String, ObjectNode> entry : changes.entrySet()) {
-            final ObjectNode jsonNodes = entry.getValue();
+        for (Map.Entry<String, ? extends JsonNode> entry : changes.entrySet()) {
+            final JsonNode jsonNodes = entry.getValue();
             final JsonNode deleted = jsonNodes.get("deleted");
             if (deleted != null && deleted.asBoolean()) {
                 result.add(entry.getKey());
@@ -206,8 +224,9 @@ public class HttpPeriodicRefreshService implements Initializable {
         return result;
     }
 
-    private static Map<String, ObjectNode> removeFromMap(Map<String, ObjectNode> map, List<String> invalidatedKeys) {
-        final Map<String, ObjectNode> result = new HashMap<>(map);
+    private static <T extends JsonNode> Map<String, T> removeFromMap(Map<String, T> map,
+                                                                    List<String> invalidatedKeys) {
+        final Map<String, T> result = new HashMap<>(map);
         for (String key : invalidatedKeys) {
             result.remove(key);
         }
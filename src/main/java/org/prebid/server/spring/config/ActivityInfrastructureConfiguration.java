@@ -6,6 +6,7 @@ import org.prebid.server.activity.infrastructure.creator.rule.ComponentRuleCreat
 import org.prebid.server.activity.infrastructure.creator.rule.GeoRuleCreator;
 import org.prebid.server.activity.infrastructure.creator.rule.RuleCreator;
 import org.prebid.server.metric.Metrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,9 +31,11 @@ public class ActivityInfrastructureConfiguration {
     }
 
     @Bean
-    ActivityInfrastructureCreator activityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
-                                                                Metrics metrics) {
+    ActivityInfrastructureCreator activityInfrastructureCreator(
+            ActivityRuleFactory activityRuleFactory,
+            @Value("${settings.activity-infrastructure-cache-size}") int cacheSize,
+            Metrics metrics) {
 
-        return new ActivityInfrastructureCreator(activityRuleFactory, metrics);
+        return new ActivityInfrastructureCreator(activityRuleFactory, cacheSize, metrics);
     }
 }
@@ -5,6 +5,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.pipeline.AnalyticsPipelineFactory;
+import org.prebid.server.analytics.pipeline.model.OverflowPolicy;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.analytics.reporter.log.LogAnalyticsReporter;
 import org.prebid.server.analytics.reporter.pubstack.PubstackAnalyticsReporter;
@@ -22,6 +24,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.List;
 
 @Configuration
@@ -43,6 +46,25 @@ public class AnalyticsConfiguration {
                 metrics);
     }
 
+    @Bean
+    AnalyticsPipelineFactory analyticsPipelineFactory(
+            @Value("${analytics.pipeline.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${analytics.pipeline.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${analytics.pipeline.sampling-rate:0.1}") double samplingRate,
+            @Value("${analytics.pipeline.worker-pool-size:2}") int workerPoolSize,
+            Vertx vertx,
+            Metrics metrics,
+            Clock clock) {
+
+        return new AnalyticsPipelineFactory(
+                bufferCapacity,
+                overflowPolicy,
+                samplingRate,
+                vertx.createSharedWorkerExecutor("analytics-pipeline", workerPoolSize),
+                metrics,
+                clock);
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "analytics.log", name = "enabled", havingValue = "true")
     LogAnalyticsReporter logAnalyticsReporter(JacksonMapper mapper) {
@@ -58,12 +80,14 @@ public class AnalyticsConfiguration {
                 PubstackAnalyticsConfiguratinProperties pubstackAnalyticsConfiguratinProperties,
                 HttpClient httpClient,
                 JacksonMapper jacksonMapper,
+                AnalyticsPipelineFactory analyticsPipelineFactory,
                 Vertx vertx) {
 
             return new PubstackAnalyticsReporter(
                     pubstackAnalyticsConfiguratinProperties.toComponentProperties(),
                     httpClient,
                     jacksonMapper,
+                    analyticsPipelineFactory,
                     vertx);
         }
 
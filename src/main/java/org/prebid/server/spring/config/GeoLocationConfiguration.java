@@ -56,10 +56,13 @@ public class GeoLocationConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        GeoLocationService basicGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+        GeoLocationService basicGeoLocationService(
+                RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.lookup-cache-size:10000}") int lookupCacheSize,
+                Metrics metrics,
+                Vertx vertx) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, lookupCacheSize, metrics, vertx);
         }
 
         @Bean
@@ -69,15 +72,20 @@ public class GeoLocationConfiguration {
                 Metrics metrics,
                 RemoteFileSyncerProperties fileSyncerProperties,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
+                @Value("${geolocation.maxmind.lookup-cache-size:10000}") int lookupCacheSize,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, lookupCacheSize, metrics, vertx), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties properties, Vertx vertx) {
+        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties properties,
+                                                            int lookupCacheSize,
+                                                            Metrics metrics,
+                                                            Vertx vertx) {
+
             final HttpClientProperties httpClientProperties = properties.getHttpClient();
             final HttpClientOptions httpClientOptions = new HttpClientOptions()
                     .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
@@ -92,7 +100,8 @@ public class GeoLocationConfiguration {
                     properties.getUpdateIntervalMs(),
                     vertx.createHttpClient(httpClientOptions),
                     vertx);
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService(
+                    lookupCacheSize, metrics);
 
             remoteFileSyncer.sync(maxMindGeoLocationService);
             return maxMindGeoLocationService;
@@ -9,6 +9,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.gdpr.Tcf2Service;
+import org.prebid.server.privacy.gdpr.TcfCache;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeEightStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeFiveStrategy;
@@ -91,11 +92,24 @@ public class PrivacyServiceConfiguration {
                 bidderCatalog);
     }
 
+    @Bean
+    TcfCache tcfCache(@Value("${gdpr.consent-cache-size}") int consentCacheSize,
+                      @Value("${gdpr.permission-cache-size}") int permissionCacheSize,
+                      VendorListServiceV2 vendorListServiceV2,
+                      Metrics metrics) {
+
+        final TcfCache tcfCache = new TcfCache(consentCacheSize, permissionCacheSize, metrics);
+        vendorListServiceV2.addVendorListChangeListener(tcfCache::invalidatePermissions);
+
+        return tcfCache;
+    }
+
     @Bean
     TcfDefinerService tcfDefinerService(
             GdprConfig gdprConfig,
             @Value("${gdpr.eea-countries}") String eeaCountriesAsString,
             Tcf2Service tcf2Service,
+            TcfCache tcfCache,
             @Autowired(required = false) GeoLocationService geoLocationService,
             BidderCatalog bidderCatalog,
             IpAddressHelper ipAddressHelper,
@@ -107,6 +121,7 @@ public class PrivacyServiceConfiguration {
                 gdprConfig,
                 eeaCountries,
                 tcf2Service,
+                tcfCache,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -5,9 +5,13 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureCreator;
@@ -61,6 +65,7 @@ import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.CacheService;
 import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cookie.CompactUidsCodec;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.CoopSyncProvider;
 import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
@@ -91,8 +96,11 @@ import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
+import org.prebid.server.protobuf.ProtobufOpenRtbCodec;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHttpClientProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
@@ -105,6 +113,7 @@ import org.prebid.server.vast.VastModifier;
 import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.http.BasicHttpClient;
 import org.prebid.server.vertx.http.CircuitBreakerSecuredHttpClient;
+import org.prebid.server.vertx.http.HostRoutingHttpClient;
 import org.prebid.server.vertx.http.HttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -115,15 +124,23 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
 
 import javax.validation.constraints.Min;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -193,8 +210,11 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    ImplicitParametersExtractor implicitParametersExtractor(PublicSuffixList psl) {
-        return new ImplicitParametersExtractor(psl);
+    ImplicitParametersExtractor implicitParametersExtractor(PublicSuffixList psl,
+                                                            @Value("${psl.cache-size}") int domainCacheSize,
+                                                            Metrics metrics) {
+
+        return new ImplicitParametersExtractor(psl, domainCacheSize, metrics);
     }
 
     @Bean
@@ -386,6 +406,7 @@ public class ServiceConfiguration {
             OrtbTypesResolver ortbTypesResolver,
             PrivacyEnforcementService privacyEnforcementService,
             DebugResolver debugResolver,
+            ProtobufOpenRtbCodec protobufOpenRtbCodec,
             JacksonMapper mapper) {
 
         return new AuctionRequestFactory(
@@ -400,6 +421,7 @@ public class ServiceConfiguration {
                 ortbTypesResolver,
                 privacyEnforcementService,
                 debugResolver,
+                protobufOpenRtbCodec,
                 mapper);
     }
 
@@ -538,8 +560,12 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    HttpClient basicHttpClient(
+            Vertx vertx,
+            HttpClientProperties httpClientProperties,
+            @Autowired(required = false) List<BidderConfigurationProperties> bidderConfigurations) {
+
+        return createHttpClient(vertx, httpClientProperties, bidderConfigurations);
     }
 
     @Bean
@@ -558,9 +584,10 @@ public class ServiceConfiguration {
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            @Autowired(required = false) List<BidderConfigurationProperties> bidderConfigurations,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createHttpClient(vertx, httpClientProperties, bidderConfigurations);
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
@@ -573,7 +600,111 @@ public class ServiceConfiguration {
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static HttpClient createHttpClient(Vertx vertx,
+                                               HttpClientProperties httpClientProperties,
+                                               List<BidderConfigurationProperties> bidderConfigurations) {
+
+        final HttpClient defaultHttpClient = new BasicHttpClient(
+                vertx, vertx.createHttpClient(httpClientOptions(httpClientProperties)));
+
+        final Map<String, URL> hostToEndpointUrl = new HashMap<>();
+        final Map<String, BidderHttpClientProperties> hostToProperties = new HashMap<>();
+        for (BidderConfigurationProperties bidderConfiguration : ListUtils.emptyIfNull(bidderConfigurations)) {
+            final BidderHttpClientProperties bidderHttpClientProperties = bidderConfiguration.getHttpClient();
+            final URL endpointUrl = bidderHttpClientProperties != null && bidderConfiguration.getEnabled()
+                    ? toUrl(bidderConfiguration.getEndpoint())
+                    : null;
+            // endpoints with host macros are resolved per request, so there is no single host to keep pool for
+            if (endpointUrl == null || StringUtils.contains(endpointUrl.getHost(), '{')) {
+                continue;
+            }
+
+            // pool is kept per host, so bidders sharing it should not silently get settings of each other
+            final String host = endpointUrl.getHost();
+            final BidderHttpClientProperties hostProperties =
+                    hostToProperties.putIfAbsent(host, bidderHttpClientProperties);
+            if (hostProperties != null && !hostProperties.equals(bidderHttpClientProperties)) {
+                throw new IllegalArgumentException(
+                        "Bidders with endpoint host %s have different http-client settings".formatted(host));
+            }
+            hostToEndpointUrl.putIfAbsent(host, endpointUrl);
+        }
+
+        final Map<String, HttpClient> hostToHttpClient = new HashMap<>();
+        for (Map.Entry<String, BidderHttpClientProperties> entry : hostToProperties.entrySet()) {
+            final BidderHttpClientProperties bidderHttpClientProperties = entry.getValue();
+
+            final HttpClient bidderHttpClient = new BasicHttpClient(vertx, vertx.createHttpClient(
+                    bidderHttpClientOptions(httpClientProperties, bidderHttpClientProperties)));
+            warmUp(bidderHttpClient, hostToEndpointUrl.get(entry.getKey()), bidderHttpClientProperties,
+                    httpClientProperties.getConnectTimeoutMs());
+
+            hostToHttpClient.put(entry.getKey(), bidderHttpClient);
+        }
+
+        return hostToHttpClient.isEmpty()
+                ? defaultHttpClient
+                : new HostRoutingHttpClient(defaultHttpClient, hostToHttpClient);
+    }
+
+    private static HttpClientOptions bidderHttpClientOptions(HttpClientProperties httpClientProperties,
+                                                             BidderHttpClientProperties bidderHttpClientProperties) {
+
+        final HttpClientOptions options = httpClientOptions(httpClientProperties)
+                .setMaxPoolSize(ObjectUtils.defaultIfNull(
+                        bidderHttpClientProperties.getMaxPoolSize(), httpClientProperties.getMaxPoolSize()))
+                .setIdleTimeout(ObjectUtils.defaultIfNull(
+                        bidderHttpClientProperties.getIdleTimeoutMs(), httpClientProperties.getIdleTimeoutMs()));
+
+        if (BooleanUtils.isTrue(bidderHttpClientProperties.getHttp2Enabled())) {
+            // h2 is negotiated by ALPN for https endpoints and by upgrade (h2c) for http ones,
+            // falling back to HTTP/1.1 if the bidder does not support it
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2ClearTextUpgrade(true);
+
+            final Integer multiplexingLimit = bidderHttpClientProperties.getHttp2MultiplexingLimit();
+            if (multiplexingLimit != null) {
+                options.setHttp2MultiplexingLimit(multiplexingLimit);
+            }
+        }
+
+        return options;
+    }
+
+    /**
+     * Opens connections to the endpoint host ahead of the first bid requests, so they do not wait
+     * for TCP and TLS handshakes. Vert.x pool can't be filled without requests, so warm-up is done only
+     * if bidder exposes the path safe to call for this. Responses are of no interest, connections are kept in the pool.
+     */
+    private static void warmUp(HttpClient httpClient,
+                               URL endpointUrl,
+                               BidderHttpClientProperties bidderHttpClientProperties,
+                               long timeoutMs) {
+
+        final Integer connections = bidderHttpClientProperties.getWarmupConnections();
+        final String path = bidderHttpClientProperties.getWarmupPath();
+        if (connections == null || connections <= 0 || StringUtils.isBlank(path)) {
+            return;
+        }
+
+        final String warmupUrl = "%s://%s/%s".formatted(
+                endpointUrl.getProtocol(), endpointUrl.getAuthority(), StringUtils.removeStart(path, "/"));
+        for (int i = 0; i < connections; i++) {
+            httpClient.request(HttpMethod.HEAD, warmupUrl, null, (String) null, timeoutMs);
+        }
+    }
+
+    private static URL toUrl(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    private static HttpClientOptions httpClientOptions(HttpClientProperties httpClientProperties) {
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -595,7 +726,7 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return options;
     }
 
     @Bean
@@ -606,6 +737,13 @@ public class ServiceConfiguration {
         return new PrioritizedCoopSyncProvider(splitToSet(prioritizedBidders), bidderCatalog);
     }
 
+    @Bean
+    CompactUidsCodec compactUidsCodec(@Value("classpath:uids-family-codes.csv") Resource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return new CompactUidsCodec(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
     @Bean
     UidsCookieService uidsCookieService(
             @Value("${host-cookie.optout-cookie.name:#{null}}") String optOutCookieName,
@@ -615,7 +753,9 @@ public class ServiceConfiguration {
             @Value("${host-cookie.domain:#{null}}") String hostCookieDomain,
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
+            @Value("${host-cookie.compact-format-enabled:false}") boolean compactFormatEnabled,
             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
+            CompactUidsCodec compactUidsCodec,
             Metrics metrics,
             JacksonMapper mapper) {
 
@@ -628,6 +768,8 @@ public class ServiceConfiguration {
                 ttlDays,
                 maxCookieSizeBytes,
                 prioritizedCoopSyncProvider,
+                compactUidsCodec,
+                compactFormatEnabled,
                 metrics,
                 mapper);
     }
@@ -700,18 +842,25 @@ public class ServiceConfiguration {
         return new NoOpMediaTypeProcessor();
     }
 
+    @Bean
+    ProtobufOpenRtbCodec protobufOpenRtbCodec(JacksonMapper mapper) {
+        return new ProtobufOpenRtbCodec(mapper);
+    }
+
     @Bean
     HttpBidderRequester httpBidderRequester(
             HttpClient httpClient,
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
+            ProtobufOpenRtbCodec protobufOpenRtbCodec,
             JacksonMapper mapper) {
 
         return new HttpBidderRequester(httpClient,
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
+                protobufOpenRtbCodec,
                 mapper);
     }
 
@@ -779,6 +928,7 @@ public class ServiceConfiguration {
     ExchangeService exchangeService(
             @Value("${logging.sampling-rate:0.01}") double logSamplingRate,
             @Value("${auction.biddertmax.percent}") int timeoutAdjustmentFactor,
+            @Value("${auction.debug-timings-enabled:false}") boolean debugTimingsEnabled,
             BidderCatalog bidderCatalog,
             StoredResponseProcessor storedResponseProcessor,
             @Autowired(required = false) DealsService dealsService,
@@ -810,6 +960,7 @@ public class ServiceConfiguration {
         return new ExchangeService(
                 logSamplingRate,
                 timeoutAdjustmentFactor,
+                debugTimingsEnabled,
                 bidderCatalog,
                 storedResponseProcessor,
                 dealsService,
@@ -941,8 +1092,15 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            @Value("${auction.validations.bidder-params-cache.size:0}") int cacheSize,
+            @Value("${auction.validations.bidder-params-cache.ttl-seconds:0}") int cacheTtlSeconds,
+            Metrics metrics,
+            JacksonMapper mapper) {
+
+        return BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", cacheSize, cacheTtlSeconds, metrics, mapper);
     }
 
     @Bean
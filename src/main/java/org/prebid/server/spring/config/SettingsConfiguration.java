@@ -271,6 +271,7 @@ public class SettingsConfiguration {
                 @Qualifier("settingsCache") SettingsCache cache,
                 @Qualifier("ampSettingsCache") SettingsCache ampCache,
                 @Qualifier("videoSettingCache") SettingsCache videoCache,
+                TimeoutFactory timeoutFactory,
                 Metrics metrics) {
 
             return new CachingApplicationSettings(
@@ -278,9 +279,11 @@ public class SettingsConfiguration {
                     cache,
                     ampCache,
                     videoCache,
+                    timeoutFactory,
                     metrics,
                     cacheProperties.getTtlSeconds(),
-                    cacheProperties.getCacheSize());
+                    cacheProperties.getCacheSize(),
+                    cacheProperties.getRefreshTimeoutMs());
         }
     }
 
@@ -332,5 +335,8 @@ public class SettingsConfiguration {
         @NotNull
         @Min(1)
         private Integer cacheSize;
+        @NotNull
+        @Min(1)
+        private Long refreshTimeoutMs = 1000L;
     }
 }
@@ -10,13 +10,18 @@ import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.metrics.MetricsConfiguration;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.EventLoopStallDetector;
 import org.prebid.server.vertx.LocalMessageCodec;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
+
 @Configuration
 public class VertxConfiguration {
 
@@ -44,6 +49,29 @@ public class VertxConfiguration {
         return vertx;
     }
 
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "vertx.stall-detector", name = "enabled", havingValue = "true")
+    EventLoopStallDetector eventLoopStallDetector(
+            Vertx vertx,
+            ContextRunner contextRunner,
+            Metrics metrics,
+            Clock clock,
+            @Value("${vertx.stall-detector.check-interval-ms}") long checkIntervalMs,
+            @Value("${vertx.stall-detector.threshold-ms}") long thresholdMs) {
+
+        final EventLoopStallDetector eventLoopStallDetector =
+                new EventLoopStallDetector(vertx, metrics, clock, checkIntervalMs, thresholdMs);
+
+        // new contexts are assigned to event loops in round-robin manner, so each event loop gets watched
+        contextRunner.<Void>runOnNewContext(VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE, promise -> {
+            eventLoopStallDetector.watchCurrentEventLoop();
+            promise.complete();
+        });
+        eventLoopStallDetector.start();
+
+        return eventLoopStallDetector;
+    }
+
     @Bean
     EventBus eventBus(Vertx vertx) {
         final EventBus eventBus = vertx.eventBus();
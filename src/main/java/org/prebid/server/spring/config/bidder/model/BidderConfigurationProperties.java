@@ -49,6 +49,10 @@ public class BidderConfigurationProperties {
 
     private CompressionType endpointCompression;
 
+    private EndpointFormat endpointFormat;
+
+    private BidderHttpClientProperties httpClient;
+
     private final Class<? extends BidderConfigurationProperties> selfClass;
 
     public BidderConfigurationProperties() {
@@ -67,6 +71,7 @@ public class BidderConfigurationProperties {
         deprecatedNames = ObjectUtils.defaultIfNull(deprecatedNames, defaultProperties.getDeprecatedNames());
         endpointCompression = ObjectUtils.defaultIfNull(
                 endpointCompression, defaultProperties.getEndpointCompression());
+        endpointFormat = ObjectUtils.defaultIfNull(endpointFormat, defaultProperties.getEndpointFormat());
 
         if (usersync != null && usersync.getEnabled() == null) {
             usersync.setEnabled(true);
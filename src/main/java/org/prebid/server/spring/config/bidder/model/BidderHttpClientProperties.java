@@ -0,0 +1,31 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Overrides of global http-client properties for connections to the bidder endpoint host.
+ */
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderHttpClientProperties {
+
+    @Min(1)
+    Integer maxPoolSize;
+
+    Integer idleTimeoutMs;
+
+    Boolean http2Enabled;
+
+    @Min(1)
+    Integer http2MultiplexingLimit;
+
+    @Min(0)
+    Integer warmupConnections;
+
+    String warmupPath;
+}
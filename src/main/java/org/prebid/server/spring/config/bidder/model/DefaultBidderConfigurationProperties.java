@@ -35,4 +35,6 @@ public class DefaultBidderConfigurationProperties {
     private final Map<String, String> extraInfo = Collections.emptyMap();
 
     private CompressionType endpointCompression = CompressionType.NONE;
+
+    private EndpointFormat endpointFormat = EndpointFormat.JSON;
 }
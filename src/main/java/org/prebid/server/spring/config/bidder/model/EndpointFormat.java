@@ -0,0 +1,6 @@
+package org.prebid.server.spring.config.bidder.model;
+
+public enum EndpointFormat {
+
+    JSON, PROTOBUF
+}
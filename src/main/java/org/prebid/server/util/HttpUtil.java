@@ -44,6 +44,8 @@ public final class HttpUtil {
             HttpHeaderValues.APPLICATION_JSON + ";" + HttpHeaderValues.CHARSET + "="
                     + StandardCharsets.UTF_8.toString().toLowerCase();
 
+    public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+
     public static final CharSequence X_FORWARDED_FOR_HEADER = HttpHeaders.createOptimized("X-Forwarded-For");
     public static final CharSequence X_REAL_IP_HEADER = HttpHeaders.createOptimized("X-Real-Ip");
     public static final CharSequence DNT_HEADER = HttpHeaders.createOptimized("DNT");
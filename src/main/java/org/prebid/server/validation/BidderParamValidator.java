@@ -1,6 +1,8 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
@@ -11,13 +13,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -32,16 +37,44 @@ public class BidderParamValidator {
 
     private final Map<String, JsonSchema> bidderSchemas;
     private final String schemas;
+    private final Cache<ValidationKey, Set<String>> validationResults;
+    private final Metrics metrics;
+
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas,
+                                 String schemas,
+                                 Cache<ValidationKey, Set<String>> validationResults,
+                                 Metrics metrics) {
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.validationResults = validationResults;
+        this.metrics = metrics;
     }
 
     /**
-     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
+     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema.
+     * <p>
+     * If cache is enabled, result is reused for params structurally equal to the ones already validated
+     * for the same bidder.
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
+        if (validationResults == null) {
+            return doValidate(bidder, jsonNode);
+        }
+
+        final Set<String> cachedMessages = validationResults.getIfPresent(new ValidationKey(bidder, jsonNode));
+        metrics.updateBidderParamsValidationCacheMetric(cachedMessages != null);
+        if (cachedMessages != null) {
+            return cachedMessages;
+        }
+
+        final Set<String> messages = Collections.unmodifiableSet(doValidate(bidder, jsonNode));
+        // params node belongs to the request and may be modified later, so cache key is built from its copy
+        validationResults.put(new ValidationKey(bidder, jsonNode.deepCopy()), messages);
+        return messages;
+    }
+
+    private Set<String> doValidate(String bidder, JsonNode jsonNode) {
         return bidderSchemas.get(bidder).validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
                 .collect(Collectors.toSet());
@@ -88,7 +121,33 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper), null, null);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} as {@link #create(BidderCatalog, String, JacksonMapper)}
+     * does, which additionally caches validation results. Cache is disabled if its size or ttl is not positive.
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              int cacheSize,
+                                              int cacheTtlSeconds,
+                                              Metrics metrics,
+                                              JacksonMapper mapper) {
+
+        final BidderParamValidator validator = create(bidderCatalog, schemaDirectory, mapper);
+        if (cacheSize <= 0 || cacheTtlSeconds <= 0) {
+            return validator;
+        }
+
+        final Cache<ValidationKey, Set<String>> validationResults = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+
+        return new BidderParamValidator(
+                validator.bidderSchemas, validator.schemas, validationResults, Objects.requireNonNull(metrics));
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -146,4 +205,10 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    /**
+     * Relies on structural equality of {@link JsonNode}s.
+     */
+    private record ValidationKey(String bidder, JsonNode params) {
+    }
 }
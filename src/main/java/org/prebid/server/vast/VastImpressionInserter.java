@@ -0,0 +1,127 @@
+package org.prebid.server.vast;
+
+/**
+ * Inserts impression tracker into each InLine and Wrapper element of VAST XML in a single pass.
+ * <p>
+ * Tracker goes right after the last Impression element of the ad or before its closing tag if there are none.
+ * Tags are matched case-insensitively, CDATA sections and comments are skipped, so VAST embedded in them
+ * is left as is. InLine and Wrapper elements nested into another one are considered part of the outer ad.
+ */
+final class VastImpressionInserter {
+
+    private static final String IN_LINE = "InLine";
+    private static final String WRAPPER = "Wrapper";
+    private static final String IMPRESSION = "Impression";
+
+    private static final String CDATA_START = "<![CDATA[";
+    private static final String CDATA_END = "]]>";
+    private static final String COMMENT_START = "<!--";
+    private static final String COMMENT_END = "-->";
+
+    private static final String IMPRESSION_TAG_START = "<Impression><![CDATA[";
+    private static final String IMPRESSION_TAG_END = "]]></Impression>";
+
+    // builders grown by exceptionally large documents are not kept to not hold memory per thread
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 1024 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private VastImpressionInserter() {
+    }
+
+    static String impressionTag(String impressionUrl) {
+        return IMPRESSION_TAG_START + impressionUrl + IMPRESSION_TAG_END;
+    }
+
+    /**
+     * Returns VAST XML with inserted impression tracker, the same VAST XML if there is no closed InLine
+     * or Wrapper element, or null if there is neither InLine nor Wrapper element at all.
+     */
+    static String insertImpression(String vastXml, String impressionUrl) {
+        if (vastXml == null) {
+            return null;
+        }
+
+        final int length = vastXml.length();
+        StringBuilder result = null;
+        int copiedLength = 0;
+        boolean adElementFound = false;
+        int adElementDepth = 0;
+        int lastImpressionEnd = -1;
+
+        int position = vastXml.indexOf('<');
+        while (position != -1) {
+            if (vastXml.startsWith(CDATA_START, position)) {
+                position = nextTag(vastXml, vastXml.indexOf(CDATA_END, position + CDATA_START.length()), CDATA_END);
+                continue;
+            }
+            if (vastXml.startsWith(COMMENT_START, position)) {
+                position = nextTag(vastXml, vastXml.indexOf(COMMENT_END, position + COMMENT_START.length()),
+                        COMMENT_END);
+                continue;
+            }
+
+            final boolean closingTag = position + 1 < length && vastXml.charAt(position + 1) == '/';
+            final int nameStart = closingTag ? position + 2 : position + 1;
+            final int nameEnd = nameEnd(vastXml, nameStart);
+            final int tagEnd = vastXml.indexOf('>', nameEnd);
+            if (tagEnd == -1) {
+                break;
+            }
+
+            final boolean adElement = isName(vastXml, nameStart, nameEnd, IN_LINE)
+                    || isName(vastXml, nameStart, nameEnd, WRAPPER);
+
+            if (closingTag && adElement && adElementDepth > 0) {
+                if (--adElementDepth == 0) {
+                    final int insertionPoint = lastImpressionEnd != -1 ? lastImpressionEnd : position;
+                    if (result == null) {
+                        result = BUFFER.get();
+                        result.setLength(0);
+                    }
+                    result.append(vastXml, copiedLength, insertionPoint)
+                            .append(IMPRESSION_TAG_START).append(impressionUrl).append(IMPRESSION_TAG_END);
+                    copiedLength = insertionPoint;
+                }
+            } else if (closingTag && adElementDepth == 1 && isName(vastXml, nameStart, nameEnd, IMPRESSION)) {
+                lastImpressionEnd = tagEnd + 1;
+            } else if (!closingTag && adElement) {
+                adElementFound = true;
+                if (vastXml.charAt(tagEnd - 1) != '/' && adElementDepth++ == 0) {
+                    lastImpressionEnd = -1;
+                }
+            }
+
+            position = vastXml.indexOf('<', tagEnd);
+        }
+
+        if (result == null) {
+            return adElementFound ? vastXml : null;
+        }
+
+        final String modifiedVastXml = result.append(vastXml, copiedLength, length).toString();
+        if (result.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            BUFFER.remove();
+        }
+        return modifiedVastXml;
+    }
+
+    private static int nextTag(String vastXml, int sectionEndStart, String sectionEnd) {
+        return sectionEndStart != -1 ? vastXml.indexOf('<', sectionEndStart + sectionEnd.length()) : -1;
+    }
+
+    private static int nameEnd(String vastXml, int nameStart) {
+        int position = nameStart;
+        while (position < vastXml.length()) {
+            final char character = vastXml.charAt(position);
+            if (character == '>' || character == '/' || Character.isWhitespace(character)) {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isName(String vastXml, int nameStart, int nameEnd, String name) {
+        return nameEnd - nameStart == name.length() && vastXml.regionMatches(true, nameStart, name, 0, name.length());
+    }
+}
@@ -18,11 +18,13 @@ import java.util.Set;
 
 public class VastModifier {
 
-    private static final String IN_LINE_TAG = "<InLine>";
-    private static final String IN_LINE_CLOSE_TAG = "</InLine>";
-    private static final String WRAPPER_TAG = "<Wrapper>";
-    private static final String WRAPPER_CLOSE_TAG = "</Wrapper>";
-    private static final String IMPRESSION_CLOSE_TAG = "</Impression>";
+    private static final String WRAPPER_VAST_XML_START = """
+            <VAST version="3.0"><Ad><Wrapper>\
+            <AdSystem>prebid.org wrapper</AdSystem>\
+            <VASTAdTagURI><![CDATA[""";
+    private static final String WRAPPER_VAST_XML_MIDDLE = "]]></VASTAdTagURI><Creatives></Creatives>";
+    private static final String WRAPPER_VAST_XML_END = "</Wrapper></Ad></VAST>";
+
     private final BidderCatalog bidderCatalog;
     private final EventsService eventsService;
     private final Metrics metrics;
@@ -75,72 +77,39 @@ public class VastModifier {
             return bidAdm;
         }
 
-        final String vastXml = resolveVastXmlFrom(bidAdm, bidNurl);
+        final boolean isWrapperNeeded = StringUtils.isEmpty(bidAdm) && bidNurl != null;
         if (!eventsContext.isEnabledForAccount()) {
-            return vastXml;
+            return isWrapperNeeded ? createWrapperVastXml(bidNurl, null) : bidAdm;
         }
 
         final String vastUrl = eventsService.vastUrlTracking(eventBidId, bidder,
                 accountId, lineItemId, eventsContext);
+        if (isWrapperNeeded) {
+            // tracker is placed right away, since it is known where it goes in wrapper created by us
+            return createWrapperVastXml(bidNurl, vastUrl);
+        }
+
         try {
-            return appendTrackingUrlToVastXml(vastXml, vastUrl, bidder);
+            return appendTrackingUrlToVastXml(bidAdm, vastUrl, bidder);
         } catch (PreBidException e) {
             debugWarnings.add(e.getMessage());
             metrics.updateAdapterRequestErrorMetric(bidder, MetricName.badserverresponse);
         }
-        return vastXml;
-    }
-
-    private static String resolveVastXmlFrom(String bidAdm, String bidNurl) {
-        return StringUtils.isEmpty(bidAdm) && bidNurl != null
-                ? """
-                <VAST version="3.0"><Ad><Wrapper>\
-                <AdSystem>prebid.org wrapper</AdSystem>\
-                <VASTAdTagURI><![CDATA[%s]]></VASTAdTagURI>\
-                <Creatives></Creatives>\
-                </Wrapper></Ad></VAST>""".formatted(bidNurl)
-                : bidAdm;
-    }
-
-    private String appendTrackingUrlToVastXml(String vastXml, String vastUrlTracking, String bidder) {
-        final int inLineTagIndex = StringUtils.indexOfIgnoreCase(vastXml, IN_LINE_TAG);
-        final int wrapperTagIndex = StringUtils.indexOfIgnoreCase(vastXml, WRAPPER_TAG);
-
-        if (inLineTagIndex != -1) {
-            return appendTrackingUrl(vastXml, vastUrlTracking, IN_LINE_CLOSE_TAG);
-        } else if (wrapperTagIndex != -1) {
-            return appendTrackingUrl(vastXml, vastUrlTracking, WRAPPER_CLOSE_TAG);
-        }
-        throw new PreBidException("VastXml does not contain neither InLine nor Wrapper for %s response"
-                .formatted(bidder));
-    }
-
-    private static String appendTrackingUrl(String vastXml, String vastUrlTracking, String elementCloseTag) {
-        if (vastXml.contains(IMPRESSION_CLOSE_TAG)) {
-            return insertAfterExistingImpressionTag(vastXml, vastUrlTracking);
-        }
-        return insertBeforeElementCloseTag(vastXml, vastUrlTracking, elementCloseTag);
+        return bidAdm;
     }
 
-    private static String insertAfterExistingImpressionTag(String vastXml, String vastUrlTracking) {
-        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
-        final int replacementStart = vastXml.lastIndexOf(IMPRESSION_CLOSE_TAG);
-
-        return vastXml.substring(0, replacementStart) + IMPRESSION_CLOSE_TAG + impressionTag
-                + vastXml.substring(replacementStart + IMPRESSION_CLOSE_TAG.length());
+    private static String createWrapperVastXml(String bidNurl, String vastUrlTracking) {
+        return WRAPPER_VAST_XML_START + bidNurl + WRAPPER_VAST_XML_MIDDLE
+                + (vastUrlTracking != null ? VastImpressionInserter.impressionTag(vastUrlTracking) : "")
+                + WRAPPER_VAST_XML_END;
     }
 
-    private static String insertBeforeElementCloseTag(String vastXml, String vastUrlTracking, String elementCloseTag) {
-        final int indexOfCloseTag = StringUtils.indexOfIgnoreCase(vastXml, elementCloseTag);
-
-        if (indexOfCloseTag == -1) {
-            return vastXml;
+    private static String appendTrackingUrlToVastXml(String vastXml, String vastUrlTracking, String bidder) {
+        final String modifiedVastXml = VastImpressionInserter.insertImpression(vastXml, vastUrlTracking);
+        if (modifiedVastXml == null) {
+            throw new PreBidException("VastXml does not contain neither InLine nor Wrapper for %s response"
+                    .formatted(bidder));
         }
-
-        final String caseSpecificCloseTag =
-                vastXml.substring(indexOfCloseTag, indexOfCloseTag + elementCloseTag.length());
-        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
-
-        return vastXml.replace(caseSpecificCloseTag, impressionTag + caseSpecificCloseTag);
+        return modifiedVastXml;
     }
 }
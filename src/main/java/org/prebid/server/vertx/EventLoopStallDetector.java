@@ -0,0 +1,122 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects event loop threads being busy longer than the threshold.
+ * <p>
+ * Each watched event loop runs a periodic heartbeat reporting how late it was executed. Separate watchdog thread
+ * checks heartbeats and, when the last one is older than the threshold, reports a stall and logs the stack trace
+ * of the event loop thread sampled at the moment, so the code blocking it can be found.
+ */
+public class EventLoopStallDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopStallDetector.class);
+
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final long checkIntervalMs;
+    private final long stallThresholdMs;
+
+    private final Map<Thread, EventLoopState> eventLoops;
+    private ScheduledExecutorService watchdog;
+
+    public EventLoopStallDetector(Vertx vertx,
+                                  Metrics metrics,
+                                  Clock clock,
+                                  long checkIntervalMs,
+                                  long stallThresholdMs) {
+
+        if (checkIntervalMs <= 0 || stallThresholdMs <= 0) {
+            throw new IllegalArgumentException("Check interval and stall threshold should be positive.");
+        }
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.checkIntervalMs = checkIntervalMs;
+        this.stallThresholdMs = stallThresholdMs;
+
+        eventLoops = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts watching event loop the method is called on. Does nothing if this event loop is already watched.
+     */
+    public void watchCurrentEventLoop() {
+        final Thread thread = Thread.currentThread();
+        final EventLoopState state = new EventLoopState(thread, clock.millis());
+        if (eventLoops.putIfAbsent(thread, state) == null) {
+            vertx.setPeriodic(checkIntervalMs, ignored -> heartbeat(state));
+        }
+    }
+
+    /**
+     * Starts watchdog thread checking watched event loops.
+     */
+    public void start() {
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "event-loop-stall-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleWithFixedDelay(this::checkEventLoops, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+    }
+
+    private void heartbeat(EventLoopState state) {
+        final long now = clock.millis();
+        metrics.updateEventLoopLagMetric(Math.max(now - state.lastHeartbeatMillis - checkIntervalMs, 0));
+        state.lastHeartbeatMillis = now;
+        state.stallReported = false;
+    }
+
+    void checkEventLoops() {
+        final long now = clock.millis();
+        for (EventLoopState state : eventLoops.values()) {
+            final long stalledMs = now - state.lastHeartbeatMillis - checkIntervalMs;
+            if (stalledMs > stallThresholdMs && !state.stallReported) {
+                state.stallReported = true;
+                metrics.updateEventLoopStallMetric();
+                logStall(state.thread, stalledMs);
+            }
+        }
+    }
+
+    private static void logStall(Thread thread, long stalledMs) {
+        final VertxException stackTrace = new VertxException("Event loop stall stack trace");
+        stackTrace.setStackTrace(thread.getStackTrace());
+        logger.warn("Thread %s has been busy for %d ms".formatted(thread.getName(), stalledMs), stackTrace);
+    }
+
+    private static class EventLoopState {
+
+        private final Thread thread;
+
+        private volatile long lastHeartbeatMillis;
+
+        private volatile boolean stallReported;
+
+        EventLoopState(Thread thread, long lastHeartbeatMillis) {
+            this.thread = thread;
+            this.lastHeartbeatMillis = lastHeartbeatMillis;
+        }
+    }
+}
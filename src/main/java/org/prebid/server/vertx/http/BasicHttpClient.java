@@ -107,15 +107,15 @@ public class BasicHttpClient implements HttpClient {
         }
 
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                .bodyHandler(buffer -> successResponse(buffer, response, promise, timerId))
                 .exceptionHandler(exception -> failResponse(exception, promise, timerId));
     }
 
-    private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
+    private void successResponse(Buffer body, io.vertx.core.http.HttpClientResponse response,
                                  Promise<HttpClientResponse> promise, long timerId) {
         vertx.cancelTimer(timerId);
 
-        promise.tryComplete(HttpClientResponse.of(response.statusCode(), response.headers(), body));
+        promise.tryComplete(HttpClientResponse.ofBuffer(response.statusCode(), response.headers(), body));
     }
 
     private void failResponse(Throwable exception, Promise<HttpClientResponse> promise, long timerId) {
@@ -0,0 +1,45 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sends requests to the hosts having their own connection pool settings through dedicated {@link HttpClient}s,
+ * all other requests are sent through the default one.
+ * <p>
+ * This way connections to one slow or bursty host do not compete for the pool with connections to others.
+ */
+public class HostRoutingHttpClient implements HttpClient {
+
+    private final HttpClient defaultHttpClient;
+    private final Map<String, HttpClient> hostToHttpClient;
+
+    public HostRoutingHttpClient(HttpClient defaultHttpClient, Map<String, HttpClient> hostToHttpClient) {
+        this.defaultHttpClient = Objects.requireNonNull(defaultHttpClient);
+        this.hostToHttpClient = Map.copyOf(hostToHttpClient);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              String body, long timeoutMs, long maxResponseSize) {
+        return resolve(url).request(method, url, headers, body, timeoutMs, maxResponseSize);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              byte[] body, long timeoutMs, long maxResponseSize) {
+        return resolve(url).request(method, url, headers, body, timeoutMs, maxResponseSize);
+    }
+
+    private HttpClient resolve(String url) {
+        final String host = HttpUtil.getHostFromUrl(url);
+        final HttpClient httpClient = host != null ? hostToHttpClient.get(host) : null;
+        return httpClient != null ? httpClient : defaultHttpClient;
+    }
+}
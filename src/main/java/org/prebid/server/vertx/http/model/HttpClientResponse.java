@@ -1,21 +1,80 @@
 package org.prebid.server.vertx.http.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body can be backed either by {@link String} or by raw {@link Buffer} received from the network. In the latter case
+ * {@link #getBody()} decodes it to {@link String} lazily, so consumers able to work with bytes
+ * (see {@link #getBodyBuffer()}) avoid the copy.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
 public class HttpClientResponse {
 
-    int statusCode;
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private final int statusCode;
+
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private final MultiMap headers;
+
+    private final Buffer bodyBuffer;
+
+    private String body;
+
+    private HttpClientResponse(int statusCode, MultiMap headers, String body, Buffer bodyBuffer) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.bodyBuffer = bodyBuffer;
+    }
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, body, null);
+    }
+
+    public static HttpClientResponse ofBuffer(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        return new HttpClientResponse(statusCode, headers, null, bodyBuffer);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
 
-    MultiMap headers;
+    /**
+     * Returns response body as {@link String}, decoding underlying {@link Buffer} (if any) on the first call.
+     */
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    public String getBody() {
+        // racy single-check idiom: String is immutable, so the worst case is decoding the body twice
+        String result = body;
+        if (result == null && bodyBuffer != null) {
+            result = bodyBuffer.toString();
+            body = result;
+        }
+        return result;
+    }
 
-    String body;
+    /**
+     * Returns response body as {@link Buffer} without decoding it to {@link String}.
+     */
+    public Buffer getBodyBuffer() {
+        if (bodyBuffer != null) {
+            return bodyBuffer;
+        }
+        return body != null ? Buffer.buffer(body) : null;
+    }
 }
@@ -1,9 +1,13 @@
 package org.prebid.server.activity.infrastructure;
 
 import org.junit.Test;
+import org.prebid.server.activity.ComponentType;
+import org.prebid.server.activity.infrastructure.payload.impl.ActivityCallPayloadImpl;
+import org.prebid.server.activity.infrastructure.rule.ComponentRule;
 import org.prebid.server.activity.infrastructure.rule.TestRule;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ActivityConfigurationTest {
@@ -40,4 +44,47 @@ public class ActivityConfigurationTest {
         // then
         assertThat(result).isEqualTo(ActivityCallResult.of(false, 2));
     }
+
+    @Test
+    public void isAllowedShouldReuseDecisionForSameComponentIfAllRulesMatchByComponent() {
+        // given
+        final ActivityConfiguration activityConfiguration = ActivityConfiguration.of(
+                true,
+                asList(
+                        new ComponentRule(singleton(ComponentType.ANALYTICS), null, true),
+                        new ComponentRule(null, singleton("bidder"), false)));
+
+        // when
+        final ActivityCallResult first = activityConfiguration.isAllowed(
+                ActivityCallPayloadImpl.of(ComponentType.BIDDER, "bidder"));
+        final ActivityCallResult second = activityConfiguration.isAllowed(
+                ActivityCallPayloadImpl.of(ComponentType.BIDDER, "bidder"));
+        final ActivityCallResult other = activityConfiguration.isAllowed(
+                ActivityCallPayloadImpl.of(ComponentType.BIDDER, "other"));
+
+        // then
+        assertThat(first).isEqualTo(ActivityCallResult.of(false, 2));
+        assertThat(second).isSameAs(first);
+        assertThat(other).isEqualTo(ActivityCallResult.of(true, 2));
+    }
+
+    @Test
+    public void isAllowedShouldEvaluateRulesEveryTimeIfSomeRuleDoesNotMatchByComponent() {
+        // given
+        final ActivityConfiguration activityConfiguration = ActivityConfiguration.of(
+                true,
+                asList(
+                        new ComponentRule(null, singleton("bidder"), true),
+                        TestRule.disallowIfMatches(payload -> true)));
+
+        // when
+        final ActivityCallResult first = activityConfiguration.isAllowed(
+                ActivityCallPayloadImpl.of(ComponentType.BIDDER, "other"));
+        final ActivityCallResult second = activityConfiguration.isAllowed(
+                ActivityCallPayloadImpl.of(ComponentType.BIDDER, "other"));
+
+        // then
+        assertThat(first).isEqualTo(ActivityCallResult.of(false, 2));
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
 }
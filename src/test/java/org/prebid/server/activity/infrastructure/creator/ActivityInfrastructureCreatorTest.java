@@ -19,12 +19,16 @@ import org.prebid.server.settings.model.AccountPrivacyConfig;
 import org.prebid.server.settings.model.activity.AccountActivityConfiguration;
 import org.prebid.server.settings.model.activity.rule.AccountActivityComponentRuleConfig;
 
+import java.util.List;
 import java.util.Map;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class ActivityInfrastructureCreatorTest {
 
@@ -41,7 +45,7 @@ public class ActivityInfrastructureCreatorTest {
 
     @Before
     public void setUp() {
-        creator = new ActivityInfrastructureCreator(activityRuleFactory, metrics);
+        creator = new ActivityInfrastructureCreator(activityRuleFactory, 0, metrics);
     }
 
     @Test
@@ -113,4 +117,48 @@ public class ActivityInfrastructureCreatorTest {
         assertThat(configuration.get(Activity.TRANSMIT_UFPD).isAllowed(null))
                 .isEqualTo(ActivityCallResult.of(false, 1));
     }
+
+    @Test
+    public void parseShouldReuseCompiledConfigurationForEqualActivitiesSettingsAndGppSectionIds() {
+        // given
+        creator = new ActivityInfrastructureCreator(activityRuleFactory, 10, metrics);
+
+        given(activityRuleFactory.from(any(), any())).willReturn(TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        final Map<Activity, ActivityConfiguration> first = creator.parse(
+                givenAccount(), GppContextCreator.from(null, List.of(2)).build().getGppContext());
+        final Map<Activity, ActivityConfiguration> second = creator.parse(
+                givenAccount(), GppContextCreator.from(null, List.of(2)).build().getGppContext());
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(activityRuleFactory).from(any(), any());
+    }
+
+    @Test
+    public void parseShouldCompileConfigurationSeparatelyForDifferentGppSectionIds() {
+        // given
+        creator = new ActivityInfrastructureCreator(activityRuleFactory, 10, metrics);
+
+        given(activityRuleFactory.from(any(), any())).willReturn(TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        final Map<Activity, ActivityConfiguration> first = creator.parse(
+                givenAccount(), GppContextCreator.from(null, List.of(2)).build().getGppContext());
+        final Map<Activity, ActivityConfiguration> second = creator.parse(
+                givenAccount(), GppContextCreator.from(null, List.of(6)).build().getGppContext());
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        verify(activityRuleFactory, times(2)).from(any(), any());
+    }
+
+    private static Account givenAccount() {
+        return Account.builder()
+                .privacy(AccountPrivacyConfig.of(null, null, Map.of(
+                        Activity.CALL_BIDDER, AccountActivityConfiguration.of(true, singletonList(
+                                AccountActivityComponentRuleConfig.of(null, false))))))
+                .build();
+    }
 }
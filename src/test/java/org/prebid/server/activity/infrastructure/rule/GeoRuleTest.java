@@ -227,4 +227,22 @@ public class GeoRuleTest {
         // then
         assertThat(matches).isEqualTo(true);
     }
+
+    @Test
+    public void matchesByComponentOnlyShouldReturnTrueIfGeoCodesAndGpcAreNull() {
+        // given
+        final Rule rule = new GeoRule(null, singleton("bidder"), false, null, null, true);
+
+        // when and then
+        assertThat(rule.matchesByComponentOnly()).isTrue();
+    }
+
+    @Test
+    public void matchesByComponentOnlyShouldReturnFalseIfGpcIsPresent() {
+        // given
+        final Rule rule = new GeoRule(null, null, true, null, "1", true);
+
+        // when and then
+        assertThat(rule.matchesByComponentOnly()).isFalse();
+    }
 }
@@ -0,0 +1,203 @@
+package org.prebid.server.analytics.pipeline;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.analytics.pipeline.model.OverflowPolicy;
+import org.prebid.server.metric.Metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class AnalyticsPipelineTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private WorkerExecutor workerExecutor;
+    @Mock
+    private Metrics metrics;
+
+    private List<byte[]> sentBatches;
+
+    @Before
+    public void setUp() {
+        sentBatches = new ArrayList<>();
+
+        // run blocking code in place to keep tests synchronous
+        doAnswer(invocation -> {
+            final Promise<Object> promise = Promise.promise();
+            invocation.<Handler<Promise<Object>>>getArgument(0).handle(promise);
+            invocation.<Handler<AsyncResult<Object>>>getArgument(2).handle(promise.future());
+            return null;
+        }).when(workerExecutor).executeBlocking(any(), anyBoolean(), any());
+    }
+
+    @Test
+    public void offerShouldNotCompressEventsUntilBatchIsComplete() {
+        // given
+        final AnalyticsPipeline target = givenPipeline(10, 3, OverflowPolicy.DROP_NEWEST, 0);
+
+        // when
+        target.offer(toBytes("event1"));
+        target.offer(toBytes("event2"));
+
+        // then
+        assertThat(target.size()).isEqualTo(2);
+        verifyNoInteractions(workerExecutor);
+        assertThat(sentBatches).isEmpty();
+    }
+
+    @Test
+    public void offerShouldSendGzippedBatchOfNewLineDelimitedEventsWhenBatchIsComplete() throws IOException {
+        // given
+        final AnalyticsPipeline target = givenPipeline(10, 2, OverflowPolicy.DROP_NEWEST, 0);
+
+        // when
+        target.offer(toBytes("event1"));
+        target.offer(toBytes("event2"));
+
+        // then
+        assertThat(target.size()).isZero();
+        assertThat(sentBatches).hasSize(1);
+        assertThat(gunzip(sentBatches.get(0))).isEqualTo("event1\nevent2");
+        verify(metrics).updateAnalyticsPipelineFlushTimeMetric(eq("pipeline"), anyLong());
+    }
+
+    @Test
+    public void flushShouldSplitEventsToBatchesBySize() throws IOException {
+        // given
+        final AnalyticsPipeline target = new AnalyticsPipeline("pipeline", 10, 10, 12,
+                OverflowPolicy.DROP_NEWEST, 0, sentBatches::add, workerExecutor, metrics, Clock.systemUTC());
+
+        target.offer(toBytes("event1"));
+        target.offer(toBytes("event2"));
+        target.offer(toBytes("event3"));
+
+        // when
+        target.flush();
+
+        // then
+        assertThat(sentBatches).hasSize(2);
+        assertThat(gunzip(sentBatches.get(0))).isEqualTo("event1\nevent2");
+        assertThat(gunzip(sentBatches.get(1))).isEqualTo("event3");
+    }
+
+    @Test
+    public void flushShouldDoNothingWhenThereAreNoEvents() {
+        // given
+        final AnalyticsPipeline target = givenPipeline(10, 10, OverflowPolicy.DROP_NEWEST, 0);
+
+        // when
+        target.flush();
+
+        // then
+        verifyNoInteractions(workerExecutor);
+        assertThat(sentBatches).isEmpty();
+    }
+
+    @Test
+    public void offerShouldDropNewEventsWhenBufferIsFullAndPolicyIsDropNewest() throws IOException {
+        // given
+        final AnalyticsPipeline target = givenPipeline(2, 10, OverflowPolicy.DROP_NEWEST, 0);
+
+        // when
+        final boolean firstAccepted = target.offer(toBytes("event1"));
+        final boolean secondAccepted = target.offer(toBytes("event2"));
+        final boolean thirdAccepted = target.offer(toBytes("event3"));
+
+        // then
+        assertThat(firstAccepted).isTrue();
+        assertThat(secondAccepted).isTrue();
+        assertThat(thirdAccepted).isFalse();
+        verify(metrics).updateAnalyticsPipelineDroppedMetric("pipeline");
+
+        target.flush();
+        assertThat(gunzip(sentBatches.get(0))).isEqualTo("event1\nevent2");
+    }
+
+    @Test
+    public void offerShouldDropOldestEventsWhenBufferIsFullAndPolicyIsDropOldest() throws IOException {
+        // given
+        final AnalyticsPipeline target = givenPipeline(2, 10, OverflowPolicy.DROP_OLDEST, 0);
+
+        // when
+        target.offer(toBytes("event1"));
+        target.offer(toBytes("event2"));
+        final boolean accepted = target.offer(toBytes("event3"));
+
+        // then
+        assertThat(accepted).isTrue();
+        verify(metrics).updateAnalyticsPipelineDroppedMetric("pipeline");
+
+        target.flush();
+        assertThat(gunzip(sentBatches.get(0))).isEqualTo("event2\nevent3");
+    }
+
+    @Test
+    public void offerShouldSampleEventsWhenBufferIsHalfFullAndPolicyIsSample() {
+        // given
+        final AnalyticsPipeline target = givenPipeline(4, 10, OverflowPolicy.SAMPLE, 0);
+
+        // when
+        target.offer(toBytes("event1"));
+        target.offer(toBytes("event2"));
+        final boolean accepted = target.offer(toBytes("event3"));
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(target.size()).isEqualTo(2);
+        verify(metrics).updateAnalyticsPipelineDroppedMetric("pipeline");
+    }
+
+    @Test
+    public void creationShouldRegisterQueueGauge() {
+        // when
+        givenPipeline(10, 10, OverflowPolicy.DROP_NEWEST, 0);
+
+        // then
+        verify(metrics, times(1)).createAnalyticsPipelineQueueGauge(eq("pipeline"), any());
+    }
+
+    private AnalyticsPipeline givenPipeline(int capacity,
+                                            int batchMaxCount,
+                                            OverflowPolicy overflowPolicy,
+                                            double samplingRate) {
+
+        return new AnalyticsPipeline("pipeline", capacity, batchMaxCount, Long.MAX_VALUE, overflowPolicy,
+                samplingRate, sentBatches::add, workerExecutor, metrics, Clock.systemUTC());
+    }
+
+    private static byte[] toBytes(String event) {
+        return event.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String gunzip(byte[] value) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
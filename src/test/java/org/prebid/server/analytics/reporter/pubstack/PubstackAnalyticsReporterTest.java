@@ -10,6 +10,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
+import org.prebid.server.analytics.pipeline.AnalyticsPipeline;
+import org.prebid.server.analytics.pipeline.AnalyticsPipelineFactory;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.CookieSyncEvent;
@@ -29,6 +31,7 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -51,6 +54,9 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private AnalyticsPipelineFactory analyticsPipelineFactory;
+
     @Mock
     private PubstackEventHandler auctionHandler;
 
@@ -64,6 +70,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Before
     public void setUp() {
         given(vertx.setPeriodic(anyLong(), any())).willReturn(1L, 2L);
+        given(analyticsPipelineFactory.create(anyString(), anyInt(), anyLong(), any()))
+                .willReturn(mock(AnalyticsPipeline.class));
         properties = PubstackAnalyticsProperties.builder()
                 .endpoint("http://endpoint.com")
                 .scopeId("scopeId")
@@ -79,7 +87,7 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
         handlers.put(EventType.setuid, setuidHandler);
 
         pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
-                vertx);
+                analyticsPipelineFactory, vertx);
         // inject mocked handlers to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers", handlers);
     }
@@ -190,7 +198,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Test
     public void processEventShouldCallEventHandlerForAuction() {
         // given
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                analyticsPipelineFactory, vertx);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.auction, auctionHandler));
@@ -206,7 +215,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     @Test
     public void processEventShouldCallEventHandlerForSetuid() {
         // given
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                analyticsPipelineFactory, vertx);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.setuid, setuidHandler));
@@ -223,7 +233,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForCookieSync() {
         // given
         final PubstackEventHandler cookieSyncHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                analyticsPipelineFactory, vertx);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.cookiesync, cookieSyncHandler));
@@ -240,7 +251,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForAmp() {
         // given
         final PubstackEventHandler ampHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                analyticsPipelineFactory, vertx);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.amp, ampHandler));
@@ -257,7 +269,8 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
     public void processEventShouldCallEventHandlerForVideo() {
         // given
         final PubstackEventHandler videoHandler = mock(PubstackEventHandler.class);
-        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper,
+                analyticsPipelineFactory, vertx);
         // inject mocked handler to private fields without accessor method
         ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
                 Collections.singletonMap(EventType.video, videoHandler));
@@ -3,16 +3,21 @@ package org.prebid.server.analytics.reporter.pubstack;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
+import org.prebid.server.analytics.pipeline.AnalyticsPipeline;
+import org.prebid.server.analytics.pipeline.AnalyticsPipelineFactory;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.cookie.UidsCookie;
@@ -23,17 +28,18 @@ import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -49,12 +55,23 @@ public class PubstackEventHandlerTest extends VertxTest {
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private AnalyticsPipelineFactory analyticsPipelineFactory;
+
+    @Mock
+    private AnalyticsPipeline pipeline;
+
+    private PubstackAnalyticsProperties properties;
+
     private PubstackEventHandler pubstackEventHandler;
 
     @Before
     public void setUp() {
         given(vertx.setTimer(anyLong(), any())).willReturn(1L, 2L);
-        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
+        given(analyticsPipelineFactory.create(anyString(), anyInt(), anyLong(), any()))
+                .willReturn(pipeline);
+
+        properties = PubstackAnalyticsProperties.builder()
                 .endpoint("http://endpoint.com")
                 .scopeId("scopeId")
                 .sizeBytes(100000)
@@ -62,136 +79,152 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", "pubstack.auction",
+                jacksonMapper, httpClient, analyticsPipelineFactory, vertx);
+    }
+
+    @Test
+    public void creationShouldCreatePipelineWithBatchLimitsFromProperties() {
+        // then
+        verify(analyticsPipelineFactory).create(eq("pubstack.auction"), eq(100), eq(100000L), any());
     }
 
     @Test
     public void handleShouldNotAcceptEventsWhenNotEnabled() {
         // given
-        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
-                .endpoint("http://endpoint.com")
-                .scopeId("scopeId")
-                .sizeBytes(1)
-                .count(1)
-                .reportTtlMs(10000L)
-                .timeoutMs(5000L)
-                .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com", "pubstack.auction",
+                jacksonMapper, httpClient, analyticsPipelineFactory, vertx);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
 
         // then
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
-        assertThat(events.get()).isEmpty();
+        verifyNoInteractions(pipeline);
         verifyNoInteractions(httpClient);
     }
 
     @Test
-    public void handleShouldAddEventWithScopeIdAndIncreaseByteSize() throws JsonProcessingException {
-        // given and when
+    public void handleShouldOfferSerializedEventWithScopeIdToPipeline() throws JsonProcessingException {
+        // given
         final SetuidEvent setuidEvent = SetuidEvent.builder().bidder("bidder1").build();
+
+        // when
         pubstackEventHandler.handle(setuidEvent);
+        pubstackEventHandler.updateConfig(true, "http://example.com", "newScopeId");
 
         // then
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
         final ObjectNode eventJsonNode = mapper.valueToTree(setuidEvent);
         eventJsonNode.put("scope", "scopeId");
-        final String eventJsonRow = mapper.writeValueAsString(eventJsonNode);
-        assertThat(byteSize.get()).isEqualTo(eventJsonRow.getBytes().length);
-        assertThat(events.get()).hasSize(1)
-                .containsOnly(eventJsonRow);
+        assertThat(captureOfferedEvent()).isEqualTo(mapper.writeValueAsBytes(eventJsonNode));
+        verifyNoInteractions(httpClient);
     }
 
     @Test
-    public void handleShouldSendEventsWhenMaxByteBufferSizeExceedsSize() {
+    public void handleShouldBeAbleToEncodeAuctionEvent() {
         // given
-        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
-                .endpoint("http://endpoint.com")
-                .scopeId("scopeId")
-                .sizeBytes(20)
-                .count(100)
-                .reportTtlMs(10000L)
-                .timeoutMs(5000L)
+        final AuctionEvent event = AuctionEvent.builder()
+                .auctionContext(AuctionContext.builder()
+                        .uidsCookie(mock(UidsCookie.class))
+                        .timeout(mock(Timeout.class))
+                        .txnLog(mock(TxnLog.class))
+                        .deepDebugLog(mock(DeepDebugLog.class))
+                        .build())
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+
+        // when and then
+        assertThatCode(() -> pubstackEventHandler.handle(event)).doesNotThrowAnyException();
+        assertThat(captureOfferedEvent()).isNotEmpty();
+    }
+
+    @Test
+    public void pipelineSenderShouldSendGzippedEventsToEndpoint() {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+        final byte[] events = {1, 2, 3};
 
         // when
-        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
+        captureSender().accept(events);
 
         // then
-        verify(httpClient).request(any(), anyString(), any(), (byte[]) any(), anyLong());
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        verify(httpClient).request(eq(HttpMethod.POST), eq("http://example.com"), headersCaptor.capture(),
+                eq(events), eq(5000L));
+        assertThat(headersCaptor.getValue().get("Content-Encoding")).isEqualTo("gzip");
+        assertThat(headersCaptor.getValue().get("Content-Type")).isEqualTo("application/octet-stream");
     }
 
     @Test
-    public void handleShouldSendEventsWhenMaxCountEventsBufferExceeds() {
+    public void pipelineSenderShouldResetReportTimer() {
         // given
-        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
-                .endpoint("http://endpoint.com")
-                .scopeId("scopeId")
-                .sizeBytes(20000)
-                .count(1)
-                .reportTtlMs(10000L)
-                .timeoutMs(5000L)
-                .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
 
         // when
-        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
-        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder2").build());
+        captureSender().accept(new byte[]{1});
 
         // then
-        verify(httpClient).request(any(), anyString(), any(), (byte[]) any(), anyLong());
+        verify(vertx).cancelTimer(eq(1L));
+        // one time in constructor and second after the batch was sent
+        verify(vertx, times(2)).setTimer(anyLong(), any());
+        assertThat(ReflectionTestUtils.getField(pubstackEventHandler, "reportTimerId")).isEqualTo(2L);
     }
 
     @Test
-    public void handleShouldBeAbleToEncodeAuctionEvent() {
+    public void pipelineSenderShouldNotResetReportTimerWhenNotEnabled() {
         // given
-        final AuctionEvent event = AuctionEvent.builder()
-                .auctionContext(AuctionContext.builder()
-                        .uidsCookie(mock(UidsCookie.class))
-                        .timeout(mock(Timeout.class))
-                        .txnLog(mock(TxnLog.class))
-                        .deepDebugLog(mock(DeepDebugLog.class))
-                        .build())
-                .build();
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+        pubstackEventHandler.updateConfig(false, "http://example.com", "scopeId");
 
-        // when and then
-        assertThatCode(() -> pubstackEventHandler.handle(event))
-                .doesNotThrowAnyException();
+        // when
+        captureSender().accept(new byte[]{1});
+
+        // then
+        verify(vertx).setTimer(anyLong(), any());
+        verify(vertx).cancelTimer(anyLong());
     }
 
     @Test
-    public void sendEventsShouldSendEventsAndResetSendConditionParameters() {
+    public void pipelineSenderShouldNotSendEventsWhenEndpointIsInvalid() {
         // given
-        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
-                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+        pubstackEventHandler.updateConfig(true, "invalid", "scopeId");
 
-        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
+        // when
+        captureSender().accept(new byte[]{1});
+
+        // then
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void reportEventsShouldFlushPipelineAndResetReportTimer() {
+        // given
+        given(pipeline.size()).willReturn(1);
 
         // when
         pubstackEventHandler.reportEvents();
 
         // then
+        verify(pipeline).flush();
         verify(vertx).cancelTimer(anyLong());
-        // one time in constructor and second after the send request
+        // one time in constructor and second after the flush
         verify(vertx, times(2)).setTimer(anyLong(), any());
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        assertThat(byteSize.get()).isEqualTo(0);
         final Long currentTimerId = (Long) ReflectionTestUtils.getField(pubstackEventHandler,
                 "reportTimerId");
         assertThat(currentTimerId).isEqualTo(2);
     }
 
+    @Test
+    public void reportEventsShouldNotFlushPipelineWhenItIsEmpty() {
+        // when
+        pubstackEventHandler.reportEvents();
+
+        // then
+        verify(pipeline, never()).flush();
+        verify(vertx, never()).cancelTimer(anyLong());
+    }
+
     @Test
     public void updateConfigShouldSetNewValuesToEndpointScopeIdAndEnabledConfigs() {
         // given and when
@@ -227,4 +260,17 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx, times(2)).setTimer(anyLong(), any());
         verify(vertx).cancelTimer(anyLong());
     }
+
+    private byte[] captureOfferedEvent() {
+        final ArgumentCaptor<byte[]> eventCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(pipeline).offer(eventCaptor.capture());
+        return eventCaptor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<byte[]> captureSender() {
+        final ArgumentCaptor<Consumer<byte[]>> senderCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(analyticsPipelineFactory).create(anyString(), anyInt(), anyLong(), senderCaptor.capture());
+        return senderCaptor.getValue();
+    }
 }
@@ -50,6 +50,8 @@ import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.mediatypeprocessor.NoOpMediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
@@ -58,6 +60,7 @@ import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.auction.versionconverter.OrtbVersionConversionCache;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
@@ -151,6 +154,7 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountEventsConfig;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.EndpointFormat;
 import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.model.ValidationResult;
 
@@ -325,7 +329,8 @@ public class ExchangeServiceTest extends VertxTest {
                 0,
                 false,
                 false,
-                CompressionType.NONE));
+                CompressionType.NONE,
+                EndpointFormat.JSON));
 
         given(privacyEnforcementService.mask(any(), argThat(MapUtils::isNotEmpty), any(), any()))
                 .willAnswer(inv ->
@@ -406,7 +411,7 @@ public class ExchangeServiceTest extends VertxTest {
         given(timeoutFactory.create(anyLong(), anyLong()))
                 .willReturn(timeout);
 
-        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any()))
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any(), any()))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
         given(activityInfrastructure.isAllowed(any(), any()))
@@ -417,6 +422,7 @@ public class ExchangeServiceTest extends VertxTest {
         exchangeService = new ExchangeService(
                 0,
                 90,
+                false,
                 bidderCatalog,
                 storedResponseProcessor,
                 dealsService,
@@ -452,6 +458,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .isThrownBy(() -> new ExchangeService(
                         0,
                         -1,
+                        false,
                         bidderCatalog,
                         storedResponseProcessor,
                         dealsService,
@@ -1245,7 +1252,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1275,7 +1282,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -3631,6 +3638,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
                 .debugContext(DebugContext.empty())
                 .requestRejected(true)
+                .stageTimings(AuctionStageTimings.create(clock))
                 .build();
 
         // when
@@ -3966,6 +3974,7 @@ public class ExchangeServiceTest extends VertxTest {
                         stageOutcomes(givenAppliedToImpl(identity()))))
                 .debugContext(DebugContext.of(true, true, TraceLevel.basic))
                 .requestRejected(true)
+                .stageTimings(AuctionStageTimings.create(clock))
                 .build();
 
         // when
@@ -4004,6 +4013,127 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(bidResponse.getExt()).isNull();
     }
 
+    @Test
+    public void shouldCompleteAuctionStagesAndUpdateStageMetrics() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest);
+
+        // when
+        final AuctionContext result = exchangeService.holdAuction(auctionContext).result();
+
+        // then
+        assertThat(result.getStageTimings().getStageToNanos()).containsOnlyKeys(
+                AuctionStage.stored_responses,
+                AuctionStage.bidder_requests,
+                AuctionStage.bidders,
+                AuctionStage.bids_processing,
+                AuctionStage.response_creation,
+                AuctionStage.response_post_processing,
+                AuctionStage.auction_response);
+        verify(metrics).updateAuctionStageTimeMetric(eq(MetricName.openrtb2web), eq(AuctionStage.bidders), anyLong());
+        verify(metrics).updateAccountAuctionStageTimeMetric(any(), eq(AuctionStage.bidders), anyLong());
+        verify(metrics, times(7)).updateAuctionStageTimeMetric(any(), any(), anyLong());
+    }
+
+    @Test
+    public void shouldNotUpdateStageMetricsWhenAuctionContextHasNoStageTimings() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .stageTimings(null)
+                .build();
+
+        // when
+        final Future<AuctionContext> result = exchangeService.holdAuction(auctionContext);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(metrics, never()).updateAuctionStageTimeMetric(any(), any(), anyLong());
+        verify(metrics, never()).updateAccountAuctionStageTimeMetric(any(), any(), anyLong());
+    }
+
+    @Test
+    public void shouldNotAddStageTimingsToDebugIfDebugTimingsDisabled() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .debugContext(DebugContext.of(true, true, null))
+                .build();
+
+        // when
+        final AuctionContext result = exchangeService.holdAuction(auctionContext).result();
+
+        // then
+        assertThat(result.getBidResponse().getExt()).isNull();
+    }
+
+    @Test
+    public void shouldAddStageTimingsToDebugIfDebugTimingsEnabledAndDebugIsEnabled() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        exchangeService = new ExchangeService(
+                0,
+                90,
+                true,
+                bidderCatalog,
+                storedResponseProcessor,
+                dealsService,
+                privacyEnforcementService,
+                fpdResolver,
+                supplyChainResolver,
+                debugResolver,
+                new NoOpMediaTypeProcessor(),
+                uidUpdater,
+                timeoutResolver,
+                timeoutFactory,
+                ortbVersionConversionManager,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                hookStageExecutor,
+                applicationEventService,
+                httpInteractionLogger,
+                priceFloorAdjuster,
+                priceFloorEnforcer,
+                bidAdjustmentFactorResolver,
+                metrics,
+                clock,
+                jacksonMapper,
+                criteriaLogManager);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .debugContext(DebugContext.of(true, true, null))
+                .build();
+
+        // when
+        final AuctionContext result = exchangeService.holdAuction(auctionContext).result();
+
+        // then
+        assertThat(result.getBidResponse().getExt().getDebug().getTimings()).containsOnlyKeys(
+                "stored_responses",
+                "bidder_requests",
+                "bidders",
+                "bids_processing",
+                "response_creation",
+                "response_post_processing",
+                "auction_response");
+    }
+
     @Test
     public void shouldIncrementHooksGlobalMetrics() {
         // given
@@ -4013,6 +4143,7 @@ public class ExchangeServiceTest extends VertxTest {
                         stageOutcomes(givenAppliedToImpl(identity()))))
                 .debugContext(DebugContext.empty())
                 .requestRejected(true)
+                .stageTimings(AuctionStageTimings.create(clock))
                 .build();
 
         // when
@@ -4392,6 +4523,7 @@ public class ExchangeServiceTest extends VertxTest {
         exchangeService = new ExchangeService(
                 0,
                 90,
+                false,
                 bidderCatalog,
                 storedResponseProcessor,
                 dealsService,
@@ -4432,7 +4564,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldConvertBidRequestOpenRTBVersionToConfiguredByBidder() {
         // given
-        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any())).willAnswer(
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any(), any())).willAnswer(
                 invocation -> ((BidRequest) invocation.getArgument(0))
                         .toBuilder()
                         .source(null)
@@ -4457,6 +4589,33 @@ public class ExchangeServiceTest extends VertxTest {
                 .isNull();
     }
 
+    @Test
+    public void shouldConvertBidRequestsOfAllBiddersWithinSameConversionCacheAndUpdateConversionTimeMetric() {
+        // given
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest);
+
+        // when
+        exchangeService.holdAuction(auctionContext);
+
+        // then
+        final ArgumentCaptor<OrtbVersionConversionCache> conversionCacheCaptor =
+                ArgumentCaptor.forClass(OrtbVersionConversionCache.class);
+        verify(ortbVersionConversionManager, times(2))
+                .convertFromAuctionSupportedVersion(any(), any(), conversionCacheCaptor.capture());
+        assertThat(conversionCacheCaptor.getAllValues())
+                .hasSize(2)
+                .doesNotContainNull()
+                .allSatisfy(conversionCache -> assertThat(conversionCache)
+                        .isSameAs(conversionCacheCaptor.getAllValues().get(0)));
+
+        verify(metrics).updateAdapterOrtbConversionTime(eq("bidder1"), anyLong());
+        verify(metrics).updateAdapterOrtbConversionTime(eq("bidder2"), anyLong());
+    }
+
     @Test
     public void shouldPassAdjustedTimeoutToAdapterAndToBidResponseCreator() {
         // given
@@ -4515,6 +4674,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .deepDebugLog(DeepDebugLog.create(false, clock))
                 .bidRejectionTrackers(new HashMap<>())
                 .activityInfrastructure(activityInfrastructure)
+                .stageTimings(AuctionStageTimings.create(clock))
                 .build();
     }
 
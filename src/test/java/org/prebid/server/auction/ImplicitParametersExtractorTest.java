@@ -5,15 +5,19 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.util.HttpUtil;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class ImplicitParametersExtractorTest {
 
@@ -22,11 +26,14 @@ public class ImplicitParametersExtractorTest {
 
     private final PublicSuffixList psl = new PublicSuffixListFactory().build();
 
+    @Mock
+    private Metrics metrics;
+
     private ImplicitParametersExtractor extractor;
 
     @Before
     public void setUp() {
-        extractor = new ImplicitParametersExtractor(psl);
+        extractor = new ImplicitParametersExtractor(psl, 0, metrics);
     }
 
     @Test
@@ -123,6 +130,45 @@ public class ImplicitParametersExtractorTest {
         assertThat(extractor.domainFrom("subdomain.example.com")).isEqualTo("example.com");
     }
 
+    @Test
+    public void domainFromShouldReuseDomainDerivedForSameHostWhenCacheIsEnabled() {
+        // given
+        extractor = new ImplicitParametersExtractor(psl, 10, metrics);
+
+        // when
+        final String first = extractor.domainFrom("subdomain.example.com");
+        final String second = extractor.domainFrom("subdomain.example.com");
+
+        // then
+        assertThat(first).isEqualTo("example.com");
+        assertThat(second).isSameAs(first);
+        verify(metrics).updatePslCacheMetric(false);
+        verify(metrics).updatePslCacheMetric(true);
+    }
+
+    @Test
+    public void domainFromShouldFailForCachedHostDomainCouldNotBeDerivedFor() {
+        // given
+        extractor = new ImplicitParametersExtractor(psl, 10, metrics);
+
+        assertThatCode(() -> extractor.domainFrom("domain")).isInstanceOf(PreBidException.class);
+
+        // when and then
+        assertThatCode(() -> extractor.domainFrom("domain"))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Cannot derive eTLD+1 for host domain");
+        verify(metrics).updatePslCacheMetric(true);
+    }
+
+    @Test
+    public void domainFromShouldNotUpdateMetricsWhenCacheIsDisabled() {
+        // when
+        extractor.domainFrom("example.com");
+
+        // then
+        verifyNoInteractions(metrics);
+    }
+
     @Test
     public void ipFromShouldReturnIpFromHeadersAndRemoteAddress() {
         // given
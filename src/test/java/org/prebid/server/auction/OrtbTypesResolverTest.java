@@ -336,6 +336,21 @@ public class OrtbTypesResolverTest extends VertxTest {
                 expected is object, but was ARRAY. Replaced with object""");
     }
 
+    @Test
+    public void normalizeBidRequestShouldNormalizeNodeParsedFromGivenOriginalJson() {
+        // given
+        final ObjectNode containerNode = obj("user", obj("data", obj("dataField", "dataValue"))
+                .set("ext", mapper.createArrayNode()));
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        ortbTypesResolver.normalizeBidRequest(containerNode, containerNode.toString(), warnings, "referer");
+
+        // then
+        assertThat(containerNode).isEqualTo(obj("user", obj("ext", obj("data", obj("dataField", "dataValue")))));
+        assertThat(warnings).hasSize(1);
+    }
+
     @Test
     public void normalizeBidRequestShouldResolveEmptyOrtbWithFpdFieldsWithIdForRequestAndExcludedIdForBidderConfig() {
         // given
@@ -23,6 +23,7 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtImp;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -51,6 +52,7 @@ import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -325,6 +327,22 @@ public class StoredRequestProcessorTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void processAmpRequestShouldUpdateStoredRequestMergeTimeMetric() throws IOException {
+        // given
+        given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("123", mapper.writeValueAsString(givenBidRequest(identity()))),
+                        emptyMap(),
+                        emptyList())));
+
+        // when
+        storedRequestProcessor.processAmpRequest(null, "123", givenBidRequest(identity()));
+
+        // then
+        verify(metrics).updateStoredRequestMergeTime(eq(MetricName.amp), anyLong());
+    }
+
     @Test
     public void shouldReturnMergedDefaultAndAmpRequest() throws IOException {
         // given
@@ -97,6 +97,34 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldResolveImpIdOfBidsOfCachedStoredResponseForEachRequest()
+            throws JsonProcessingException {
+
+        // given
+        final String storedResponse = mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                .bid(singletonList(Bid.builder().id("id").ext(mapper.createObjectNode().put("a", 1)).build()))
+                .build()));
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("1", storedResponse), emptyList())));
+
+        // when
+        final SeatBid firstSeatBid = storedResponseProcessor.getStoredResponseResult(
+                        singletonList(givenImp("impId1", ExtStoredAuctionResponse.of("1"), null)), timeout)
+                .result().getAuctionStoredResponse().get(0);
+        final SeatBid secondSeatBid = storedResponseProcessor.getStoredResponseResult(
+                        singletonList(givenImp("impId2", ExtStoredAuctionResponse.of("1"), null)), timeout)
+                .result().getAuctionStoredResponse().get(0);
+
+        // then
+        final Bid firstBid = firstSeatBid.getBid().get(0);
+        final Bid secondBid = secondSeatBid.getBid().get(0);
+        assertThat(firstBid.getImpid()).isEqualTo("impId1");
+        assertThat(secondBid.getImpid()).isEqualTo("impId2");
+        assertThat(firstBid.getExt()).isEqualTo(secondBid.getExt()).isNotSameAs(secondBid.getExt());
+    }
+
     @Test
     public void getStoredResponseResultShouldNotChangeImpsAndReturnSeatBidsWhenThereAreNoStoredIds() {
         // given
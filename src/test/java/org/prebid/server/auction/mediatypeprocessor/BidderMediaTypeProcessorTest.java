@@ -20,6 +20,7 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.EndpointFormat;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 
 import java.util.List;
@@ -181,7 +182,8 @@ public class BidderMediaTypeProcessorTest extends VertxTest {
                 0,
                 false,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
     }
 
     private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer,
@@ -0,0 +1,74 @@
+package org.prebid.server.auction.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+
+public class AuctionStageTimingsTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+
+    @Test
+    public void completeShouldAttributeTimeSincePreviousCompletionToCompletedStages() {
+        // given
+        given(clock.instant()).willReturn(
+                Instant.ofEpochSecond(0, 100),
+                Instant.ofEpochSecond(0, 250),
+                Instant.ofEpochSecond(0, 1000));
+        final AuctionStageTimings auctionStageTimings = AuctionStageTimings.create(clock);
+
+        // when
+        auctionStageTimings.complete(AuctionStage.entrypoint);
+        auctionStageTimings.complete(AuctionStage.account);
+
+        // then
+        assertThat(auctionStageTimings.getStageToNanos())
+                .containsOnly(entry(AuctionStage.entrypoint, 150L), entry(AuctionStage.account, 750L));
+    }
+
+    @Test
+    public void completeShouldAccumulateTimeOfStageCompletedSeveralTimes() {
+        // given
+        given(clock.instant()).willReturn(
+                Instant.ofEpochSecond(0, 0),
+                Instant.ofEpochSecond(0, 100),
+                Instant.ofEpochSecond(0, 300),
+                Instant.ofEpochSecond(0, 600));
+        final AuctionStageTimings auctionStageTimings = AuctionStageTimings.create(clock);
+
+        // when
+        auctionStageTimings.complete(AuctionStage.bidders);
+        auctionStageTimings.complete(AuctionStage.bids_processing);
+        auctionStageTimings.complete(AuctionStage.bidders);
+
+        // then
+        assertThat(auctionStageTimings.getStageToNanos())
+                .containsOnly(entry(AuctionStage.bidders, 400L), entry(AuctionStage.bids_processing, 200L));
+    }
+
+    @Test
+    public void equalsShouldIgnoreCreationTime() {
+        // given
+        given(clock.instant()).willReturn(Instant.ofEpochSecond(0), Instant.ofEpochSecond(1));
+
+        // when
+        final AuctionStageTimings first = AuctionStageTimings.create(clock);
+        final AuctionStageTimings second = AuctionStageTimings.create(clock);
+
+        // then
+        assertThat(first).isEqualTo(second);
+    }
+}
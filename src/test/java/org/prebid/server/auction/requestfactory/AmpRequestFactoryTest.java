@@ -31,6 +31,8 @@ import org.prebid.server.auction.OrtbTypesResolver;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AmpGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.auction.privacycontextfactory.AmpPrivacyContextFactory;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -64,6 +66,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 import org.prebid.server.proto.request.Targeting;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -1693,6 +1696,29 @@ public class AmpRequestFactoryTest extends VertxTest {
                 .isEqualTo(10000L);
     }
 
+    @Test
+    public void shouldCompleteAuctionStagesOfRequestProcessing() {
+        // given
+        given(ortb2RequestFactory.createAuctionContext(any(), eq(MetricName.amp))).willReturn(AuctionContext.builder()
+                .prebidErrors(new ArrayList<>())
+                .stageTimings(AuctionStageTimings.create(Clock.systemUTC()))
+                .build());
+        givenBidRequest();
+
+        // when
+        final Future<AuctionContext> result = target.fromRequest(routingContext, 0L);
+
+        // then
+        assertThat(result.result().getStageTimings().getStageToNanos()).containsOnlyKeys(
+                AuctionStage.entrypoint,
+                AuctionStage.account,
+                AuctionStage.stored_requests,
+                AuctionStage.privacy,
+                AuctionStage.processed_auction_request,
+                AuctionStage.user_details,
+                AuctionStage.price_floors);
+    }
+
     private void givenBidRequest(
             Function<BidRequest.BidRequestBuilder, BidRequest.BidRequestBuilder> storedBidRequestBuilderCustomizer,
             Imp... imps) {
@@ -13,6 +13,7 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.ext.web.RoutingContext;
@@ -32,11 +33,14 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.AuctionStoredResult;
 import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.json.DecodeException;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
@@ -49,8 +53,11 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidData;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermissions;
+import org.prebid.server.protobuf.ProtobufOpenRtbCodec;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.util.HttpUtil;
 
+import java.time.Clock;
 import java.util.ArrayList;
 
 import static java.util.Collections.emptyList;
@@ -67,6 +74,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
 public class AuctionRequestFactoryTest extends VertxTest {
@@ -96,6 +104,8 @@ public class AuctionRequestFactoryTest extends VertxTest {
     private PrivacyEnforcementService privacyEnforcementService;
     @Mock
     private DebugResolver debugResolver;
+    @Mock
+    private ProtobufOpenRtbCodec protobufOpenRtbCodec;
 
     @Mock
     private AuctionRequestFactory target;
@@ -129,6 +139,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .prebidErrors(new ArrayList<>())
                 .privacyContext(defaultPrivacyContext)
                 .debugContext(DebugContext.of(true, true, null))
+                .stageTimings(AuctionStageTimings.create(Clock.systemUTC()))
                 .build();
 
         given(ortbVersionConversionManager.convertToAuctionSupportedVersion(any()))
@@ -189,6 +200,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 privacyEnforcementService,
                 debugResolver,
+                protobufOpenRtbCodec,
                 jacksonMapper);
     }
 
@@ -222,9 +234,10 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 privacyEnforcementService,
                 debugResolver,
+                protobufOpenRtbCodec,
                 jacksonMapper);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        given(routingContext.getBody()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -236,10 +249,78 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .hasMessage("Request size exceeded max size of 1 bytes.");
     }
 
+    @Test
+    public void shouldReturnFailedFutureIfRequestBodyExceedsMaxRequestSizeInBytes() {
+        // given
+        target = new AuctionRequestFactory(
+                3,
+                ortb2RequestFactory,
+                storedRequestProcessor,
+                ortbVersionConversionManager,
+                auctionGppService,
+                paramsExtractor,
+                paramsResolver,
+                interstitialProcessor,
+                ortbTypesResolver,
+                privacyEnforcementService,
+                debugResolver,
+                protobufOpenRtbCodec,
+                jacksonMapper);
+
+        // two characters encoded by four bytes
+        given(routingContext.getBody()).willReturn(Buffer.buffer("\u00fc\u00fc"));
+
+        // when
+        final Future<?> future = target.fromRequest(routingContext, 0L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Request size exceeded max size of 3 bytes.");
+    }
+
+    @Test
+    public void shouldPassProtobufRequestBodyDecodedToJsonToEntrypointHooks() {
+        // given
+        final Buffer body = Buffer.buffer(new byte[]{10, 2, 105, 100});
+        given(routingContext.getBody()).willReturn(body);
+        given(httpRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF));
+        given(protobufOpenRtbCodec.decodeBidRequestToJson(any())).willReturn("{\"id\":\"id\"}");
+
+        // when
+        target.fromRequest(routingContext, 0L);
+
+        // then
+        verify(protobufOpenRtbCodec).decodeBidRequestToJson(body);
+        verify(ortb2RequestFactory).executeEntrypointHooks(any(), eq("{\"id\":\"id\"}"), any());
+    }
+
+    @Test
+    public void shouldReturnFailedFutureIfProtobufRequestBodyCouldNotBeDecoded() {
+        // given
+        given(routingContext.getBody()).willReturn(Buffer.buffer("body"));
+        given(httpRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF));
+        given(protobufOpenRtbCodec.decodeBidRequestToJson(any()))
+                .willThrow(new DecodeException("Failed to decode protobuf bid request: error"));
+
+        // when
+        final Future<?> future = target.fromRequest(routingContext, 0L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Failed to decode protobuf bid request: error");
+        verifyNoInteractions(ortb2RequestFactory);
+    }
+
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        given(routingContext.getBody()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -342,6 +423,26 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 DebugContext.of(true, true, null));
     }
 
+    @Test
+    public void shouldCompleteAuctionStagesOfRequestProcessing() {
+        // given
+        givenValidBidRequest();
+
+        // when
+        final Future<AuctionContext> result = target.fromRequest(routingContext, 0);
+
+        // then
+        assertThat(result.result().getStageTimings().getStageToNanos()).containsOnlyKeys(
+                AuctionStage.entrypoint,
+                AuctionStage.account,
+                AuctionStage.raw_auction_request,
+                AuctionStage.stored_requests,
+                AuctionStage.privacy,
+                AuctionStage.processed_auction_request,
+                AuctionStage.user_details,
+                AuctionStage.price_floors);
+    }
+
     @Test
     public void shouldUseBidRequestModifiedByRawAuctionRequestHooks() {
         // given
@@ -454,7 +555,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putObject("data")
                 .set("eidpermissions", eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        given(routingContext.getBody()).willReturn(Buffer.buffer(requestNode.toString()));
 
         // when
         final Future<?> result = target.fromRequest(routingContext, 0L);
@@ -490,7 +591,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putArray("eidpermissions");
         arrayNode.add(eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        given(routingContext.getBody()).willReturn(Buffer.buffer(requestNode.toString()));
 
         // when
         final Future<?> result = target.fromRequest(routingContext, 0L);
@@ -532,7 +633,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         target.fromRequest(routingContext, 0L).result();
 
         // then
-        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
+        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any(), any());
     }
 
     @Test
@@ -719,7 +820,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
     private void givenBidRequest(BidRequest bidRequest) {
         try {
-            given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(bidRequest));
+            given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsString(bidRequest)));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -24,6 +24,7 @@ import org.prebid.server.auction.IpAddressHelper;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.AuctionStoredResult;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -709,6 +710,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 .txnLog(TxnLog.create())
                 .debugHttpCalls(emptyMap())
                 .bidRejectionTrackers(new HashMap<>())
+                .stageTimings(AuctionStageTimings.create(clock))
                 .build());
     }
 
@@ -12,6 +12,7 @@ import com.iab.openrtb.request.video.BidRequestVideo;
 import com.iab.openrtb.request.video.PodError;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.ext.web.RoutingContext;
@@ -28,6 +29,8 @@ import org.prebid.server.auction.PriceGranularity;
 import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.VideoStoredRequestProcessor;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimings;
 import org.prebid.server.auction.model.WithPodErrors;
 import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -48,6 +51,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidCacheVastxml;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
 import org.prebid.server.util.HttpUtil;
 
+import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -146,7 +150,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyIsMissing() {
         // given
-        given(routingContext.getBodyAsString()).willReturn(null);
+        given(routingContext.getBody()).willReturn(null);
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -161,8 +165,8 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfStoredRequestIsEnforcedAndIdIsNotProvided() throws JsonProcessingException {
         // given
-        given(routingContext.getBodyAsString())
-                .willReturn(mapper.writeValueAsString(BidRequestVideo.builder().build()));
+        given(routingContext.getBody())
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(BidRequestVideo.builder().build())));
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "123"));
         target = new VideoRequestFactory(
@@ -202,7 +206,7 @@ public class VideoRequestFactoryTest extends VertxTest {
                 debugResolver,
                 jacksonMapper);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        given(routingContext.getBody()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -217,7 +221,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        given(routingContext.getBody()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -234,7 +238,7 @@ public class VideoRequestFactoryTest extends VertxTest {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
         final String body = mapper.writeValueAsString(requestVideo);
-        given(routingContext.getBodyAsString()).willReturn(body);
+        given(routingContext.getBody()).willReturn(Buffer.buffer(body));
 
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "user-agent-123"));
@@ -269,7 +273,7 @@ public class VideoRequestFactoryTest extends VertxTest {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(
                 Device.builder().ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsString(requestVideo)));
         givenBidRequest(BidRequest.builder().build(), emptyList());
 
         // when
@@ -326,7 +330,7 @@ public class VideoRequestFactoryTest extends VertxTest {
 
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(
                 Device.builder().ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsString(requestVideo)));
 
         final List<PodError> podErrors = singletonList(PodError.of(1, 1, singletonList("TEST")));
         givenBidRequest(bidRequest, podErrors);
@@ -335,7 +339,7 @@ public class VideoRequestFactoryTest extends VertxTest {
         final Future<WithPodErrors<AuctionContext>> result = target.fromRequest(routingContext, 0L);
 
         // then
-        verify(routingContext).getBodyAsString();
+        verify(routingContext).getBody();
         verify(videoStoredRequestProcessor).processVideoRequest("", null, emptySet(), requestVideo);
         verify(ortb2RequestFactory).createAuctionContext(any(), eq(MetricName.video));
         verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), eq(bidRequest), eq(0L));
@@ -349,11 +353,38 @@ public class VideoRequestFactoryTest extends VertxTest {
         assertThat(result.result().getPodErrors()).isEqualTo(podErrors);
     }
 
+    @Test
+    public void shouldCompleteAuctionStagesOfRequestProcessing() throws JsonProcessingException {
+        // given
+        final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
+        given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsString(requestVideo)));
+        givenBidRequest(BidRequest.builder().id("bid_id").build(), emptyList());
+
+        final AuctionStageTimings stageTimings = AuctionStageTimings.create(Clock.systemUTC());
+        given(ortb2RequestFactory.enrichAuctionContext(any(), any(), any(), anyLong()))
+                .willAnswer(invocation -> AuctionContext.builder()
+                        .bidRequest(invocation.getArgument(2))
+                        .stageTimings(stageTimings)
+                        .build());
+
+        // when
+        final Future<WithPodErrors<AuctionContext>> result = target.fromRequest(routingContext, 0L);
+
+        // then
+        assertThat(result.result().getData().getStageTimings().getStageToNanos()).containsOnlyKeys(
+                AuctionStage.entrypoint,
+                AuctionStage.account,
+                AuctionStage.privacy,
+                AuctionStage.processed_auction_request,
+                AuctionStage.user_details,
+                AuctionStage.price_floors);
+    }
+
     @Test
     public void shouldReplaceDeviceUaWithUserAgentHeaderIfPresented() throws JsonProcessingException {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsString(requestVideo)));
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "user-agent-123"));
 
@@ -376,7 +407,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     public void shouldReturnErrorIfDeviceUaAndUserAgentHeaderIsEmpty() throws JsonProcessingException {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsString(requestVideo)));
         given(httpServerRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
 
         // when
@@ -510,7 +541,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     private void prepareMinimumSuccessfulConditions() throws JsonProcessingException {
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(Device.builder()
                 .ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsString(requestVideo)));
         final ExtRequestPrebid ext = ExtRequestPrebid.builder()
                 .targeting(ExtRequestTargeting.builder().build())
                 .build();
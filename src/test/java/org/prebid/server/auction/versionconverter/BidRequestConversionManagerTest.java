@@ -11,7 +11,10 @@ import org.prebid.server.VertxTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class BidRequestConversionManagerTest extends VertxTest {
 
@@ -61,4 +64,21 @@ public class BidRequestConversionManagerTest extends VertxTest {
                 .extracting(BidRequest::getId)
                 .isEqualTo("2.5");
     }
+
+    @Test
+    public void convertFromAuctionSupportedVersionShouldPassConversionCacheToConverter() {
+        // given
+        final BidRequestOrtbVersionConverter converter = mock(BidRequestOrtbVersionConverter.class);
+        given(ortbVersionConverterFactory.getConverter(eq(OrtbVersion.ORTB_2_6), eq(OrtbVersion.ORTB_2_5)))
+                .willReturn(converter);
+        final BidRequest bidRequest = BidRequest.builder().build();
+        final OrtbVersionConversionCache conversionCache = new OrtbVersionConversionCache();
+
+        // when
+        ortbVersionConversionManager.convertFromAuctionSupportedVersion(
+                bidRequest, OrtbVersion.ORTB_2_5, conversionCache);
+
+        // then
+        verify(converter).convert(same(bidRequest), same(conversionCache));
+    }
 }
@@ -0,0 +1,62 @@
+package org.prebid.server.auction.versionconverter;
+
+import com.iab.openrtb.request.User;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrtbVersionConversionCacheTest {
+
+    private final OrtbVersionConversionCache target = new OrtbVersionConversionCache();
+
+    @Test
+    public void computeIfAbsentShouldConvertSameSubtreeOnlyOnceForTargetVersion() {
+        // given
+        final User user = User.builder().id("id").build();
+        final AtomicInteger conversions = new AtomicInteger();
+        final UnaryOperator<User> conversion = subtree -> {
+            conversions.incrementAndGet();
+            return subtree.toBuilder().id("converted").build();
+        };
+
+        // when
+        final User first = target.computeIfAbsent(OrtbVersion.ORTB_2_5, user, conversion);
+        final User second = target.computeIfAbsent(OrtbVersion.ORTB_2_5, user, conversion);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    public void computeIfAbsentShouldConvertSameSubtreeSeparatelyForDifferentTargetVersions() {
+        // given
+        final User user = User.builder().id("id").build();
+
+        // when
+        final User first = target.computeIfAbsent(OrtbVersion.ORTB_2_5, user, subtree -> null);
+        final User second = target.computeIfAbsent(
+                OrtbVersion.ORTB_2_6, user, subtree -> subtree.toBuilder().id("2.6").build());
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second.getId()).isEqualTo("2.6");
+    }
+
+    @Test
+    public void computeIfAbsentShouldReturnNullForUnchangedSubtreeOnSuccessiveCalls() {
+        // given
+        final User user = User.builder().id("id").build();
+        target.computeIfAbsent(OrtbVersion.ORTB_2_5, user, subtree -> null);
+
+        // when
+        final User result = target.computeIfAbsent(
+                OrtbVersion.ORTB_2_5, user, subtree -> subtree.toBuilder().id("other").build());
+
+        // then
+        assertThat(result).isNull();
+    }
+}
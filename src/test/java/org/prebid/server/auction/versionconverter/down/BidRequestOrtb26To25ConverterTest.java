@@ -25,6 +25,7 @@ import com.iab.openrtb.request.Video;
 import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.auction.versionconverter.OrtbVersionConversionCache;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.proto.openrtb.ext.request.ExtSource;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
@@ -275,6 +276,54 @@ public class BidRequestOrtb26To25ConverterTest extends VertxTest {
         });
     }
 
+    @Test
+    public void convertShouldReuseConvertedSharedSubtreesWithinConversionCache() {
+        // given
+        final User user = User.builder().kwarray(singletonList("kw")).build();
+        final Device device = Device.builder().langb("langb").build();
+        final Regs regs = Regs.builder().gdpr(1).build();
+        final Video video = Video.builder().plcmt(1).build();
+        final BidRequest firstBidRequest = givenBidRequest(request -> request
+                .imp(singletonList(givenImp(imp -> imp.id("1").video(video))))
+                .user(user)
+                .device(device)
+                .regs(regs));
+        final BidRequest secondBidRequest = givenBidRequest(request -> request
+                .imp(singletonList(givenImp(imp -> imp.id("2").video(video))))
+                .user(user)
+                .device(device)
+                .regs(regs));
+        final OrtbVersionConversionCache conversionCache = new OrtbVersionConversionCache();
+
+        // when
+        final BidRequest firstResult = converter.convert(firstBidRequest, conversionCache);
+        final BidRequest secondResult = converter.convert(secondBidRequest, conversionCache);
+
+        // then
+        assertThat(secondResult.getUser()).isSameAs(firstResult.getUser());
+        assertThat(secondResult.getDevice()).isSameAs(firstResult.getDevice());
+        assertThat(secondResult.getRegs()).isSameAs(firstResult.getRegs());
+        assertThat(secondResult.getImp().get(0).getVideo()).isSameAs(firstResult.getImp().get(0).getVideo());
+        assertThat(secondResult).isEqualTo(converter.convert(secondBidRequest));
+    }
+
+    @Test
+    public void convertShouldNotReuseConvertedSubtreesOfDifferentInstancesWithinConversionCache() {
+        // given
+        final BidRequest firstBidRequest = givenBidRequest(request -> request
+                .user(User.builder().kwarray(singletonList("kw")).build()));
+        final BidRequest secondBidRequest = givenBidRequest(request -> request
+                .user(User.builder().kwarray(singletonList("kw")).build()));
+        final OrtbVersionConversionCache conversionCache = new OrtbVersionConversionCache();
+
+        // when
+        final BidRequest firstResult = converter.convert(firstBidRequest, conversionCache);
+        final BidRequest secondResult = converter.convert(secondBidRequest, conversionCache);
+
+        // then
+        assertThat(secondResult.getUser()).isNotSameAs(firstResult.getUser()).isEqualTo(firstResult.getUser());
+    }
+
     private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
         return bidRequestCustomizer.apply(BidRequest.builder().imp(emptyList())).build();
     }
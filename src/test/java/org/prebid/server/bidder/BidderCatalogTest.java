@@ -6,6 +6,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.EndpointFormat;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 
 import java.util.List;
@@ -100,7 +101,8 @@ public class BidderCatalogTest {
                 99,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
 
         final BidderDeps bidderDeps = BidderDeps.of(singletonList(BidderInstanceDeps.builder()
                 .name(BIDDER)
@@ -130,7 +132,8 @@ public class BidderCatalogTest {
                 99,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
 
         final BidderInstanceDeps bidderInstanceDeps = BidderInstanceDeps.builder()
                 .name(BIDDER)
@@ -151,7 +154,8 @@ public class BidderCatalogTest {
                 99,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
 
         final BidderInstanceDeps aliasInstanceDeps = BidderInstanceDeps.builder()
                 .name("alias")
@@ -222,7 +226,8 @@ public class BidderCatalogTest {
                 99,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
 
         final BidderInfo infoOfBidderWithoutUsersyncConfig = BidderInfo.create(
                 true,
@@ -237,7 +242,8 @@ public class BidderCatalogTest {
                 99,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
 
         final BidderInfo infoOfDisabledBidderWithUsersyncConfig = BidderInfo.create(
                 false,
@@ -252,7 +258,8 @@ public class BidderCatalogTest {
                 99,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
 
         final List<BidderDeps> bidderDeps = List.of(
                 BidderDeps.of(singletonList(BidderInstanceDeps.builder()
@@ -318,7 +325,8 @@ public class BidderCatalogTest {
                 99,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
 
         final BidderDeps bidderDeps = BidderDeps.of(singletonList(BidderInstanceDeps.builder()
                 .name(BIDDER)
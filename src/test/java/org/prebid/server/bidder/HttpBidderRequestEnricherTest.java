@@ -17,6 +17,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidChannel;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.EndpointFormat;
 import org.prebid.server.version.PrebidVersionProvider;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -153,7 +154,8 @@ public class HttpBidderRequestEnricherTest {
                 0,
                 false,
                 false,
-                CompressionType.GZIP));
+                CompressionType.GZIP,
+                EndpointFormat.JSON));
 
         final CaseInsensitiveMultiMap originalHeaders = CaseInsensitiveMultiMap.builder().build();
 
@@ -188,7 +190,8 @@ public class HttpBidderRequestEnricherTest {
                 0,
                 false,
                 false,
-                CompressionType.GZIP));
+                CompressionType.GZIP,
+                EndpointFormat.JSON));
 
         final CaseInsensitiveMultiMap originalHeaders = CaseInsensitiveMultiMap.builder().build();
 
@@ -206,6 +209,44 @@ public class HttpBidderRequestEnricherTest {
         assertThat(resultHeaders.get("Content-Encoding")).isEqualTo("gzip");
     }
 
+    @Test
+    public void shouldReplaceContentTypeAndAcceptHeadersIfProtobufIsRequiredByBidderConfig() {
+        // given
+        when(bidderAliases.resolveBidder(BIDDER_NAME)).thenReturn(BIDDER_NAME);
+        when(bidderCatalog.bidderInfoByName(eq(BIDDER_NAME))).thenReturn(BidderInfo.create(
+                true,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                0,
+                false,
+                false,
+                CompressionType.NONE,
+                EndpointFormat.PROTOBUF));
+
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add("Content-Type", "application/json;charset=utf-8")
+                .add("Accept", "application/json");
+
+        // when
+        final MultiMap resultHeaders = requestEnricher
+                .enrichHeaders(
+                        BIDDER_NAME,
+                        headers,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        BidRequest.builder().build());
+
+        // then
+        assertThat(resultHeaders.getAll("Content-Type")).containsExactly("application/x-protobuf");
+        assertThat(resultHeaders.getAll("Accept")).containsExactly("application/x-protobuf");
+    }
+
     private static boolean isEqualsMultiMaps(MultiMap left, MultiMap right) {
         return left.size() == right.size() && left.entries().stream()
                 .allMatch(entry -> right.contains(entry.getKey(), entry.getValue(), true));
@@ -6,10 +6,12 @@ import com.iab.openrtb.request.Deal;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Pmp;
 import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
@@ -39,6 +41,7 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.protobuf.ProtobufOpenRtbCodec;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
@@ -93,6 +96,8 @@ public class HttpBidderRequesterTest extends VertxTest {
     @Mock
     private HttpBidderRequestEnricher requestEnricher;
     @Mock
+    private ProtobufOpenRtbCodec protobufOpenRtbCodec;
+    @Mock
     private RoutingContext routingContext;
     @Mock
     private HttpServerRequest httpServerRequest;
@@ -116,7 +121,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         httpBidderRequester = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper);
+                httpClient, null, bidderErrorNotifier, requestEnricher, protobufOpenRtbCodec, jacksonMapper);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -456,11 +461,152 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(actualRequestBody.getValue()).isNotSameAs(EMPTY_BYTE_BODY);
     }
 
+    @Test
+    public void shouldEncodeRequestBodyAsProtobufIfContentTypeHeaderIsProtobuf() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(identity());
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(builder -> builder.payload(bidRequest))),
+                emptyList()));
+
+        given(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any())).willReturn(headers);
+        given(protobufOpenRtbCodec.encodeBidRequest(any())).willReturn(new byte[]{10, 2, 105, 100});
+        givenHttpClientResponse(204, EMPTY);
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(bidRequest)
+                .build();
+
+        // when
+        httpBidderRequester.requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        verify(protobufOpenRtbCodec).encodeBidRequest(bidRequest);
+        verify(httpClient).request(any(), anyString(), any(), eq(new byte[]{10, 2, 105, 100}), anyLong());
+    }
+
+    @Test
+    public void shouldNotSendRequestIfProtobufIsExpectedButPayloadIsNotBidRequest() {
+        // given
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        given(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any())).willReturn(headers);
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                false)
+                        .result();
+
+        // then
+        verifyNoInteractions(httpClient);
+        assertThat(bidderSeatBid.getErrors()).containsOnly(
+                BidderError.generic("Only OpenRTB bid request can be sent in protobuf format"));
+    }
+
+    @Test
+    public void shouldPassProtobufResponseBodyDecodedToJsonToBidder() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        final MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF);
+        final Buffer responseBody = Buffer.buffer(new byte[]{10, 2, 105, 100});
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.ofBuffer(200, responseHeaders, responseBody)));
+        given(protobufOpenRtbCodec.decodeBidResponse(any())).willReturn(BidResponse.builder().id("id").build());
+        given(bidder.makeBids(any(), any())).willReturn(Result.empty());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        httpBidderRequester.requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        verify(protobufOpenRtbCodec).decodeBidResponse(responseBody);
+        final ArgumentCaptor<BidderCall<BidRequest>> bidderCallCaptor = ArgumentCaptor.forClass(BidderCall.class);
+        verify(bidder).makeBids(bidderCallCaptor.capture(), any());
+        assertThat(bidderCallCaptor.getValue().getResponse().getBody()).isEqualTo("{\"id\":\"id\"}");
+    }
+
+    @Test
+    public void shouldReturnNoBidsWithoutCallingBidderForEmptyProtobufResponse() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        final MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF);
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.ofBuffer(200, responseHeaders, null)));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                false)
+                        .result();
+
+        // then
+        verifyNoInteractions(protobufOpenRtbCodec);
+        verify(bidder, never()).makeBidderResponse(any(), any());
+        assertThat(bidderSeatBid.getBids()).isEmpty();
+        assertThat(bidderSeatBid.getErrors()).isEmpty();
+    }
+
     @Test
     public void shouldNotWaitForResponsesWhenAllDealsIsGathered() throws JsonProcessingException {
         // given
         httpBidderRequester = new HttpBidderRequester(httpClient, new DealsBidderRequestCompletionTrackerFactory(),
-                bidderErrorNotifier, requestEnricher, jacksonMapper);
+                bidderErrorNotifier, requestEnricher, protobufOpenRtbCodec, jacksonMapper);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
         final BidderRequest bidderRequest = BidderRequest.builder()
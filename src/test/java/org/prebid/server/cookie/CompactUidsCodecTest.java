@@ -0,0 +1,221 @@
+package org.prebid.server.cookie;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CompactUidsCodecTest {
+
+    private static final ZonedDateTime EXPIRES = ZonedDateTime.parse("2030-01-01T10:15:00Z");
+
+    private CompactUidsCodec target;
+
+    @Before
+    public void setUp() {
+        target = new CompactUidsCodec("1,rubicon\n1,adnxs\n");
+    }
+
+    @Test
+    public void creationShouldSucceedWithBundledFamilyCodes() throws IOException {
+        // when
+        final CompactUidsCodec codec = new CompactUidsCodec(ResourceUtil.readFromClasspath("uids-family-codes.csv"));
+
+        // then
+        final Uids uids = givenUids(Map.of("rubicon", new UidWithExpiry("uid", EXPIRES)), null);
+        assertThat(codec.decode(codec.encode(uids)).getUids()).isEqualTo(uids.getUids());
+    }
+
+    @Test
+    public void creationShouldFailWhenFamilyCodesAreNotAppendedInOrderOfVersions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CompactUidsCodec("2,rubicon\n1,adnxs"))
+                .withMessage("Uids family codes must be appended in order of dictionary versions: 1,adnxs");
+    }
+
+    @Test
+    public void creationShouldFailOnDuplicatedFamily() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CompactUidsCodec("1,rubicon\n2,rubicon"))
+                .withMessage("Duplicated family in uids family codes: rubicon");
+    }
+
+    @Test
+    public void decodeShouldReturnEncodedUids() {
+        // given
+        final Uids uids = givenUids(Map.of(
+                "rubicon", new UidWithExpiry("rubiconUid", EXPIRES),
+                "adnxs", new UidWithExpiry("adnxsUid", EXPIRES.plusDays(1)),
+                "unknown", new UidWithExpiry("unknownUid", null)), true);
+
+        // when
+        final Uids result = target.decode(target.encode(uids));
+
+        // then
+        assertThat(result.getUids()).isEqualTo(uids.getUids());
+        assertThat(result.getOptout()).isTrue();
+    }
+
+    @Test
+    public void encodeShouldWriteFamilyNamesOnlyOfUnknownFamilies() {
+        // given
+        final Uids uids = givenUids(Map.of(
+                "rubicon", new UidWithExpiry("uid1", EXPIRES),
+                "unknown", new UidWithExpiry("uid2", EXPIRES)), null);
+
+        // when
+        final byte[] result = target.encode(uids);
+
+        // then
+        assertThat(CompactUidsCodec.isCompact(result)).isTrue();
+        assertThat(new String(result, StandardCharsets.UTF_8))
+                .doesNotContain("rubicon")
+                .contains("unknown");
+    }
+
+    @Test
+    public void encodeShouldWriteLowestFamilyCodesVersionCoveringUsedCodes() {
+        // given
+        final CompactUidsCodec newerCodec = new CompactUidsCodec("1,rubicon\n1,adnxs\n2,openx\n3,ix");
+
+        // when
+        final byte[] result = newerCodec.encode(givenUids(Map.of(
+                "rubicon", new UidWithExpiry("uid1", EXPIRES),
+                "openx", new UidWithExpiry("uid2", EXPIRES)), null));
+
+        // then
+        assertThat(Arrays.copyOfRange(result, 1, 3)).containsExactly(0, 2);
+    }
+
+    @Test
+    public void decodeShouldReturnUidsOfValueEncodedWithOlderFamilyCodesVersion() {
+        // given
+        final CompactUidsCodec newerCodec = new CompactUidsCodec("1,rubicon\n1,adnxs\n2,openx");
+        final Uids uids = givenUids(Map.of(
+                "rubicon", new UidWithExpiry("uid1", EXPIRES),
+                "openx", new UidWithExpiry("uid2", EXPIRES)), null);
+
+        // when
+        final Uids result = newerCodec.decode(target.encode(uids));
+
+        // then
+        assertThat(result.getUids()).isEqualTo(uids.getUids());
+        assertThat(result.getOptout()).isNull();
+    }
+
+    @Test
+    public void decodeShouldFailOnValueEncodedWithUnknownFamilyCodesVersion() {
+        // given
+        final CompactUidsCodec newerCodec = new CompactUidsCodec("1,rubicon\n1,adnxs\n2,openx");
+        final byte[] value = newerCodec.encode(givenUids(Map.of(
+                "rubicon", new UidWithExpiry("uid1", EXPIRES),
+                "openx", new UidWithExpiry("uid2", EXPIRES)), null));
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(value))
+                .withMessage("Unsupported uids cookie family codes version");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decodeUid(value, "rubicon"))
+                .withMessage("Unsupported uids cookie family codes version");
+    }
+
+    @Test
+    public void decodeShouldFailOnFamilyCodeMissingInFamilyCodesVersionOfValue() {
+        // given
+        final CompactUidsCodec newerCodec = new CompactUidsCodec("1,rubicon\n1,adnxs\n2,openx");
+        final byte[] value = newerCodec.encode(givenUids(Map.of("openx", new UidWithExpiry("uid", EXPIRES)), null));
+        value[2] = 1;
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> newerCodec.decode(value))
+                .withMessage("Malformed uids cookie value");
+    }
+
+    @Test
+    public void decodeShouldRoundExpiresDown() {
+        // given
+        final ZonedDateTime expires = EXPIRES.plusSeconds(59);
+        final Uids uids = givenUids(Map.of("rubicon", new UidWithExpiry("uid", expires)), null);
+
+        // when
+        final Uids result = target.decode(target.encode(uids));
+
+        // then
+        assertThat(result.getUids().get("rubicon").getExpires()).isEqualTo(EXPIRES);
+    }
+
+    @Test
+    public void decodeUidShouldReturnUidOfGivenFamily() {
+        // given
+        final byte[] value = target.encode(givenUids(Map.of(
+                "rubicon", new UidWithExpiry("uid1", EXPIRES),
+                "adnxs", new UidWithExpiry("uid2", EXPIRES),
+                "unknown", new UidWithExpiry("uid3", EXPIRES)), null));
+
+        // when and then
+        assertThat(target.decodeUid(value, "adnxs")).isEqualTo(new UidWithExpiry("uid2", EXPIRES));
+        assertThat(target.decodeUid(value, "unknown")).isEqualTo(new UidWithExpiry("uid3", EXPIRES));
+        assertThat(target.decodeUid(value, "absent")).isNull();
+    }
+
+    @Test
+    public void decodeUidShouldReturnUidOfFamilyWrittenLiterallyByHostNotHavingItsCode() {
+        // given
+        final CompactUidsCodec newerCodec = new CompactUidsCodec("1,rubicon\n1,adnxs\n2,openx");
+        final byte[] value = target.encode(givenUids(Map.of(
+                "rubicon", new UidWithExpiry("uid1", EXPIRES),
+                "openx", new UidWithExpiry("uid2", EXPIRES)), null));
+
+        // when and then
+        assertThat(newerCodec.decodeUid(value, "openx")).isEqualTo(new UidWithExpiry("uid2", EXPIRES));
+        assertThat(newerCodec.decodeUid(value, "rubicon")).isEqualTo(new UidWithExpiry("uid1", EXPIRES));
+    }
+
+    @Test
+    public void decodeShouldFailOnMalformedValue() {
+        // given
+        final byte[] value = target.encode(givenUids(Map.of("rubicon", new UidWithExpiry("uid", EXPIRES)), null));
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(Arrays.copyOf(value, value.length - 2)));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode("{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void removedUidLengthShouldReturnDifferenceOfEncodedValuesLength() {
+        // given
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < 127; i++) {
+            uids.put("family" + i, new UidWithExpiry("uid" + i, EXPIRES));
+        }
+        uids.put("rubicon", new UidWithExpiry("uid", EXPIRES));
+
+        final int initialLength = target.encode(givenUids(uids, null)).length;
+        final UidWithExpiry removedUid = uids.remove("rubicon");
+
+        // when
+        final int result = target.removedUidLength("rubicon", removedUid, uids.size() + 1);
+
+        // then
+        assertThat(result).isEqualTo(initialLength - target.encode(givenUids(uids, null)).length);
+    }
+
+    private static Uids givenUids(Map<String, UidWithExpiry> uids, Boolean optout) {
+        return Uids.builder().uids(uids).optout(optout).build();
+    }
+}
@@ -30,7 +30,9 @@ import static java.util.Collections.singletonMap;
 import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -425,6 +427,81 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
     }
 
+    @Test
+    public void shouldReturnUidsCookieFromCompactCookieValue() {
+        // given
+        final CompactUidsCodec compactUidsCodec = givenCompactUidsCodec();
+        uidsCookieService = givenUidsCookieService(compactUidsCodec, false, MAX_COOKIE_SIZE_BYTES);
+
+        final Uids uids = Uids.builder()
+                .uids(Map.of(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT"), ADNXS, UidWithExpiry.live("12345")))
+                .build();
+        final Map<String, String> cookies = singletonMap("uids",
+                Base64.getUrlEncoder().withoutPadding().encodeToString(compactUidsCodec.encode(uids)));
+
+        // when
+        final UidsCookie uidsCookie = uidsCookieService.parseFromCookies(cookies);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
+        assertThat(uidsCookie.uidFrom(ADNXS)).isEqualTo("12345");
+        assertThat(uidsCookie.hasLiveUidFrom(RUBICON)).isTrue();
+    }
+
+    @Test
+    public void toCookieShouldReturnCookieWithCompactValueWhenCompactFormatEnabled() {
+        // given
+        final CompactUidsCodec compactUidsCodec = givenCompactUidsCodec();
+        uidsCookieService = givenUidsCookieService(compactUidsCodec, true, MAX_COOKIE_SIZE_BYTES);
+
+        final UidsCookie uidsCookie = givenUidsCookie(new HashMap<>())
+                .updateUid(RUBICON, "rubiconUid")
+                .updateUid("unknown", "unknownUid");
+
+        // when
+        final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
+
+        // then
+        final byte[] value = Base64.getUrlDecoder().decode(cookie.getValue());
+        assertThat(CompactUidsCodec.isCompact(value)).isTrue();
+        assertThat(compactUidsCodec.decode(value).getUids())
+                .extractingByKeys(RUBICON, "unknown")
+                .extracting(UidWithExpiry::getUid)
+                .containsExactly("rubiconUid", "unknownUid");
+    }
+
+    @Test
+    public void hostCookieUidToSyncShouldReturnNullWhenUidInCompactUidsCookieSameAsUidInHostCookie() {
+        // given
+        final CompactUidsCodec compactUidsCodec = givenCompactUidsCodec();
+        uidsCookieService = new UidsCookieService(
+                "trp_optout",
+                "true",
+                RUBICON,
+                "khaos",
+                "cookie-domain",
+                90,
+                MAX_COOKIE_SIZE_BYTES,
+                prioritizedCoopSyncProvider,
+                compactUidsCodec,
+                false,
+                metrics,
+                jacksonMapper);
+
+        final Uids uids = Uids.builder()
+                .uids(Map.of(RUBICON, UidWithExpiry.live("hostCookieUid"), ADNXS, UidWithExpiry.live("adnxsUid")))
+                .build();
+        given(routingContext.cookieMap()).willReturn(Map.of(
+                "khaos", Cookie.cookie("khaos", "hostCookieUid"),
+                "uids", Cookie.cookie("uids", Base64.getUrlEncoder().encodeToString(compactUidsCodec.encode(uids)))));
+
+        // when
+        final String result = uidsCookieService.hostCookieUidToSync(routingContext, RUBICON);
+
+        // then
+        assertThat(result).isNull();
+    }
+
     @Test
     public void shouldParseHostCookie() {
         // given
@@ -765,6 +842,92 @@ public class UidsCookieServiceTest extends VertxTest {
                 .containsExactlyInAnyOrder("family", "another-very-very-very-long-family");
     }
 
+    @Test
+    public void updateUidsCookieShouldTrimCookieToLimitRemovingOnlyRequiredUids() {
+        // given
+        uidsCookieService = givenUidsCookieService(null, false, 1000);
+        given(prioritizedCoopSyncProvider.hasPrioritizedBidders()).willReturn(false);
+
+        final Map<String, UidWithExpiry> uids = givenUidsExpiringInOrder(100);
+
+        // when
+        final UidsCookieUpdateResult result = uidsCookieService.updateUidsCookie(
+                givenUidsCookie(uids), "family", "uid");
+
+        // then
+        assertTrimmedToLimit(uids, result.getUidsCookie(), 1000);
+    }
+
+    @Test
+    public void updateUidsCookieShouldTrimCompactCookieToLimitRemovingOnlyRequiredUids() {
+        // given
+        uidsCookieService = givenUidsCookieService(givenCompactUidsCodec(), true, 600);
+        given(prioritizedCoopSyncProvider.hasPrioritizedBidders()).willReturn(false);
+
+        final Map<String, UidWithExpiry> uids = givenUidsExpiringInOrder(100);
+
+        // when
+        final UidsCookieUpdateResult result = uidsCookieService.updateUidsCookie(
+                givenUidsCookie(uids), "family", "uid");
+
+        // then
+        assertTrimmedToLimit(uids, result.getUidsCookie(), 600);
+    }
+
+    private static Map<String, UidWithExpiry> givenUidsExpiringInOrder(int count) {
+        final ZonedDateTime now = ZonedDateTime.now();
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            uids.put("family" + i, new UidWithExpiry("uid" + i, now.plusMinutes(10 + i)));
+        }
+        return uids;
+    }
+
+    // uids with the soonest expiration should be removed to fit the limit and returning the last one exceeds it
+    private void assertTrimmedToLimit(Map<String, UidWithExpiry> originalUids,
+                                      UidsCookie trimmedCookie,
+                                      int maxCookieSizeBytes) {
+
+        final Map<String, UidWithExpiry> trimmedUids = trimmedCookie.getCookieUids().getUids();
+        assertThat(trimmedUids).containsKey("family");
+        assertThat(uidsCookieService.toCookie(trimmedCookie).encode().length())
+                .isLessThanOrEqualTo(maxCookieSizeBytes);
+
+        final int removedCount = originalUids.size() + 1 - trimmedUids.size();
+        verify(metrics, times(removedCount)).updateUserSyncSizedOutMetric(anyString());
+
+        final String lastRemovedFamily = "family" + (removedCount - 1);
+        assertThat(trimmedUids).doesNotContainKey(lastRemovedFamily);
+
+        final Map<String, UidWithExpiry> notTrimmedEnoughUids = new HashMap<>(trimmedUids);
+        notTrimmedEnoughUids.put(lastRemovedFamily, originalUids.get(lastRemovedFamily));
+        assertThat(uidsCookieService.toCookie(givenUidsCookie(notTrimmedEnoughUids)).encode().length())
+                .isGreaterThan(maxCookieSizeBytes);
+    }
+
+    private UidsCookieService givenUidsCookieService(CompactUidsCodec compactUidsCodec,
+                                                     boolean compactFormatEnabled,
+                                                     int maxCookieSizeBytes) {
+
+        return new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                maxCookieSizeBytes,
+                prioritizedCoopSyncProvider,
+                compactUidsCodec,
+                compactFormatEnabled,
+                metrics,
+                jacksonMapper);
+    }
+
+    private CompactUidsCodec givenCompactUidsCodec() {
+        return new CompactUidsCodec("1," + RUBICON + "\n1," + ADNXS);
+    }
+
     private UidsCookie givenUidsCookie(Map<String, UidWithExpiry> uids) {
         return new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
     }
@@ -0,0 +1,75 @@
+package org.prebid.server.currency;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyRatesMatrixTest {
+
+    private static final String USD = "USD";
+    private static final String GBP = "GBP";
+    private static final String EUR = "EUR";
+    private static final String UAH = "UAH";
+
+    @Test
+    public void getRateShouldReturnStraightRate() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(singletonMap(GBP,
+                singletonMap(EUR, BigDecimal.valueOf(1.1565))));
+
+        // when and then
+        assertThat(target.getRate(GBP, EUR)).isEqualTo(BigDecimal.valueOf(1.1565));
+    }
+
+    @Test
+    public void getRateShouldReturnPrecomputedReverseRate() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(singletonMap(GBP,
+                singletonMap(EUR, BigDecimal.valueOf(1.1565))));
+
+        // when and then
+        assertThat(target.getRate(EUR, GBP)).isEqualTo(new BigDecimal("0.86468"));
+    }
+
+    @Test
+    public void getRateShouldReturnPrecomputedIntermediateRate() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new HashMap<>();
+        rates.put(GBP, singletonMap(USD, BigDecimal.valueOf(1.4306)));
+        rates.put(EUR, singletonMap(USD, BigDecimal.valueOf(1.2304)));
+
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(rates);
+
+        // when and then
+        assertThat(target.getRate(EUR, GBP)).isEqualTo(new BigDecimal("0.86006"));
+    }
+
+    @Test
+    public void getRateShouldReturnNullWhenRateCannotBeResolved() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new HashMap<>();
+        rates.put(GBP, singletonMap(USD, BigDecimal.valueOf(1.4306)));
+        rates.put(UAH, singletonMap(EUR, BigDecimal.valueOf(0.2)));
+
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(rates);
+
+        // when and then
+        assertThat(target.getRate(GBP, EUR)).isNull();
+        assertThat(target.getRate("unknown", EUR)).isNull();
+    }
+
+    @Test
+    public void getRateShouldReturnNullWhenRatesAreEmpty() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(emptyMap());
+
+        // when and then
+        assertThat(target.getRate(GBP, EUR)).isNull();
+    }
+}
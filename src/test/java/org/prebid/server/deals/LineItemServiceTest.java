@@ -1,6 +1,7 @@
 package org.prebid.server.deals;
 
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.User;
@@ -29,6 +30,8 @@ import org.prebid.server.deals.proto.LineItemMetaData;
 import org.prebid.server.deals.proto.Price;
 import org.prebid.server.deals.proto.Token;
 import org.prebid.server.deals.targeting.TargetingDefinition;
+import org.prebid.server.deals.targeting.interpret.IntersectsStrings;
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
@@ -68,6 +71,7 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -529,6 +533,21 @@ public class LineItemServiceTest extends VertxTest {
                 .isTrue();
     }
 
+    @Test
+    public void accountHasDealsShouldReturnTrueWhenLineItemHasNoSource() {
+        // given
+        final List<LineItemMetaData> planResponse = singletonList(
+                givenLineItemMetaData("lineItem1", "1001", null,
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1), now.plusHours(1),
+                                emptySet())), now));
+        lineItemService.updateLineItems(planResponse, true);
+
+        // when and then
+        assertThat(lineItemService.accountHasDeals(AuctionContext.builder()
+                .account(Account.builder().id("1001").build()).build()))
+                .isTrue();
+    }
+
     @Test
     public void accountHasDealsShouldReturnFalseWhenAccountIsEmptyString() {
         // given
@@ -665,6 +684,63 @@ public class LineItemServiceTest extends VertxTest {
         assertThat(result.getLineItems()).extracting(LineItem::getLineItemId).containsOnly("lineItem1");
     }
 
+    @Test
+    public void findMatchingLineItemsShouldNotReturnLineItemsRightAfterTheyWereInvalidatedByIds() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(emptyList());
+
+        givenTargetingService();
+
+        givenClock(now, now.plusMinutes(1));
+
+        final List<LineItemMetaData> planResponse = asList(
+                givenLineItemMetaData("lineItem1", "accountId", "rubicon",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1), now.plusMinutes(1),
+                                singleton(Token.of(1, 100)))), now),
+                givenLineItemMetaData("lineItem2", "accountId", "rubicon",
+                        singletonList(givenDeliverySchedule("planId2", now.minusHours(1), now.plusMinutes(1),
+                                singleton(Token.of(1, 100)))), now));
+
+        lineItemService.updateLineItems(planResponse, true);
+        lineItemService.invalidateLineItemsByIds(singletonList("lineItem1"));
+
+        final Imp imp = Imp.builder().id("imp1").build();
+
+        // when
+        final MatchLineItemsResult result = lineItemService.findMatchingLineItems(
+                auctionContext.getBidRequest(), imp, "rubicon", bidderAliases, auctionContext);
+
+        // then
+        assertThat(result.getLineItems()).extracting(LineItem::getLineItemId).containsOnly("lineItem2");
+    }
+
+    @Test
+    public void findMatchingLineItemsShouldReturnEmptyListRightAfterLineItemsWereInvalidated() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(emptyList());
+
+        givenTargetingService();
+
+        givenClock(now, now.plusMinutes(1));
+
+        final List<LineItemMetaData> planResponse = singletonList(
+                givenLineItemMetaData("lineItem1", "accountId", "rubicon",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1), now.plusMinutes(1),
+                                singleton(Token.of(1, 100)))), now));
+
+        lineItemService.updateLineItems(planResponse, true);
+        lineItemService.invalidateLineItems();
+
+        final Imp imp = Imp.builder().id("imp1").build();
+
+        // when
+        final MatchLineItemsResult result = lineItemService.findMatchingLineItems(
+                auctionContext.getBidRequest(), imp, "rubicon", bidderAliases, auctionContext);
+
+        // then
+        assertThat(result.getLineItems()).isEmpty();
+    }
+
     @Test
     public void findMatchingLineItemsShouldReturnLineItemsWhenLineItemsBidderIsAlias() {
         // given
@@ -753,7 +829,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(TargetingDefinition.of(context -> false));
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
@@ -796,6 +872,44 @@ public class LineItemServiceTest extends VertxTest {
                         "Line Item id1 targeting did not match imp with id imp1"));
     }
 
+    @Test
+    public void findMatchingLineItemsShouldNotEvaluateTargetingOfLineItemsForOtherMediaTypes() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(emptyList()).toBuilder()
+                .deepDebugLog(DeepDebugLog.create(false, clock))
+                .build();
+
+        given(targetingService.parseTargetingDefinition(any(), any()))
+                .willReturn(TargetingDefinition.of(new IntersectsStrings(
+                        new TargetingCategory(TargetingCategory.Type.mediaType), singletonList("video"))));
+
+        givenClock(now, now.plusMinutes(1));
+
+        final List<LineItemMetaData> planResponse = singletonList(
+                LineItemMetaData.builder()
+                        .startTimeStamp(now.minusMinutes(1))
+                        .endTimeStamp(now.plusMinutes(1))
+                        .lineItemId("id1")
+                        .status("active")
+                        .source("rubicon")
+                        .accountId("accountId")
+                        .deliverySchedules(singletonList(givenDeliverySchedule("planId1", now.minusHours(1),
+                                now.plusMinutes(1), singleton(Token.of(1, 100)))))
+                        .build());
+
+        lineItemService.updateLineItems(planResponse, true);
+
+        final Imp imp = Imp.builder().id("imp1").banner(Banner.builder().build()).build();
+
+        // when
+        final MatchLineItemsResult result = lineItemService.findMatchingLineItems(
+                auctionContext.getBidRequest(), imp, "rubicon", bidderAliases, auctionContext);
+
+        // then
+        assertThat(result.getLineItems()).isEmpty();
+        verify(targetingService, never()).matchesTargeting(any(), any());
+    }
+
     @Test
     public void findMatchingLineItemsShouldReturnLineItemsThatMatchedTargeting() {
         // given
@@ -805,7 +919,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(TargetingDefinition.of(context -> false));
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
@@ -859,7 +973,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(null);
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
@@ -2059,12 +2173,12 @@ public class LineItemServiceTest extends VertxTest {
     private void givenTargetingService() {
         given(targetingService.parseTargetingDefinition(any(), any()))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
     }
 
     private Answer<Boolean> withEvaluatedTargeting() {
-        return invocation -> ((TargetingDefinition) invocation.getArgument(2)).getRootExpression().matches(null);
+        return invocation -> ((TargetingDefinition) invocation.getArgument(1)).getRootExpression().matches(null);
     }
 
     private void givenClock(ZonedDateTime... dateTimes) {
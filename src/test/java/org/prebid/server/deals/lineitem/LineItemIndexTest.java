@@ -0,0 +1,173 @@
+package org.prebid.server.deals.lineitem;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Video;
+import org.junit.Test;
+import org.prebid.server.deals.proto.LineItemMetaData;
+import org.prebid.server.deals.targeting.TargetingDefinition;
+import org.prebid.server.deals.targeting.interpret.And;
+import org.prebid.server.deals.targeting.interpret.Expression;
+import org.prebid.server.deals.targeting.interpret.IntersectsSizes;
+import org.prebid.server.deals.targeting.interpret.IntersectsStrings;
+import org.prebid.server.deals.targeting.interpret.Or;
+import org.prebid.server.deals.targeting.model.Size;
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LineItemIndexTest {
+
+    private static final TargetingCategory MEDIA_TYPE = new TargetingCategory(TargetingCategory.Type.mediaType);
+    private static final TargetingCategory SIZE = new TargetingCategory(TargetingCategory.Type.size);
+
+    @Test
+    public void hasAccountShouldReturnTrueOnlyForAccountsWithLineItems() {
+        // given
+        final LineItemIndex index = LineItemIndex.of(singletonList(givenLineItem("id", "account", "rubicon", null)));
+
+        // when and then
+        assertThat(index.hasAccount("account")).isTrue();
+        assertThat(index.hasAccount("other")).isFalse();
+        assertThat(LineItemIndex.empty().hasAccount("account")).isFalse();
+    }
+
+    @Test
+    public void lineItemsShouldReturnAccountLineItemsOfMatchedSources() {
+        // given
+        final LineItemIndex index = LineItemIndex.of(asList(
+                givenLineItem("id1", "account", "rubicon", null),
+                givenLineItem("id2", "account", "appnexus", null),
+                givenLineItem("id3", "other", "rubicon", null)));
+
+        // when and then
+        assertThat(index.lineItems("account", "rubicon"::equals))
+                .extracting(LineItem::getLineItemId)
+                .containsExactly("id1");
+        assertThat(index.lineItems("account"))
+                .extracting(LineItem::getLineItemId)
+                .containsExactlyInAnyOrder("id1", "id2");
+    }
+
+    @Test
+    public void lineItemsShouldReturnAccountLineItemsWithoutSourceOnlyWhenSourceIsNotMatched() {
+        // given
+        final LineItemIndex index = LineItemIndex.of(asList(
+                givenLineItem("id1", "account", "rubicon", null),
+                givenLineItem("id2", "account", null, null)));
+
+        // when and then
+        assertThat(index.hasAccount("account")).isTrue();
+        assertThat(index.lineItems("account", source -> true))
+                .extracting(LineItem::getLineItemId)
+                .containsExactly("id1");
+        assertThat(index.lineItems("account"))
+                .extracting(LineItem::getLineItemId)
+                .containsExactlyInAnyOrder("id1", "id2");
+    }
+
+    @Test
+    public void candidatesShouldFilterOutLineItemsTargetingOtherMediaTypes() {
+        // given
+        final LineItemIndex index = LineItemIndex.of(asList(
+                givenLineItem("banner", "account", "rubicon", intersectsMediaTypes("banner")),
+                givenLineItem("video", "account", "rubicon", intersectsMediaTypes("video")),
+                givenLineItem("any", "account", "rubicon", context -> true)));
+
+        final Imp imp = Imp.builder().banner(Banner.builder().build()).build();
+
+        // when
+        final List<LineItem> result = index.candidates("account", "rubicon"::equals, imp);
+
+        // then
+        assertThat(result).extracting(LineItem::getLineItemId).containsExactlyInAnyOrder("banner", "any");
+    }
+
+    @Test
+    public void candidatesShouldFilterOutLineItemsTargetingOtherSizesWithinConjunction() {
+        // given
+        final Expression sizeTargeting = new And(asList(
+                intersectsMediaTypes("banner", "video"),
+                new IntersectsSizes(SIZE, singletonList(Size.of(300, 250)))));
+        final LineItemIndex index = LineItemIndex.of(asList(
+                givenLineItem("300x250", "account", "rubicon", sizeTargeting),
+                givenLineItem("728x90", "account", "rubicon", new And(singletonList(
+                        new IntersectsSizes(SIZE, singletonList(Size.of(728, 90))))))));
+
+        final Imp imp = Imp.builder()
+                .banner(Banner.builder().format(singletonList(Format.builder().w(300).h(250).build())).build())
+                .build();
+
+        // when
+        final List<LineItem> result = index.candidates("account", "rubicon"::equals, imp);
+
+        // then
+        assertThat(result).extracting(LineItem::getLineItemId).containsExactly("300x250");
+    }
+
+    @Test
+    public void candidatesShouldNotFilterByTargetingNestedIntoDisjunction() {
+        // given
+        final Expression targeting = new Or(asList(
+                intersectsMediaTypes("banner"),
+                new IntersectsSizes(SIZE, singletonList(Size.of(640, 480)))));
+        final LineItemIndex index = LineItemIndex.of(singletonList(
+                givenLineItem("id", "account", "rubicon", targeting)));
+
+        final Imp imp = Imp.builder().video(Video.builder().w(640).h(480).build()).build();
+
+        // when
+        final List<LineItem> result = index.candidates("account", "rubicon"::equals, imp);
+
+        // then
+        assertThat(result).extracting(LineItem::getLineItemId).containsExactly("id");
+    }
+
+    @Test
+    public void candidatesShouldReturnLineItemsWithoutTargetingDefinition() {
+        // given
+        final LineItemIndex index = LineItemIndex.of(singletonList(
+                LineItem.of(givenMetaData("id", "account", "rubicon"), null, null, ZonedDateTime.now())));
+
+        // when
+        final List<LineItem> result = index.candidates("account", "rubicon"::equals, Imp.builder().build());
+
+        // then
+        assertThat(result).extracting(LineItem::getLineItemId).containsExactly("id");
+    }
+
+    @Test
+    public void candidatesShouldReturnEmptyListForUnknownAccount() {
+        // given
+        final LineItemIndex index = LineItemIndex.of(singletonList(givenLineItem("id", "account", "rubicon", null)));
+
+        // when and then
+        assertThat(index.candidates("other", "rubicon"::equals, Imp.builder().build())).isEmpty();
+    }
+
+    private static Expression intersectsMediaTypes(String... mediaTypes) {
+        return new IntersectsStrings(MEDIA_TYPE, asList(mediaTypes));
+    }
+
+    private static LineItem givenLineItem(String id, String accountId, String source, Expression targeting) {
+        return LineItem.of(
+                givenMetaData(id, accountId, source),
+                null,
+                TargetingDefinition.of(targeting != null ? targeting : context -> true),
+                ZonedDateTime.now());
+    }
+
+    private static LineItemMetaData givenMetaData(String id, String accountId, String source) {
+        return LineItemMetaData.builder()
+                .lineItemId(id)
+                .accountId(accountId)
+                .source(source)
+                .build();
+    }
+}
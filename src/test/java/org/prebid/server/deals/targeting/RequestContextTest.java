@@ -70,6 +70,22 @@ public class RequestContextTest extends VertxTest {
         assertThat(context.lookupString(category).getValues()).containsExactly("domain.com");
     }
 
+    @Test
+    public void lookupStringShouldReturnMemoizedResultForSameCategory() {
+        // given
+        final RequestContext context = new RequestContext(
+                request(r -> r.site(site(s -> s.domain("domain.com")))),
+                imp(identity()),
+                txnLog,
+                jacksonMapper);
+
+        final LookupResult<String> result =
+                context.lookupString(new TargetingCategory(TargetingCategory.Type.domain));
+
+        // when and then
+        assertThat(context.lookupString(new TargetingCategory(TargetingCategory.Type.domain))).isSameAs(result);
+    }
+
     @Test
     public void lookupStringShouldReturnDomainFromSitePublisher() {
         // given
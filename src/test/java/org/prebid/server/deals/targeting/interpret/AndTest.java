@@ -7,11 +7,13 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.deals.targeting.RequestContext;
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class AndTest {
@@ -24,6 +26,12 @@ public class AndTest {
     @Mock
     private TerminalExpression falseExpression;
     @Mock
+    private TerminalExpression sizeExpression;
+    @Mock
+    private TerminalExpression locationExpression;
+    @Mock
+    private Expression domainMetricAwareExpression;
+    @Mock
     private RequestContext context;
 
     @Before
@@ -49,4 +57,34 @@ public class AndTest {
         verify(trueExpression).matches(context);
         verify(falseExpression).matches(context);
     }
+
+    @Test
+    public void matchesShouldEvaluateCheaperExpressionsFirst() {
+        // given
+        given(locationExpression.category()).willReturn(new TargetingCategory(TargetingCategory.Type.location));
+        given(sizeExpression.category()).willReturn(new TargetingCategory(TargetingCategory.Type.size));
+        given(sizeExpression.matches(any())).willReturn(false);
+
+        // when and then
+        assertThat(new And(asList(locationExpression, sizeExpression)).matches(context)).isFalse();
+
+        verify(sizeExpression).matches(context);
+        verify(locationExpression, never()).matches(context);
+    }
+
+    @Test
+    public void matchesShouldNotMoveCheaperExpressionsOverExpressionOfUnknownCost() {
+        // given
+        given(locationExpression.category()).willReturn(new TargetingCategory(TargetingCategory.Type.location));
+        given(sizeExpression.category()).willReturn(new TargetingCategory(TargetingCategory.Type.size));
+        given(locationExpression.matches(any())).willReturn(false);
+
+        // when and then
+        assertThat(new And(asList(locationExpression, domainMetricAwareExpression, sizeExpression))
+                .matches(context)).isFalse();
+
+        verify(locationExpression).matches(context);
+        verify(domainMetricAwareExpression, never()).matches(context);
+        verify(sizeExpression, never()).matches(context);
+    }
 }
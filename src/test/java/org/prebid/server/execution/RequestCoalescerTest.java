@@ -0,0 +1,119 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestCoalescerTest {
+
+    private AtomicInteger coalescedCount;
+
+    private RequestCoalescer<String, String> target;
+
+    @Before
+    public void setUp() {
+        coalescedCount = new AtomicInteger();
+        target = new RequestCoalescer<>(coalescedCount::incrementAndGet);
+    }
+
+    @Test
+    public void executeShouldShareCallInProgressBetweenCallersOfSameKey() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final Future<String> first = target.execute("key", () -> {
+            calls.incrementAndGet();
+            return promise.future();
+        });
+        final Future<String> second = target.execute("key", () -> {
+            calls.incrementAndGet();
+            return Future.succeededFuture("other");
+        });
+        promise.complete("value");
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(coalescedCount).hasValue(1);
+        assertThat(first.result()).isEqualTo("value");
+        assertThat(second.result()).isEqualTo("value");
+    }
+
+    @Test
+    public void executeShouldStartNewCallAfterPreviousIsCompleted() {
+        // given
+        target.execute("key", () -> Future.succeededFuture("first"));
+
+        // when
+        final Future<String> result = target.execute("key", () -> Future.succeededFuture("second"));
+
+        // then
+        assertThat(result.result()).isEqualTo("second");
+        assertThat(coalescedCount).hasValue(0);
+    }
+
+    @Test
+    public void executeShouldReleaseKeyIfCallThrowsException() {
+        // given
+        final Future<String> failed = target.execute("key", () -> {
+            throw new IllegalStateException("error");
+        });
+
+        // when
+        final Future<String> result = target.execute("key", () -> Future.succeededFuture("value"));
+
+        // then
+        assertThat(failed.cause()).isInstanceOf(IllegalStateException.class).hasMessage("error");
+        assertThat(result.result()).isEqualTo("value");
+    }
+
+    @Test
+    public void executeAllShouldCallOnlyForKeysWithoutCallInProgress() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        target.execute("key1", promise::future);
+        final List<Set<String>> calledKeys = new ArrayList<>();
+
+        // when
+        final Map<String, Future<String>> result = target.executeAll(Set.of("key1", "key2"), keys -> {
+            calledKeys.add(keys);
+            return Future.succeededFuture("own");
+        });
+        promise.complete("pending");
+
+        // then
+        assertThat(calledKeys).containsExactly(Set.of("key2"));
+        assertThat(coalescedCount).hasValue(1);
+        assertThat(result.get("key1").result()).isEqualTo("pending");
+        assertThat(result.get("key2").result()).isEqualTo("own");
+    }
+
+    @Test
+    public void executeAllShouldNotCallIfAllKeysAreInProgress() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        target.execute("key", promise::future);
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final Map<String, Future<String>> result = target.executeAll(Set.of("key"), keys -> {
+            calls.incrementAndGet();
+            return Future.succeededFuture("own");
+        });
+        promise.fail("error");
+
+        // then
+        assertThat(calls).hasValue(0);
+        assertThat(result.get("key").cause()).hasMessage("error");
+    }
+}
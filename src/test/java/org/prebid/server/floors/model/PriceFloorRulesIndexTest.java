@@ -0,0 +1,137 @@
+package org.prebid.server.floors.model;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriceFloorRulesIndexTest {
+
+    private static final PriceFloorSchema SCHEMA = PriceFloorSchema.of("|", List.of(
+            PriceFloorField.domain, PriceFloorField.mediaType, PriceFloorField.size));
+
+    @Test
+    public void findShouldReturnExactMatchFirst() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(SCHEMA, Map.of(
+                "domain|banner|300x250", BigDecimal.ONE,
+                "domain|banner|*", BigDecimal.TEN));
+
+        // when
+        final PriceFloorRulesIndex.Rule result = index.find(givenFieldValues("domain", "banner", "300x250"));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRulesIndex.Rule.of("domain|banner|300x250", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldPreferWildcardAtLaterSchemaPosition() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(SCHEMA, Map.of(
+                "*|banner|300x250", BigDecimal.ONE,
+                "domain|*|300x250", BigDecimal.TEN));
+
+        // when
+        final PriceFloorRulesIndex.Rule result = index.find(givenFieldValues("domain", "banner", "300x250"));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRulesIndex.Rule.of("domain|*|300x250", BigDecimal.TEN));
+    }
+
+    @Test
+    public void findShouldPreferLessWildcards() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(SCHEMA, Map.of(
+                "domain|*|*", BigDecimal.ONE,
+                "*|banner|300x250", BigDecimal.TEN));
+
+        // when
+        final PriceFloorRulesIndex.Rule result = index.find(givenFieldValues("domain", "banner", "300x250"));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRulesIndex.Rule.of("*|banner|300x250", BigDecimal.TEN));
+    }
+
+    @Test
+    public void findShouldTreatUnknownFieldValueAsWildcard() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(SCHEMA, Map.of(
+                "*|*|300x250", BigDecimal.ONE,
+                "domain|*|*", BigDecimal.TEN));
+
+        // when
+        final PriceFloorRulesIndex.Rule result = index.find(givenFieldValues("domain", "*", "300x250"));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRulesIndex.Rule.of("domain|*|*", BigDecimal.TEN));
+    }
+
+    @Test
+    public void findShouldMatchAnyOfFieldValues() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(SCHEMA, Map.of(
+                "domain|video-instream|*", BigDecimal.ONE));
+
+        // when
+        final PriceFloorRulesIndex.Rule result = index.find(List.of(
+                singletonList("domain"), List.of("video", "video-instream"), singletonList("640x480")));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRulesIndex.Rule.of("domain|video-instream|*", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldMatchRuleKeysCaseInsensitive() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(SCHEMA, Map.of(
+                "Domain|BANNER|*", BigDecimal.ONE));
+
+        // when
+        final PriceFloorRulesIndex.Rule result = index.find(givenFieldValues("domain", "banner", "300x250"));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRulesIndex.Rule.of("domain|banner|*", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldRespectSchemaDelimiter() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(
+                PriceFloorSchema.of("::", List.of(PriceFloorField.domain, PriceFloorField.mediaType)),
+                Map.of("domain::banner", BigDecimal.ONE));
+
+        // when
+        final PriceFloorRulesIndex.Rule result = index.find(List.of(singletonList("domain"), singletonList("banner")));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRulesIndex.Rule.of("domain::banner", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldIgnoreRulesNotMatchingSchemaSize() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(SCHEMA, Map.of(
+                "domain|banner", BigDecimal.ONE));
+
+        // when and then
+        assertThat(index.find(givenFieldValues("domain", "banner", "*"))).isNull();
+    }
+
+    @Test
+    public void findShouldReturnNullWhenSchemaIsAbsent() {
+        // given
+        final PriceFloorRulesIndex index = PriceFloorRulesIndex.of(null, Map.of("*", BigDecimal.ONE));
+
+        // when and then
+        assertThat(index.find(singletonList(singletonList("*")))).isNull();
+    }
+
+    private static List<List<String>> givenFieldValues(String... values) {
+        return Arrays.stream(values).map(List::of).toList();
+    }
+}
@@ -1,39 +1,47 @@
 package org.prebid.server.geolocation;
 
-import com.maxmind.geoip2.DatabaseReader;
-import com.maxmind.geoip2.exception.GeoIp2Exception;
-import com.maxmind.geoip2.model.CityResponse;
-import com.maxmind.geoip2.record.City;
-import com.maxmind.geoip2.record.Continent;
-import com.maxmind.geoip2.record.Country;
-import com.maxmind.geoip2.record.Location;
-import com.maxmind.geoip2.record.Subdivision;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Future;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
-import org.mockito.Mockito;
+import org.mockito.Mock;
 import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.net.InetAddress;
 
-import static java.util.Collections.singletonList;
-import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
-public class MaxMindGeoLocationServiceTest {
+public class MaxMindGeoLocationServiceTest extends VertxTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private MaxMindDatabaseReader databaseReader;
+    @Mock
+    private Metrics metrics;
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
     @Before
     public void setUp() {
-        maxMindGeoLocationService = new MaxMindGeoLocationService();
+        maxMindGeoLocationService = new MaxMindGeoLocationService(100, metrics);
     }
 
     @Test
@@ -60,23 +68,15 @@ public class MaxMindGeoLocationServiceTest {
 
     @Test
     public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
-            GeoIp2Exception, IllegalAccessException {
+            IllegalAccessException {
         // given
-        final Country country = new Country(null, null, null, "fr", null);
-        final Continent continent = new Continent(null, "eu", null, null);
-        final City city = new City(singletonList("test"), null, null, singletonMap("test", "Paris"));
-        final Location location = new Location(null, null, 48.8566, 2.3522,
-                null, null, null);
-        final ArrayList<Subdivision> subdivisions = new ArrayList<>();
-        subdivisions.add(new Subdivision(null, null, null, "paris", null));
-        final CityResponse cityResponse = new CityResponse(city, continent, country, location, null,
-                null, null, null, subdivisions, null);
-
-        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
-        given(databaseReader.city(any())).willReturn(cityResponse);
-
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        final ObjectNode record = mapper.createObjectNode();
+        record.putObject("country").put("iso_code", "FR");
+        record.putObject("continent").put("code", "EU");
+        record.putObject("city").putObject("names").put("de", "Paris (de)").put("en", "Paris");
+        record.putObject("location").put("latitude", 48.8566).put("longitude", 2.3522);
+        record.putArray("subdivisions").addObject().put("iso_code", "paris");
+        givenDatabaseReader(record);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -93,17 +93,14 @@ public class MaxMindGeoLocationServiceTest {
                         .lat(48.8566f)
                         .lon(2.3522f)
                         .build());
+        verify(metrics).updateGeoLocationRequestTime(anyLong());
     }
 
     @Test
-    public void lookupShouldTolerateMissingGeoInfo() throws IOException, GeoIp2Exception, NoSuchFieldException,
+    public void lookupShouldTolerateMissingGeoInfo() throws IOException, NoSuchFieldException,
             IllegalAccessException {
         // given
-        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
-        given(databaseReader.city(any())).willReturn(null);
-
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        givenDatabaseReader(mapper.createObjectNode());
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -112,4 +109,99 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void lookupShouldReturnFailedFutureWhenAddressIsNotInDatabase() throws IOException, NoSuchFieldException,
+            IllegalAccessException {
+        // given
+        givenDatabaseReader(null);
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("The address 80.215.195.122 is not in the database.");
+    }
+
+    @Test
+    public void lookupShouldReuseResultForAddressesOfTheSameIpv4Network() throws IOException, NoSuchFieldException,
+            IllegalAccessException {
+        // given
+        givenDatabaseReader(mapper.createObjectNode());
+
+        // when
+        maxMindGeoLocationService.lookup("80.215.195.122", null);
+        maxMindGeoLocationService.lookup("80.215.195.1", null);
+        maxMindGeoLocationService.lookup("80.215.196.1", null);
+
+        // then
+        verify(databaseReader).get(InetAddress.getByName("80.215.195.122"));
+        verify(databaseReader).get(InetAddress.getByName("80.215.196.1"));
+        verify(metrics).updateGeoLocationCacheMetric(true);
+        verify(metrics, times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    @Test
+    public void lookupShouldReuseResultForAddressesOfTheSameIpv6Network() throws IOException, NoSuchFieldException,
+            IllegalAccessException {
+        // given
+        givenDatabaseReader(mapper.createObjectNode());
+
+        // when
+        maxMindGeoLocationService.lookup("2001:db8:85a3::1", null);
+        maxMindGeoLocationService.lookup("2001:db8:85a3:1::1", null);
+        maxMindGeoLocationService.lookup("2001:db8:85a4::1", null);
+
+        // then
+        verify(databaseReader).get(InetAddress.getByName("2001:db8:85a3::1"));
+        verify(databaseReader).get(InetAddress.getByName("2001:db8:85a4::1"));
+        verify(metrics).updateGeoLocationCacheMetric(true);
+    }
+
+    @Test
+    public void lookupShouldNotReturnResultCachedFromReplacedDatabaseReader() throws IOException,
+            NoSuchFieldException, IllegalAccessException {
+        // given
+        givenDatabaseReader(mapper.createObjectNode());
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        final MaxMindDatabaseReader newDatabaseReader = mock(MaxMindDatabaseReader.class);
+        given(newDatabaseReader.get(any())).willReturn(mapper.createObjectNode()
+                .set("country", mapper.createObjectNode().put("iso_code", "UA")));
+        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
+                maxMindGeoLocationService, newDatabaseReader);
+
+        // when
+        final Future<GeoInfo> result = maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        assertThat(result.result().getCountry()).isEqualTo("ua");
+        verify(newDatabaseReader).get(InetAddress.getByName(TEST_IP));
+        verify(metrics, times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    @Test
+    public void lookupShouldNotCacheResultsWhenCacheIsDisabled() throws IOException, NoSuchFieldException,
+            IllegalAccessException {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(0, metrics);
+        givenDatabaseReader(mapper.createObjectNode());
+
+        // when
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        verify(databaseReader, times(2)).get(any());
+    }
+
+    private void givenDatabaseReader(ObjectNode record) throws IOException, NoSuchFieldException,
+            IllegalAccessException {
+
+        given(databaseReader.get(any())).willReturn(record);
+
+        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
+                maxMindGeoLocationService, databaseReader);
+    }
 }
@@ -14,6 +14,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.EndpointFormat;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 
 import java.util.HashSet;
@@ -194,7 +195,8 @@ public class BidderDetailsHandlerTest extends VertxTest {
                 0,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
     }
 
     private static BidderInfo givenBidderInfo() {
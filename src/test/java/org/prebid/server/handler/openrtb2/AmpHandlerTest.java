@@ -12,6 +12,7 @@ import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -70,12 +71,12 @@ import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
-import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.anyBoolean;
@@ -243,7 +244,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Invalid request format: Request is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid request format: Request is invalid")));
     }
 
     @Test
@@ -264,7 +265,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Blacklisted: Blacklisted account"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blacklisted: Blacklisted account")));
     }
 
     @Test
@@ -285,7 +286,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Blacklisted: Blacklisted app"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blacklisted: Blacklisted app")));
     }
 
     @Test
@@ -306,7 +307,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Account id is not provided"));
+        verify(httpResponse).end(eq(Buffer.buffer("Account id is not provided")));
     }
 
     @Test
@@ -329,7 +330,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Critical error while running the auction: Unexpected exception"));
+        verify(httpResponse).end(eq(Buffer.buffer("Critical error while running the auction: Unexpected exception")));
     }
 
     @Test
@@ -354,8 +355,8 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(
-                startsWith("Critical error while running the auction: Critical error while unpacking AMP targets:"));
+        verify(httpResponse).end(argThat((Buffer body) -> body.toString()
+                .startsWith("Critical error while running the auction: Critical error while unpacking AMP targets:")));
     }
 
     @Test
@@ -370,7 +371,7 @@ public class AmpHandlerTest extends VertxTest {
         ampHandler.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).end(any(Buffer.class));
     }
 
     @Test
@@ -398,7 +399,8 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("Content-Type", "application/json"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}"));
+        verify(httpResponse).end(
+                eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}")));
     }
 
     @Test
@@ -434,8 +436,8 @@ public class AmpHandlerTest extends VertxTest {
         ampHandler.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
-                + "\"hb_cache_id_bidder1\":\"value2\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
+                + "\"hb_cache_id_bidder1\":\"value2\"}}")));
     }
 
     @Test
@@ -473,7 +475,7 @@ public class AmpHandlerTest extends VertxTest {
         ampHandler.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")));
     }
 
     @Test
@@ -496,7 +498,7 @@ public class AmpHandlerTest extends VertxTest {
         ampHandler.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")));
     }
 
     @Test
@@ -510,7 +512,7 @@ public class AmpHandlerTest extends VertxTest {
 
         givenHoldAuction(givenBidResponseWithExt(
                 ExtBidResponse.builder()
-                        .debug(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null, null))
+                        .debug(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null, null, null))
                         .prebid(ExtBidResponsePrebid.builder().auctiontimestamp(1000L).targeting(emptyMap()).build())
                         .build()));
 
@@ -518,9 +520,9 @@ public class AmpHandlerTest extends VertxTest {
         ampHandler.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq(
+        verify(httpResponse).end(eq(Buffer.buffer(
                 "{\"targeting\":{},"
-                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}"));
+                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}")));
     }
 
     @Test
@@ -546,12 +548,12 @@ public class AmpHandlerTest extends VertxTest {
         ampHandler.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq(
+        verify(httpResponse).end(eq(Buffer.buffer(
                 "{\"targeting\":{},"
                         + "\"ext\":{\"prebid\":{\"modules\":{"
                         + "\"errors\":{\"module1\":{\"hook1\":[\"error1\"]}},"
                         + "\"warnings\":{\"module1\":{\"hook1\":[\"warning1\"]}},"
-                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}"));
+                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}")));
     }
 
     @Test
@@ -7,6 +7,7 @@ import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -63,7 +64,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
@@ -215,7 +215,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(403));
-        verify(httpResponse).end(eq("Blacklisted: Blacklisted account"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blacklisted: Blacklisted account")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.blacklisted_account));
     }
@@ -231,7 +231,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(400));
-        verify(httpResponse).end(eq("Invalid config"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid config")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.bad_requests));
     }
@@ -247,7 +247,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(403));
-        verify(httpResponse).end(eq("Blacklisted: Blacklisted app"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blacklisted: Blacklisted app")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.blacklisted_app));
     }
@@ -263,7 +263,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(400));
-        verify(httpResponse).end(eq("Invalid request format: Request is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid request format: Request is invalid")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.badinput));
     }
@@ -280,7 +280,7 @@ public class AuctionHandlerTest extends VertxTest {
         // then
         verifyNoInteractions(exchangeService);
         verify(httpResponse).setStatusCode(eq(401));
-        verify(httpResponse).end(eq("Account id is not provided"));
+        verify(httpResponse).end(eq(Buffer.buffer("Account id is not provided")));
     }
 
     @Test
@@ -297,7 +297,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(500));
-        verify(httpResponse).end(eq("Critical error while running the auction: Unexpected exception"));
+        verify(httpResponse).end(eq(Buffer.buffer("Critical error while running the auction: Unexpected exception")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.err));
     }
@@ -314,7 +314,7 @@ public class AuctionHandlerTest extends VertxTest {
         auctionHandler.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).end(any(Buffer.class));
     }
 
     @Test
@@ -340,7 +340,7 @@ public class AuctionHandlerTest extends VertxTest {
                         tuple("Content-Type", "application/json"),
                         tuple("x-prebid", "pbs-java/1.00"));
 
-        verify(httpResponse).end(eq("{}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{}")));
     }
 
     @Test
@@ -363,7 +363,7 @@ public class AuctionHandlerTest extends VertxTest {
         final BidResponse bidResponse = BidResponse.builder()
                 .ext(ExtBidResponse.builder()
                         .debug(ExtResponseDebug.of(null, resolvedRequest,
-                                null, null))
+                                null, null, null))
                         .build())
                 .build();
         final AuctionContext auctionContext = AuctionContext.builder()
@@ -377,9 +377,9 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(exchangeService).holdAuction(any());
-        verify(httpResponse).end(eq("{\"ext\":{\"debug\":{\"resolvedrequest\":{\"ext\":{\"prebid\":"
+        verify(httpResponse).end(eq(Buffer.buffer("{\"ext\":{\"debug\":{\"resolvedrequest\":{\"ext\":{\"prebid\":"
                 + "{\"targeting\":{\"mediatypepricegranularity\":{\"banner\":{\"precision\":1,\"ranges\":"
-                + "[{\"max\":10,\"increment\":1}]},\"native\":{}}},\"auctiontimestamp\":0}}}}}}"));
+                + "[{\"max\":10,\"increment\":1}]},\"native\":{}}},\"auctiontimestamp\":0}}}}}}")));
     }
 
     @Test
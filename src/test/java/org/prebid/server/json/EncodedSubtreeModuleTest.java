@@ -0,0 +1,136 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Site;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EncodedSubtreeModuleTest extends VertxTest {
+
+    @Test
+    public void encodeShouldProduceSameResultWithinAndOutsideOfCacheScope() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("id")
+                .site(Site.builder().domain("domain").build())
+                .device(Device.builder().ua("ua").ip("ip").build())
+                .build();
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+
+        // when
+        final String expected = jacksonMapper.encodeToString(bidRequest);
+        final String first = encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToString(bidRequest));
+        final String second = encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToString(bidRequest));
+
+        // then
+        assertThat(first).isEqualTo(expected);
+        assertThat(second).isEqualTo(expected);
+    }
+
+    @Test
+    public void encodeShouldWriteCachedEncodedSubtreeOfSameObject() {
+        // given
+        final Device device = Device.builder().ua("ua").build();
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+        encodedSubtreeCache.put(device, new SerializedString("{\"ua\":\"cached\"}"));
+
+        // when
+        final String result = encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToString(
+                BidRequest.builder().id("id").device(device).build()));
+
+        // then
+        assertThat(result).isEqualTo("{\"id\":\"id\",\"device\":{\"ua\":\"cached\"}}");
+    }
+
+    @Test
+    public void encodeShouldNotCacheSubtreeMetOnlyOnce() {
+        // given
+        final Device device = Device.builder().ua("ua").build();
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+
+        // when
+        encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToBytes(BidRequest.builder().device(device).build()));
+
+        // then
+        assertThat(encodedSubtreeCache.get(device)).isNull();
+    }
+
+    @Test
+    public void encodeShouldCacheSubtreeSharedBetweenRequests() {
+        // given
+        final ExtDevice deviceExt = ExtDevice.empty();
+        deviceExt.addProperty("field", TextNode.valueOf("value"));
+        final Device device = Device.builder().ua("ua").ext(deviceExt).build();
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+
+        // when
+        encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToBytes(BidRequest.builder().device(device).build()));
+        final String result = encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToString(
+                BidRequest.builder().id("other").device(device).build()));
+
+        // then
+        assertThat(result)
+                .isEqualTo("{\"id\":\"other\",\"device\":{\"ua\":\"ua\",\"ext\":{\"field\":\"value\"}}}");
+        assertThat(encodedSubtreeCache.get(device))
+                .extracting(SerializableString::getValue)
+                .isEqualTo("{\"ua\":\"ua\",\"ext\":{\"field\":\"value\"}}");
+    }
+
+    @Test
+    public void encodeShouldNotUseCacheWhenPassedToApplicationMapper() throws JsonProcessingException {
+        // given
+        final Device device = Device.builder().ua("ua").build();
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+
+        // when
+        mapper.writer().withAttribute(EncodedSubtreeCache.class, encodedSubtreeCache)
+                .writeValueAsString(BidRequest.builder().device(device).build());
+
+        // then
+        assertThat(encodedSubtreeCache.get(device)).isNull();
+    }
+
+    @Test
+    public void encodeShouldNotReuseEncodedSubtreeOfEqualButDifferentObject() {
+        // given
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+        final ExtDevice deviceExt = ExtDevice.empty();
+        deviceExt.addProperty("field", TextNode.valueOf("value"));
+
+        encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToBytes(
+                BidRequest.builder().device(Device.builder().ext(deviceExt).build()).build()));
+        deviceExt.addProperty("field", TextNode.valueOf("changed"));
+
+        // when
+        final String result = encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToString(
+                BidRequest.builder().device(Device.builder().ext(deviceExt).build()).build()));
+
+        // then
+        assertThat(result).isEqualTo("{\"device\":{\"ext\":{\"field\":\"changed\"}}}");
+    }
+
+    @Test
+    public void encodeShouldIgnoreCacheOutsideOfScope() {
+        // given
+        final ExtDevice deviceExt = ExtDevice.empty();
+        deviceExt.addProperty("field", TextNode.valueOf("value"));
+        final BidRequest bidRequest = BidRequest.builder().device(Device.builder().ext(deviceExt).build()).build();
+
+        new EncodedSubtreeCache().scoped(() -> jacksonMapper.encodeToBytes(bidRequest));
+        deviceExt.addProperty("field", TextNode.valueOf("changed"));
+
+        // when
+        final String result = jacksonMapper.encodeToString(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo("{\"device\":{\"ext\":{\"field\":\"changed\"}}}");
+    }
+}
@@ -0,0 +1,45 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonMapperTest extends VertxTest {
+
+    @Test
+    public void encodeToBufferShouldProduceSameResultAsEncodeToString() {
+        // given
+        final BidResponse bidResponse = BidResponse.builder()
+                .id("id")
+                .seatbid(singletonList(SeatBid.builder()
+                        .bid(singletonList(Bid.builder().id("bidId").adm("<VAST>é</VAST>").build()))
+                        .build()))
+                .build();
+
+        // when
+        final Buffer result = jacksonMapper.encodeToBuffer(bidResponse);
+
+        // then
+        assertThat(result.toString()).isEqualTo(jacksonMapper.encodeToString(bidResponse));
+        assertThat(result.length()).isEqualTo(jacksonMapper.encodeToBytes(bidResponse).length);
+    }
+
+    @Test
+    public void encodeToBufferShouldUseEncodedSubtreeCacheInScope() {
+        // given
+        final BidResponse bidResponse = BidResponse.builder().id("id").build();
+        final EncodedSubtreeCache encodedSubtreeCache = new EncodedSubtreeCache();
+
+        // when
+        final Buffer result = encodedSubtreeCache.scoped(() -> jacksonMapper.encodeToBuffer(bidResponse));
+
+        // then
+        assertThat(result.toString()).isEqualTo("{\"id\":\"id\"}");
+    }
+}
@@ -7,9 +7,12 @@ import com.iab.openrtb.request.Site;
 import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigOrtb;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class JsonMergerTest extends VertxTest {
 
@@ -72,4 +75,71 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldApplyOriginalObjectOverStoredData() {
+        // given
+        final Site site = Site.builder()
+                .page("originalPage")
+                .publisher(Publisher.builder().id("originalId").build())
+                .build();
+        final String storedData = """
+                {"page": "storedPage", "domain": "storedDomain", "publisher": {"id": "storedId", "name": "name"}}""";
+
+        // when
+        final Site result = target.merge(site, storedData, "id", Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder()
+                .page("originalPage")
+                .domain("storedDomain")
+                .publisher(Publisher.builder().id("originalId").name("name").build())
+                .build());
+    }
+
+    @Test
+    public void mergeShouldRemoveStoredFieldsExplicitlyNulledInOriginalObject() {
+        // given
+        final ObjectNode data = mapper.createObjectNode().putNull("field");
+        final Site site = Site.builder().ext(ExtSite.of(null, data)).build();
+        final String storedData = """
+                {"page": "storedPage", "ext": {"data": {"field": "value", "other": "value"}}}""";
+
+        // when
+        final Site result = target.merge(site, storedData, "id", Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder()
+                .page("storedPage")
+                .ext(ExtSite.of(null, mapper.createObjectNode().put("other", "value")))
+                .build());
+    }
+
+    @Test
+    public void mergeShouldNotAffectSuccessiveMergesWithSameStoredData() {
+        // given
+        final String storedData = """
+                {"page": "storedPage", "publisher": {"id": "storedId"}}""";
+        target.merge(
+                Site.builder().publisher(Publisher.builder().id("originalId").build()).build(),
+                storedData,
+                "id",
+                Site.class);
+
+        // when
+        final Site result = target.merge(Site.builder().build(), storedData, "id", Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder()
+                .page("storedPage")
+                .publisher(Publisher.builder().id("storedId").build())
+                .build());
+    }
+
+    @Test
+    public void mergeShouldFailOnInvalidStoredData() {
+        // when and then
+        assertThatThrownBy(() -> target.merge(Site.builder().build(), "{invalid", "id", Site.class))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Can't parse Json for stored request with id id");
+    }
 }
@@ -3,6 +3,7 @@ package org.prebid.server.log;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.logging.Logger;
 import io.vertx.ext.web.RoutingContext;
@@ -64,7 +65,8 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         testingInstance.setSpec(givenSpec);
-        testingInstance.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, "responseBody");
+        testingInstance.maybeLogOpenrtb2Auction(
+                givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
 
         // then
         verify(logger)
@@ -72,7 +74,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
                         "example.com",
                         "{}",
                         200,
-                        "responseBody");
+                        Buffer.buffer("responseBody"));
     }
 
     @Test
@@ -194,14 +196,14 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         testingInstance.setSpec(givenSpec);
-        testingInstance.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "responseBody");
+        testingInstance.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
 
         // then
         verify(logger)
                 .info("Requested URL: \"{0}\", response status: \"{1}\", response body: \"{2}\"",
                         "example.com",
                         200,
-                        "responseBody");
+                        Buffer.buffer("responseBody"));
     }
 
     @Test
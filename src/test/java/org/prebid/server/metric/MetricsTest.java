@@ -19,6 +19,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.activity.Activity;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
@@ -384,6 +385,50 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("request_time").getCount()).isOne();
     }
 
+    @Test
+    public void updateStoredRequestMergeTimeShouldUpdateMetric() {
+        // when
+        metrics.updateStoredRequestMergeTime(MetricName.amp, 1000L);
+
+        // then
+        assertThat(metricRegistry.timer("requests.stored_request_merge_time.amp").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAuctionStageTimeMetricShouldUpdateMetric() {
+        // when
+        metrics.updateAuctionStageTimeMetric(MetricName.openrtb2web, AuctionStage.bidders, 1000L);
+        metrics.updateAuctionStageTimeMetric(MetricName.amp, AuctionStage.stored_requests, 1000L);
+
+        // then
+        assertThat(metricRegistry.timer("requests.stage.bidders.openrtb2-web").getCount()).isOne();
+        assertThat(metricRegistry.timer("requests.stage.stored_requests.amp").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAccountAuctionStageTimeMetricShouldUpdateMetricIfVerbosityIsDetailed() {
+        // given
+        given(accountMetricsVerbosityResolver.forAccount(any())).willReturn(AccountMetricsVerbosityLevel.detailed);
+
+        // when
+        metrics.updateAccountAuctionStageTimeMetric(Account.empty("accountId"), AuctionStage.bidders, 1000L);
+
+        // then
+        assertThat(metricRegistry.timer("account.accountId.stage.bidders").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAccountAuctionStageTimeMetricShouldNotUpdateMetricIfVerbosityIsNotAtLeastDetailed() {
+        // given
+        given(accountMetricsVerbosityResolver.forAccount(any())).willReturn(AccountMetricsVerbosityLevel.basic);
+
+        // when
+        metrics.updateAccountAuctionStageTimeMetric(Account.empty("accountId"), AuctionStage.bidders, 1000L);
+
+        // then
+        assertThat(metricRegistry.timer("account.accountId.stage.bidders").getCount()).isZero();
+    }
+
     @Test
     public void updateRequestTypeMetricShouldIncrementMetric() {
         // when
@@ -455,6 +500,20 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("analytics.analyticCode.setuid.badinput").getCount()).isOne();
     }
 
+    @Test
+    public void analyticsPipelineMetricsShouldCreateMetricsAsExpected() {
+        // when
+        metrics.createAnalyticsPipelineQueueGauge("pubstack.auction", () -> 5L);
+        metrics.updateAnalyticsPipelineDroppedMetric("pubstack.auction");
+        metrics.updateAnalyticsPipelineFlushTimeMetric("pubstack.auction", 123L);
+
+        // then
+        assertThat(metricRegistry.gauge("analytics.pubstack.auction.pipeline.queued", () -> null).getValue())
+                .isEqualTo(5L);
+        assertThat(metricRegistry.counter("analytics.pubstack.auction.pipeline.dropped").getCount()).isOne();
+        assertThat(metricRegistry.timer("analytics.pubstack.auction.pipeline.flush_time").getCount()).isOne();
+    }
+
     @Test
     public void updateFetchWithFetchResultShouldCreateMetricsAsExpected() {
         // when
@@ -487,6 +546,18 @@ public class MetricsTest {
                 .getCount()).isOne();
     }
 
+    @Test
+    public void updateAdapterOrtbConversionTimeShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterOrtbConversionTime(RUBICON, 1000L);
+        metrics.updateAdapterOrtbConversionTime(CONVERSANT, 1000L);
+        metrics.updateAdapterOrtbConversionTime(CONVERSANT, 1000L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.ortb_conversion_time").getCount()).isOne();
+        assertThat(metricRegistry.timer("adapter.conversant.ortb_conversion_time").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateAdapterResponseTimeShouldUpdateMetrics() {
         // when
@@ -879,6 +950,29 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.invalid").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyTcfConsentCacheMetricShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyTcfConsentCacheMetric(true);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.consent_cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.consent_cache.miss").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updatePrivacyTcfPermissionCacheMetricShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyTcfPermissionCacheMetric(true);
+        metrics.updatePrivacyTcfPermissionCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.permission_cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.permission_cache.miss").getCount()).isOne();
+    }
+
     @Test
     public void updatePrivacyTcfRequestsMetricShouldIncrementMetric() {
         // when
@@ -990,6 +1084,17 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("connection_accept_errors").getCount()).isOne();
     }
 
+    @Test
+    public void shouldUpdateEventLoopMetrics() {
+        // when
+        metrics.updateEventLoopLagMetric(1000L);
+        metrics.updateEventLoopStallMetric();
+
+        // then
+        assertThat(metricRegistry.timer("event_loop.lag").getCount()).isOne();
+        assertThat(metricRegistry.counter("event_loop.stalls").getCount()).isOne();
+    }
+
     @Test
     public void shouldUpdateDatabaseQueryTimeMetric() {
         // when
@@ -1056,6 +1161,32 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("geolocation_fail").getCount()).isOne();
     }
 
+    @Test
+    public void shouldUpdateGeoLocationRequestTimeAndCacheMetrics() {
+        // when
+        metrics.updateGeoLocationRequestTime(1000L);
+        metrics.updateGeoLocationCacheMetric(true);
+        metrics.updateGeoLocationCacheMetric(false);
+        metrics.updateGeoLocationCacheMetric(true);
+
+        // then
+        assertThat(metricRegistry.timer("geolocation_request_time").getCount()).isOne();
+        assertThat(metricRegistry.counter("geolocation_cache_hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("geolocation_cache_miss").getCount()).isOne();
+    }
+
+    @Test
+    public void updatePslCacheMetricShouldIncrementHitOrMissMetricDependingOnFlag() {
+        // when
+        metrics.updatePslCacheMetric(true);
+        metrics.updatePslCacheMetric(false);
+        metrics.updatePslCacheMetric(true);
+
+        // then
+        assertThat(metricRegistry.counter("psl_cache_hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("psl_cache_miss").getCount()).isOne();
+    }
+
     @Test
     public void shouldAlwaysIncrementGeoLocationRequestsMetricAndEitherSuccessfulOrFailMetricDependingOnFlag() {
         // when
@@ -1184,6 +1315,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("settings.cache.account.hit").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updateBidderParamsValidationCacheMetricShouldIncrementMetric() {
+        // when
+        metrics.updateBidderParamsValidationCacheMetric(true);
+        metrics.updateBidderParamsValidationCacheMetric(false);
+        metrics.updateBidderParamsValidationCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("bidder_params_validation_cache.hit").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("bidder_params_validation_cache.miss").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateHooksMetricsShouldIncrementMetrics() {
         // when
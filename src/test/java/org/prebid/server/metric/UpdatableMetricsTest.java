@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 public class UpdatableMetricsTest {
@@ -72,6 +73,33 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void incCounterShouldLookUpMetricRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        metricRegistry = spy(new MetricRegistry());
+        updatableMetrics = givenUpdatableMetricsWith(CounterType.counter);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests);
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // then
+        verify(metricRegistry).counter(eq("requests"));
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void incCounterShouldMarkMeterIfCounterTypeIsMeter() {
+        // given
+        updatableMetrics = givenUpdatableMetricsWith(CounterType.meter);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests, 3);
+
+        // then
+        assertThat(metricRegistry.meter("requests").getCount()).isEqualTo(3);
+    }
+
     @Test
     public void updateTimerShouldCreateMetricNameUsingProvidedCreator() {
         // given
@@ -187,6 +215,19 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.getGauges()).doesNotContainKey("opened");
     }
 
+    @Test
+    public void removeMetricShouldMakeSuccessiveUpdateRegisterMetricAgain() {
+        // given
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // when
+        updatableMetrics.removeMetric(MetricName.requests);
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // then
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(1);
+    }
+
     private UpdatableMetrics givenUpdatableMetricsWith(CounterType counterType) {
         return new UpdatableMetrics(metricRegistry, counterType, MetricName::toString);
     }
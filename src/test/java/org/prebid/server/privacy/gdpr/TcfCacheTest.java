@@ -0,0 +1,192 @@
+package org.prebid.server.privacy.gdpr;
+
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class TcfCacheTest {
+
+    private static final String CONSENT_STRING = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private TcfCache target;
+
+    @Before
+    public void setUp() {
+        target = new TcfCache(10, 10, metrics);
+    }
+
+    @Test
+    public void decodeShouldReturnSameDecodedConsentForSameConsentString() {
+        // when
+        final TcfCache.DecodedConsent first = target.decode(CONSENT_STRING);
+        final TcfCache.DecodedConsent second = target.decode(CONSENT_STRING);
+
+        // then
+        assertThat(first.getTcString()).isNotNull();
+        assertThat(first.getError()).isNull();
+        assertThat(second).isSameAs(first);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+    }
+
+    @Test
+    public void decodeShouldCacheDecodingFailure() {
+        // when
+        final TcfCache.DecodedConsent first = target.decode("invalid");
+        final TcfCache.DecodedConsent second = target.decode("invalid");
+
+        // then
+        assertThat(first.getTcString()).isNull();
+        assertThat(first.getError()).isNotBlank();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void decodeShouldDecodeEveryTimeAndNotUpdateMetricsWhenCacheIsDisabled() {
+        // given
+        target = new TcfCache(0, 0, metrics);
+
+        // when
+        final TcfCache.DecodedConsent first = target.decode(CONSENT_STRING);
+        final TcfCache.DecodedConsent second = target.decode(CONSENT_STRING);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void permissionsForShouldCalculateOnlyPermissionsMissingInCache() {
+        // given
+        final List<Collection<VendorPermission>> requestedVendors = new ArrayList<>();
+        final Function<Collection<VendorPermission>, Future<Collection<VendorPermission>>> calculator =
+                givenCalculator(requestedVendors);
+
+        target.permissionsFor(CONSENT_STRING, null, singletonList(givenVendor(1, "b1")), calculator);
+
+        // when
+        final Future<Collection<VendorPermission>> result = target.permissionsFor(
+                CONSENT_STRING, null, asList(givenVendor(1, "b1"), givenVendor(2, "b2")), calculator);
+
+        // then
+        assertThat(result.result()).containsExactlyInAnyOrder(
+                VendorPermission.of(1, "b1", PrivacyEnforcementAction.allowAll()),
+                VendorPermission.of(2, "b2", PrivacyEnforcementAction.allowAll()));
+        assertThat(requestedVendors).containsExactly(
+                singletonList(givenVendor(1, "b1")),
+                singletonList(givenVendor(2, "b2")));
+        verify(metrics).updatePrivacyTcfPermissionCacheMetric(true);
+        verify(metrics, times(2)).updatePrivacyTcfPermissionCacheMetric(false);
+    }
+
+    @Test
+    public void permissionsForShouldReturnCopyOfCachedPrivacyEnforcementAction() {
+        // given
+        final Function<Collection<VendorPermission>, Future<Collection<VendorPermission>>> calculator =
+                givenCalculator(new ArrayList<>());
+
+        target.permissionsFor(CONSENT_STRING, null, singletonList(givenVendor(1, "b1")), calculator)
+                .result()
+                .forEach(permission -> permission.getPrivacyEnforcementAction().setBlockBidderRequest(true));
+
+        // when
+        final Future<Collection<VendorPermission>> result = target.permissionsFor(
+                CONSENT_STRING, null, singletonList(givenVendor(1, "b1")), calculator);
+
+        // then
+        assertThat(result.result())
+                .containsExactly(VendorPermission.of(1, "b1", PrivacyEnforcementAction.allowAll()));
+    }
+
+    @Test
+    public void permissionsForShouldCalculateAllPermissionsAfterInvalidation() {
+        // given
+        final List<Collection<VendorPermission>> requestedVendors = new ArrayList<>();
+        final Function<Collection<VendorPermission>, Future<Collection<VendorPermission>>> calculator =
+                givenCalculator(requestedVendors);
+
+        target.permissionsFor(CONSENT_STRING, null, singletonList(givenVendor(1, "b1")), calculator);
+
+        // when
+        target.invalidatePermissions();
+        target.permissionsFor(CONSENT_STRING, null, singletonList(givenVendor(1, "b1")), calculator);
+
+        // then
+        assertThat(requestedVendors).hasSize(2);
+    }
+
+    @Test
+    public void permissionsForShouldNotCachePermissionsCalculatedBeforeInvalidation() {
+        // given
+        final List<Collection<VendorPermission>> requestedVendors = new ArrayList<>();
+        final Function<Collection<VendorPermission>, Future<Collection<VendorPermission>>> calculator =
+                givenCalculator(requestedVendors);
+
+        // when
+        target.permissionsFor(CONSENT_STRING, null, singletonList(givenVendor(1, "b1")), vendors -> {
+            target.invalidatePermissions();
+            return calculator.apply(vendors);
+        });
+        target.permissionsFor(CONSENT_STRING, null, singletonList(givenVendor(1, "b1")), calculator);
+
+        // then
+        assertThat(requestedVendors).hasSize(2);
+    }
+
+    @Test
+    public void permissionsForShouldCalculateAllPermissionsWhenConsentStringIsNull() {
+        // given
+        final List<Collection<VendorPermission>> requestedVendors = new ArrayList<>();
+        final Function<Collection<VendorPermission>, Future<Collection<VendorPermission>>> calculator =
+                givenCalculator(requestedVendors);
+
+        // when
+        target.permissionsFor(null, null, singletonList(givenVendor(1, "b1")), calculator);
+        target.permissionsFor(null, null, singletonList(givenVendor(1, "b1")), calculator);
+
+        // then
+        assertThat(requestedVendors).hasSize(2);
+        verifyNoInteractions(metrics);
+    }
+
+    private static VendorPermission givenVendor(Integer vendorId, String bidderName) {
+        return VendorPermission.of(vendorId, bidderName, null);
+    }
+
+    private static Function<Collection<VendorPermission>, Future<Collection<VendorPermission>>> givenCalculator(
+            List<Collection<VendorPermission>> requestedVendors) {
+
+        return vendors -> {
+            requestedVendors.add(vendors);
+            return Future.succeededFuture(vendors.stream()
+                    .map(vendor -> VendorPermission.of(
+                            vendor.getVendorId(), vendor.getBidderName(), PrivacyEnforcementAction.allowAll()))
+                    .toList());
+        };
+    }
+}
@@ -68,10 +68,14 @@ public class TcfDefinerServiceTest {
     @Mock
     private Metrics metrics;
 
+    private TcfCache tcfCache;
+
     private TcfDefinerService tcfDefinerService;
 
     @Before
     public void setUp() {
+        tcfCache = new TcfCache(0, 0, metrics);
+
         given(geoLocationService.lookup(anyString(), any()))
                 .willReturn(Future.succeededFuture(GeoInfo.builder().vendor("vendor").country(EEA_COUNTRY).build()));
 
@@ -87,6 +91,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcfCache,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -101,6 +106,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcfCache,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -179,6 +185,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcfCache,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -211,6 +218,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcfCache,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -243,6 +251,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcfCache,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -338,6 +347,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcfCache,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -373,6 +383,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                tcfCache,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -568,6 +579,81 @@ public class TcfDefinerServiceTest {
         assertThat(result).succeededWith(TcfResponse.of(true, expectedBidderNameToPrivacyMap, null));
     }
 
+    @Test
+    public void resolveTcfContextShouldReuseDecodedConsentStringWhenConsentCacheIsEnabled() {
+        // given
+        tcfDefinerService = new TcfDefinerService(
+                GdprConfig.builder().enabled(true).build(),
+                singleton(EEA_COUNTRY),
+                tcf2Service,
+                new TcfCache(10, 0, metrics),
+                geoLocationService,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics);
+
+        final Privacy privacy = Privacy.builder()
+                .consentString("CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA")
+                .build();
+
+        // when
+        final TcfContext first = tcfDefinerService.resolveTcfContext(privacy, null, null, null, null, null).result();
+        final TcfContext second = tcfDefinerService.resolveTcfContext(privacy, null, null, null, null, null).result();
+
+        // then
+        assertThat(second.getConsent()).isSameAs(first.getConsent());
+        assertThat(second.isConsentValid()).isTrue();
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+    }
+
+    @Test
+    public void resultForBidderNamesShouldRequestTcf2ServiceOnlyForBiddersMissingInPermissionCache() {
+        // given
+        tcfDefinerService = new TcfDefinerService(
+                GdprConfig.builder().enabled(true).build(),
+                singleton(EEA_COUNTRY),
+                tcf2Service,
+                new TcfCache(0, 10, metrics),
+                geoLocationService,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics);
+
+        given(bidderCatalog.isActive(anyString())).willReturn(true);
+        given(bidderCatalog.vendorIdByName("b1")).willReturn(1);
+        given(bidderCatalog.vendorIdByName("b2")).willReturn(2);
+        given(tcf2Service.permissionsFor(eq(singleton("b1")), any(), any(), any()))
+                .willReturn(Future.succeededFuture(singleton(
+                        VendorPermission.of(1, "b1", PrivacyEnforcementAction.allowAll()))));
+        given(tcf2Service.permissionsFor(eq(singleton("b2")), any(), any(), any()))
+                .willReturn(Future.succeededFuture(singleton(
+                        VendorPermission.of(2, "b2", PrivacyEnforcementAction.restrictAll()))));
+
+        final String consentString = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
+        final TcfContext tcfContext = TcfContext.builder()
+                .inGdprScope(true)
+                .consentString(consentString)
+                .consent(TCString.decode(consentString))
+                .consentValid(true)
+                .build();
+
+        tcfDefinerService.resultForBidderNames(singleton("b1"), tcfContext, null);
+
+        // when
+        final Future<TcfResponse<String>> result = tcfDefinerService.resultForBidderNames(
+                new HashSet<>(asList("b1", "b2")), tcfContext, null);
+
+        // then
+        final HashMap<String, PrivacyEnforcementAction> expectedBidderNameToPrivacyMap = new HashMap<>();
+        expectedBidderNameToPrivacyMap.put("b1", PrivacyEnforcementAction.allowAll());
+        expectedBidderNameToPrivacyMap.put("b2", PrivacyEnforcementAction.restrictAll());
+        assertThat(result).succeededWith(TcfResponse.of(true, expectedBidderNameToPrivacyMap, null));
+
+        verify(tcf2Service).permissionsFor(eq(singleton("b1")), any(), any(), any());
+        verify(tcf2Service).permissionsFor(eq(singleton("b2")), any(), any(), any());
+    }
+
     @Test
     public void isConsentStringValidShouldReturnTrueWhenStringIsValid() {
         assertThat(TcfDefinerService.isConsentStringValid("CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA"))
@@ -43,6 +43,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -513,6 +514,39 @@ public class VendorListServiceV2Test extends VertxTest {
                         .build()));
     }
 
+    @Test
+    public void shouldNotifyVendorListChangeListenerWhenNewVendorListIsFetched() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(givenVendorList()));
+
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        final Runnable listener = mock(Runnable.class);
+        vendorListService.addVendorListChangeListener(listener);
+
+        // when
+        vendorListService.forVersion(1);
+
+        // then
+        verify(listener).run();
+    }
+
+    @Test
+    public void shouldNotifyVendorListChangeListenerWhenFallbackVendorListStartsToBeUsed() {
+        // given
+        givenHttpClientReturnsResponse(404, StringUtils.EMPTY);
+
+        final Runnable listener = mock(Runnable.class);
+        vendorListService.addVendorListChangeListener(listener);
+
+        // when
+        vendorListService.forVersion(1);
+
+        // then
+        verify(listener).run();
+    }
+
     // Metrics tests
 
     @Test
@@ -0,0 +1,147 @@
+package org.prebid.server.protobuf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Native;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import com.iabtechlab.openrtb.v2.OpenRtb;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.openrtb.v2.PrebidOpenRtb;
+
+import java.math.BigDecimal;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class ProtobufOpenRtbCodecTest extends VertxTest {
+
+    private ProtobufOpenRtbCodec target;
+
+    @Before
+    public void setUp() {
+        target = new ProtobufOpenRtbCodec(jacksonMapper);
+    }
+
+    @Test
+    public void decodeBidRequestToJsonShouldRestoreEncodedBidRequest() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("requestId")
+                .test(1)
+                .tmax(1000L)
+                .imp(singletonList(Imp.builder()
+                        .id("impId")
+                        .bidfloor(BigDecimal.ONE)
+                        .ext(mapper.createObjectNode().set("bidder", mapper.createObjectNode().put("param", 1)))
+                        .build()))
+                .build();
+
+        // when
+        final String result = target.decodeBidRequestToJson(Buffer.buffer(target.encodeBidRequest(bidRequest)));
+
+        // then
+        final BidRequest decodedBidRequest = jacksonMapper.decodeValue(result, BidRequest.class);
+        assertThat(decodedBidRequest.getId()).isEqualTo("requestId");
+        assertThat(decodedBidRequest.getTest()).isEqualTo(1);
+        assertThat(decodedBidRequest.getTmax()).isEqualTo(1000L);
+        assertThat(decodedBidRequest.getImp().get(0).getBidfloor()).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(decodedBidRequest.getImp())
+                .extracting(Imp::getId, Imp::getExt)
+                .containsExactly(tuple(
+                        "impId",
+                        mapper.createObjectNode().set("bidder", mapper.createObjectNode().put("param", 1))));
+    }
+
+    @Test
+    public void decodeBidRequestToJsonShouldMapBooleansToIntegers() {
+        // given
+        final OpenRtb.BidRequest bidRequest = OpenRtb.BidRequest.newBuilder()
+                .setId("requestId")
+                .setTest(true)
+                .setAllimps(false)
+                .build();
+
+        // when
+        final String result = target.decodeBidRequestToJson(Buffer.buffer(bidRequest.toByteArray()));
+
+        // then
+        final JsonNode resultNode = jacksonMapper.decodeValue(result, JsonNode.class);
+        assertThat(resultNode.get("test").intValue()).isEqualTo(1);
+        assertThat(resultNode.get("allimps").intValue()).isEqualTo(0);
+    }
+
+    @Test
+    public void decodeBidRequestToJsonShouldMapNativeRequestToString() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("requestId")
+                .imp(singletonList(Imp.builder()
+                        .id("impId")
+                        .xNative(Native.builder().request("{\"ver\":\"1.2\",\"plcmtcnt\":1}").build())
+                        .build()))
+                .build();
+
+        // when
+        final String result = target.decodeBidRequestToJson(Buffer.buffer(target.encodeBidRequest(bidRequest)));
+
+        // then
+        final JsonNode nativeRequest = jacksonMapper.decodeValue(
+                jacksonMapper.decodeValue(result, BidRequest.class).getImp().get(0).getXNative().getRequest(),
+                JsonNode.class);
+        assertThat(nativeRequest.get("ver").textValue()).isEqualTo("1.2");
+        assertThat(nativeRequest.get("plcmtcnt").intValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void decodeBidRequestToJsonShouldFailOnMalformedBody() {
+        // when and then
+        assertThatExceptionOfType(DecodeException.class)
+                .isThrownBy(() -> target.decodeBidRequestToJson(Buffer.buffer("invalid")))
+                .withMessageStartingWith("Failed to decode protobuf bid request");
+    }
+
+    @Test
+    public void decodeBidResponseShouldMapFieldsAndJsonExtensions() {
+        // given
+        final OpenRtb.BidResponse bidResponse = OpenRtb.BidResponse.newBuilder()
+                .setId("responseId")
+                .addSeatbid(OpenRtb.BidResponse.SeatBid.newBuilder()
+                        .setSeat("seat")
+                        .addBid(OpenRtb.BidResponse.SeatBid.Bid.newBuilder()
+                                .setId("bidId")
+                                .setImpid("impId")
+                                .setPrice(1.5)
+                                .setExtension(PrebidOpenRtb.bidExt, "{\"prebid\":{\"type\":\"banner\"}}")))
+                .build();
+
+        // when
+        final BidResponse result = target.decodeBidResponse(Buffer.buffer(bidResponse.toByteArray()));
+
+        // then
+        assertThat(result.getId()).isEqualTo("responseId");
+        assertThat(result.getSeatbid()).hasSize(1)
+                .flatExtracting(SeatBid::getBid)
+                .extracting(Bid::getId, Bid::getImpid, Bid::getExt)
+                .containsExactly(tuple(
+                        "bidId",
+                        "impId",
+                        mapper.createObjectNode().set("prebid", mapper.createObjectNode().put("type", "banner"))));
+    }
+
+    @Test
+    public void decodeBidResponseShouldFailOnMalformedBody() {
+        // when and then
+        assertThatExceptionOfType(DecodeException.class)
+                .isThrownBy(() -> target.decodeBidResponse(Buffer.buffer("invalid")))
+                .withMessageStartingWith("Failed to decode protobuf bid response");
+    }
+}
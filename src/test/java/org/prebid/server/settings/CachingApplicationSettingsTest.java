@@ -1,6 +1,7 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -21,9 +22,11 @@ import org.prebid.server.settings.model.StoredResponseDataResult;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -31,6 +34,7 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -39,6 +43,7 @@ import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class CachingApplicationSettingsTest {
@@ -51,22 +56,43 @@ public class CachingApplicationSettingsTest {
     @Mock
     private Metrics metrics;
 
+    private TimeoutFactory timeoutFactory;
+
     private CachingApplicationSettings cachingApplicationSettings;
 
     private Timeout timeout;
 
     @Before
     public void setUp() {
-        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        timeoutFactory = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+        timeout = timeoutFactory.create(500L);
 
         cachingApplicationSettings = new CachingApplicationSettings(
                 applicationSettings,
                 new SettingsCache(360, 100),
                 new SettingsCache(360, 100),
                 new SettingsCache(360, 100),
+                timeoutFactory,
                 metrics,
                 360,
-                100);
+                100,
+                1000L);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveRefreshTimeout() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CachingApplicationSettings(
+                        applicationSettings,
+                        new SettingsCache(360, 100),
+                        new SettingsCache(360, 100),
+                        new SettingsCache(360, 100),
+                        timeoutFactory,
+                        metrics,
+                        360,
+                        100,
+                        0L))
+                .withMessage("refresh timeout must be positive");
     }
 
     @Test
@@ -92,6 +118,36 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(applicationSettings);
     }
 
+    @Test
+    public void getAccountByIdShouldServeCachedAccountAndReportFailedBackgroundRefresh() throws InterruptedException {
+        // given
+        final Account account = Account.builder().id("accountId").build();
+        given(applicationSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(Future.succeededFuture(account), Future.failedFuture(new TimeoutException("timeout")));
+
+        // entries are refreshed after 1 second of 2 seconds ttl
+        cachingApplicationSettings = new CachingApplicationSettings(
+                applicationSettings,
+                new SettingsCache(360, 100),
+                new SettingsCache(360, 100),
+                new SettingsCache(360, 100),
+                timeoutFactory,
+                metrics,
+                2,
+                100,
+                1000L);
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        Thread.sleep(1100L);
+
+        // when
+        final Future<Account> future = cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.result()).isSameAs(account);
+        verify(applicationSettings, times(2)).getAccountById(eq("accountId"), any());
+        verify(metrics).updateSettingsCacheRefreshErrorMetric(eq(MetricName.account), eq(MetricName.update));
+    }
+
     @Test
     public void getAccountByIdShouldPropagateFailure() {
         // given
@@ -171,6 +227,44 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldShareDelegateCallBetweenConcurrentCacheMisses() {
+        // given
+        final Promise<Account> accountPromise = Promise.promise();
+        given(applicationSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(accountPromise.future());
+
+        // when
+        final Future<Account> firstFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        final Account account = Account.empty("accountId");
+        accountPromise.complete(account);
+
+        // then
+        assertThat(firstFuture.result()).isSameAs(account);
+        assertThat(secondFuture.result()).isSameAs(account);
+        verify(applicationSettings).getAccountById(eq("accountId"), same(timeout));
+        verifyNoMoreInteractions(applicationSettings);
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldCallDelegateAgainAfterPreviousCallFailed() {
+        // given
+        given(applicationSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.failedFuture(new TimeoutException("timeout")))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        final Future<Account> future = cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(Account.empty("accountId"));
+        verify(applicationSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+    }
+
     @Test
     public void getCategoriesShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
@@ -189,6 +283,28 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(applicationSettings);
     }
 
+    @Test
+    public void getCategoriesShouldShareDelegateCallBetweenConcurrentCacheMisses() {
+        // given
+        final Promise<Map<String, String>> categoriesPromise = Promise.promise();
+        given(applicationSettings.getCategories(eq("adServer"), eq("publisher"), same(timeout)))
+                .willReturn(categoriesPromise.future());
+
+        // when
+        final Future<Map<String, String>> firstFuture =
+                cachingApplicationSettings.getCategories("adServer", "publisher", timeout);
+        final Future<Map<String, String>> secondFuture =
+                cachingApplicationSettings.getCategories("adServer", "publisher", timeout);
+
+        categoriesPromise.complete(singletonMap("iab", "id"));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(singletonMap("iab", "id"));
+        assertThat(secondFuture.result()).isEqualTo(singletonMap("iab", "id"));
+        verify(applicationSettings).getCategories(eq("adServer"), eq("publisher"), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.category_config), eq(MetricName.coalesced));
+    }
+
     @Test
     public void getCategoriesShouldPropagateFailure() {
         // given
@@ -328,6 +444,78 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(applicationSettings);
     }
 
+    @Test
+    public void getStoredDataShouldRequestFromDelegateOnlyIdsNotRequestedByConcurrentCall() {
+        // given
+        final Promise<StoredDataResult> firstResultPromise = Promise.promise();
+        given(applicationSettings.getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid1")), any()))
+                .willReturn(firstResultPromise.future());
+        given(applicationSettings.getStoredData(any(), eq(emptySet()), eq(singleton("impid2")), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(emptyMap(), singletonMap("impid2", "json3"), emptyList())));
+
+        // when
+        final Future<StoredDataResult> firstFuture =
+                cachingApplicationSettings.getStoredData("1001", singleton("reqid"), singleton("impid1"), timeout);
+        final Future<StoredDataResult> secondFuture = cachingApplicationSettings.getStoredData(
+                "1001", emptySet(), new HashSet<>(asList("impid1", "impid2")), timeout);
+
+        firstResultPromise.complete(StoredDataResult.of(
+                singletonMap("reqid", "json"), singletonMap("impid1", "json2"), emptyList()));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(StoredDataResult.of(
+                singletonMap("reqid", "json"), singletonMap("impid1", "json2"), emptyList()));
+        assertThat(secondFuture.result()).isEqualTo(StoredDataResult.of(
+                emptyMap(), Map.of("impid1", "json2", "impid2", "json3"), emptyList()));
+        verify(applicationSettings)
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(singleton("impid1")), same(timeout));
+        verify(applicationSettings)
+                .getStoredData(eq("1001"), eq(emptySet()), eq(singleton("impid2")), same(timeout));
+        verifyNoMoreInteractions(applicationSettings);
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getStoredDataShouldReturnErrorForIdNotFoundByConcurrentCall() {
+        // given
+        final Promise<StoredDataResult> resultPromise = Promise.promise();
+        given(applicationSettings.getStoredData(any(), eq(singleton("reqid")), eq(emptySet()), any()))
+                .willReturn(resultPromise.future());
+
+        // when
+        cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult> future =
+                cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+
+        resultPromise.complete(StoredDataResult.of(emptyMap(), emptyMap(), singletonList("error")));
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredDataResult.of(
+                emptyMap(), emptyMap(), singletonList("No stored request found for id: reqid")));
+        verify(applicationSettings).getStoredData(any(), any(), any(), any());
+    }
+
+    @Test
+    public void getStoredResponsesShouldReturnErrorForIdNotFoundByConcurrentCall() {
+        // given
+        final Promise<StoredResponseDataResult> resultPromise = Promise.promise();
+        given(applicationSettings.getStoredResponses(eq(singleton("id")), any()))
+                .willReturn(resultPromise.future());
+
+        // when
+        cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        resultPromise.complete(StoredResponseDataResult.of(emptyMap(), singletonList("error")));
+
+        // then
+        assertThat(future.result()).isEqualTo(
+                StoredResponseDataResult.of(emptyMap(), singletonList("No stored response found for id: id")));
+        verify(applicationSettings).getStoredResponses(any(), any());
+    }
+
     @Test
     public void getStoredResponseShouldPropagateFailure() {
         // given
@@ -344,4 +532,91 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    @Test
+    public void getStoredResponsesShouldReturnResultFromCacheOnSuccessiveCalls() {
+        // given
+        given(applicationSettings.getStoredResponses(eq(singleton("id")), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id", "json"), emptyList())));
+
+        // when
+        cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+        // second call
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredResponseDataResult.of(singletonMap("id", "json"), emptyList()));
+        verify(applicationSettings).getStoredResponses(eq(singleton("id")), same(timeout));
+        verifyNoMoreInteractions(applicationSettings);
+    }
+
+    @Test
+    public void getStoredResponsesShouldRequestFromDelegateOnlyIdsMissedInCache() {
+        // given
+        given(applicationSettings.getStoredResponses(eq(singleton("id1")), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id1", "json1"), emptyList())));
+        given(applicationSettings.getStoredResponses(eq(singleton("id2")), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(emptyMap(), singletonList("error"))));
+
+        cachingApplicationSettings.getStoredResponses(singleton("id1"), timeout);
+
+        // when
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(new HashSet<>(asList("id1", "id2")), timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(
+                StoredResponseDataResult.of(singletonMap("id1", "json1"), singletonList("error")));
+        verify(applicationSettings).getStoredResponses(eq(singleton("id2")), same(timeout));
+    }
+
+    @Test
+    public void getStoredResponsesShouldShareDelegateCallBetweenConcurrentCacheMisses() {
+        // given
+        final Promise<StoredResponseDataResult> resultPromise = Promise.promise();
+        given(applicationSettings.getStoredResponses(anySet(), any())).willReturn(resultPromise.future());
+
+        // when
+        final Future<StoredResponseDataResult> firstFuture =
+                cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+        final Future<StoredResponseDataResult> secondFuture =
+                cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        resultPromise.complete(StoredResponseDataResult.of(singletonMap("id", "json"), emptyList()));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(secondFuture.result());
+        verify(applicationSettings).getStoredResponses(anySet(), any());
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_response), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getStoredResponsesShouldReturnResponsesSavedByCacheNotification() {
+        // given
+        final SettingsCache cache = new SettingsCache(360, 100);
+        cachingApplicationSettings = new CachingApplicationSettings(
+                applicationSettings,
+                cache,
+                new SettingsCache(360, 100),
+                new SettingsCache(360, 100),
+                timeoutFactory,
+                metrics,
+                360,
+                100,
+                1000L);
+
+        cache.saveResponses(singletonMap("id", "json"));
+
+        // when
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredResponseDataResult.of(singletonMap("id", "json"), emptyList()));
+        verifyNoInteractions(applicationSettings);
+    }
 }
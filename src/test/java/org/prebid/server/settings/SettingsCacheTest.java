@@ -75,4 +75,25 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void saveResponsesShouldAddNewResponsesToCache() {
+        // when
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1).containsEntry("respId1", "respValue1");
+    }
+
+    @Test
+    public void invalidateResponsesShouldRemoveResponsesFromCache() {
+        // given
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+
+        // when
+        settingsCache.invalidateResponses(singletonList("respId1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).isEmpty();
+    }
 }
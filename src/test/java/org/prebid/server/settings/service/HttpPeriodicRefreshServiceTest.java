@@ -59,11 +59,13 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         final HttpClientResponse initialResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("field1", "field-value1")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
         updatedResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("deleted", "true")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
 
         given(httpClient.get(anyString(), anyLong()))
                 .willReturn(Future.succeededFuture(initialResponse));
@@ -109,7 +111,8 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         updatedResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("changed1", "value-changed2")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
 
         given(vertx.setPeriodic(anyLong(), any()))
                 .willAnswer(withSelfAndPassObjectToHandler(1L));
@@ -125,6 +128,36 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         verify(cacheNotificationListener).save(singletonMap("id1", "{\"changed1\":\"value-changed2\"}"), expectedImps);
     }
 
+    @Test
+    public void shouldCallSaveAndInvalidateResponses() throws JsonProcessingException {
+        // given
+        final HttpClientResponse initialResponse = HttpClientResponse.of(200, null,
+                mapper.writeValueAsString(HttpRefreshResponse.of(
+                        emptyMap(),
+                        emptyMap(),
+                        singletonMap("id3", mapper.createArrayNode().add(mapper.createObjectNode())))));
+        updatedResponse = HttpClientResponse.of(200, null,
+                mapper.writeValueAsString(HttpRefreshResponse.of(
+                        emptyMap(),
+                        emptyMap(),
+                        singletonMap("id3", mapper.createObjectNode().put("deleted", "true")))));
+
+        given(httpClient.get(anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(initialResponse));
+        given(httpClient.get(contains("?last-modified="), anyLong()))
+                .willReturn(Future.succeededFuture(updatedResponse));
+        given(vertx.setPeriodic(anyLong(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(1L));
+
+        // when
+        createAndInitService(cacheNotificationListener, ENDPOINT_URL,
+                1000, 2000, vertx, httpClient);
+
+        // then
+        verify(cacheNotificationListener).saveResponses(singletonMap("id3", "[{}]"));
+        verify(cacheNotificationListener).invalidateResponses(singletonList("id3"));
+    }
+
     @Test
     public void initializeShouldMakeOneInitialRequestAndTwoScheduledRequestsWithParam() {
         // given
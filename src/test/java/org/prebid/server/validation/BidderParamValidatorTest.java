@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -10,6 +11,7 @@ import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.adtelligent.ExtImpAdtelligent;
 import org.prebid.server.proto.openrtb.ext.request.appnexus.ExtImpAppnexus;
 import org.prebid.server.proto.openrtb.ext.request.beachfront.ExtImpBeachfront;
@@ -20,6 +22,7 @@ import org.prebid.server.proto.openrtb.ext.request.openx.ExtImpOpenx;
 import org.prebid.server.proto.openrtb.ext.request.rubicon.ExtImpRubicon;
 import org.prebid.server.proto.openrtb.ext.request.sovrn.ExtImpSovrn;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.EndpointFormat;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
@@ -34,6 +37,9 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class BidderParamValidatorTest extends VertxTest {
 
@@ -54,6 +60,8 @@ public class BidderParamValidatorTest extends VertxTest {
 
     @Mock
     private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
 
     private BidderParamValidator bidderParamValidator;
 
@@ -384,6 +392,72 @@ public class BidderParamValidatorTest extends VertxTest {
                 "org/prebid/server/validation/schema//valid/test-schemas.json"));
     }
 
+    @Test
+    public void validateShouldReuseCachedResultForStructurallyEqualParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10, 60, metrics, jacksonMapper);
+
+        final JsonNode node = mapper.createObjectNode().put("uid", "1a2b3c");
+
+        // when
+        final Set<String> firstMessages = bidderParamValidator.validate(VISX, node);
+        final Set<String> secondMessages = bidderParamValidator.validate(VISX, node.deepCopy());
+
+        // then
+        assertThat(firstMessages).hasSize(1);
+        assertThat(secondMessages).isSameAs(firstMessages);
+        verify(metrics).updateBidderParamsValidationCacheMetric(false);
+        verify(metrics).updateBidderParamsValidationCacheMetric(true);
+    }
+
+    @Test
+    public void validateShouldNotBeAffectedByParamsModifiedAfterValidation() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10, 60, metrics, jacksonMapper);
+
+        final ObjectNode node = mapper.createObjectNode().put("uid", "123");
+        bidderParamValidator.validate(VISX, node);
+        node.put("uid", "1a2b3c");
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(VISX, mapper.createObjectNode().put("uid", "123"));
+
+        // then
+        assertThat(messages).isEmpty();
+        verify(metrics).updateBidderParamsValidationCacheMetric(true);
+    }
+
+    @Test
+    public void validateShouldNotShareCachedResultBetweenBidders() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10, 60, metrics, jacksonMapper);
+
+        final JsonNode node = mapper.createObjectNode();
+
+        // when
+        bidderParamValidator.validate(VISX, node);
+        bidderParamValidator.validate(BEACHFRONT, node);
+
+        // then
+        verify(metrics, times(2)).updateBidderParamsValidationCacheMetric(false);
+    }
+
+    @Test
+    public void validateShouldNotCacheIfCacheIsDisabled() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 0, 60, metrics, jacksonMapper);
+
+        // when
+        bidderParamValidator.validate(VISX, mapper.createObjectNode().put("uid", "123"));
+
+        // then
+        verifyNoInteractions(metrics);
+    }
+
     @Test
     public void validateShouldReturnValidationMessagesWhenVisxUidNotValid() {
         // given
@@ -425,7 +499,8 @@ public class BidderParamValidatorTest extends VertxTest {
                 0,
                 true,
                 false,
-                CompressionType.NONE);
+                CompressionType.NONE,
+                EndpointFormat.JSON);
     }
 
     private static BidderInfo givenBidderInfo() {
@@ -325,6 +325,86 @@ public class VastModifierTest {
         assertThat(result).isEqualTo(admWithNoImpression);
     }
 
+    @Test
+    public void createBidVastXmlShouldInsertImpressionTagIntoEachAd() {
+        // given
+        final String bidAdm = """
+                <VAST version="4.0">\
+                <Ad sequence="1"><InLine><Impression>http:/test.com</Impression><Creatives></Creatives></InLine></Ad>\
+                <Ad sequence="2"><InLine><Creatives></Creatives></InLine></Ad>\
+                <Ad sequence="3"><Wrapper><Impression>http:/test2.com</Impression></Wrapper></Ad>\
+                </VAST>""";
+
+        // when
+        final String result = target.createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(),
+                emptyList(), LINEITEM_ID);
+
+        // then
+        final String impressionTag = "<Impression><![CDATA[" + VAST_URL_TRACKING + "]]></Impression>";
+        assertThat(result).isEqualTo("""
+                <VAST version="4.0">\
+                <Ad sequence="1"><InLine><Impression>http:/test.com</Impression>%1$s\
+                <Creatives></Creatives></InLine></Ad>\
+                <Ad sequence="2"><InLine><Creatives></Creatives>%1$s</InLine></Ad>\
+                <Ad sequence="3"><Wrapper><Impression>http:/test2.com</Impression>%1$s</Wrapper></Ad>\
+                </VAST>""".formatted(impressionTag));
+    }
+
+    @Test
+    public void createBidVastXmlShouldInsertImpressionTagIntoOuterElementOfNestedWrappers() {
+        // given
+        final String bidAdm = """
+                <Wrapper id="outer"><Impression>http:/outer.com</Impression>\
+                <Extensions><Wrapper><Impression>http:/inner.com</Impression></Wrapper></Extensions>\
+                </Wrapper>""";
+
+        // when
+        final String result = target.createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(),
+                emptyList(), LINEITEM_ID);
+
+        // then
+        assertThat(result).isEqualTo("""
+                <Wrapper id="outer"><Impression>http:/outer.com</Impression>\
+                <Impression><![CDATA[%s]]></Impression>\
+                <Extensions><Wrapper><Impression>http:/inner.com</Impression></Wrapper></Extensions>\
+                </Wrapper>""".formatted(VAST_URL_TRACKING));
+    }
+
+    @Test
+    public void createBidVastXmlShouldIgnoreTagsInCdataSectionsAndComments() {
+        // given
+        final String bidAdm = """
+                <InLine><!-- <Impression>http:/comment.com</Impression> -->\
+                <Extensions><Extension><![CDATA[<InLine><Impression>http:/cdata.com</Impression></InLine>]]>\
+                </Extension></Extensions></InLine>""";
+
+        // when
+        final String result = target.createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(),
+                emptyList(), LINEITEM_ID);
+
+        // then
+        assertThat(result).isEqualTo("""
+                <InLine><!-- <Impression>http:/comment.com</Impression> -->\
+                <Extensions><Extension><![CDATA[<InLine><Impression>http:/cdata.com</Impression></InLine>]]>\
+                </Extension></Extensions><Impression><![CDATA[%s]]></Impression>\
+                </InLine>""".formatted(VAST_URL_TRACKING));
+    }
+
+    @Test
+    public void createBidVastXmlShouldInjectBidNurlWithImpressionTagWhenBidAdmIsEmptyAndEventsEnabled() {
+        // when
+        final String result = target.createBidVastXml(BIDDER, "", BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(),
+                emptyList(), LINEITEM_ID);
+
+        // then
+        assertThat(result).isEqualTo("""
+                <VAST version="3.0"><Ad><Wrapper>\
+                <AdSystem>prebid.org wrapper</AdSystem>\
+                <VASTAdTagURI><![CDATA[%s]]></VASTAdTagURI>\
+                <Creatives></Creatives><Impression><![CDATA[%s]]></Impression>\
+                </Wrapper></Ad></VAST>""".formatted(BID_NURL, VAST_URL_TRACKING));
+    }
+
     private static PutObject givenPutObject(TextNode adm) {
         return PutObject.builder()
                 .type("xml")
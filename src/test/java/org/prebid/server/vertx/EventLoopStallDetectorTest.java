@@ -0,0 +1,122 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class EventLoopStallDetectorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+
+    private EventLoopStallDetector eventLoopStallDetector;
+
+    @Before
+    public void setUp() {
+        eventLoopStallDetector = new EventLoopStallDetector(vertx, metrics, clock, 10L, 100L);
+
+        given(clock.millis()).willReturn(1000L);
+        eventLoopStallDetector.watchCurrentEventLoop();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveThreshold() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EventLoopStallDetector(vertx, metrics, clock, 10L, 0L))
+                .withMessage("Check interval and stall threshold should be positive.");
+    }
+
+    @Test
+    public void watchCurrentEventLoopShouldScheduleHeartbeatOnlyOnceForSameEventLoop() {
+        // when
+        eventLoopStallDetector.watchCurrentEventLoop();
+
+        // then
+        verify(vertx).setPeriodic(eq(10L), any());
+    }
+
+    @Test
+    public void heartbeatShouldUpdateEventLoopLagMetricWithDelayOverCheckInterval() {
+        // given
+        given(clock.millis()).willReturn(1025L);
+
+        // when
+        captureHeartbeat().handle(1L);
+
+        // then
+        verify(metrics).updateEventLoopLagMetric(15L);
+    }
+
+    @Test
+    public void checkEventLoopsShouldNotReportStallIfEventLoopIsNotBusyLongerThanThreshold() {
+        // given
+        given(clock.millis()).willReturn(1110L);
+
+        // when
+        eventLoopStallDetector.checkEventLoops();
+
+        // then
+        verify(metrics, never()).updateEventLoopStallMetric();
+    }
+
+    @Test
+    public void checkEventLoopsShouldReportStallOnceIfEventLoopIsBusyLongerThanThreshold() {
+        // given
+        given(clock.millis()).willReturn(1111L, 1500L);
+
+        // when
+        eventLoopStallDetector.checkEventLoops();
+        eventLoopStallDetector.checkEventLoops();
+
+        // then
+        verify(metrics).updateEventLoopStallMetric();
+    }
+
+    @Test
+    public void checkEventLoopsShouldReportNextStallAfterHeartbeat() {
+        // given
+        given(clock.millis()).willReturn(1200L, 1300L, 1500L);
+        final Handler<Long> heartbeat = captureHeartbeat();
+
+        // when
+        eventLoopStallDetector.checkEventLoops();
+        heartbeat.handle(1L);
+        eventLoopStallDetector.checkEventLoops();
+
+        // then
+        verify(metrics, times(2)).updateEventLoopStallMetric();
+        verify(metrics).updateEventLoopLagMetric(anyLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> captureHeartbeat() {
+        final ArgumentCaptor<Handler<Long>> heartbeatCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(anyLong(), heartbeatCaptor.capture());
+        return heartbeatCaptor.getValue();
+    }
+}
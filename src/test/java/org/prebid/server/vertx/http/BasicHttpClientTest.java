@@ -100,6 +100,26 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldKeepResponseBodyAsReceivedBuffer() {
+        // given
+        final Buffer responseBody = Buffer.buffer("response");
+
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+
+        given(httpClientResponse.bodyHandler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(responseBody));
+
+        // when
+        final Future<org.prebid.server.vertx.http.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, null, null, (String) null, 1L);
+
+        // then
+        assertThat(future.result().getBodyBuffer()).isSameAs(responseBody);
+        assertThat(future.result().getBody()).isEqualTo("response");
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // when
@@ -0,0 +1,79 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class HostRoutingHttpClientTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private HttpClient defaultHttpClient;
+    @Mock
+    private HttpClient bidderHttpClient;
+
+    private HostRoutingHttpClient target;
+
+    @Before
+    public void setUp() {
+        target = new HostRoutingHttpClient(defaultHttpClient, Map.of("bidder.com", bidderHttpClient));
+    }
+
+    @Test
+    public void requestShouldUseHttpClientOfUrlHost() {
+        // when
+        target.request(HttpMethod.POST, "https://bidder.com:8443/bid?a=b", null, "body", 1000L);
+
+        // then
+        verify(bidderHttpClient).request(HttpMethod.POST, "https://bidder.com:8443/bid?a=b", null, "body", 1000L,
+                Long.MAX_VALUE);
+        verifyNoInteractions(defaultHttpClient);
+    }
+
+    @Test
+    public void requestWithBytesBodyShouldUseHttpClientOfUrlHost() {
+        // given
+        final byte[] body = new byte[]{1, 2};
+
+        // when
+        target.request(HttpMethod.POST, "http://bidder.com/bid", null, body, 1000L, 10L);
+
+        // then
+        verify(bidderHttpClient).request(HttpMethod.POST, "http://bidder.com/bid", null, body, 1000L, 10L);
+        verifyNoInteractions(defaultHttpClient);
+    }
+
+    @Test
+    public void requestShouldUseDefaultHttpClientForOtherHosts() {
+        // when
+        target.get("http://sub.bidder.com/bid", 1000L);
+
+        // then
+        verify(defaultHttpClient).request(any(), anyString(), any(), (String) any(), anyLong(), anyLong());
+        verifyNoInteractions(bidderHttpClient);
+    }
+
+    @Test
+    public void requestShouldUseDefaultHttpClientForInvalidUrl() {
+        // when
+        target.get("invalid", 1000L);
+
+        // then
+        verify(defaultHttpClient).request(any(), anyString(), any(), (String) any(), anyLong(), anyLong());
+        verifyNoInteractions(bidderHttpClient);
+    }
+}